@@ -97,9 +97,12 @@ public final class GatewayBasedConfiguration {
     final var cpuThreads = properties.getThreads().getManagementThreads();
     // We set ioThreads to zero as the Gateway isn't using any IO threads.
     final var ioThreads = 0;
+    // The gateway has no partitions, so there is nothing to pin to its threads.
+    final var cpuAffinityGroups = 1;
     final var metricsEnabled = false;
     final var nodeId = properties.getCluster().getMemberId();
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Gateway", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads, ioThreads, cpuAffinityGroups, metricsEnabled, "Gateway", nodeId);
   }
 
   @Bean
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebe;
+
+import io.camunda.operate.conditions.ElasticsearchCondition;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.zeebeimport.PushedRecordsBuffer;
+import io.camunda.zeebe.exporter.ExportedRecordsListener;
+import io.camunda.zeebe.exporter.ExportedRecordsListeners;
+import io.camunda.zeebe.protocol.record.ValueType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes the records which the Elasticsearch exporter of the co-located broker wrote to the Zeebe
+ * indices to the Operate importer, such that it doesn't have to search for them. The exporter must
+ * be configured with {@code publishExportedRecords: true}. Records which are not pushed, e.g.
+ * because the exporter writes to another cluster, are still read from Elasticsearch.
+ */
+@Component
+@Conditional(ElasticsearchCondition.class)
+@ConditionalOnProperty(name = "camunda.operate.importer.pushEnabled", havingValue = "true")
+public class ExportedRecordsPusher implements ExportedRecordsListener {
+
+  private static final Map<ValueType, ImportValueType> IMPORT_VALUE_TYPES =
+      new EnumMap<>(ValueType.class);
+
+  static {
+    for (final ImportValueType importValueType : ImportValueType.values()) {
+      IMPORT_VALUE_TYPES.put(ValueType.valueOf(importValueType.name()), importValueType);
+    }
+  }
+
+  private final ObjectProvider<PushedRecordsBuffer> buffer;
+  private final String indexPrefix;
+
+  public ExportedRecordsPusher(
+      final ObjectProvider<PushedRecordsBuffer> buffer, final OperateProperties operateProperties) {
+    this.buffer = buffer;
+    indexPrefix = operateProperties.getZeebeElasticsearch().getPrefix() + "_";
+  }
+
+  @PostConstruct
+  public void register() {
+    ExportedRecordsListeners.register(this);
+  }
+
+  @PreDestroy
+  public void unregister() {
+    ExportedRecordsListeners.unregister(this);
+  }
+
+  @Override
+  public void onExported(
+      final int partitionId,
+      final ValueType valueType,
+      final long sequence,
+      final String index,
+      final byte[] document) {
+    final var importValueType = IMPORT_VALUE_TYPES.get(valueType);
+    // the broker might export to several clusters, of which Operate only reads one
+    if (importValueType == null || !index.startsWith(indexPrefix)) {
+      return;
+    }
+
+    // there is no buffer if the importer is disabled on this node
+    final var pushedRecordsBuffer = buffer.getIfAvailable();
+    if (pushedRecordsBuffer != null) {
+      pushedRecordsBuffer.push(
+          partitionId,
+          importValueType,
+          sequence,
+          index,
+          new String(document, StandardCharsets.UTF_8));
+    }
+  }
+}
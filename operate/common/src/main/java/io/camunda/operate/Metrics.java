@@ -7,6 +7,7 @@
  */
 package io.camunda.operate;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
@@ -48,8 +49,12 @@ public class Metrics {
       "events.processed.finished.process.instances";
   public static final String COUNTER_NAME_COMMANDS = "commands";
   public static final String COUNTER_NAME_ARCHIVED = "archived.process.instances";
+  public static final String COUNTER_NAME_IMPORT_CACHE_HITS = "import.cache.hits";
+  public static final String COUNTER_NAME_IMPORT_CACHE_MISSES = "import.cache.misses";
+  public static final String COUNTER_NAME_IMPORT_CACHE_EVICTIONS = "import.cache.evictions";
   // Gauges:
   public static final String GAUGE_IMPORT_QUEUE_SIZE = "import.queue.size";
+  public static final String GAUGE_IMPORT_CACHE_SIZE = "import.cache.size";
   public static final String GAUGE_BPMN_MODEL_COUNT = OPERATE_NAMESPACE + "model.bpmn.count";
   public static final String GAUGE_DMN_MODEL_COUNT = OPERATE_NAMESPACE + "model.dmn.count";
   // Tags
@@ -59,7 +64,8 @@ public class Metrics {
       TAG_KEY_TYPE = "type",
       TAG_KEY_PARTITION = "partition",
       TAG_KEY_STATUS = "status",
-      TAG_KEY_ORGANIZATIONID = "organizationId";
+      TAG_KEY_ORGANIZATIONID = "organizationId",
+      TAG_KEY_VERSION = "version";
   //  Values:
   public static final String TAG_VALUE_PROCESSINSTANCES = "processInstances",
       TAG_VALUE_CORESTATISTICS = "corestatistics",
@@ -83,6 +89,14 @@ public class Metrics {
     registry.counter(OPERATE_NAMESPACE + name, tags).increment(count);
   }
 
+  /**
+   * Returns the counter for given name and tags, e.g. to keep it instead of looking it up on every
+   * increment in a hot path. See {@link #recordCounts(String, long, String...)}.
+   */
+  public Counter getCounter(String name, String... tags) {
+    return registry.counter(OPERATE_NAMESPACE + name, tags);
+  }
+
   public <T> void registerGauge(
       String name, T stateObject, ToDoubleFunction<T> valueFunction, String... tags) {
     Gauge.builder(OPERATE_NAMESPACE + name, stateObject, valueFunction)
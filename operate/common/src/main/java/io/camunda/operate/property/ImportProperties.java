@@ -14,11 +14,14 @@ public class ImportProperties {
   private static final int DEFAULT_IMPORT_THREADS_COUNT = 3;
   private static final int DEFAULT_POST_IMPORT_THREADS_COUNT = 1;
   private static final int DEFAULT_READER_THREADS_COUNT = 3;
+  private static final int DEFAULT_PARTITION_SHARDS_COUNT = 1;
   private static final int DEFAULT_IMPORT_QUEUE_SIZE = 3;
   private static final int DEFAULT_READER_BACKOFF = 5000;
   private static final int DEFAULT_SCHEDULER_BACKOFF = 5000;
-  private static final int DEFAULT_FLOW_NODE_TREE_CACHE_SIZE = 1000;
+  private static final int DEFAULT_FLOW_NODE_TREE_CACHE_SIZE = 10000;
   private static final int DEFAULT_MAX_EMPTY_RUNS = 10;
+  private static final int DEFAULT_PUSH_BUFFER_SIZE = 10000;
+  private static final int DEFAULT_PUSH_FALLBACK_INTERVAL = 30000;
 
   private int threadsCount = DEFAULT_IMPORT_THREADS_COUNT;
 
@@ -34,6 +37,13 @@ public class ImportProperties {
 
   private int readerThreadsCount = DEFAULT_READER_THREADS_COUNT;
 
+  /**
+   * Number of shards into which the import batches of one partition are split by process instance
+   * key, such that they are imported in parallel. The import position only advances once all
+   * shards of a batch were imported. 1 disables the sharding.
+   */
+  private int partitionShardsCount = DEFAULT_PARTITION_SHARDS_COUNT;
+
   private int queueSize = DEFAULT_IMPORT_QUEUE_SIZE;
 
   private int readerBackoff = DEFAULT_READER_BACKOFF;
@@ -45,6 +55,10 @@ public class ImportProperties {
   @Deprecated(since = "8.1.0")
   private int schedulerBackoff = DEFAULT_SCHEDULER_BACKOFF;
 
+  /**
+   * Maximum number of tree paths of flow node instances, and minimum number of tree paths of
+   * process instances, which are cached while importing.
+   */
   private int flowNodeTreeCacheSize = DEFAULT_FLOW_NODE_TREE_CACHE_SIZE;
 
   private int importPositionUpdateInterval = DEFAULT_IMPORT_POSITION_UPDATE_INTERVAL;
@@ -75,6 +89,31 @@ public class ImportProperties {
 
   private int maxEmptyRuns = DEFAULT_MAX_EMPTY_RUNS;
 
+  /**
+   * When enabled, records pushed by the Elasticsearch exporter of a co-located broker are imported
+   * directly, instead of being read from the Zeebe indices. The exporter must be configured to
+   * publish the records it exported. Records which are not pushed are still read from
+   * Elasticsearch. Not supported with OpenSearch.
+   */
+  private boolean pushEnabled = false;
+
+  /** Maximum number of pushed records which are buffered per partition and value type. */
+  private int pushBufferSize = DEFAULT_PUSH_BUFFER_SIZE;
+
+  /**
+   * Time in ms after the last pushed record of a partition and value type, after which its reader
+   * searches Elasticsearch again, e.g. because the partition is led by a broker which does not push
+   * its records to this importer.
+   */
+  private int pushFallbackInterval = DEFAULT_PUSH_FALLBACK_INTERVAL;
+
+  /**
+   * When enabled, all partial document upserts of the same document within one import batch are
+   * merged into a single upsert. Update scripts, which are only used in concurrency mode, are not
+   * merged.
+   */
+  private boolean mergeUpserts = true;
+
   public boolean isStartLoadingDataOnStartup() {
     return startLoadingDataOnStartup;
   }
@@ -212,4 +251,49 @@ public class ImportProperties {
     this.maxEmptyRuns = maxEmptyRuns;
     return this;
   }
+
+  public boolean isPushEnabled() {
+    return pushEnabled;
+  }
+
+  public ImportProperties setPushEnabled(final boolean pushEnabled) {
+    this.pushEnabled = pushEnabled;
+    return this;
+  }
+
+  public int getPushBufferSize() {
+    return pushBufferSize;
+  }
+
+  public ImportProperties setPushBufferSize(final int pushBufferSize) {
+    this.pushBufferSize = pushBufferSize;
+    return this;
+  }
+
+  public int getPushFallbackInterval() {
+    return pushFallbackInterval;
+  }
+
+  public ImportProperties setPushFallbackInterval(final int pushFallbackInterval) {
+    this.pushFallbackInterval = pushFallbackInterval;
+    return this;
+  }
+
+  public boolean isMergeUpserts() {
+    return mergeUpserts;
+  }
+
+  public ImportProperties setMergeUpserts(final boolean mergeUpserts) {
+    this.mergeUpserts = mergeUpserts;
+    return this;
+  }
+
+  public int getPartitionShardsCount() {
+    return partitionShardsCount;
+  }
+
+  public ImportProperties setPartitionShardsCount(final int partitionShardsCount) {
+    this.partitionShardsCount = partitionShardsCount;
+    return this;
+  }
 }
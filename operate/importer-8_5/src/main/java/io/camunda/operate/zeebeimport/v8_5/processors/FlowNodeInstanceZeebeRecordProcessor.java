@@ -10,6 +10,7 @@ package io.camunda.operate.zeebeimport.v8_5.processors;
 import static io.camunda.operate.zeebeimport.util.ImportUtil.tenantOrDefault;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.*;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.entities.FlowNodeInstanceEntity;
 import io.camunda.operate.entities.FlowNodeState;
 import io.camunda.operate.entities.FlowNodeType;
@@ -20,13 +21,12 @@ import io.camunda.operate.store.BatchRequest;
 import io.camunda.operate.store.FlowNodeStore;
 import io.camunda.operate.util.ConversionUtils;
 import io.camunda.operate.util.DateUtil;
-import io.camunda.operate.util.SoftHashMap;
+import io.camunda.operate.zeebeimport.cache.SizeBoundedCache;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.protocol.record.value.IncidentRecordValue;
 import io.camunda.zeebe.protocol.record.value.ProcessInstanceRecordValue;
-import jakarta.annotation.PostConstruct;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.HashMap;
@@ -43,6 +43,7 @@ public class FlowNodeInstanceZeebeRecordProcessor {
 
   private static final Logger LOGGER =
       LoggerFactory.getLogger(FlowNodeInstanceZeebeRecordProcessor.class);
+  private static final String ZEEBE_VERSION = "8.5";
 
   private static final Set<String> AI_FINISH_STATES =
       Set.of(ELEMENT_COMPLETED.name(), ELEMENT_TERMINATED.name());
@@ -51,12 +52,27 @@ public class FlowNodeInstanceZeebeRecordProcessor {
   @Autowired private FlowNodeInstanceTemplate flowNodeInstanceTemplate;
   @Autowired private OperateProperties operateProperties;
 
+  @Autowired private Metrics metrics;
+
   // treePath by flowNodeInstanceKey cache
-  private Map<String, String> treePathCache;
+  private volatile SizeBoundedCache treePathCache;
 
-  @PostConstruct
-  private void init() {
-    treePathCache = new SoftHashMap<>(operateProperties.getImporter().getFlowNodeTreeCacheSize());
+  private SizeBoundedCache getTreePathCache() {
+    if (treePathCache == null) {
+      synchronized (this) {
+        if (treePathCache == null) {
+          final SizeBoundedCache cache =
+              new SizeBoundedCache(
+                  "flowNodeInstanceTreePath",
+                  ZEEBE_VERSION,
+                  operateProperties.getImporter().getFlowNodeTreeCacheSize(),
+                  metrics);
+          cache.warmUp(() -> flowNodeStore.getRecentFlowNodeInstanceTreePaths(cache.getMaxSize()));
+          treePathCache = cache;
+        }
+      }
+    }
+    return treePathCache;
   }
 
   public void processIncidentRecord(final Record record, final BatchRequest batchRequest)
@@ -206,14 +222,9 @@ public class FlowNodeInstanceZeebeRecordProcessor {
     if (recordValue.getFlowScopeKey() == recordValue.getProcessInstanceKey()) {
       parentTreePath = ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey());
     } else {
-      // find parent flow node instance
-      parentTreePath = null;
-      // search in cache
-      if (treePathCache.get(ConversionUtils.toStringOrNull(recordValue.getFlowScopeKey()))
-          != null) {
-        parentTreePath =
-            treePathCache.get(ConversionUtils.toStringOrNull(recordValue.getFlowScopeKey()));
-      }
+      // find parent flow node instance, search in cache first
+      parentTreePath =
+          getTreePathCache().get(ConversionUtils.toStringOrNull(recordValue.getFlowScopeKey()));
       // query from ELS
       if (parentTreePath == null) {
         parentTreePath = flowNodeStore.findParentTreePathFor(recordValue.getFlowScopeKey());
@@ -229,9 +240,10 @@ public class FlowNodeInstanceZeebeRecordProcessor {
         parentTreePath = ConversionUtils.toStringOrNull(recordValue.getProcessInstanceKey());
       }
     }
-    treePathCache.put(
-        ConversionUtils.toStringOrNull(record.getKey()),
-        String.join("/", parentTreePath, ConversionUtils.toStringOrNull(record.getKey())));
+    getTreePathCache()
+        .put(
+            ConversionUtils.toStringOrNull(record.getKey()),
+            String.join("/", parentTreePath, ConversionUtils.toStringOrNull(record.getKey())));
     return parentTreePath;
   }
 
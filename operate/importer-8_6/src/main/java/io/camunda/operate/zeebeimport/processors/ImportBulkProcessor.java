@@ -79,10 +79,14 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
   private ObjectMapper localObjectMapper;
 
   private static <T> T fromSearchHit(
-      final String searchHitString, final ObjectMapper objectMapper, final JavaType valueType) {
+      final HitEntity hit, final ObjectMapper objectMapper, final JavaType valueType) {
     final T entity;
     try {
-      entity = objectMapper.readValue(searchHitString, valueType);
+      // the hit may have been parsed already to shard the batch
+      entity =
+          hit.getSourceAsTree() != null
+              ? objectMapper.readerFor(valueType).readValue(hit.getSourceAsTree())
+              : objectMapper.readValue(hit.getSourceAsString(), valueType);
     } catch (final IOException e) {
       LOGGER.error(
           String.format(
@@ -103,9 +107,7 @@ public class ImportBulkProcessor extends AbstractImportBatchProcessor {
             hits,
             hit ->
                 fromSearchHit(
-                    hit.getSourceAsString(),
-                    getLocalObjectMapper(),
-                    SimpleType.constructUnsafe(Record.class)));
+                    hit, getLocalObjectMapper(), SimpleType.constructUnsafe(Record.class)));
 
     LOGGER.debug(
         "Writing {} Zeebe records to indices, version={}, importValueType={}, partition={}",
@@ -28,6 +28,7 @@ import static io.camunda.operate.util.LambdaExceptionUtil.rethrowConsumer;
 import static io.camunda.operate.zeebeimport.util.ImportUtil.tenantOrDefault;
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.*;
 
+import io.camunda.operate.Metrics;
 import io.camunda.operate.cache.ProcessCache;
 import io.camunda.operate.entities.FlowNodeState;
 import io.camunda.operate.entities.FlowNodeType;
@@ -46,6 +47,7 @@ import io.camunda.operate.store.MetricsStore;
 import io.camunda.operate.util.*;
 import io.camunda.operate.zeebe.PartitionHolder;
 import io.camunda.operate.zeebeimport.ImportBatch;
+import io.camunda.operate.zeebeimport.cache.SizeBoundedCache;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.Intent;
@@ -66,6 +68,7 @@ public class ListViewZeebeRecordProcessor {
 
   protected static final int EMPTY_PARENT_PROCESS_INSTANCE_ID = -1;
   private static final Logger LOGGER = LoggerFactory.getLogger(ListViewZeebeRecordProcessor.class);
+  private static final String ZEEBE_VERSION = "8.6";
   private static final Set<String> PI_AND_AI_START_STATES = new HashSet<>();
   private static final Set<String> PI_AND_AI_FINISH_STATES = new HashSet<>();
   private static final Set<String> FAILED_JOB_EVENTS = new HashSet<>();
@@ -95,34 +98,50 @@ public class ListViewZeebeRecordProcessor {
 
   @Autowired private MetricsStore metricsStore;
 
+  @Autowired private Metrics metrics;
+
   // treePath by processInstanceKey cache
-  private Map<String, String> treePathCache;
+  private volatile SizeBoundedCache treePathCache;
   // flowNodeId by flowNodeInstanceId cache for call activities
-  private Map<String, String> callActivityIdCache;
+  private volatile SizeBoundedCache callActivityIdCache;
 
-  private Map<String, String> getTreePathCache() {
+  private SizeBoundedCache getTreePathCache() {
     if (treePathCache == null) {
-      // cache must be able to contain all possible processInstanceKeys with there treePaths before
-      // the data is persisted: import batch size * number of partitions processed by current import
-      // node
-      treePathCache =
-          new SoftHashMap<>(
-              operateProperties.getElasticsearch().getBatchSize()
-                  * partitionHolder.getPartitionIds().size());
+      synchronized (this) {
+        if (treePathCache == null) {
+          final SizeBoundedCache cache =
+              new SizeBoundedCache(
+                  "processInstanceTreePath", ZEEBE_VERSION, getCacheSize(), metrics);
+          cache.warmUp(() -> listViewStore.getRecentProcessInstanceTreePaths(cache.getMaxSize()));
+          treePathCache = cache;
+        }
+      }
     }
     return treePathCache;
   }
 
-  private Map<String, String> getCallActivityIdCache() {
+  private SizeBoundedCache getCallActivityIdCache() {
     if (callActivityIdCache == null) {
-      callActivityIdCache =
-          new SoftHashMap<>(
-              operateProperties.getElasticsearch().getBatchSize()
-                  * partitionHolder.getPartitionIds().size());
+      synchronized (this) {
+        if (callActivityIdCache == null) {
+          callActivityIdCache =
+              new SizeBoundedCache("callActivityId", ZEEBE_VERSION, getCacheSize(), metrics);
+        }
+      }
     }
     return callActivityIdCache;
   }
 
+  private int getCacheSize() {
+    // cache must be able to contain all possible processInstanceKeys with there treePaths before
+    // the data is persisted: import batch size * number of partitions processed by current import
+    // node
+    return Math.max(
+        operateProperties.getElasticsearch().getBatchSize()
+            * partitionHolder.getPartitionIds().size(),
+        operateProperties.getImporter().getFlowNodeTreeCacheSize());
+  }
+
   public void processIncidentRecord(final Record record, final BatchRequest batchRequest)
       throws PersistenceException {
     processIncidentRecord(record, batchRequest, false);
@@ -575,16 +594,10 @@ public class ListViewZeebeRecordProcessor {
   }
 
   private String getTreePathForCalledProcess(final ProcessInstanceRecordValue recordValue) {
-    String parentTreePath = null;
-
     // search in cache
-    if (getTreePathCache()
-            .get(ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()))
-        != null) {
-      parentTreePath =
-          getTreePathCache()
-              .get(ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()));
-    }
+    String parentTreePath =
+        getTreePathCache()
+            .get(ConversionUtils.toStringOrNull(recordValue.getParentProcessInstanceKey()));
     // query from ELS
     if (parentTreePath == null) {
       parentTreePath =
@@ -7,6 +7,7 @@
  */
 package io.camunda.operate.zeebeimport;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.operate.Metrics;
 import io.camunda.operate.exceptions.PersistenceException;
 import io.camunda.operate.property.OperateProperties;
@@ -14,6 +15,7 @@ import io.camunda.operate.store.BatchRequest;
 import java.util.concurrent.Callable;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 
 public abstract class AbstractImportBatchProcessor implements ImportBatchProcessor {
 
@@ -23,9 +25,13 @@ public abstract class AbstractImportBatchProcessor implements ImportBatchProcess
 
   @Autowired private Metrics metrics;
 
+  @Autowired
+  @Qualifier("operateObjectMapper")
+  private ObjectMapper objectMapper;
+
   @Override
   public void performImport(final ImportBatch importBatch) throws PersistenceException {
-    final BatchRequest batchRequest = beanFactory.getBean(BatchRequest.class);
+    final BatchRequest batchRequest = createBatchRequest();
     try {
       withProcessingTimer(
           () -> {
@@ -46,6 +52,14 @@ public abstract class AbstractImportBatchProcessor implements ImportBatchProcess
     }
   }
 
+  private BatchRequest createBatchRequest() {
+    final BatchRequest batchRequest = beanFactory.getBean(BatchRequest.class);
+    if (operateProperties.getImporter().isMergeUpserts()) {
+      return new MergingBatchRequest(batchRequest, objectMapper);
+    }
+    return batchRequest;
+  }
+
   private void withProcessingTimer(final Callable<Void> callable, final ImportBatch importBatch)
       throws Exception {
     withTimer(callable, Metrics.TIMER_NAME_IMPORT_PROCESSING_DURATION, importBatch);
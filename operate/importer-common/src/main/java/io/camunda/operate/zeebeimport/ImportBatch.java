@@ -82,6 +82,10 @@ public class ImportBatch {
     finishedWiCount++;
   }
 
+  public void addFinishedWiCount(int count) {
+    finishedWiCount += count;
+  }
+
   public int getFinishedWiCount() {
     return finishedWiCount;
   }
@@ -0,0 +1,267 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.entities.OperateEntity;
+import io.camunda.operate.exceptions.PersistenceException;
+import io.camunda.operate.store.BatchRequest;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Batch request which merges all partial document upserts of the same document into a single
+ * upsert, which is only added to the underlying request on {@link #execute()}. All other requests
+ * are passed on directly, after any pending upsert of the same document, such that the order of
+ * the requests per document is kept.
+ *
+ * <p>The merged upsert is equivalent to executing the single upserts one after the other: if the
+ * document exists, all update fields are applied in order; otherwise, the first entity is inserted
+ * with the update fields of all following upserts applied.
+ */
+public class MergingBatchRequest implements BatchRequest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MergingBatchRequest.class);
+
+  private final BatchRequest delegate;
+  private final ObjectMapper objectMapper;
+  private final Map<String, PendingUpsert> pendingUpserts = new LinkedHashMap<>();
+  private int mergedUpserts;
+
+  public MergingBatchRequest(final BatchRequest delegate, final ObjectMapper objectMapper) {
+    this.delegate = delegate;
+    this.objectMapper = objectMapper;
+  }
+
+  @Override
+  public BatchRequest add(final String index, final OperateEntity entity)
+      throws PersistenceException {
+    flushPending(index, entity.getId());
+    delegate.add(index, entity);
+    return this;
+  }
+
+  @Override
+  public BatchRequest addWithId(final String index, final String id, final OperateEntity entity)
+      throws PersistenceException {
+    flushPending(index, id);
+    delegate.addWithId(index, id, entity);
+    return this;
+  }
+
+  @Override
+  public BatchRequest addWithRouting(
+      final String index, final OperateEntity entity, final String routing)
+      throws PersistenceException {
+    flushPending(index, entity.getId());
+    delegate.addWithRouting(index, entity, routing);
+    return this;
+  }
+
+  @Override
+  public BatchRequest upsert(
+      final String index,
+      final String id,
+      final OperateEntity entity,
+      final Map<String, Object> updateFields)
+      throws PersistenceException {
+    merge(index, id, entity, updateFields, null);
+    return this;
+  }
+
+  @Override
+  public BatchRequest upsertWithRouting(
+      final String index,
+      final String id,
+      final OperateEntity entity,
+      final Map<String, Object> updateFields,
+      final String routing)
+      throws PersistenceException {
+    merge(index, id, entity, updateFields, Objects.requireNonNull(routing));
+    return this;
+  }
+
+  @Override
+  public BatchRequest upsertWithScript(
+      final String index,
+      final String id,
+      final OperateEntity entity,
+      final String script,
+      final Map<String, Object> parameters)
+      throws PersistenceException {
+    flushPending(index, id);
+    delegate.upsertWithScript(index, id, entity, script, parameters);
+    return this;
+  }
+
+  @Override
+  public BatchRequest upsertWithScriptAndRouting(
+      final String index,
+      final String id,
+      final OperateEntity entity,
+      final String script,
+      final Map<String, Object> parameters,
+      final String routing)
+      throws PersistenceException {
+    flushPending(index, id);
+    delegate.upsertWithScriptAndRouting(index, id, entity, script, parameters, routing);
+    return this;
+  }
+
+  @Override
+  public BatchRequest update(
+      final String index, final String id, final Map<String, Object> updateFields)
+      throws PersistenceException {
+    flushPending(index, id);
+    delegate.update(index, id, updateFields);
+    return this;
+  }
+
+  @Override
+  public BatchRequest update(final String index, final String id, final OperateEntity entity)
+      throws PersistenceException {
+    flushPending(index, id);
+    delegate.update(index, id, entity);
+    return this;
+  }
+
+  @Override
+  public BatchRequest updateWithScript(
+      final String index,
+      final String id,
+      final String script,
+      final Map<String, Object> parameters)
+      throws PersistenceException {
+    flushPending(index, id);
+    delegate.updateWithScript(index, id, script, parameters);
+    return this;
+  }
+
+  @Override
+  public void execute() throws PersistenceException {
+    flushAllPending();
+    delegate.execute();
+  }
+
+  @Override
+  public void executeWithRefresh() throws PersistenceException {
+    flushAllPending();
+    delegate.executeWithRefresh();
+  }
+
+  /** Returns the number of upserts which were merged into a previous upsert of the document. */
+  public int getMergedUpserts() {
+    return mergedUpserts;
+  }
+
+  private void merge(
+      final String index,
+      final String id,
+      final OperateEntity entity,
+      final Map<String, Object> updateFields,
+      final String routing)
+      throws PersistenceException {
+    final String key = key(index, id);
+    final PendingUpsert pending = pendingUpserts.get(key);
+    if (pending != null && Objects.equals(pending.routing, routing)) {
+      pending.upsertOverrides.putAll(updateFields);
+      pending.updateFields.putAll(updateFields);
+      mergedUpserts++;
+      return;
+    }
+
+    if (pending != null) {
+      flushPending(index, id);
+    }
+    pendingUpserts.put(key, new PendingUpsert(index, id, entity, updateFields, routing));
+  }
+
+  private void flushPending(final String index, final String id) throws PersistenceException {
+    final PendingUpsert pending = pendingUpserts.remove(key(index, id));
+    if (pending != null) {
+      flush(pending);
+    }
+  }
+
+  private void flushAllPending() throws PersistenceException {
+    LOGGER.debug(
+        "Add {} merged upserts to batch request, {} upserts were merged",
+        pendingUpserts.size(),
+        mergedUpserts);
+    for (final PendingUpsert pending : pendingUpserts.values()) {
+      flush(pending);
+    }
+    pendingUpserts.clear();
+  }
+
+  private void flush(final PendingUpsert pending) throws PersistenceException {
+    final OperateEntity entity = getUpsertEntity(pending);
+    if (pending.routing == null) {
+      delegate.upsert(pending.index, pending.id, entity, pending.updateFields);
+    } else {
+      delegate.upsertWithRouting(
+          pending.index, pending.id, entity, pending.updateFields, pending.routing);
+    }
+  }
+
+  /**
+   * Returns the entity to insert if the document does not exist yet, which is the first entity
+   * with the update fields of all following upserts applied. The first entity is not modified, as
+   * it may still be referenced by the processors.
+   */
+  private OperateEntity getUpsertEntity(final PendingUpsert pending) throws PersistenceException {
+    if (pending.upsertOverrides.isEmpty()) {
+      return pending.entity;
+    }
+
+    try {
+      final OperateEntity copy =
+          objectMapper.convertValue(pending.entity, pending.entity.getClass());
+      return objectMapper.updateValue(copy, pending.upsertOverrides);
+    } catch (final IllegalArgumentException | JsonMappingException e) {
+      throw new PersistenceException(
+          String.format(
+              "Error merging the upserts of document [%s] in index [%s]",
+              pending.id,
+              pending.index),
+          e);
+    }
+  }
+
+  private static String key(final String index, final String id) {
+    return index + "/" + id;
+  }
+
+  private static final class PendingUpsert {
+    private final String index;
+    private final String id;
+    private final OperateEntity entity;
+    private final String routing;
+    private final Map<String, Object> updateFields;
+    private final Map<String, Object> upsertOverrides = new HashMap<>();
+
+    private PendingUpsert(
+        final String index,
+        final String id,
+        final OperateEntity entity,
+        final Map<String, Object> updateFields,
+        final String routing) {
+      this.index = index;
+      this.id = id;
+      this.entity = entity;
+      this.routing = routing;
+      // copied, as the processors may reuse the map for the next upsert
+      this.updateFields = new HashMap<>(updateFields);
+    }
+  }
+}
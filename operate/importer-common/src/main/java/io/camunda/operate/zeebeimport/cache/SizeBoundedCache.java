@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.cache;
+
+import io.camunda.operate.Metrics;
+import io.micrometer.core.instrument.Counter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A size bounded cache, which evicts the least recently used entries, for values which are
+ * expensive to look up while importing, like the tree paths of process and flow node instances.
+ * Contrary to a cache based on soft references, it is not cleared under memory pressure, which is
+ * exactly when the importer is busiest. Hits, misses and evictions are counted in {@link Metrics},
+ * tagged with the name of the cache and the Zeebe version of the importer owning it, as importers
+ * of different versions run side by side with caches of the same name.
+ *
+ * <p>This class is thread safe.
+ */
+public class SizeBoundedCache {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(SizeBoundedCache.class);
+
+  private final String name;
+  private final int maxSize;
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter evictions;
+  private final Map<String, String> entries;
+
+  public SizeBoundedCache(
+      final String name, final String version, final int maxSize, final Metrics metrics) {
+    this.name = name;
+    this.maxSize = Math.max(1, maxSize);
+    // the counters are looked up once, as they are incremented on every lookup while importing
+    final String[] tags = {Metrics.TAG_KEY_NAME, name, Metrics.TAG_KEY_VERSION, version};
+    hits = metrics.getCounter(Metrics.COUNTER_NAME_IMPORT_CACHE_HITS, tags);
+    misses = metrics.getCounter(Metrics.COUNTER_NAME_IMPORT_CACHE_MISSES, tags);
+    evictions = metrics.getCounter(Metrics.COUNTER_NAME_IMPORT_CACHE_EVICTIONS, tags);
+    metrics.registerGauge(Metrics.GAUGE_IMPORT_CACHE_SIZE, this, SizeBoundedCache::size, tags);
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            final boolean evict = size() > SizeBoundedCache.this.maxSize;
+            if (evict) {
+              evictions.increment();
+            }
+            return evict;
+          }
+        };
+  }
+
+  /** Returns the cached value for the given key, or null if it is not cached. */
+  public String get(final String key) {
+    final String value;
+    synchronized (entries) {
+      value = entries.get(key);
+    }
+
+    if (value != null) {
+      hits.increment();
+    } else {
+      misses.increment();
+    }
+    return value;
+  }
+
+  public void put(final String key, final String value) {
+    if (key == null || value == null) {
+      return;
+    }
+
+    synchronized (entries) {
+      entries.put(key, value);
+    }
+  }
+
+  /**
+   * Fills the cache with the given entries, e.g. with the most recent data on start of the
+   * importer. A failure to load the entries is logged, and leaves the cache as it is, as all values
+   * can still be looked up on a miss.
+   *
+   * @param loader loads the entries, ordered from the least to the most relevant one
+   */
+  public void warmUp(final Supplier<Map<String, String>> loader) {
+    try {
+      final Map<String, String> loaded = loader.get();
+      synchronized (entries) {
+        loaded.forEach(entries::putIfAbsent);
+      }
+      LOGGER.info("Warmed up cache {} with {} entries", name, loaded.size());
+    } catch (final Exception e) {
+      LOGGER.warn("Failed to warm up cache {}, will continue with an empty cache", name, e);
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.entities.OperateEntity;
+import io.camunda.operate.entities.listview.FlowNodeInstanceForListViewEntity;
+import io.camunda.operate.store.BatchRequest;
+import java.util.Map;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class MergingBatchRequestTest {
+
+  private static final String INDEX = "list-view";
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  private final BatchRequest delegate = mock(BatchRequest.class);
+  private final MergingBatchRequest batchRequest = new MergingBatchRequest(delegate, objectMapper);
+
+  @Test
+  public void shouldMergeUpsertsOfSameDocument() throws Exception {
+    // given
+    final var entity = entity("1").setErrorMessage("error");
+    batchRequest.upsertWithRouting(INDEX, "1", entity, Map.of("errorMessage", "error"), "10");
+    batchRequest.upsertWithRouting(
+        INDEX, "1", entity("1"), Map.of("errorMessage", "other", "positionIncident", 2L), "10");
+
+    // when
+    batchRequest.execute();
+
+    // then
+    final ArgumentCaptor<OperateEntity> upsertEntity = ArgumentCaptor.forClass(OperateEntity.class);
+    verify(delegate)
+        .upsertWithRouting(
+            eq(INDEX),
+            eq("1"),
+            upsertEntity.capture(),
+            eq(Map.of("errorMessage", "other", "positionIncident", 2L)),
+            eq("10"));
+    verify(delegate).execute();
+    assertThat(upsertEntity.getValue())
+        .isEqualTo(entity("1").setErrorMessage("other").setPositionIncident(2L));
+    assertThat(entity.getErrorMessage()).isEqualTo("error");
+    assertThat(batchRequest.getMergedUpserts()).isOne();
+  }
+
+  @Test
+  public void shouldPassOnSingleUpsertUnchanged() throws Exception {
+    // given
+    final var entity = entity("1");
+    batchRequest.upsert(INDEX, "1", entity, Map.of("position", 1L));
+
+    // when
+    batchRequest.execute();
+
+    // then
+    verify(delegate).upsert(INDEX, "1", entity, Map.of("position", 1L));
+    assertThat(batchRequest.getMergedUpserts()).isZero();
+  }
+
+  @Test
+  public void shouldNotMergeUpsertsOfDifferentDocuments() throws Exception {
+    // given
+    batchRequest.upsert(INDEX, "1", entity("1"), Map.of("position", 1L));
+    batchRequest.upsert(INDEX, "2", entity("2"), Map.of("position", 2L));
+
+    // when
+    batchRequest.execute();
+
+    // then
+    verify(delegate).upsert(eq(INDEX), eq("1"), any(), eq(Map.of("position", 1L)));
+    verify(delegate).upsert(eq(INDEX), eq("2"), any(), eq(Map.of("position", 2L)));
+  }
+
+  @Test
+  public void shouldKeepOrderOfScriptedUpsertOfSameDocument() throws Exception {
+    // given
+    batchRequest.upsert(INDEX, "1", entity("1"), Map.of("position", 1L));
+    batchRequest.upsertWithScript(INDEX, "1", entity("1"), "script", Map.of("position", 2L));
+    batchRequest.upsert(INDEX, "1", entity("1"), Map.of("position", 3L));
+
+    // when
+    batchRequest.execute();
+
+    // then
+    final var inOrder = inOrder(delegate);
+    inOrder.verify(delegate).upsert(eq(INDEX), eq("1"), any(), eq(Map.of("position", 1L)));
+    inOrder
+        .verify(delegate)
+        .upsertWithScript(eq(INDEX), eq("1"), any(), eq("script"), eq(Map.of("position", 2L)));
+    inOrder.verify(delegate).upsert(eq(INDEX), eq("1"), any(), eq(Map.of("position", 3L)));
+    inOrder.verify(delegate).execute();
+  }
+
+  @Test
+  public void shouldNotAddUpsertsBeforeExecution() throws Exception {
+    // when
+    batchRequest.upsert(INDEX, "1", entity("1"), Map.of("position", 1L));
+
+    // then
+    verify(delegate, never()).upsert(anyString(), anyString(), any(), anyMap());
+  }
+
+  private static FlowNodeInstanceForListViewEntity entity(final String id) {
+    final var entity = new FlowNodeInstanceForListViewEntity();
+    entity.setId(id);
+    entity.setActivityId("task");
+    return entity;
+  }
+}
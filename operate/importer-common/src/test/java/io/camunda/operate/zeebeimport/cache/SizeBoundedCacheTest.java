@@ -0,0 +1,117 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.operate.Metrics;
+import io.micrometer.core.instrument.Counter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SizeBoundedCacheTest {
+
+  private static final String[] TAGS = {
+    Metrics.TAG_KEY_NAME, "test", Metrics.TAG_KEY_VERSION, "8.6"
+  };
+
+  private final Metrics metrics = mock(Metrics.class);
+  private final Counter hits = mock(Counter.class);
+  private final Counter misses = mock(Counter.class);
+  private final Counter evictions = mock(Counter.class);
+  private SizeBoundedCache cache;
+
+  @Before
+  public void setUp() {
+    when(metrics.getCounter(Metrics.COUNTER_NAME_IMPORT_CACHE_HITS, TAGS)).thenReturn(hits);
+    when(metrics.getCounter(Metrics.COUNTER_NAME_IMPORT_CACHE_MISSES, TAGS)).thenReturn(misses);
+    when(metrics.getCounter(Metrics.COUNTER_NAME_IMPORT_CACHE_EVICTIONS, TAGS))
+        .thenReturn(evictions);
+    cache = new SizeBoundedCache("test", "8.6", 2, metrics);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntry() {
+    // given
+    cache.put("1", "a");
+    cache.put("2", "b");
+    cache.get("1");
+
+    // when
+    cache.put("3", "c");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("1")).isEqualTo("a");
+    assertThat(cache.get("2")).isNull();
+    assertThat(cache.get("3")).isEqualTo("c");
+    verify(evictions).increment();
+  }
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+    // given
+    cache.put("1", "a");
+
+    // when
+    cache.get("1");
+    cache.get("1");
+    cache.get("2");
+
+    // then
+    verify(hits, times(2)).increment();
+    verify(misses).increment();
+  }
+
+  @Test
+  public void shouldNotCacheNullValues() {
+    // when
+    cache.put("1", null);
+
+    // then
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldKeepMostRelevantEntriesOnWarmUp() {
+    // given
+    final Map<String, String> recentEntries = new LinkedHashMap<>();
+    recentEntries.put("1", "a");
+    recentEntries.put("2", "b");
+    recentEntries.put("3", "c");
+
+    // when
+    cache.warmUp(() -> recentEntries);
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get("2")).isEqualTo("b");
+    assertThat(cache.get("3")).isEqualTo("c");
+  }
+
+  @Test
+  public void shouldKeepCacheIfWarmUpFails() {
+    // given
+    cache.put("1", "a");
+
+    // when
+    cache.warmUp(
+        () -> {
+          throw new IllegalStateException("expected");
+        });
+
+    // then
+    assertThat(cache.get("1")).isEqualTo("a");
+  }
+}
@@ -29,6 +29,22 @@ public class ImportConfig {
     return executor;
   }
 
+  @Bean("importShardThreadPoolExecutor")
+  public ThreadPoolTaskExecutor getShardTaskExecutor() {
+    // every import thread may import all shards of its batch at the same time
+    final int poolSize =
+        Math.max(
+            1,
+            operateProperties.getImporter().getThreadsCount()
+                * operateProperties.getImporter().getPartitionShardsCount());
+    final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setThreadNamePrefix("import_shard_");
+    executor.initialize();
+    return executor;
+  }
+
   @Bean("postImportThreadPoolScheduler")
   public ThreadPoolTaskScheduler getPostImportTaskScheduler(
       final OperateProperties operateProperties) {
@@ -20,12 +20,15 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Scope;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 /** Import job for one batch of Zeebe data. */
@@ -44,6 +47,8 @@ public class ImportJob implements Callable<Boolean> {
 
   @Autowired private ImportPositionHolder importPositionHolder;
 
+  @Autowired private PushedRecordsBuffer pushedRecordsBuffer;
+
   @Autowired private RecordsReaderHolder recordsReaderHolder;
 
   @Autowired(required = false)
@@ -57,6 +62,10 @@ public class ImportJob implements Callable<Boolean> {
 
   @Autowired private OperateProperties operateProperties;
 
+  @Autowired
+  @Qualifier("importShardThreadPoolExecutor")
+  private ThreadPoolTaskExecutor importShardExecutor;
+
   public ImportJob(final ImportBatch importBatch, final ImportPositionEntity previousPosition) {
     this.importBatch = importBatch;
     this.previousPosition = previousPosition;
@@ -77,7 +86,12 @@ public class ImportJob implements Callable<Boolean> {
         return false;
       } // else continue
     }
-    importPositionHolder.recordLatestLoadedPosition(getLastProcessedPosition());
+    final ImportPositionEntity lastPosition = getLastProcessedPosition();
+    importPositionHolder.recordLatestLoadedPosition(lastPosition);
+    pushedRecordsBuffer.acknowledge(
+        importBatch.getPartitionId(),
+        importBatch.getImportValueType(),
+        lastPosition.getSequence());
     for (final ImportBatch subBatch : subBatches) {
       notifyImportListenersAsFinished(subBatch);
     }
@@ -151,7 +165,14 @@ public class ImportJob implements Callable<Boolean> {
       final String version = extractZeebeVersionFromIndexName(subBatch.getLastRecordIndexName());
       final ImportBatchProcessor importBatchProcessor =
           importBatchProcessorFactory.getImportBatchProcessor(version);
-      importBatchProcessor.performImport(subBatch);
+      final List<ImportBatch> shards =
+          ProcessInstanceSharding.shard(
+              subBatch, operateProperties.getImporter().getPartitionShardsCount(), objectMapper);
+      if (shards.size() == 1) {
+        importBatchProcessor.performImport(subBatch);
+      } else {
+        performImportInParallel(importBatchProcessor, subBatch, shards);
+      }
       return true;
     } catch (final Exception ex) {
       LOGGER.error(ex.getMessage(), ex);
@@ -159,6 +180,44 @@ public class ImportJob implements Callable<Boolean> {
     }
   }
 
+  /**
+   * Imports the shards of the given batch in parallel. Waits for all shards, even if one of them
+   * failed, such that the shards are not imported again while they are still being imported.
+   */
+  private void performImportInParallel(
+      final ImportBatchProcessor importBatchProcessor,
+      final ImportBatch subBatch,
+      final List<ImportBatch> shards)
+      throws Exception {
+    final List<Future<?>> futures = new ArrayList<>();
+    for (final ImportBatch shard : shards) {
+      futures.add(
+          importShardExecutor.submit(
+              () -> {
+                importBatchProcessor.performImport(shard);
+                return null;
+              }));
+    }
+
+    Exception failure = null;
+    for (final Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (final ExecutionException e) {
+        if (failure == null) {
+          failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+
+    for (final ImportBatch shard : shards) {
+      subBatch.addFinishedWiCount(shard.getFinishedWiCount());
+    }
+  }
+
   private List<ImportBatch> createSubBatchesPerIndexName() {
     final List<ImportBatch> subBatches = new ArrayList<>();
     if (importBatch.getHits().size() <= 1) {
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.exceptions.OperateRuntimeException;
+import io.camunda.operate.zeebe.ImportValueType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Splits an import batch into shards by process instance key, such that the shards can be imported
+ * in parallel. All records of a process instance end up in the same shard, in their original order,
+ * and so do the records of a child process instance, if its parent process instance was started in
+ * the same batch, as the import of the child relies on the tree path of the parent.
+ *
+ * <p>Only value types whose import does not depend on records of other process instances are
+ * sharded; batches of other value types are returned as they are. The parsed records are kept in
+ * the hits, so the import does not parse them again.
+ */
+final class ProcessInstanceSharding {
+
+  private static final Set<ImportValueType> SHARDED_VALUE_TYPES =
+      EnumSet.of(
+          ImportValueType.PROCESS_INSTANCE,
+          ImportValueType.VARIABLE,
+          ImportValueType.INCIDENT,
+          ImportValueType.JOB);
+
+  private static final String VALUE_FIELD_NAME = "value";
+  private static final String PROCESS_INSTANCE_KEY_FIELD_NAME = "processInstanceKey";
+  private static final String PARENT_PROCESS_INSTANCE_KEY_FIELD_NAME = "parentProcessInstanceKey";
+
+  private ProcessInstanceSharding() {}
+
+  /**
+   * Returns the non-empty shards of the given batch, or a list with only the given batch if it is
+   * not sharded. Records without a process instance key are assigned to the first shard.
+   */
+  static List<ImportBatch> shard(
+      final ImportBatch importBatch, final int shardsCount, final ObjectMapper objectMapper) {
+    if (shardsCount <= 1
+        || importBatch.getHits().size() <= 1
+        || !SHARDED_VALUE_TYPES.contains(importBatch.getImportValueType())) {
+      return List.of(importBatch);
+    }
+
+    final List<List<HitEntity>> shardHits = new ArrayList<>(shardsCount);
+    for (int i = 0; i < shardsCount; i++) {
+      shardHits.add(new ArrayList<>());
+    }
+
+    final Map<Long, Integer> shardPerProcessInstance = new HashMap<>();
+    for (final HitEntity hit : importBatch.getHits()) {
+      final JsonNode value = readValue(hit, objectMapper);
+      final long processInstanceKey = value.path(PROCESS_INSTANCE_KEY_FIELD_NAME).asLong(-1);
+      final int shard;
+      if (processInstanceKey <= 0) {
+        shard = 0;
+      } else {
+        final long parentKey = value.path(PARENT_PROCESS_INSTANCE_KEY_FIELD_NAME).asLong(-1);
+        shard =
+            shardPerProcessInstance.computeIfAbsent(
+                processInstanceKey,
+                key ->
+                    shardPerProcessInstance.getOrDefault(
+                        parentKey, Math.floorMod(Long.hashCode(key), shardsCount)));
+      }
+      shardHits.get(shard).add(hit);
+    }
+
+    final List<ImportBatch> shards = new ArrayList<>();
+    for (final List<HitEntity> hits : shardHits) {
+      if (!hits.isEmpty()) {
+        shards.add(
+            new ImportBatch(
+                    importBatch.getPartitionId(),
+                    importBatch.getImportValueType(),
+                    hits,
+                    importBatch.getLastRecordIndexName())
+                .setScheduledTime(importBatch.getScheduledTime()));
+      }
+    }
+    return shards.size() == 1 ? List.of(importBatch) : shards;
+  }
+
+  private static JsonNode readValue(final HitEntity hit, final ObjectMapper objectMapper) {
+    try {
+      if (hit.getSourceAsTree() == null) {
+        hit.setSourceAsTree(objectMapper.readTree(hit.getSourceAsString()));
+      }
+      return hit.getSourceAsTree().path(VALUE_FIELD_NAME);
+    } catch (final IOException e) {
+      throw new OperateRuntimeException(
+          String.format("Unable to read Zeebe record from index %s", hit.getIndex()), e);
+    }
+  }
+}
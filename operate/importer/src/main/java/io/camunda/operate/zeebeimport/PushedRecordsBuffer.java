@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.zeebe.ImportValueType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Receives Zeebe records which are pushed by a co-located exporter, such that the records readers
+ * can import them without searching the Zeebe indices. There is one bounded buffer per partition
+ * and value type, ordered by sequence.
+ *
+ * <p>Records must only be pushed once they were written to the Zeebe indices, as the readers fall
+ * back to reading from Elasticsearch whenever the pushed records do not continue the last imported
+ * sequence, e.g. after records were dropped because a buffer was full, or after a restart. The
+ * readers also fall back to Elasticsearch if nothing was pushed for a while, e.g. because the
+ * partition is led by a broker of another application now. Import jobs acknowledge the last
+ * imported sequence, which the pusher can follow through {@link #getAcknowledgedSequence(int,
+ * ImportValueType)}.
+ */
+@Component
+public class PushedRecordsBuffer {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(PushedRecordsBuffer.class);
+
+  private final Map<String, RecordsStream> streams = new ConcurrentHashMap<>();
+
+  @Autowired private OperateProperties operateProperties;
+
+  public boolean isEnabled() {
+    return operateProperties.getImporter().isPushEnabled();
+  }
+
+  /**
+   * Pushes the given record to the buffer of its partition and value type.
+   *
+   * @param partitionId the partition of the record
+   * @param importValueType the value type of the record
+   * @param sequence the sequence of the record, as written to the Zeebe index
+   * @param indexName the name of the Zeebe index the record was written to
+   * @param document the record, as written to the Zeebe index
+   * @return true if the record was buffered, false if the buffer is full, the record was imported
+   *     already, or pushing is disabled; in this case, the record is read from Elasticsearch
+   *     instead
+   */
+  public boolean push(
+      final int partitionId,
+      final ImportValueType importValueType,
+      final long sequence,
+      final String indexName,
+      final String document) {
+    if (!isEnabled()) {
+      return false;
+    }
+
+    final var stream = getStream(partitionId, importValueType);
+    final Runnable listener;
+    final boolean buffered;
+    synchronized (stream) {
+      stream.highestPushedSequence = Math.max(stream.highestPushedSequence, sequence);
+      stream.lastPushTime = System.currentTimeMillis();
+      if (sequence <= stream.acknowledgedSequence) {
+        // the record was read from Elasticsearch before it was pushed
+        return false;
+      }
+
+      buffered = stream.records.size() < operateProperties.getImporter().getPushBufferSize();
+      if (buffered) {
+        stream.records.put(
+            sequence, new HitEntity().setIndex(indexName).setSourceAsString(document));
+      }
+      listener = stream.listener;
+      stream.listener = null;
+    }
+
+    if (!buffered) {
+      LOGGER.debug(
+          "Dropped pushed record with sequence {} of {} ({}), as the buffer is full",
+          sequence,
+          importValueType,
+          partitionId);
+    }
+    if (listener != null) {
+      listener.run();
+    }
+    return buffered;
+  }
+
+  /**
+   * Returns the sequence of the last record of the given partition and value type which was
+   * imported, or -1 if no record was imported since the start of the importer.
+   */
+  public long getAcknowledgedSequence(
+      final int partitionId, final ImportValueType importValueType) {
+    final var stream = getStream(partitionId, importValueType);
+    synchronized (stream) {
+      return stream.acknowledgedSequence;
+    }
+  }
+
+  /**
+   * Takes the next records after the given sequence from the buffer.
+   *
+   * @return a batch with the next records, an empty batch if all pushed records were imported
+   *     already and records were pushed recently, or null if the buffered records do not continue
+   *     the given sequence, in which case the records have to be read from Elasticsearch
+   */
+  ImportBatch poll(
+      final int partitionId,
+      final ImportValueType importValueType,
+      final long afterSequence,
+      final int maxSize) {
+    final var stream = getStream(partitionId, importValueType);
+    synchronized (stream) {
+      // records which were already read from Elasticsearch
+      stream.records.headMap(afterSequence, true).clear();
+
+      if (stream.records.isEmpty()) {
+        // nothing was pushed yet, some records were dropped, which might never be pushed again, or
+        // the pusher went quiet, e.g. because another broker leads the partition now
+        final boolean upToDate =
+            stream.highestPushedSequence >= 0
+                && stream.highestPushedSequence <= afterSequence
+                && System.currentTimeMillis() - stream.lastPushTime
+                    < operateProperties.getImporter().getPushFallbackInterval();
+        return upToDate ? new ImportBatch(partitionId, importValueType, List.of(), null) : null;
+      }
+
+      if (stream.records.firstKey() != afterSequence + 1) {
+        return null;
+      }
+
+      final List<HitEntity> hits = new ArrayList<>();
+      long expectedSequence = afterSequence + 1;
+      while (hits.size() < maxSize
+          && !stream.records.isEmpty()
+          && stream.records.firstKey() == expectedSequence) {
+        hits.add(stream.records.pollFirstEntry().getValue());
+        expectedSequence++;
+      }
+
+      return new ImportBatch(
+          partitionId, importValueType, hits, hits.get(hits.size() - 1).getIndex());
+    }
+  }
+
+  /**
+   * Registers a listener which is called once on the next push for the given partition and value
+   * type, replacing any listener registered before.
+   */
+  void onNextPush(
+      final int partitionId, final ImportValueType importValueType, final Runnable listener) {
+    final var stream = getStream(partitionId, importValueType);
+    final boolean hasRecords;
+    synchronized (stream) {
+      hasRecords = !stream.records.isEmpty();
+      stream.listener = hasRecords ? null : listener;
+    }
+
+    // records might have been pushed since the caller polled
+    if (hasRecords) {
+      listener.run();
+    }
+  }
+
+  void acknowledge(
+      final int partitionId, final ImportValueType importValueType, final long sequence) {
+    final var stream = getStream(partitionId, importValueType);
+    synchronized (stream) {
+      stream.acknowledgedSequence = Math.max(stream.acknowledgedSequence, sequence);
+    }
+  }
+
+  private RecordsStream getStream(final int partitionId, final ImportValueType importValueType) {
+    return streams.computeIfAbsent(
+        importValueType.name() + "-" + partitionId, key -> new RecordsStream());
+  }
+
+  private static final class RecordsStream {
+    // records may be pushed out of order, as the exporter flushes several bulk requests at once
+    private final TreeMap<Long, HitEntity> records = new TreeMap<>();
+    private long highestPushedSequence = -1;
+    private long lastPushTime;
+    private long acknowledgedSequence = -1;
+    private Runnable listener;
+  }
+}
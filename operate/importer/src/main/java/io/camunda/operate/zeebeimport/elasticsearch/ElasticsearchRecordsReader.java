@@ -39,6 +39,7 @@ import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.Callable;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.locks.ReentrantLock;
 import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.search.SearchRequest;
@@ -109,6 +110,8 @@ public class ElasticsearchRecordsReader implements RecordsReader {
 
   @Autowired private ImportPositionHolder importPositionHolder;
 
+  @Autowired private PushedRecordsBuffer pushedRecordsBuffer;
+
   @Autowired private OperateProperties operateProperties;
 
   @Autowired
@@ -163,11 +166,27 @@ public class ElasticsearchRecordsReader implements RecordsReader {
           String.valueOf(partitionId),
           TAG_KEY_TYPE,
           importValueType.name());
-      final ImportBatch importBatch;
+      ImportBatch importBatch = null;
       final ImportPositionEntity latestPosition =
           importPositionHolder.getLatestScheduledPosition(
               importValueType.getAliasTemplate(), partitionId);
-      if (!useOnlyPosition && latestPosition != null && latestPosition.getSequence() > 0) {
+      final boolean useSequence =
+          !useOnlyPosition && latestPosition != null && latestPosition.getSequence() > 0;
+      if (useSequence && pushedRecordsBuffer.isEnabled()) {
+        // an empty batch means that all pushed records were imported, such that there is no need
+        // to search for new records until the next push
+        importBatch =
+            pushedRecordsBuffer.poll(
+                partitionId,
+                importValueType,
+                latestPosition.getSequence(),
+                batchSizeThrottle.get());
+      }
+      final boolean waitForPush = importBatch != null;
+
+      if (importBatch != null) {
+        LOGGER.debug("Use import for {} ( {} ) by push", importValueType.name(), partitionId);
+      } else if (useSequence) {
         LOGGER.debug("Use import for {} ( {} ) by sequence", importValueType.name(), partitionId);
         importBatch = readNextBatchBySequence(latestPosition.getSequence());
       } else if (latestPosition != null) {
@@ -175,7 +194,6 @@ public class ElasticsearchRecordsReader implements RecordsReader {
         importBatch = readNextBatchByPositionAndPartition(latestPosition.getPosition(), null);
       } else {
         LOGGER.debug("latestPosition is null, importBatch was not initialized");
-        importBatch = null;
       }
       Integer nextRunDelay = null;
       if (importBatch == null || importBatch.getHits() == null || importBatch.getHits().isEmpty()) {
@@ -194,7 +212,11 @@ public class ElasticsearchRecordsReader implements RecordsReader {
       }
       errorStrategy.reset();
       if (autoContinue) {
-        rescheduleReader(nextRunDelay);
+        if (waitForPush && nextRunDelay != null) {
+          rescheduleReaderOnPush(nextRunDelay);
+        } else {
+          rescheduleReader(nextRunDelay);
+        }
       }
     } catch (final NoSuchIndexException ex) {
       // if no index found, we back off current reader
@@ -410,6 +432,25 @@ public class ElasticsearchRecordsReader implements RecordsReader {
     }
   }
 
+  /**
+   * Reschedules the reader after the given delay, or as soon as new records are pushed, whatever
+   * happens first.
+   */
+  private void rescheduleReaderOnPush(final int readerDelay) {
+    final ScheduledFuture<?> scheduledRun =
+        readersExecutor.schedule(
+            this, Date.from(OffsetDateTime.now().plus(readerDelay, ChronoUnit.MILLIS).toInstant()));
+    pushedRecordsBuffer.onNextPush(
+        partitionId,
+        importValueType,
+        () -> {
+          // only run the reader earlier if it did not run already
+          if (scheduledRun.cancel(false)) {
+            readersExecutor.submit(this);
+          }
+        });
+  }
+
   private ImportJob createImportJob(
       final ImportPositionEntity latestPosition, final ImportBatch importBatch) {
     return beanFactory.getBean(ImportJob.class, importBatch, latestPosition);
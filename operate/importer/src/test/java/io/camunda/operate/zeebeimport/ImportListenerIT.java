@@ -37,6 +37,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 @SpringBootTest(
@@ -66,6 +67,12 @@ public class ImportListenerIT extends NoBeansIT {
 
   @MockBean private RecordsReaderHolder recordsReaderHolder;
 
+  @MockBean private PushedRecordsBuffer pushedRecordsBuffer;
+
+  @MockBean
+  @Qualifier("importShardThreadPoolExecutor")
+  private ThreadPoolTaskExecutor importShardExecutor;
+
   @MockBean private OperateProperties operateProperties;
 
   @Autowired private BeanFactory beanFactory;
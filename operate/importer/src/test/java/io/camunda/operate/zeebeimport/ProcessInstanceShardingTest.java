@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.zeebe.ImportValueType;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class ProcessInstanceShardingTest {
+
+  private static final int SHARDS_COUNT = 2;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  public void shouldKeepRecordsOfProcessInstanceInOrderInOneShard() throws IOException {
+    // given
+    final ImportBatch importBatch =
+        batch(ImportValueType.PROCESS_INSTANCE, hit(1, 1, -1), hit(2, 2, -1), hit(3, 1, -1));
+
+    // when
+    final List<ImportBatch> shards =
+        ProcessInstanceSharding.shard(importBatch, SHARDS_COUNT, objectMapper);
+
+    // then
+    assertEquals(2, shards.size());
+    assertEquals(List.of(1L, 3L), positions(shards.get(1)));
+    assertEquals(List.of(2L), positions(shards.get(0)));
+  }
+
+  @Test
+  public void shouldAssignChildToShardOfParentInSameBatch() throws IOException {
+    // given
+    final ImportBatch importBatch =
+        batch(ImportValueType.PROCESS_INSTANCE, hit(1, 1, -1), hit(2, 2, 1), hit(3, 4, -1));
+
+    // when
+    final List<ImportBatch> shards =
+        ProcessInstanceSharding.shard(importBatch, SHARDS_COUNT, objectMapper);
+
+    // then
+    assertEquals(2, shards.size());
+    assertEquals(List.of(1L, 2L), positions(shards.get(1)));
+    assertEquals(List.of(3L), positions(shards.get(0)));
+  }
+
+  @Test
+  public void shouldKeepParsedRecordsInHits() throws IOException {
+    // given
+    final HitEntity hit = hit(1, 1, -1);
+    final ImportBatch importBatch = batch(ImportValueType.PROCESS_INSTANCE, hit, hit(2, 2, -1));
+
+    // when
+    ProcessInstanceSharding.shard(importBatch, SHARDS_COUNT, objectMapper);
+
+    // then
+    assertEquals(objectMapper.readTree(hit.getSourceAsString()), hit.getSourceAsTree());
+  }
+
+  @Test
+  public void shouldNotShardIfAllRecordsBelongToOneShard() {
+    // given
+    final ImportBatch importBatch = batch(ImportValueType.VARIABLE, hit(1, 1, -1), hit(2, 3, -1));
+
+    // when
+    final List<ImportBatch> shards =
+        ProcessInstanceSharding.shard(importBatch, SHARDS_COUNT, objectMapper);
+
+    // then
+    assertEquals(1, shards.size());
+    assertSame(importBatch, shards.get(0));
+  }
+
+  @Test
+  public void shouldNotShardOtherValueTypes() {
+    // given
+    final ImportBatch importBatch = batch(ImportValueType.PROCESS, hit(1, 1, -1), hit(2, 2, -1));
+
+    // when
+    final List<ImportBatch> shards =
+        ProcessInstanceSharding.shard(importBatch, SHARDS_COUNT, objectMapper);
+
+    // then
+    assertEquals(1, shards.size());
+    assertSame(importBatch, shards.get(0));
+  }
+
+  @Test
+  public void shouldNotShardIfDisabled() {
+    // given
+    final ImportBatch importBatch =
+        batch(ImportValueType.PROCESS_INSTANCE, hit(1, 1, -1), hit(2, 2, -1));
+
+    // when
+    final List<ImportBatch> shards = ProcessInstanceSharding.shard(importBatch, 1, objectMapper);
+
+    // then
+    assertEquals(1, shards.size());
+    assertSame(importBatch, shards.get(0));
+  }
+
+  private ImportBatch batch(final ImportValueType importValueType, final HitEntity... hits) {
+    return new ImportBatch(1, importValueType, List.of(hits), "index");
+  }
+
+  private HitEntity hit(
+      final long position, final long processInstanceKey, final long parentProcessInstanceKey) {
+    return new HitEntity()
+        .setIndex("index")
+        .setSourceAsString(
+            String.format(
+                "{\"position\":%d,\"value\":{\"processInstanceKey\":%d,"
+                    + "\"parentProcessInstanceKey\":%d}}",
+                position, processInstanceKey, parentProcessInstanceKey));
+  }
+
+  private List<Long> positions(final ImportBatch importBatch) throws IOException {
+    final List<Long> positions = new ArrayList<>();
+    for (final HitEntity hit : importBatch.getHits()) {
+      positions.add(objectMapper.readTree(hit.getSourceAsString()).get("position").asLong());
+    }
+    return positions;
+  }
+}
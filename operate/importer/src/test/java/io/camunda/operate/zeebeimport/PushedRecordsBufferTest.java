@@ -0,0 +1,228 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.operate.zeebeimport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import io.camunda.operate.entities.HitEntity;
+import io.camunda.operate.property.OperateProperties;
+import io.camunda.operate.zeebe.ImportValueType;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class PushedRecordsBufferTest {
+
+  private static final int PARTITION_ID = 1;
+  private static final ImportValueType VALUE_TYPE = ImportValueType.PROCESS_INSTANCE;
+
+  private final OperateProperties operateProperties = new OperateProperties();
+  private final PushedRecordsBuffer buffer = new PushedRecordsBuffer();
+
+  @Before
+  public void before() {
+    operateProperties.getImporter().setPushEnabled(true).setPushBufferSize(3);
+    ReflectionTestUtils.setField(buffer, "operateProperties", operateProperties);
+  }
+
+  @Test
+  public void shouldReturnPushedRecordsWhichContinueSequence() {
+    // given
+    push(11);
+    push(12);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 10, 10);
+
+    // then
+    assertEquals(2, batch.getHits().size());
+    assertEquals("{\"sequence\":12}", batch.getHits().get(1).getSourceAsString());
+    assertEquals("index", batch.getLastRecordIndexName());
+  }
+
+  @Test
+  public void shouldLimitBatchSize() {
+    // given
+    push(11);
+    push(12);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 10, 1);
+
+    // then
+    assertEquals(1, batch.getHits().size());
+    assertEquals(1, buffer.poll(PARTITION_ID, VALUE_TYPE, 11, 10).getHits().size());
+  }
+
+  @Test
+  public void shouldReturnRecordsPushedOutOfOrder() {
+    // given
+    push(12);
+    push(11);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 10, 10);
+
+    // then
+    assertEquals(2, batch.getHits().size());
+    assertEquals("{\"sequence\":11}", batch.getHits().get(0).getSourceAsString());
+    assertEquals("{\"sequence\":12}", batch.getHits().get(1).getSourceAsString());
+  }
+
+  @Test
+  public void shouldSkipRecordsWhichWereAlreadyImported() {
+    // given
+    push(11);
+    push(12);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 11, 10);
+
+    // then
+    assertEquals(1, batch.getHits().size());
+    assertEquals("{\"sequence\":12}", batch.getHits().get(0).getSourceAsString());
+  }
+
+  @Test
+  public void shouldFallBackIfNothingWasPushed() {
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 10, 10);
+
+    // then
+    assertNull(batch);
+  }
+
+  @Test
+  public void shouldFallBackIfPushedRecordsDoNotContinueSequence() {
+    // given
+    push(12);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 10, 10);
+
+    // then
+    assertNull(batch);
+  }
+
+  @Test
+  public void shouldReturnEmptyBatchIfAllPushedRecordsWereImported() {
+    // given
+    push(11);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 11, 10);
+
+    // then
+    assertTrue(batch.getHits().isEmpty());
+  }
+
+  @Test
+  public void shouldFallBackIfNothingWasPushedRecently() {
+    // given
+    operateProperties.getImporter().setPushFallbackInterval(0);
+    push(11);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 11, 10);
+
+    // then
+    assertNull(batch);
+  }
+
+  @Test
+  public void shouldNotBufferRecordsWhichWereAcknowledged() {
+    // given
+    buffer.acknowledge(PARTITION_ID, VALUE_TYPE, 11);
+
+    // when
+    final boolean buffered = push(11);
+
+    // then
+    assertFalse(buffered);
+    assertTrue(buffer.poll(PARTITION_ID, VALUE_TYPE, 11, 10).getHits().isEmpty());
+  }
+
+  @Test
+  public void shouldFallBackIfRecordsWereDropped() {
+    // given
+    push(11);
+    push(12);
+    push(13);
+    final boolean buffered = push(14);
+    buffer.poll(PARTITION_ID, VALUE_TYPE, 10, 10);
+
+    // when
+    final ImportBatch batch = buffer.poll(PARTITION_ID, VALUE_TYPE, 13, 10);
+
+    // then
+    assertFalse(buffered);
+    assertNull(batch);
+  }
+
+  @Test
+  public void shouldNotBufferRecordsIfDisabled() {
+    // given
+    operateProperties.getImporter().setPushEnabled(false);
+
+    // when
+    final boolean buffered = push(11);
+
+    // then
+    assertFalse(buffered);
+    assertNull(buffer.poll(PARTITION_ID, VALUE_TYPE, 10, 10));
+  }
+
+  @Test
+  public void shouldNotifyListenerOnceOnNextPush() {
+    // given
+    final AtomicInteger notifications = new AtomicInteger();
+    buffer.onNextPush(PARTITION_ID, VALUE_TYPE, notifications::incrementAndGet);
+
+    // when
+    push(11);
+    push(12);
+
+    // then
+    assertEquals(1, notifications.get());
+  }
+
+  @Test
+  public void shouldNotifyListenerImmediatelyIfRecordsArePending() {
+    // given
+    final AtomicInteger notifications = new AtomicInteger();
+    push(11);
+
+    // when
+    buffer.onNextPush(PARTITION_ID, VALUE_TYPE, notifications::incrementAndGet);
+
+    // then
+    assertEquals(1, notifications.get());
+  }
+
+  @Test
+  public void shouldAcknowledgeHighestImportedSequence() {
+    // given
+    buffer.acknowledge(PARTITION_ID, VALUE_TYPE, 12);
+
+    // when
+    buffer.acknowledge(PARTITION_ID, VALUE_TYPE, 11);
+
+    // then
+    assertEquals(12, buffer.getAcknowledgedSequence(PARTITION_ID, VALUE_TYPE));
+    assertEquals(-1, buffer.getAcknowledgedSequence(PARTITION_ID + 1, VALUE_TYPE));
+  }
+
+  private boolean push(final long sequence) {
+    return buffer.push(
+        PARTITION_ID, VALUE_TYPE, sequence, "index", "{\"sequence\":" + sequence + "}");
+  }
+}
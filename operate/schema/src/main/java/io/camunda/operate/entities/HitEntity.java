@@ -7,11 +7,16 @@
  */
 package io.camunda.operate.entities;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
 public class HitEntity {
   String index;
 
   String sourceAsString;
 
+  // the parsed source, if it was parsed before the import already, so it's not parsed twice
+  JsonNode sourceAsTree;
+
   public String getSourceAsString() {
     return sourceAsString;
   }
@@ -21,6 +26,15 @@ public class HitEntity {
     return this;
   }
 
+  public JsonNode getSourceAsTree() {
+    return sourceAsTree;
+  }
+
+  public HitEntity setSourceAsTree(JsonNode sourceAsTree) {
+    this.sourceAsTree = sourceAsTree;
+    return this;
+  }
+
   public String getIndex() {
     return index;
   }
@@ -17,4 +17,10 @@ public interface FlowNodeStore {
   Map<String, String> getFlowNodeIdsForFlowNodeInstances(Set<String> flowNodeInstances);
 
   String findParentTreePathFor(final long parentFlowNodeInstanceKey);
+
+  /**
+   * Returns the tree paths of the most recent active flow node instances by their key, ordered from
+   * the oldest to the most recent flow node instance.
+   */
+  Map<String, String> getRecentFlowNodeInstanceTreePaths(final int size);
 }
@@ -17,5 +17,11 @@ public interface ListViewStore {
 
   String findProcessInstanceTreePathFor(final long processInstanceKey);
 
+  /**
+   * Returns the tree paths of the most recent active process instances by their key, ordered from
+   * the oldest to the most recent process instance.
+   */
+  Map<String, String> getRecentProcessInstanceTreePaths(final int size);
+
   List<Long> getProcessInstanceKeysWithEmptyProcessVersionFor(Long processDefinitionKey);
 }
@@ -16,6 +16,7 @@ import static org.elasticsearch.index.query.QueryBuilders.termQuery;
 import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
 
 import io.camunda.operate.conditions.ElasticsearchCondition;
+import io.camunda.operate.entities.FlowNodeState;
 import io.camunda.operate.exceptions.OperateRuntimeException;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.schema.templates.FlowNodeInstanceTemplate;
@@ -27,14 +28,17 @@ import io.camunda.operate.util.ThreadUtil;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.SortOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
@@ -129,6 +133,40 @@ public class ElasticsearchFlowNodeStore implements FlowNodeStore {
     return findParentTreePath(parentFlowNodeInstanceKey, 0);
   }
 
+  @Override
+  public Map<String, String> getRecentFlowNodeInstanceTreePaths(final int size) {
+    final SearchRequest searchRequest =
+        ElasticsearchUtil.createSearchRequest(flowNodeInstanceTemplate, ONLY_RUNTIME)
+            .source(
+                new SearchSourceBuilder()
+                    .query(
+                        termQuery(FlowNodeInstanceTemplate.STATE, FlowNodeState.ACTIVE.name()))
+                    .sort(FlowNodeInstanceTemplate.KEY, SortOrder.DESC)
+                    .size(Math.min(size, ElasticsearchUtil.QUERY_MAX_SIZE))
+                    .fetchSource(
+                        new String[] {
+                          FlowNodeInstanceTemplate.KEY, FlowNodeInstanceTemplate.TREE_PATH
+                        },
+                        null));
+    try {
+      final SearchHit[] hits = tenantAwareClient.search(searchRequest).getHits().getHits();
+      final Map<String, String> treePaths = new LinkedHashMap<>();
+      for (int i = hits.length - 1; i >= 0; i--) {
+        final Map<String, Object> source = hits[i].getSourceAsMap();
+        treePaths.put(
+            String.valueOf(source.get(FlowNodeInstanceTemplate.KEY)),
+            (String) source.get(FlowNodeInstanceTemplate.TREE_PATH));
+      }
+      return treePaths;
+    } catch (final IOException e) {
+      final String message =
+          String.format(
+              "Exception occurred, while searching for recent flow node instance tree paths: %s",
+              e.getMessage());
+      throw new OperateRuntimeException(message, e);
+    }
+  }
+
   private String findParentTreePath(final long parentFlowNodeInstanceKey, final int attemptCount) {
     final ElasticsearchUtil.QueryType queryType =
         operateProperties.getImporter().isReadArchivedParents()
@@ -14,6 +14,7 @@ import static org.elasticsearch.index.query.QueryBuilders.*;
 import static org.elasticsearch.index.query.QueryBuilders.existsQuery;
 
 import io.camunda.operate.conditions.ElasticsearchCondition;
+import io.camunda.operate.entities.listview.ProcessInstanceState;
 import io.camunda.operate.exceptions.OperateRuntimeException;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.schema.templates.ListViewTemplate;
@@ -23,6 +24,7 @@ import io.camunda.operate.tenant.TenantAwareElasticsearchClient;
 import io.camunda.operate.util.ElasticsearchUtil;
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.elasticsearch.action.search.SearchRequest;
@@ -32,6 +34,7 @@ import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.SearchHits;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.SortOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.stereotype.Component;
@@ -110,6 +113,42 @@ public class ElasticsearchListViewStore implements ListViewStore {
     }
   }
 
+  @Override
+  public Map<String, String> getRecentProcessInstanceTreePaths(final int size) {
+    final SearchRequest searchRequest =
+        ElasticsearchUtil.createSearchRequest(
+                listViewTemplate, ElasticsearchUtil.QueryType.ONLY_RUNTIME)
+            .source(
+                new SearchSourceBuilder()
+                    .query(
+                        joinWithAnd(
+                            termQuery(
+                                ListViewTemplate.JOIN_RELATION,
+                                ListViewTemplate.PROCESS_INSTANCE_JOIN_RELATION),
+                            termQuery(ListViewTemplate.STATE, ProcessInstanceState.ACTIVE.name())))
+                    .sort(ListViewTemplate.KEY, SortOrder.DESC)
+                    .size(Math.min(size, ElasticsearchUtil.QUERY_MAX_SIZE))
+                    .fetchSource(
+                        new String[] {ListViewTemplate.KEY, ListViewTemplate.TREE_PATH}, null));
+    try {
+      final SearchHit[] hits = tenantAwareClient.search(searchRequest).getHits().getHits();
+      final Map<String, String> treePaths = new LinkedHashMap<>();
+      for (int i = hits.length - 1; i >= 0; i--) {
+        final Map<String, Object> source = hits[i].getSourceAsMap();
+        treePaths.put(
+            String.valueOf(source.get(ListViewTemplate.KEY)),
+            (String) source.get(ListViewTemplate.TREE_PATH));
+      }
+      return treePaths;
+    } catch (IOException e) {
+      final String message =
+          String.format(
+              "Exception occurred, while searching for recent process instance tree paths: %s",
+              e.getMessage());
+      throw new OperateRuntimeException(message, e);
+    }
+  }
+
   @Override
   public List<Long> getProcessInstanceKeysWithEmptyProcessVersionFor(Long processDefinitionKey) {
     final QueryBuilder queryBuilder =
@@ -13,6 +13,7 @@ import static io.camunda.operate.store.opensearch.dsl.QueryDSL.*;
 import static io.camunda.operate.store.opensearch.dsl.RequestDSL.searchRequestBuilder;
 
 import io.camunda.operate.conditions.OpensearchCondition;
+import io.camunda.operate.entities.FlowNodeState;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.schema.templates.FlowNodeInstanceTemplate;
 import io.camunda.operate.schema.templates.ListViewTemplate;
@@ -21,10 +22,12 @@ import io.camunda.operate.store.opensearch.client.sync.RichOpenSearchClient;
 import io.camunda.operate.store.opensearch.dsl.RequestDSL;
 import io.camunda.operate.util.ThreadUtil;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
+import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
@@ -84,6 +87,29 @@ public class OpensearchFlowNodeStore implements FlowNodeStore {
     return findParentTreePath(parentFlowNodeInstanceKey, 0);
   }
 
+  @Override
+  public Map<String, String> getRecentFlowNodeInstanceTreePaths(final int size) {
+    record Result(Long key, String treePath) {}
+    final var searchRequestBuilder =
+        searchRequestBuilder(flowNodeInstanceTemplate, RequestDSL.QueryType.ONLY_RUNTIME)
+            .query(
+                withTenantCheck(
+                    term(FlowNodeInstanceTemplate.STATE, FlowNodeState.ACTIVE.name())))
+            .sort(sortOptions(FlowNodeInstanceTemplate.KEY, SortOrder.Desc))
+            .size(size)
+            .source(
+                sourceInclude(FlowNodeInstanceTemplate.KEY, FlowNodeInstanceTemplate.TREE_PATH));
+
+    final List<Hit<Result>> hits =
+        richOpenSearchClient.doc().search(searchRequestBuilder, Result.class).hits().hits();
+    final Map<String, String> treePaths = new LinkedHashMap<>();
+    for (int i = hits.size() - 1; i >= 0; i--) {
+      final Result result = hits.get(i).source();
+      treePaths.put(String.valueOf(result.key()), result.treePath());
+    }
+    return treePaths;
+  }
+
   private String findParentTreePath(final long parentFlowNodeInstanceKey, final int attemptCount) {
     record Result(String treePath) {}
     final RequestDSL.QueryType queryType =
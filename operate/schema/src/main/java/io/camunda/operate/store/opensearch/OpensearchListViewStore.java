@@ -14,6 +14,7 @@ import static io.camunda.operate.util.CollectionUtil.toSafeListOfStrings;
 import static io.camunda.operate.util.ExceptionHelper.withIOException;
 
 import io.camunda.operate.conditions.OpensearchCondition;
+import io.camunda.operate.entities.listview.ProcessInstanceState;
 import io.camunda.operate.property.OperateProperties;
 import io.camunda.operate.schema.templates.ListViewTemplate;
 import io.camunda.operate.store.ListViewStore;
@@ -21,9 +22,11 @@ import io.camunda.operate.store.NotFoundException;
 import io.camunda.operate.store.opensearch.client.sync.RichOpenSearchClient;
 import io.camunda.operate.store.opensearch.dsl.RequestDSL;
 import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.opensearch.client.opensearch._types.SortOrder;
 import org.opensearch.client.opensearch.core.search.Hit;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Conditional;
@@ -88,6 +91,32 @@ public class OpensearchListViewStore implements ListViewStore {
     return null;
   }
 
+  @Override
+  public Map<String, String> getRecentProcessInstanceTreePaths(final int size) {
+    record Result(Long key, String treePath) {}
+    final var searchRequestBuilder =
+        searchRequestBuilder(listViewTemplate, RequestDSL.QueryType.ONLY_RUNTIME)
+            .query(
+                withTenantCheck(
+                    and(
+                        term(
+                            ListViewTemplate.JOIN_RELATION,
+                            ListViewTemplate.PROCESS_INSTANCE_JOIN_RELATION),
+                        term(ListViewTemplate.STATE, ProcessInstanceState.ACTIVE.name()))))
+            .sort(sortOptions(ListViewTemplate.KEY, SortOrder.Desc))
+            .size(size)
+            .source(sourceInclude(ListViewTemplate.KEY, ListViewTemplate.TREE_PATH));
+
+    final List<Hit<Result>> hits =
+        richOpenSearchClient.doc().search(searchRequestBuilder, Result.class).hits().hits();
+    final Map<String, String> treePaths = new LinkedHashMap<>();
+    for (int i = hits.size() - 1; i >= 0; i--) {
+      final Result result = hits.get(i).source();
+      treePaths.put(String.valueOf(result.key()), result.treePath());
+    }
+    return treePaths;
+  }
+
   @Override
   public List<Long> getProcessInstanceKeysWithEmptyProcessVersionFor(Long processDefinitionKey) {
     final var searchRequestBuilder =
@@ -35,6 +35,8 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final boolean windowedReplication;
+  private final int maxInflightAppendSize;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -45,6 +47,8 @@ public final class RaftMemberContext {
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
+  private long inFlightAppendSize;
+  private long appendEpoch;
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
@@ -55,12 +59,23 @@ public final class RaftMemberContext {
   private SnapshotChunkReader snapshotChunkReader;
   private IndexedRaftLogEntry currentEntry;
 
+  /**
+   * @param maxAppendsPerMember the maximum number of append requests in flight to the member
+   * @param windowedReplication if true, append requests are sent as long as the window has space,
+   *     instead of being paced by the observed latency of the member
+   * @param maxInflightAppendSize the maximum size in bytes of the entries in flight to the member,
+   *     only applied with windowed replication
+   */
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final boolean windowedReplication,
+      final int maxInflightAppendSize) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.windowedReplication = windowedReplication;
+    this.maxInflightAppendSize = maxInflightAppendSize;
   }
 
   /** Resets the member state. */
@@ -72,6 +87,8 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    inFlightAppendSize = 0;
+    appendEpoch++;
     timeStats.clear();
     configuring = false;
     installing = false;
@@ -149,6 +166,10 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
+    if (windowedReplication) {
+      return open && (inFlightAppendCount == 0 || (appendSucceeded && hasAppendWindowSpace()));
+    }
+
     return open
         && (inFlightAppendCount == 0
             || (appendSucceeded
@@ -157,6 +178,10 @@ public final class RaftMemberContext {
                     >= appendTime));
   }
 
+  private boolean hasAppendWindowSpace() {
+    return inFlightAppendCount < maxAppendsPerMember && inFlightAppendSize < maxInflightAppendSize;
+  }
+
   /**
    * Returns whether a heartbeat can be sent to the member.
    *
@@ -187,7 +212,17 @@ public final class RaftMemberContext {
 
   /** Starts an append request to the member. */
   public void startAppend() {
+    startAppend(0);
+  }
+
+  /**
+   * Starts an append request to the member.
+   *
+   * @param size The size in bytes of the entries which are sent.
+   */
+  public void startAppend(final int size) {
     inFlightAppendCount++;
+    inFlightAppendSize += size;
     appendTime = System.currentTimeMillis();
   }
 
@@ -202,10 +237,56 @@ public final class RaftMemberContext {
    * @param time The time in milliseconds for the append.
    */
   public void completeAppend(final long time) {
+    completeAppend(time, 0);
+  }
+
+  /**
+   * Completes an append request to the member.
+   *
+   * @param time The time in milliseconds for the append.
+   * @param size The size in bytes of the entries which were sent.
+   */
+  public void completeAppend(final long time, final int size) {
     inFlightAppendCount--;
+    inFlightAppendSize = Math.max(0, inFlightAppendSize - size);
     timeStats.addValue(time);
   }
 
+  public boolean isWindowedReplication() {
+    return windowedReplication;
+  }
+
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
+  }
+
+  public long getInFlightAppendSize() {
+    return inFlightAppendSize;
+  }
+
+  /**
+   * Returns how much of the append window is in use, as the larger of the used fraction of the
+   * maximum number of requests and of the maximum size in flight.
+   *
+   * @return the utilisation of the append window, between 0 and 1
+   */
+  public double getAppendWindowUtilization() {
+    final double countUtilization = (double) inFlightAppendCount / maxAppendsPerMember;
+    final double sizeUtilization = (double) inFlightAppendSize / maxInflightAppendSize;
+    return Math.min(1.0, Math.max(countUtilization, sizeUtilization));
+  }
+
+  /**
+   * Returns the epoch of the position of the reader. It changes whenever the next index of the
+   * member is reset, such that responses to requests which were sent before can be recognized as
+   * stale.
+   *
+   * @return the current append epoch
+   */
+  public long getAppendEpoch() {
+    return appendEpoch;
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -274,6 +355,7 @@ public final class RaftMemberContext {
         .add("matchIndex", matchIndex)
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
+        .add("appendingSize", inFlightAppendSize)
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
@@ -480,6 +562,7 @@ public final class RaftMemberContext {
   }
 
   public void reset(final long index) {
+    appendEpoch++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
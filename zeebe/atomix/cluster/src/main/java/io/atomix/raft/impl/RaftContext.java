@@ -402,6 +402,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public boolean isWindowedReplication() {
+    return partitionConfig.isWindowedReplication();
+  }
+
+  public int getMaxInflightAppendSize() {
+    return partitionConfig.getMaxInflightAppendSize();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -1221,6 +1229,10 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return snapshotChunkSize;
   }
 
+  public boolean isIncrementalSnapshotReplication() {
+    return partitionConfig.isIncrementalSnapshotReplication();
+  }
+
   /** Raft server state. */
   public enum State {
     ACTIVE,
@@ -19,6 +19,8 @@ import io.prometheus.client.Gauge;
 
 public class RaftReplicationMetrics extends RaftMetrics {
 
+  private static final String FOLLOWER_LABEL = "follower";
+
   private static final Gauge COMMIT_INDEX =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -35,6 +37,30 @@ public class RaftReplicationMetrics extends RaftMetrics {
           .name("partition_raft_append_index")
           .register();
 
+  private static final Gauge APPEND_WINDOW_REQUESTS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The number of append requests in flight to a follower")
+          .name("partition_raft_append_window_requests")
+          .register();
+
+  private static final Gauge APPEND_WINDOW_BYTES =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The size in bytes of the entries in flight to a follower")
+          .name("partition_raft_append_window_bytes")
+          .register();
+
+  private static final Gauge APPEND_WINDOW_UTILIZATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("The used fraction of the append window of a follower, between 0 and 1")
+          .name("partition_raft_append_window_utilization")
+          .register();
+
   private final Gauge.Child commitIndex;
   private final Gauge.Child appendIndex;
 
@@ -52,4 +78,11 @@ public class RaftReplicationMetrics extends RaftMetrics {
   public void setAppendIndex(final long value) {
     appendIndex.set(value);
   }
+
+  public void observeAppendWindow(
+      final String follower, final int requests, final long bytes, final double utilization) {
+    APPEND_WINDOW_REQUESTS.labels(follower, partitionGroupName, partition).set(requests);
+    APPEND_WINDOW_BYTES.labels(follower, partitionGroupName, partition).set(bytes);
+    APPEND_WINDOW_UTILIZATION.labels(follower, partitionGroupName, partition).set(utilization);
+  }
 }
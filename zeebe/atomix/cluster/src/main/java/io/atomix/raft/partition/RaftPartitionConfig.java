@@ -35,6 +35,8 @@ public class RaftPartitionConfig {
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean windowedReplication;
+  private int maxInflightAppendSize = 1024 * 1024;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -45,6 +47,7 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private boolean incrementalSnapshotReplication;
 
   /**
    * Returns the Raft leader election timeout.
@@ -102,6 +105,35 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isWindowedReplication() {
+    return windowedReplication;
+  }
+
+  /**
+   * Sets whether append requests to a follower are sent as long as the replication window has
+   * space, instead of being paced by the observed latency of the follower. The window is bounded by
+   * {@link #getMaxAppendsPerFollower()} and {@link #getMaxInflightAppendSize()}.
+   *
+   * @param windowedReplication true to enable windowed replication
+   */
+  public void setWindowedReplication(final boolean windowedReplication) {
+    this.windowedReplication = windowedReplication;
+  }
+
+  public int getMaxInflightAppendSize() {
+    return maxInflightAppendSize;
+  }
+
+  /**
+   * Sets the maximum size in bytes of the entries which are in flight to a single follower. Only
+   * applies with windowed replication.
+   *
+   * @param maxInflightAppendSize the maximum size in bytes
+   */
+  public void setMaxInflightAppendSize(final int maxInflightAppendSize) {
+    this.maxInflightAppendSize = maxInflightAppendSize;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -144,6 +176,20 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public boolean isIncrementalSnapshotReplication() {
+    return incrementalSnapshotReplication;
+  }
+
+  /**
+   * Sets whether snapshots are replicated incrementally, i.e. whether the leader first sends the
+   * list of snapshot files, such that followers can reuse the files they have already.
+   *
+   * @param incrementalSnapshotReplication true to replicate snapshots incrementally
+   */
+  public void setIncrementalSnapshotReplication(final boolean incrementalSnapshotReplication) {
+    this.incrementalSnapshotReplication = incrementalSnapshotReplication;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -220,6 +266,10 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", windowedReplication="
+        + windowedReplication
+        + ", maxInflightAppendSize="
+        + maxInflightAppendSize
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
@@ -228,6 +278,8 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", incrementalSnapshotReplication="
+        + incrementalSnapshotReplication
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
@@ -30,12 +30,14 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +127,22 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return true if the journal index is backed by primitive arrays, false otherwise
+   */
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of skip lists.
+   *
+   * @param primitiveJournalIndex true to use the primitive array based index, false otherwise
+   */
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +156,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", primitiveJournalIndex="
+        + primitiveJournalIndex
         + '}';
   }
 }
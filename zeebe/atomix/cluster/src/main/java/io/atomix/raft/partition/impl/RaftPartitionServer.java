@@ -304,6 +304,7 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withPrimitiveJournalIndex(storageConfig.isPrimitiveJournalIndex())
         .build();
   }
 
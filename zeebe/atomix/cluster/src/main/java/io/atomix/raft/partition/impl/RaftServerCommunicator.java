@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -45,12 +46,22 @@ import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  /**
+   * How long to keep sending append requests to a member with the Kryo based serializer, after it
+   * was found to handle the Kryo based encoding but not the binary one, before trying the binary
+   * encoding again. This allows members to switch to the binary encoding once they were updated.
+   */
+  private static final Duration BINARY_APPEND_RETRY_INTERVAL = Duration.ofMinutes(1);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
   private final ClusterCommunicationService clusterCommunicator;
@@ -58,6 +69,8 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   private final Duration requestTimeout;
   private final Duration snapshotRequestTimeout;
   private final Duration configurationChangeTimeout;
+  // members which do not support binary encoded append requests, with the time of the last check
+  private final Map<MemberId, Long> binaryAppendUnsupported = new ConcurrentHashMap<>();
 
   public RaftServerCommunicator(
       final String prefix,
@@ -137,7 +150,37 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    if (!supportsBinaryAppend(memberId)) {
+      return sendAndReceive(context.appendV2subject, request, memberId);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .<VersionedAppendRequest, AppendResponse>send(
+            context.appendBinarySubject,
+            request,
+            RaftMessageCodec::encodeAppendRequest,
+            RaftMessageCodec::decodeAppendResponse,
+            memberId,
+            requestTimeout)
+        .exceptionallyCompose(
+            error -> {
+              final var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (!(cause instanceof NoRemoteHandler)) {
+                return CompletableFuture.failedFuture(error);
+              }
+
+              // either the member was not updated yet, or it has not registered its handlers yet;
+              // only a member which was not updated handles the previous encoding, as the binary
+              // handler is registered first. Otherwise, the next append tries the binary one again
+              return this.<VersionedAppendRequest, AppendResponse>send(
+                      context.appendV2subject, request, memberId, requestTimeout)
+                  .thenApply(
+                      response -> {
+                        binaryAppendUnsupported.put(memberId, System.currentTimeMillis());
+                        return response;
+                      });
+            });
   }
 
   @Override
@@ -288,6 +331,13 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void registerAppendV2Handler(
       final Function<VersionedAppendRequest, CompletableFuture<AppendResponse>> handler) {
+    // the binary handler is registered first, so a member which handles the previous encoding but
+    // not the binary one is known to not support it, see append()
+    clusterCommunicator.replyTo(
+        context.appendBinarySubject,
+        RaftMessageCodec::decodeAppendRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        RaftMessageCodec::encodeAppendResponse);
     clusterCommunicator.replyTo(
         context.appendV2subject,
         serializer::decode,
@@ -298,7 +348,23 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
+    // in reverse order of the registration, see registerAppendV2Handler()
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendBinarySubject);
+  }
+
+  private boolean supportsBinaryAppend(final MemberId memberId) {
+    final var lastChecked = binaryAppendUnsupported.get(memberId);
+    if (lastChecked == null) {
+      return true;
+    }
+
+    if (System.currentTimeMillis() - lastChecked < BINARY_APPEND_RETRY_INTERVAL.toMillis()) {
+      return false;
+    }
+
+    binaryAppendUnsupported.remove(memberId, lastChecked);
+    return true;
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
@@ -309,6 +375,11 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   private <T, U> CompletableFuture<U> sendAndReceive(
       final String subject, final T request, final MemberId memberId, final Duration timeout) {
     metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return send(subject, request, memberId, timeout);
+  }
+
+  private <T, U> CompletableFuture<U> send(
+      final String subject, final T request, final MemberId memberId, final Duration timeout) {
     return clusterCommunicator.send(
         subject, request, serializer::encode, serializer::decode, memberId, timeout);
   }
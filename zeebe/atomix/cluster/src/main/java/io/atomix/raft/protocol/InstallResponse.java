@@ -20,33 +20,55 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
  * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * the request was successful, and the preferred chunk size. When a snapshot is replicated
+ * incrementally, the response may also list the snapshot files which the receiver reused from its
+ * own snapshot, and which the leader does not have to send anymore.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // always an ArrayList, as it is the registered type in the raft namespace
+  protected List<String> reusedFiles;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final List<String> reusedFiles) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusedFiles = reusedFiles;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * @return the names of the snapshot files which the receiver reused, and which don't have to be
+   *     sent anymore
+   */
+  public List<String> reusedFiles() {
+    // older versions don't send this field
+    return reusedFiles == null ? List.of() : reusedFiles;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusedFiles", reusedFiles())
         .toString();
   }
 
@@ -62,17 +84,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected final ArrayList<String> reusedFiles = new ArrayList<>();
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusedFiles);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withReusedFiles(final Collection<String> reusedFiles) {
+      this.reusedFiles.addAll(reusedFiles);
+      return this;
+    }
   }
 }
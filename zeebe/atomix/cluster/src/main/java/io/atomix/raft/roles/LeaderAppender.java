@@ -205,9 +205,12 @@ final class LeaderAppender {
     }
 
     // Start the append to the member.
-    member.startAppend();
+    final int size = getEntriesSize(request);
+    member.startAppend(size);
+    observeAppendWindow(member);
 
     final long timestamp = System.currentTimeMillis();
+    final long epoch = member.getAppendEpoch();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -219,16 +222,22 @@ final class LeaderAppender {
                 final long appendLatency = System.currentTimeMillis() - timestamp;
                 metrics.appendComplete(appendLatency, member.getMember().memberId().id());
                 if (!request.entries().isEmpty()) {
-                  member.completeAppend(appendLatency);
+                  member.completeAppend(appendLatency, size);
                 } else {
                   member.completeAppend();
                 }
+                observeAppendWindow(member);
 
+                // With windowed replication, many requests may be in flight when the next index of
+                // the member is reset. Responses to the requests sent before the reset are stale,
+                // and must not reset the next index again.
+                final boolean stale =
+                    member.isWindowedReplication() && epoch != member.getAppendEpoch();
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, stale);
                 } else {
-                  handleAppendResponseFailure(member, request, error);
+                  handleAppendResponseFailure(member, request, error, stale);
                 }
               }
             },
@@ -239,6 +248,23 @@ final class LeaderAppender {
     }
   }
 
+  private int getEntriesSize(final VersionedAppendRequest request) {
+    int size = 0;
+    for (final var entry : request.entries()) {
+      size += entry.approximateSize();
+    }
+    return size;
+  }
+
+  private void observeAppendWindow(final RaftMemberContext member) {
+    raft.getReplicationMetrics()
+        .observeAppendWindow(
+            member.getMember().memberId().id(),
+            member.getInFlightAppendCount(),
+            member.getInFlightAppendSize(),
+            member.getAppendWindowUtilization());
+  }
+
   /** Succeeds an attempt to contact a member. */
   private void succeedAttempt(final RaftMemberContext member) {
     // Reset the member failure count and time.
@@ -265,8 +291,14 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. With
+    // windowed replication, responses may be handled out of order, so a response to an earlier
+    // request must not move the match index back.
+    if (member.isWindowedReplication()) {
+      member.setMatchIndex(Math.max(member.getMatchIndex(), response.lastLogIndex()));
+    } else {
+      member.setMatchIndex(response.lastLogIndex());
+    }
     observeRemainingMemberEntries(member);
   }
 
@@ -383,7 +415,10 @@ final class LeaderAppender {
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
-        final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        final SnapshotChunkReader snapshotChunkReader =
+            raft.isIncrementalSnapshotReplication()
+                ? persistedSnapshot.newIncrementalChunkReader()
+                : persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         log.warn(
@@ -513,6 +548,13 @@ final class LeaderAppender {
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
+    // If the member reused some files of its own snapshot, continue with the next file it misses.
+    else if (!response.reusedFiles().isEmpty()) {
+      final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+      reader.skipFiles(response.reusedFiles());
+      reader.seek(request.nextChunkId());
+      member.setNextSnapshotChunkId(reader.nextId());
+    }
     // If more install requests remain, increment the member's snapshot offset.
     else {
       member.setNextSnapshotChunkId(request.nextChunkId());
@@ -627,9 +669,19 @@ final class LeaderAppender {
   }
 
   private void handleAppendResponseFailure(
-      final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
+      final RaftMemberContext member,
+      final VersionedAppendRequest request,
+      final Throwable error,
+      final boolean stale) {
     failHeartbeat();
 
+    // With windowed replication, the reader may already be far ahead of the failed request. Move it
+    // back, such that the entries are sent again instead of waiting for the member to reject the
+    // next request.
+    if (member.isWindowedReplication() && !stale && !request.entries().isEmpty()) {
+      resetNextIndex(member, request.entries().get(0).index());
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -673,9 +725,10 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final boolean stale) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, stale);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -685,7 +738,8 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final boolean stale) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -696,9 +750,7 @@ final class LeaderAppender {
       member.appendSucceeded();
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), getEntriesSize(request));
 
       commitEntries();
 
@@ -718,6 +770,12 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     }
+    // The next index was already reset after this request was sent, e.g. because an earlier request
+    // in the window was rejected. The rejection of this request is expected, and the requests which
+    // were sent after the reset are still in flight.
+    else if (stale) {
+      log.trace("Ignoring rejection of stale {} by {}", request, member.getMember().memberId());
+    }
     // If the response failed, the follower should have provided the correct last index in their
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
@@ -57,6 +57,7 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -226,6 +227,7 @@ public class PassiveRole extends InactiveRole {
 
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
     // snapshot offset.
+    Collection<String> reusedFiles = List.of();
     if (request.complete()) {
       final long elapsed = System.currentTimeMillis() - pendingSnapshotStartTimestamp;
       final PersistedSnapshot persistedSnapshot;
@@ -258,7 +260,9 @@ public class PassiveRole extends InactiveRole {
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
-      setNextExpected(request.nextChunkId());
+      reusedFiles = pendingSnapshot.drainReusedFiles();
+      // the leader skips the chunks of reused files, so the next chunk is not the announced one
+      setNextExpected(reusedFiles.isEmpty() ? request.nextChunkId() : null);
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
@@ -267,6 +271,7 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusedFiles(reusedFiles)
                 .build()));
   }
 
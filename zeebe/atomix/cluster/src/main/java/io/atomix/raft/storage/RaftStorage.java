@@ -63,6 +63,7 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final boolean primitiveJournalIndex;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +75,8 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final boolean primitiveJournalIndex) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +86,7 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.primitiveJournalIndex = primitiveJournalIndex;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +195,7 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withPrimitiveJournalIndex(primitiveJournalIndex)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +252,7 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +265,7 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +370,17 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets whether the journal index is backed by sorted primitive arrays instead of skip lists.
+     *
+     * @param primitiveJournalIndex true to use the primitive array based index, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+      this.primitiveJournalIndex = primitiveJournalIndex;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +408,8 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          primitiveJournalIndex);
     }
   }
 }
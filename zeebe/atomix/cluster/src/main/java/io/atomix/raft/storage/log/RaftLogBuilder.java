@@ -126,6 +126,17 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of skip lists.
+   *
+   * @param primitiveJournalIndex true to use the primitive array based index, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    journalBuilder.withPrimitiveJournalIndex(primitiveJournalIndex);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
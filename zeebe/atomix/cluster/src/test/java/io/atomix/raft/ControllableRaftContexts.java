@@ -86,6 +86,7 @@ public final class ControllableRaftContexts {
   private Random random;
 
   private final int nodeCount;
+  private final RaftPartitionConfig partitionConfig;
   private final Map<MemberId, RaftContext> raftServers = new HashMap<>();
   private final Map<MemberId, TestFileBasedSnapshotStore> snapshotStores = new HashMap<>();
   private Duration electionTimeout;
@@ -98,7 +99,12 @@ public final class ControllableRaftContexts {
   private final DataLossChecker dataLossChecker = new DataLossChecker(appendListener);
 
   public ControllableRaftContexts(final int nodeCount) {
+    this(nodeCount, new RaftPartitionConfig());
+  }
+
+  public ControllableRaftContexts(final int nodeCount, final RaftPartitionConfig partitionConfig) {
     this.nodeCount = nodeCount;
+    this.partitionConfig = partitionConfig;
   }
 
   public Map<MemberId, RaftContext> getRaftServers() {
@@ -198,7 +204,7 @@ public final class ControllableRaftContexts {
             getRaftThreadContextFactory(memberId),
             () -> random,
             RaftElectionConfig.ofPriorityElection(nodeCount, Integer.parseInt(memberId.id()) + 1),
-            new RaftPartitionConfig());
+            partitionConfig);
     raft.setEntryValidator(new NoopEntryValidator());
     return raft;
   }
@@ -21,7 +21,11 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +47,8 @@ public class RaftAppendTest {
       new Object[] {RaftRule.withBootstrappedNodes(2)},
       new Object[] {RaftRule.withBootstrappedNodes(3)},
       new Object[] {RaftRule.withBootstrappedNodes(4)},
-      new Object[] {RaftRule.withBootstrappedNodes(5)}
+      new Object[] {RaftRule.withBootstrappedNodes(5)},
+      new Object[] {RaftRule.withBootstrappedNodes(3, new WindowedReplication())}
     };
   }
 
@@ -128,4 +133,20 @@ public class RaftAppendTest {
       }
     }
   }
+
+  private static final class WindowedReplication implements Configurator {
+
+    @Override
+    public void configure(final MemberId id, final RaftServer.Builder builder) {
+      final var partitionConfig =
+          new RaftPartitionConfig()
+              .setElectionTimeout(Duration.ofSeconds(1))
+              .setHeartbeatInterval(Duration.ofMillis(100));
+      partitionConfig.setWindowedReplication(true);
+      partitionConfig.setMaxAppendsPerFollower(8);
+      partitionConfig.setMaxAppendBatchSize(64);
+      partitionConfig.setMaxInflightAppendSize(256);
+      builder.withPartitionConfig(partitionConfig);
+    }
+  }
 }
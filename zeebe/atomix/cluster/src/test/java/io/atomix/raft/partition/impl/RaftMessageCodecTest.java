@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class RaftMessageCodecTest {
+
+  @Test
+  void shouldDecodeEncodedAppendRequest() {
+    // given
+    final var request =
+        new VersionedAppendRequest(
+            2,
+            5,
+            "leader-ü",
+            10,
+            4,
+            List.of(
+                new ReplicatableJournalRecord(5, 11, 123, new byte[] {1, 2, 3}),
+                new ReplicatableJournalRecord(5, 12, 456, new byte[0])),
+            9);
+
+    // when
+    final var decoded =
+        RaftMessageCodec.decodeAppendRequest(RaftMessageCodec.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.version()).isEqualTo(request.version());
+  }
+
+  @Test
+  void shouldDecodeEncodedAppendRequestWithoutEntries() {
+    // given
+    final var request = new VersionedAppendRequest(2, 3, "1", 7, 2, List.of(), 7);
+
+    // when
+    final var decoded =
+        RaftMessageCodec.decodeAppendRequest(RaftMessageCodec.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+  }
+
+  @Test
+  void shouldDecodeEncodedAppendResponse() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 5, true, 12, 3, 1);
+
+    // when
+    final var decoded =
+        RaftMessageCodec.decodeAppendResponse(RaftMessageCodec.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).isEqualTo(response);
+    assertThat(decoded.error()).isNull();
+  }
+
+  @Test
+  void shouldDecodeEncodedErrorResponse() {
+    // given
+    final var response =
+        new AppendResponse(
+            Status.ERROR,
+            new RaftError(RaftError.Type.ILLEGAL_MEMBER_STATE, "not a follower"),
+            0,
+            false,
+            0,
+            0,
+            0);
+
+    // when
+    final var decoded =
+        RaftMessageCodec.decodeAppendResponse(RaftMessageCodec.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded.status()).isEqualTo(Status.ERROR);
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.ILLEGAL_MEMBER_STATE);
+    assertThat(decoded.error().message()).isEqualTo("not a follower");
+  }
+
+  @Test
+  void shouldDecodeEncodedErrorResponseWithoutMessage() {
+    // given
+    final var response =
+        new AppendResponse(
+            Status.ERROR, new RaftError(RaftError.Type.PROTOCOL_ERROR, null), 0, false, 0, 0, 0);
+
+    // when
+    final var decoded =
+        RaftMessageCodec.decodeAppendResponse(RaftMessageCodec.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded.error().type()).isEqualTo(RaftError.Type.PROTOCOL_ERROR);
+    assertThat(decoded.error().message()).isNull();
+  }
+
+  @Test
+  void shouldRejectUnknownEncodingVersion() {
+    // given
+    final var response = new AppendResponse(Status.OK, null, 1, true, 1, 0, 0);
+    final var bytes = RaftMessageCodec.encodeAppendResponse(response);
+    bytes[0] = RaftMessageCodec.ENCODING_VERSION + 1;
+
+    // when - then
+    assertThatThrownBy(() -> RaftMessageCodec.decodeAppendResponse(bytes))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
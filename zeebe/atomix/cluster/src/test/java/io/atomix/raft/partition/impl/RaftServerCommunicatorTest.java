@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import io.prometheus.client.CollectorRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String PREFIX = "raft-partition-1";
+  private static final String BINARY_SUBJECT = PREFIX + "-append-binary";
+  private static final String KRYO_SUBJECT = PREFIX + "-append-versioned";
+  private static final VersionedAppendRequest REQUEST =
+      new VersionedAppendRequest(2, 3, "1", 7, 2, List.of(), 7);
+  private static final AppendResponse RESPONSE =
+      new AppendResponse(Status.OK, null, 5, true, 12, 3, 1);
+
+  private final ClusterCommunicationService clusterCommunicator =
+      mock(ClusterCommunicationService.class);
+  private RaftServerCommunicator communicator;
+
+  @BeforeEach
+  void setUp() {
+    communicator =
+        new RaftServerCommunicator(
+            PREFIX,
+            mock(Serializer.class),
+            clusterCommunicator,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldFallBackToKryoIfMemberOnlyHandlesKryo() {
+    // given
+    final var member = MemberId.from("kryo-only");
+    respondWith(BINARY_SUBJECT, member, noRemoteHandler(BINARY_SUBJECT));
+    respondWith(KRYO_SUBJECT, member, CompletableFuture.completedFuture(RESPONSE));
+
+    // when
+    final var firstResponse = communicator.append(member, REQUEST);
+    final var secondResponse = communicator.append(member, REQUEST);
+
+    // then
+    assertThat(firstResponse).isCompletedWithValue(RESPONSE);
+    assertThat(secondResponse).isCompletedWithValue(RESPONSE);
+    verifySent(BINARY_SUBJECT, member, 1);
+    verifySent(KRYO_SUBJECT, member, 2);
+    assertThat(sentAppendRequests(member)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRetryBinaryIfMemberHasNoHandlersYet() {
+    // given
+    final var member = MemberId.from("starting");
+    respondWith(BINARY_SUBJECT, member, noRemoteHandler(BINARY_SUBJECT));
+    respondWith(KRYO_SUBJECT, member, noRemoteHandler(KRYO_SUBJECT));
+
+    // when
+    final var firstResponse = communicator.append(member, REQUEST);
+    respondWith(BINARY_SUBJECT, member, CompletableFuture.completedFuture(RESPONSE));
+    final var secondResponse = communicator.append(member, REQUEST);
+
+    // then
+    assertThat(firstResponse).isCompletedExceptionally();
+    assertThat(secondResponse).isCompletedWithValue(RESPONSE);
+    verifySent(BINARY_SUBJECT, member, 2);
+    verifySent(KRYO_SUBJECT, member, 1);
+    assertThat(sentAppendRequests(member)).isEqualTo(2);
+  }
+
+  private void respondWith(
+      final String subject, final MemberId member, final CompletableFuture<?> response) {
+    doReturn(response)
+        .when(clusterCommunicator)
+        .send(eq(subject), any(), any(), any(), eq(member), any());
+  }
+
+  private void verifySent(final String subject, final MemberId member, final int count) {
+    verify(clusterCommunicator, times(count))
+        .send(eq(subject), any(), any(), any(), eq(member), any());
+  }
+
+  private static CompletableFuture<?> noRemoteHandler(final String subject) {
+    return CompletableFuture.failedFuture(new NoRemoteHandler(subject));
+  }
+
+  private static double sentAppendRequests(final MemberId member) {
+    return CollectorRegistry.defaultRegistry.getSampleValue(
+        "atomix_raft_messages_send_total",
+        new String[] {"to", "type", "partitionGroupName", "partition"},
+        new String[] {member.id(), VersionedAppendRequest.class.getSimpleName(), "raft", "1"});
+  }
+}
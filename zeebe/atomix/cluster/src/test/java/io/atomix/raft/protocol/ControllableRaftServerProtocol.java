@@ -87,6 +87,19 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
     }
   }
 
+  // receive all messages from the incoming queue, the last received message first
+  public void receiveAllInReverseOrder() {
+    final var rcvQueue = messageQueue.get(localMemberId);
+    final var messages = new LinkedList<Tuple<Runnable, CompletableFuture<?>>>();
+    while (!rcvQueue.isEmpty()) {
+      messages.addFirst(rcvQueue.poll());
+    }
+    for (final var message : messages) {
+      message.getLeft().run();
+      timeoutQueue.remove(message.getRight());
+    }
+  }
+
   // drop next message from the incoming queue
   public void dropNextMessage() {
     final var nextMessage =
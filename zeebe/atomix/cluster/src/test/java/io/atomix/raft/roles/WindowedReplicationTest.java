@@ -0,0 +1,166 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.ControllableRaftContexts;
+import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WindowedReplicationTest {
+
+  private static final MemberId LEADER = MemberId.from("0");
+  private static final MemberId FOLLOWER = MemberId.from("1");
+  private static final MemberId OTHER_FOLLOWER = MemberId.from("2");
+
+  private ControllableRaftContexts raftContexts;
+
+  @TempDir private Path raftDataDirectory;
+
+  @BeforeEach
+  public void before() throws Exception {
+    final var partitionConfig = new RaftPartitionConfig();
+    partitionConfig.setWindowedReplication(true);
+    partitionConfig.setMaxAppendsPerFollower(8);
+    partitionConfig.setMaxInflightAppendSize(1024 * 1024);
+    raftContexts = new ControllableRaftContexts(3, partitionConfig);
+    raftContexts.setup(raftDataDirectory, new Random(1));
+
+    // complete the heartbeats which are in flight after the setup
+    for (int i = 0; i < 3; i++) {
+      raftContexts.processAllMessage();
+      raftContexts.runUntilDone();
+    }
+    assertThat(raftContexts.getRaftContext(LEADER).getRole()).isEqualTo(Role.LEADER);
+    raftContexts.assertAtMostOneLeader();
+  }
+
+  @AfterEach
+  public void shutdown() throws IOException {
+    raftContexts.shutdown();
+  }
+
+  @Test
+  void shouldNotMoveMatchIndexBackOnOutOfOrderResponses() {
+    // given
+    sendAppendRequests(3);
+    assertThat(follower().getInFlightAppendCount()).isEqualTo(3);
+    raftContexts.processAllMessage(FOLLOWER);
+    raftContexts.runUntilDone(FOLLOWER);
+    raftContexts.processAllMessage(OTHER_FOLLOWER);
+    raftContexts.runUntilDone(OTHER_FOLLOWER);
+
+    // when -- the response to the first request is handled last
+    raftContexts.getServerProtocol(LEADER).receiveAllInReverseOrder();
+    raftContexts.runUntilDone(LEADER);
+
+    // then
+    assertThat(follower().getMatchIndex()).isEqualTo(leaderLastIndex());
+    assertThat(follower().getInFlightAppendCount()).isZero();
+    assertThat(follower().getInFlightAppendSize()).isZero();
+  }
+
+  @Test
+  void shouldResetWindowOnlyOnceWhenFollowerRejects() {
+    // given
+    sendAppendRequests(3);
+    final long epoch = follower().getAppendEpoch();
+
+    // when -- the follower rejects the last two requests, as it receives them before the first
+    raftContexts.getServerProtocol(FOLLOWER).receiveAllInReverseOrder();
+    raftContexts.runUntilDone(FOLLOWER);
+    raftContexts.processAllMessage(LEADER);
+    raftContexts.runUntilDone(LEADER);
+
+    // then -- the second rejection is stale, as it was sent before the reset
+    assertThat(follower().getAppendEpoch()).isEqualTo(epoch + 1);
+
+    // when
+    awaitReplication();
+
+    // then
+    assertThat(follower().getAppendEpoch()).isEqualTo(epoch + 1);
+    assertThat(follower().getMatchIndex()).isEqualTo(leaderLastIndex());
+    raftContexts.assertAllLogsEqual();
+  }
+
+  @Test
+  void shouldIgnoreStaleRejectionsAfterFailedRequest() {
+    // given
+    sendAppendRequests(3);
+    final long epoch = follower().getAppendEpoch();
+
+    // when -- the first request is lost, so the follower rejects the other ones
+    raftContexts.getServerProtocol(FOLLOWER).dropNextMessage();
+    raftContexts.processAllMessage(FOLLOWER);
+    raftContexts.runUntilDone(FOLLOWER);
+    raftContexts.runUntilDone(LEADER);
+
+    // then
+    assertThat(follower().getAppendEpoch()).isEqualTo(epoch + 1);
+
+    // when
+    raftContexts.processAllMessage(LEADER);
+    raftContexts.runUntilDone(LEADER);
+
+    // then -- the rejections were sent before the reset and don't reset the window again
+    assertThat(follower().getAppendEpoch()).isEqualTo(epoch + 1);
+    assertThat(follower().getInFlightAppendCount()).isZero();
+
+    // when
+    awaitReplication();
+
+    // then
+    assertThat(follower().getAppendEpoch()).isEqualTo(epoch + 1);
+    assertThat(follower().getMatchIndex()).isEqualTo(leaderLastIndex());
+    raftContexts.assertAllLogsEqual();
+  }
+
+  // sends one append request per entry to each follower, without delivering them
+  private void sendAppendRequests(final int count) {
+    for (int i = 0; i < count; i++) {
+      raftContexts.clientAppendOnLeader();
+      raftContexts.runUntilDone(LEADER);
+    }
+  }
+
+  private void awaitReplication() {
+    int steps = 100;
+    while (follower().getMatchIndex() < leaderLastIndex() && steps-- > 0) {
+      raftContexts.tickHeartbeatTimeout();
+      raftContexts.processAllMessage();
+      raftContexts.runUntilDone();
+    }
+  }
+
+  private RaftMemberContext follower() {
+    return raftContexts.getRaftContext(LEADER).getCluster().getMemberContext(FOLLOWER);
+  }
+
+  private long leaderLastIndex() {
+    return raftContexts.getRaftContext(LEADER).getLog().getLastIndex();
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+/**
+ * An output stream which splits everything that is written to it into parts of a fixed size, and
+ * hands each part to a {@link PartUploader} as soon as it is full. The last part may be smaller.
+ *
+ * <p>At most {@code maxPartsInFlight} parts are uploaded at the same time. Writing blocks while
+ * this limit is reached, so the stream never holds more than {@code maxPartsInFlight + 1} part
+ * buffers, regardless of how much is written to it. Additionally, each part buffer is taken from a
+ * buffer budget which may be shared by many streams, e.g. all uploads of a backup store, and is
+ * returned to it once its part is uploaded. Writing blocks while the budget is exhausted.
+ *
+ * <p>The stream is not thread-safe, it is meant to be written by a single thread. It must be
+ * closed, even if writing failed, to return all part buffers to the budget eventually.
+ *
+ * @param <T> the result of a part upload
+ */
+public final class MultipartUploadOutputStream<T> extends OutputStream {
+
+  private final int partSize;
+  private final Semaphore partsInFlight;
+  private final Semaphore bufferBudget;
+  private final PartUploader<T> uploader;
+  private final List<CompletableFuture<T>> uploads = new ArrayList<>();
+  private volatile Throwable uploadFailure;
+  private byte[] buffer;
+  private int position;
+  private boolean closed;
+
+  /**
+   * @param partSize the size of all parts but the last one
+   * @param maxPartsInFlight the maximum number of parts of this stream uploaded at the same time
+   * @param bufferBudget the number of permits is the number of part buffers that may be held by all
+   *     streams sharing the budget
+   * @param uploader uploads a single part
+   */
+  public MultipartUploadOutputStream(
+      final int partSize,
+      final int maxPartsInFlight,
+      final Semaphore bufferBudget,
+      final PartUploader<T> uploader) {
+    if (partSize <= 0) {
+      throw new IllegalArgumentException(
+          "Expected part size to be positive, but was %d".formatted(partSize));
+    }
+    if (maxPartsInFlight <= 0) {
+      throw new IllegalArgumentException(
+          "Expected max parts in flight to be positive, but was %d".formatted(maxPartsInFlight));
+    }
+    this.partSize = partSize;
+    partsInFlight = new Semaphore(maxPartsInFlight);
+    this.bufferBudget = bufferBudget;
+    this.uploader = uploader;
+  }
+
+  @Override
+  public void write(final int b) throws IOException {
+    ensureOpen();
+    ensureBuffer();
+    buffer[position++] = (byte) b;
+    if (position == partSize) {
+      uploadPart();
+    }
+  }
+
+  @Override
+  public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+    ensureOpen();
+    int written = 0;
+    while (written < length) {
+      ensureBuffer();
+      final int chunk = Math.min(length - written, partSize - position);
+      System.arraycopy(bytes, offset + written, buffer, position, chunk);
+      position += chunk;
+      written += chunk;
+      if (position == partSize) {
+        uploadPart();
+      }
+    }
+  }
+
+  /**
+   * Uploads the remaining content as the last part. An empty stream is uploaded as a single empty
+   * part, as an object consists of at least one part.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      if (position > 0 || uploads.isEmpty()) {
+        uploadPart();
+      }
+    } finally {
+      releaseBuffer();
+    }
+  }
+
+  /**
+   * Closes the stream without uploading the remaining content, e.g. because producing the content
+   * failed and the upload of the object is aborted. Does nothing if the stream is already closed.
+   */
+  public void discard() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    releaseBuffer();
+  }
+
+  /**
+   * Returns a future which is completed with the results of all part uploads, ordered by part
+   * number, once the stream is closed and all parts are uploaded. It is completed exceptionally if
+   * any part upload failed.
+   */
+  public CompletableFuture<List<T>> uploadedParts() {
+    return CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+        .thenApply(ignored -> uploads.stream().map(CompletableFuture::join).toList());
+  }
+
+  /**
+   * Returns a future which is completed once all parts that were handed to the uploader are
+   * uploaded or failed to upload. Unlike {@link #uploadedParts()}, it is never completed
+   * exceptionally, so it can be used to wait for all uploads before aborting the upload of the
+   * object.
+   */
+  public CompletableFuture<Void> settledUploads() {
+    return CompletableFuture.allOf(
+        uploads.stream()
+            .map(upload -> upload.handle((result, error) -> null))
+            .toArray(CompletableFuture[]::new));
+  }
+
+  private void uploadPart() throws IOException {
+    try {
+      partsInFlight.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a part upload to complete");
+    }
+
+    final var partBuffer = buffer;
+    final var partNumber = uploads.size() + 1;
+    final var part =
+        partBuffer != null ? ByteBuffer.wrap(partBuffer, 0, position) : ByteBuffer.allocate(0);
+    final CompletableFuture<T> upload;
+    try {
+      ensureNoUploadFailed();
+      upload = uploader.uploadPart(partNumber, part);
+    } catch (final IOException e) {
+      partsInFlight.release();
+      throw e;
+    } catch (final RuntimeException e) {
+      partsInFlight.release();
+      throw new IOException("Failed to upload part %d".formatted(partNumber), e);
+    }
+
+    // the buffer is owned by the upload now, and returned to the budget once it is completed
+    buffer = null;
+    position = 0;
+    uploads.add(upload);
+    upload.whenComplete(
+        (result, error) -> {
+          if (error != null) {
+            uploadFailure = error;
+          }
+          if (partBuffer != null) {
+            bufferBudget.release();
+          }
+          partsInFlight.release();
+        });
+  }
+
+  private void ensureBuffer() throws IOException {
+    if (buffer != null) {
+      return;
+    }
+    try {
+      bufferBudget.acquire();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for a free part buffer");
+    }
+    buffer = new byte[partSize];
+  }
+
+  private void releaseBuffer() {
+    if (buffer != null) {
+      buffer = null;
+      position = 0;
+      bufferBudget.release();
+    }
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream is already closed");
+    }
+    ensureNoUploadFailed();
+  }
+
+  private void ensureNoUploadFailed() throws IOException {
+    final var failure = uploadFailure;
+    if (failure != null) {
+      throw new IOException("Failed to upload a previous part", failure);
+    }
+  }
+}
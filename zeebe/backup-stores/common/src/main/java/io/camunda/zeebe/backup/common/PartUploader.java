@@ -0,0 +1,31 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Uploads a single part of an object that is uploaded in multiple parts, e.g. with a S3 multipart
+ * upload or as blocks of an Azure block blob.
+ *
+ * @param <T> the result of a part upload, which is needed to complete the upload of the object
+ */
+@FunctionalInterface
+public interface PartUploader<T> {
+
+  /**
+   * Starts uploading the given part. The content of the part must not be accessed anymore once the
+   * returned future is completed, as its buffer is then released to be used for another part.
+   *
+   * @param partNumber the number of the part, starting with 1
+   * @param part the content of the part
+   * @return a future which is completed when the part is uploaded
+   */
+  CompletableFuture<T> uploadPart(int partNumber, ByteBuffer part);
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import org.apache.commons.compress.compressors.CompressorException;
+import org.apache.commons.compress.compressors.CompressorStreamFactory;
+
+/**
+ * Compresses backup files while they are uploaded, and decompresses them while they are
+ * downloaded, without writing the compressed content to a temporary file. The algorithms are the
+ * ones supported by {@link CompressorStreamFactory}.
+ */
+public final class StreamingCompression {
+
+  private StreamingCompression() {}
+
+  /**
+   * Compresses the given file and uploads the compressed content in parts, as soon as each part is
+   * produced. Blocks until the file is compressed, which is limited by the progress of the part
+   * uploads, as only {@code maxPartsInFlight} parts are buffered at a time, and each part buffer is
+   * taken from the given buffer budget. If compressing fails, it only returns once all parts that
+   * were already handed to the uploader are settled, so the upload of the object can be aborted
+   * safely.
+   *
+   * @return a future which is completed with the results of all part uploads, ordered by part
+   *     number
+   */
+  public static <T> CompletableFuture<List<T>> compressInParts(
+      final Path file,
+      final String algorithm,
+      final int partSize,
+      final int maxPartsInFlight,
+      final Semaphore bufferBudget,
+      final PartUploader<T> uploader)
+      throws IOException, CompressorException {
+    final var output =
+        new MultipartUploadOutputStream<>(partSize, maxPartsInFlight, bufferBudget, uploader);
+    try (final var input = new BufferedInputStream(Files.newInputStream(file));
+        final var compressedOutput =
+            new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
+      input.transferTo(compressedOutput);
+    } catch (final IOException | CompressorException | RuntimeException e) {
+      output.discard();
+      output.settledUploads().join();
+      throw e;
+    }
+    return output.uploadedParts();
+  }
+
+  /**
+   * Decompresses the given stream, e.g. the content of an object that is downloaded, directly into
+   * the target file.
+   */
+  public static void decompress(
+      final InputStream compressed, final String algorithm, final Path target)
+      throws IOException, CompressorException {
+    try (final var input = new BufferedInputStream(compressed);
+        final var decompressedInput =
+            new CompressorStreamFactory().createCompressorInputStream(algorithm, input);
+        final var output = new BufferedOutputStream(Files.newOutputStream(target))) {
+      decompressedInput.transferTo(output);
+    }
+  }
+}
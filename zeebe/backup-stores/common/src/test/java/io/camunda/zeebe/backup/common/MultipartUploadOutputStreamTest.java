@@ -0,0 +1,220 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+final class MultipartUploadOutputStreamTest {
+
+  private final RecordingUploader uploader = new RecordingUploader();
+
+  @Test
+  void shouldSplitContentIntoPartsOfPartSize() throws IOException {
+    // given
+    final var output = new MultipartUploadOutputStream<>(4, 2, new Semaphore(3), uploader);
+
+    // when
+    try (output) {
+      output.write(new byte[] {1, 2, 3, 4, 5, 6});
+      output.write(7);
+      output.write(new byte[] {8, 9, 10});
+    }
+
+    // then
+    assertThat(uploader.parts)
+        .containsExactly(new byte[] {1, 2, 3, 4}, new byte[] {5, 6, 7, 8}, new byte[] {9, 10});
+    assertThat(output.uploadedParts()).succeedsWithin(Duration.ZERO).isEqualTo(List.of(1, 2, 3));
+  }
+
+  @Test
+  void shouldNotUploadEmptyLastPartIfContentEndsAtPartBoundary() throws IOException {
+    // given
+    final var output = new MultipartUploadOutputStream<>(4, 2, new Semaphore(3), uploader);
+
+    // when
+    try (output) {
+      output.write(new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+    }
+
+    // then
+    assertThat(uploader.parts).containsExactly(new byte[] {1, 2, 3, 4}, new byte[] {5, 6, 7, 8});
+  }
+
+  @Test
+  void shouldUploadSingleEmptyPartForEmptyStream() throws IOException {
+    // given
+    final var output = new MultipartUploadOutputStream<>(4, 2, new Semaphore(3), uploader);
+
+    // when
+    output.close();
+
+    // then
+    assertThat(uploader.parts).containsExactly(new byte[0]);
+    assertThat(output.uploadedParts()).succeedsWithin(Duration.ZERO).isEqualTo(List.of(1));
+  }
+
+  @Test
+  void shouldBlockWhileMaxPartsAreInFlight() {
+    // given
+    uploader.completeUploads = false;
+    final var output = new MultipartUploadOutputStream<>(1, 2, new Semaphore(10), uploader);
+
+    // when
+    final var writing = CompletableFuture.runAsync(() -> write(output, new byte[] {1, 2, 3, 4}));
+
+    // then
+    Awaitility.await("two parts are in flight").until(() -> uploader.uploads.size() == 2);
+    assertThat(writing).isNotDone();
+
+    // when
+    uploader.uploads.get(0).complete(1);
+
+    // then
+    Awaitility.await("third part is in flight").until(() -> uploader.uploads.size() == 3);
+    assertThat(writing).isNotDone();
+
+    // when
+    uploader.uploads.forEach(upload -> upload.complete(0));
+
+    // then
+    assertThat(writing).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldBlockWhileBufferBudgetIsExhausted() {
+    // given -- the budget is shared with another stream that holds its only buffer
+    uploader.completeUploads = false;
+    final var bufferBudget = new Semaphore(1);
+    final var other = new MultipartUploadOutputStream<>(2, 2, bufferBudget, uploader);
+    write(other, new byte[] {1});
+    final var output = new MultipartUploadOutputStream<>(2, 2, bufferBudget, uploader);
+
+    // when
+    final var writing = CompletableFuture.runAsync(() -> write(output, new byte[] {2}));
+
+    // then
+    Awaitility.await("writing waits for a buffer").until(bufferBudget::hasQueuedThreads);
+    assertThat(writing).isNotDone();
+
+    // when -- the buffer of the other stream is only returned once its part is uploaded
+    write(other, new byte[] {1});
+    uploader.uploads.get(0).complete(1);
+
+    // then
+    assertThat(writing).succeedsWithin(Duration.ofSeconds(10));
+  }
+
+  @Test
+  void shouldReturnAllBuffersToBudget() throws IOException {
+    // given
+    final var bufferBudget = new Semaphore(3);
+    final var output = new MultipartUploadOutputStream<>(4, 2, bufferBudget, uploader);
+
+    // when
+    try (output) {
+      output.write(new byte[] {1, 2, 3, 4, 5, 6});
+    }
+
+    // then
+    assertThat(bufferBudget.availablePermits()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldFailWriteAfterPartUploadFailed() throws IOException {
+    // given
+    final var failure = new RuntimeException("expected");
+    uploader.failure = failure;
+    final var output = new MultipartUploadOutputStream<>(2, 2, new Semaphore(3), uploader);
+    output.write(new byte[] {1, 2});
+
+    // when - then
+    assertThatThrownBy(() -> output.write(3)).isInstanceOf(IOException.class).hasCause(failure);
+    assertThat(output.uploadedParts()).failsWithin(Duration.ZERO);
+  }
+
+  @Test
+  void shouldFailCloseAfterPartUploadFailed() throws IOException {
+    // given
+    final var failure = new RuntimeException("expected");
+    uploader.failure = failure;
+    final var bufferBudget = new Semaphore(3);
+    final var output = new MultipartUploadOutputStream<>(2, 2, bufferBudget, uploader);
+    output.write(new byte[] {1, 2, 3});
+
+    // when - then
+    assertThatThrownBy(output::close).isInstanceOf(IOException.class).hasCause(failure);
+    assertThat(bufferBudget.availablePermits()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldWaitForPartsInFlightWhenDiscarded() {
+    // given
+    uploader.completeUploads = false;
+    final var bufferBudget = new Semaphore(3);
+    final var output = new MultipartUploadOutputStream<>(2, 2, bufferBudget, uploader);
+    write(output, new byte[] {1, 2, 3});
+
+    // when
+    output.discard();
+    final var settled = output.settledUploads();
+
+    // then
+    assertThat(uploader.parts).containsExactly(new byte[] {1, 2});
+    assertThat(settled).isNotDone();
+
+    // when
+    uploader.uploads.get(0).completeExceptionally(new RuntimeException("expected"));
+
+    // then
+    assertThat(settled).succeedsWithin(Duration.ZERO);
+    assertThat(bufferBudget.availablePermits()).isEqualTo(3);
+  }
+
+  private static void write(final MultipartUploadOutputStream<?> output, final byte[] bytes) {
+    try {
+      output.write(bytes);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static final class RecordingUploader implements PartUploader<Integer> {
+    private final List<byte[]> parts = new CopyOnWriteArrayList<>();
+    private final List<CompletableFuture<Integer>> uploads = new CopyOnWriteArrayList<>();
+    private volatile boolean completeUploads = true;
+    private volatile RuntimeException failure;
+
+    @Override
+    public CompletableFuture<Integer> uploadPart(final int partNumber, final ByteBuffer part) {
+      final var content = new byte[part.remaining()];
+      part.get(content);
+      parts.add(content);
+
+      final var upload = new CompletableFuture<Integer>();
+      uploads.add(upload);
+      if (failure != null) {
+        upload.completeExceptionally(failure);
+      } else if (completeUploads) {
+        upload.complete(partNumber);
+      }
+      return upload;
+    }
+  }
+}
@@ -9,41 +9,53 @@ package io.camunda.zeebe.backup.s3;
 
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.common.StreamingCompression;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupCompressionFailed;
+import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupContentAddressingFailed;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.FileSet.FileMetadata;
 import io.camunda.zeebe.backup.s3.util.CompletableFutureUtils;
-import java.io.BufferedInputStream;
-import java.io.BufferedOutputStream;
 import java.io.IOException;
-import java.io.UncheckedIOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import org.apache.commons.compress.compressors.CompressorException;
-import org.apache.commons.compress.compressors.CompressorStreamFactory;
-import org.apache.commons.compress.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
-import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 
 /** Can save and restore {@link NamedFileSet NamedFileSets}. */
 final class FileSetManager {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileSetManager.class);
   private static final int COMPRESSION_SIZE_THRESHOLD = 8 * 1024 * 1024; // 8 MiB
-  private static final String TMP_COMPRESSION_PREFIX = "zb-backup-compress-";
-  private static final String TMP_DECOMPRESSION_PREFIX = "zb-backup-decompress-";
+  // S3 requires all parts of a multipart upload but the last one to be at least 5 MiB
+  private static final int COMPRESSED_PART_SIZE = 8 * 1024 * 1024; // 8 MiB
+  private static final int MAX_COMPRESSED_PARTS_IN_FLIGHT = 2;
+  // Bounds the memory of all compressed uploads at once, independent of the upload limit
+  private static final int MAX_COMPRESSED_PART_BUFFERS = 8; // 64 MiB
+  private static final String CONTENT_DIGEST_ALGORITHM = "SHA-256";
+  private static final int DIGEST_BUFFER_SIZE = 64 * 1024; // 64 KiB
 
   private final S3AsyncClient client;
   private final S3BackupConfig config;
   private final Semaphore uploadLimit;
+  private final Semaphore compressedPartBuffers = new Semaphore(MAX_COMPRESSED_PART_BUFFERS);
 
   public FileSetManager(final S3AsyncClient client, final S3BackupConfig config) {
     this.client = client;
@@ -65,86 +77,222 @@ final class FileSetManager {
         .thenApply(FileSet::new);
   }
 
-  private CompletableFuture<FileSet.FileMetadata> saveFile(
+  /**
+   * Saves the files as content-addressed objects in the given content prefix, which is shared by
+   * all backups of a partition. Files with content that was already saved, e.g. immutable snapshot
+   * files and sealed segments included in a previous backup, are not uploaded again.
+   */
+  CompletableFuture<FileSet> saveContentAddressed(
+      final String contentPrefix, final NamedFileSet files) {
+    LOG.debug("Saving {} files to content prefix {}", files.files().size(), contentPrefix);
+    return CompletableFutureUtils.mapAsync(
+            files.namedFiles().entrySet(),
+            Entry::getKey,
+            namedFile -> saveContent(contentPrefix, namedFile.getKey(), namedFile.getValue()))
+        .thenApply(FileSet::new);
+  }
+
+  /** Returns the name of the content-addressed object of a file, relative to its content prefix. */
+  static String contentObjectName(final FileMetadata metadata) {
+    final var contentId = metadata.contentId().orElseThrow();
+    // Compressed and uncompressed content must not share an object
+    return metadata
+        .compressionAlgorithm()
+        .map(algorithm -> contentId + "." + algorithm)
+        .orElse(contentId);
+  }
+
+  private CompletableFuture<FileMetadata> saveFile(
       final String prefix, final String fileName, final Path filePath) {
+    final var compressionAlgorithm = compressionAlgorithm(filePath);
+    LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+    return uploadFile(prefix + fileName, filePath, compressionAlgorithm)
+        .thenApply(unused -> new FileMetadata(compressionAlgorithm, Optional.empty()));
+  }
 
-    if (shouldCompressFile(filePath)) {
-      final var algorithm = config.compressionAlgorithm().orElseThrow();
-      return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
-          .thenApply((success) -> compressFile(filePath, algorithm))
-          .thenCompose(
-              (compressedFile) -> {
-                LOG.trace(
-                    "Saving compressed file {}({}) in prefix {}", fileName, compressedFile, prefix);
-                return client
-                    .putObject(
-                        put -> put.bucket(config.bucketName()).key(prefix + fileName),
-                        AsyncRequestBody.fromFile(compressedFile))
-                    .thenRunAsync(() -> cleanupCompressedFile(compressedFile))
-                    .thenApply(unused -> FileSet.FileMetadata.withCompression(algorithm));
-              })
-          .whenComplete((success, error) -> uploadLimit.release());
-    }
+  private CompletableFuture<FileMetadata> saveContent(
+      final String contentPrefix, final String fileName, final Path filePath) {
+    final var compressionAlgorithm = compressionAlgorithm(filePath);
+    return CompletableFuture.supplyAsync(() -> boundedContentId(filePath))
+        .thenCompose(
+            contentId -> {
+              final var metadata = new FileMetadata(compressionAlgorithm, Optional.of(contentId));
+              final var key = contentPrefix + contentObjectName(metadata);
+              return objectExists(key)
+                  .thenCompose(
+                      exists -> {
+                        if (exists) {
+                          LOG.trace(
+                              "Skipping file {}({}), already saved as {}", fileName, filePath, key);
+                          return CompletableFuture.completedFuture(metadata);
+                        }
+                        LOG.trace("Saving file {}({}) as {}", fileName, filePath, key);
+                        return uploadFile(key, filePath, compressionAlgorithm)
+                            .thenApply(unused -> metadata);
+                      });
+            });
+  }
 
+  private CompletableFuture<Void> uploadFile(
+      final String key, final Path filePath, final Optional<String> compressionAlgorithm) {
     return CompletableFuture.runAsync(uploadLimit::acquireUninterruptibly)
         .thenCompose(
-            (nothing) -> {
-              LOG.trace("Saving file {}({}) in prefix {}", fileName, filePath, prefix);
+            nothing -> {
+              if (compressionAlgorithm.isPresent()) {
+                return saveCompressedFile(key, filePath, compressionAlgorithm.get());
+              }
               return client
                   .putObject(
-                      put -> put.bucket(config.bucketName()).key(prefix + fileName),
+                      put -> put.bucket(config.bucketName()).key(key),
                       AsyncRequestBody.fromFile(filePath))
-                  .thenApply(unused -> FileSet.FileMetadata.none());
+                  .thenApply(response -> (Void) null);
             })
         .whenComplete((success, error) -> uploadLimit.release());
   }
 
-  private void cleanupCompressedFile(final Path compressedFile) {
+  private CompletableFuture<Boolean> objectExists(final String key) {
+    return client
+        .headObject(req -> req.bucket(config.bucketName()).key(key))
+        .thenApply(response -> true)
+        .exceptionally(
+            throwable -> {
+              // throwable is a `CompletionException`, `getCause` to handle the underlying exception
+              if (throwable.getCause() instanceof NoSuchKeyException) {
+                return false;
+              }
+              throw new CompletionException(throwable.getCause());
+            });
+  }
+
+  /**
+   * Computes the content id while holding a permit of the upload limit, so that not all files of a
+   * backup are read at once.
+   */
+  private String boundedContentId(final Path filePath) {
+    uploadLimit.acquireUninterruptibly();
     try {
-      Files.delete(compressedFile);
-    } catch (final IOException e) {
-      LOG.warn(
-          "Failed to clean up temporary file used for (de-)compression: {}", compressedFile, e);
+      return contentId(filePath);
+    } finally {
+      uploadLimit.release();
     }
   }
 
+  private String contentId(final Path filePath) {
+    try (final var input = Files.newInputStream(filePath)) {
+      final var digest = MessageDigest.getInstance(CONTENT_DIGEST_ALGORITHM);
+      final var buffer = new byte[DIGEST_BUFFER_SIZE];
+      int read;
+      while ((read = input.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+      return HexFormat.of().formatHex(digest.digest());
+    } catch (final IOException | NoSuchAlgorithmException e) {
+      throw new BackupContentAddressingFailed(
+          "Failed to compute content id of file %s".formatted(filePath), e);
+    }
+  }
+
+  /**
+   * Compresses the file while uploading it as a multipart upload, so the compressed content is
+   * never written to disk. Only a few parts of the compressed content are held in memory at a time,
+   * while they are uploaded in parallel.
+   */
+  private CompletableFuture<Void> saveCompressedFile(
+      final String key, final Path filePath, final String algorithm) {
+    return client
+        .createMultipartUpload(req -> req.bucket(config.bucketName()).key(key))
+        .thenCompose(
+            upload ->
+                uploadCompressedParts(key, upload.uploadId(), filePath, algorithm)
+                    .thenCompose(
+                        parts ->
+                            client.completeMultipartUpload(
+                                req ->
+                                    req.bucket(config.bucketName())
+                                        .key(key)
+                                        .uploadId(upload.uploadId())
+                                        .multipartUpload(completed -> completed.parts(parts))))
+                    .whenComplete(
+                        (response, error) -> {
+                          if (error != null) {
+                            abortMultipartUpload(key, upload.uploadId());
+                          }
+                        }))
+        .thenApply(response -> null);
+  }
+
+  private CompletableFuture<List<CompletedPart>> uploadCompressedParts(
+      final String key, final String uploadId, final Path filePath, final String algorithm) {
+    return CompletableFuture.supplyAsync(
+            () -> {
+              try {
+                return StreamingCompression.compressInParts(
+                    filePath,
+                    algorithm,
+                    COMPRESSED_PART_SIZE,
+                    MAX_COMPRESSED_PARTS_IN_FLIGHT,
+                    compressedPartBuffers,
+                    (partNumber, part) -> uploadPart(key, uploadId, partNumber, part));
+              } catch (final IOException | CompressorException e) {
+                throw new BackupCompressionFailed(
+                    "Failed to compress file %s using %s".formatted(filePath, algorithm), e);
+              }
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private CompletableFuture<CompletedPart> uploadPart(
+      final String key, final String uploadId, final int partNumber, final ByteBuffer part) {
+    LOG.trace("Uploading part {} ({} bytes) of {}", partNumber, part.remaining(), key);
+    return client
+        .uploadPart(
+            req ->
+                req.bucket(config.bucketName())
+                    .key(key)
+                    .uploadId(uploadId)
+                    .partNumber(partNumber)
+                    .contentLength((long) part.remaining()),
+            // the buffer is not modified until the upload of the part is completed
+            AsyncRequestBody.fromByteBufferUnsafe(part))
+        .thenApply(
+            response ->
+                CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+  }
+
+  private void abortMultipartUpload(final String key, final String uploadId) {
+    client
+        .abortMultipartUpload(req -> req.bucket(config.bucketName()).key(key).uploadId(uploadId))
+        .whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                LOG.warn("Failed to abort multipart upload {} of {}", uploadId, key, error);
+              }
+            });
+  }
+
+  private Optional<String> compressionAlgorithm(final Path filePath) {
+    return config.compressionAlgorithm().filter(algorithm -> shouldCompressFile(filePath));
+  }
+
   private boolean shouldCompressFile(final Path filePath) {
     try {
-      return config.compressionAlgorithm().isPresent()
-          && Files.size(filePath) > COMPRESSION_SIZE_THRESHOLD;
+      return Files.size(filePath) > COMPRESSION_SIZE_THRESHOLD;
     } catch (final IOException e) {
       LOG.warn("Failed to determine if file should be compressed, assuming no: {}", filePath);
       return false;
     }
   }
 
-  private Path compressFile(final Path file, final String algorithm) {
-    try {
-      final var compressedFile = Files.createTempFile(TMP_COMPRESSION_PREFIX, null);
-      LOG.trace("Compressing file {} to {} using {}", file, compressedFile, algorithm);
-      try (final var input = new BufferedInputStream(Files.newInputStream(file));
-          final var output = new BufferedOutputStream(Files.newOutputStream(compressedFile));
-          final var compressedOutput =
-              new CompressorStreamFactory().createCompressorOutputStream(algorithm, output)) {
-        IOUtils.copy(input, compressedOutput);
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Compressed file {} to {}. Uncompressed: {} bytes, compressed: {} bytes",
-              file,
-              compressedFile,
-              Files.size(file),
-              Files.size(compressedFile));
-        }
-        return compressedFile;
-      }
-    } catch (final IOException | CompressorException e) {
-      throw new BackupCompressionFailed(
-          "Failed to compress file %s using %s".formatted(file, algorithm), e);
-    }
-  }
-
+  /**
+   * Restores the files of the file set to the target folder. Files that were saved as
+   * content-addressed objects are read from the content prefix, all other files from the source
+   * prefix.
+   */
   CompletableFuture<NamedFileSet> restore(
-      final String sourcePrefix, final FileSet fileSet, final Path targetFolder) {
+      final String sourcePrefix,
+      final String contentPrefix,
+      final FileSet fileSet,
+      final Path targetFolder) {
     LOG.debug(
         "Restoring {} files from prefix {} to {}",
         fileSet.files().size(),
@@ -153,72 +301,57 @@ final class FileSetManager {
     return CompletableFutureUtils.mapAsync(
             fileSet.files().entrySet(),
             Entry::getKey,
-            namedFile ->
-                restoreFile(sourcePrefix, targetFolder, namedFile.getKey(), namedFile.getValue()))
+            namedFile -> {
+              final var fileName = namedFile.getKey();
+              final var metadata = namedFile.getValue();
+              final var key =
+                  metadata.contentId().isPresent()
+                      ? contentPrefix + contentObjectName(metadata)
+                      : sourcePrefix + fileName;
+              return restoreFile(key, targetFolder, fileName, metadata);
+            })
         .thenApply(NamedFileSetImpl::new);
   }
 
   private CompletableFuture<Path> restoreFile(
-      final String sourcePrefix,
+      final String key,
       final Path targetFolder,
       final String fileName,
       final FileMetadata metadata) {
     final var compressionAlgorithm = metadata.compressionAlgorithm();
     if (compressionAlgorithm.isPresent()) {
       final var decompressed = targetFolder.resolve(fileName);
-      LOG.trace(
-          "Restoring compressed file {} from prefix {} to {}",
-          fileName,
-          sourcePrefix,
-          targetFolder);
-      try {
-        final var compressed = Files.createTempFile(TMP_DECOMPRESSION_PREFIX, null);
-        return client
-            .getObject(
-                req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName),
-                AsyncResponseTransformer.toFile(
-                    compressed,
-                    cfg ->
-                        cfg.fileWriteOption(FileWriteOption.CREATE_OR_REPLACE_EXISTING)
-                            .failureBehavior(FailureBehavior.DELETE)))
-            .thenApplyAsync(
-                response -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
-
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+      LOG.trace("Restoring compressed file {} from {} to {}", fileName, key, targetFolder);
+      return client
+          .getObject(
+              req -> req.bucket(config.bucketName()).key(key),
+              AsyncResponseTransformer.toBlockingInputStream())
+          .thenApplyAsync(
+              compressed -> decompressFile(compressed, decompressed, compressionAlgorithm.get()));
     }
 
-    LOG.trace("Restoring file {} from prefix {} to {}", fileName, sourcePrefix, targetFolder);
+    LOG.trace("Restoring file {} from {} to {}", fileName, key, targetFolder);
     final var path = targetFolder.resolve(fileName);
     return client
-        .getObject(req -> req.bucket(config.bucketName()).key(sourcePrefix + fileName), path)
+        .getObject(req -> req.bucket(config.bucketName()).key(key), path)
         .thenApply(response -> path);
   }
 
   private Path decompressFile(
-      final Path compressed, final Path decompressed, final String algorithm) {
-    try (final var input = new BufferedInputStream(Files.newInputStream(compressed));
-        final var output = new BufferedOutputStream(Files.newOutputStream(decompressed));
-        final var decompressedOutput =
-            new CompressorStreamFactory().createCompressorInputStream(algorithm, input)) {
-      IOUtils.copy(decompressedOutput, output);
+      final InputStream compressed, final Path decompressed, final String algorithm) {
+    try {
+      StreamingCompression.decompress(compressed, algorithm, decompressed);
       if (LOG.isTraceEnabled()) {
         LOG.trace(
-            "Decompressed file {} to {} using {}. Compressed: {} bytes, uncompressed: {} bytes",
-            compressed,
+            "Decompressed file {} using {}. Uncompressed: {} bytes",
             decompressed,
             algorithm,
-            Files.size(compressed),
             Files.size(decompressed));
       }
-      cleanupCompressedFile(compressed);
       return decompressed;
     } catch (final IOException | CompressorException e) {
       throw new BackupCompressionFailed(
-          "Failed to decompress from %s to %s using %s"
-              .formatted(compressed, decompressed, algorithm),
-          e);
+          "Failed to decompress to %s using %s".formatted(decompressed, algorithm), e);
     }
   }
 }
@@ -32,6 +32,9 @@ import org.apache.commons.compress.compressors.CompressorStreamFactory;
  * @param maxConcurrentConnections Maximum number of connections allowed in a connection pool.
  * @param connectionAcquisitionTimeout Timeout for acquiring an already-established connection from
  *     a connection pool to a remote service.
+ * @param incrementalBackups Stores backup contents as content-addressed objects which are shared
+ *     by all backups of a partition, so that files which were already saved by a previous backup
+ *     are not uploaded again. Off by default.
  * @see <a
  *     href=https://docs.aws.amazon.com/sdk-for-java/latest/developer-guide/region-selection.html#automatically-determine-the-aws-region-from-the-environment>
  *     Automatically determine the Region from the environment</a>
@@ -50,7 +53,8 @@ public record S3BackupConfig(
     Optional<String> compressionAlgorithm,
     Optional<String> basePath,
     Integer maxConcurrentConnections,
-    Duration connectionAcquisitionTimeout) {
+    Duration connectionAcquisitionTimeout,
+    boolean incrementalBackups) {
 
   public S3BackupConfig {
     if (bucketName == null || bucketName.isEmpty()) {
@@ -114,6 +118,8 @@ public record S3BackupConfig(
     /** Default from `SdkHttpConfigurationOption.DEFAULT_CONNECTION_ACQUIRE_TIMEOUT` */
     private Duration connectionAcquisitionTimeout = Duration.ofSeconds(45);
 
+    private boolean incrementalBackups = false;
+
     public Builder withBucketName(final String bucketName) {
       this.bucketName = bucketName;
       return this;
@@ -164,6 +170,11 @@ public record S3BackupConfig(
       return this;
     }
 
+    public Builder withIncrementalBackups(final boolean incrementalBackups) {
+      this.incrementalBackups = incrementalBackups;
+      return this;
+    }
+
     public S3BackupConfig build() {
       return new S3BackupConfig(
           bucketName,
@@ -175,7 +186,8 @@ public record S3BackupConfig(
           Optional.ofNullable(compressionAlgorithm),
           Optional.ofNullable(basePath),
           maxConcurrentConnections,
-          connectionAcquisitionTimeout);
+          connectionAcquisitionTimeout,
+          incrementalBackups);
     }
   }
 }
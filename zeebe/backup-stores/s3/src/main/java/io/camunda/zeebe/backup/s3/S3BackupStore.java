@@ -18,11 +18,14 @@ import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupDeletionIncomplete;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupInInvalidStateException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.BackupReadException;
 import io.camunda.zeebe.backup.s3.S3BackupStoreException.ManifestParseException;
+import io.camunda.zeebe.backup.s3.manifest.CompletedBackupManifest;
+import io.camunda.zeebe.backup.s3.manifest.FailedBackupManifest;
 import io.camunda.zeebe.backup.s3.manifest.FileSet;
 import io.camunda.zeebe.backup.s3.manifest.Manifest;
 import io.camunda.zeebe.backup.s3.manifest.NoBackupManifest;
@@ -31,9 +34,12 @@ import io.camunda.zeebe.backup.s3.util.AsyncAggregatingSubscriber;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.regex.Pattern;
@@ -71,6 +77,27 @@ import software.amazon.awssdk.services.s3.model.S3Object;
  *   <li>Objects for segment files, additionally prefixed with 'segments', for example
  *       <pre>partitionId/checkpointId/nodeId/segments/segment-file-1</pre>
  * </ol>
+ *
+ * <p>With {@link S3BackupConfig#incrementalBackups()}, snapshot and segment files are instead
+ * stored as content-addressed objects which are shared by all backups of a partition, named by the
+ * SHA-256 digest of their content, for example
+ *
+ * <pre>partitionId/contents/9f86d081884c7d659a2feaa0c55ad015a3bf4f1b2b0b822cd15d6c15b0f00a08</pre>
+ *
+ * The manifest references these objects by their {@link FileSet.FileMetadata#contentId()}. Files
+ * that are already stored, e.g. because they were part of a previous backup, are not uploaded
+ * again. When deleting a backup, the content-addressed objects which are not referenced by any
+ * other backup of the partition are deleted as well.
+ *
+ * <p>While content-addressed objects are deleted, a marker object exists in the content deletion
+ * prefix of the partition, for example
+ *
+ * <pre>partitionId/content-deletions/checkpointId-nodeId</pre>
+ *
+ * A backup is first marked as in progress, and then checks for such markers; a deletion first
+ * writes its marker, and then checks for backups in progress. Hence, either the deletion keeps all
+ * content-addressed objects, or the backup does not rely on any existing content-addressed object
+ * and stores its files below its own prefix instead.
  */
 public final class S3BackupStore implements BackupStore {
   static final ObjectMapper MAPPER =
@@ -78,8 +105,13 @@ public final class S3BackupStore implements BackupStore {
   static final String SNAPSHOT_PREFIX = "snapshot/";
   static final String SEGMENTS_PREFIX = "segments/";
   static final String MANIFEST_OBJECT_KEY = "manifest.json";
+  static final String CONTENTS_PREFIX = "contents/";
+  static final String CONTENT_DELETIONS_PREFIX = "content-deletions/";
   private static final Logger LOG = LoggerFactory.getLogger(S3BackupStore.class);
   private static final int SCAN_PARALLELISM = 16;
+  // Markers of deletions that did not complete within this time, e.g. because the broker crashed,
+  // are ignored by backups. Deletions that take longer fail before deleting any content.
+  private static final Duration CONTENT_DELETION_TIMEOUT = Duration.ofHours(1);
   private final Pattern backupIdentifierPattern;
   private final S3BackupConfig config;
   private final S3AsyncClient client;
@@ -143,6 +175,34 @@ public final class S3BackupStore implements BackupStore {
     return "%s/%s/%s/".formatted(id.partitionId(), id.checkpointId(), id.nodeId());
   }
 
+  /**
+   * Returns the prefix of the content-addressed objects of the given partition, which are shared by
+   * all of its backups.
+   */
+  String contentPrefix(final int partitionId) {
+    final var base = config.basePath();
+    if (base.isPresent()) {
+      return "%s/%s/%s".formatted(base.get(), partitionId, CONTENTS_PREFIX);
+    }
+    return "%s/%s".formatted(partitionId, CONTENTS_PREFIX);
+  }
+
+  /**
+   * Returns the prefix of the markers of deletions of content-addressed objects of the given
+   * partition.
+   */
+  String contentDeletionPrefix(final int partitionId) {
+    final var base = config.basePath();
+    if (base.isPresent()) {
+      return "%s/%s/%s".formatted(base.get(), partitionId, CONTENT_DELETIONS_PREFIX);
+    }
+    return "%s/%s".formatted(partitionId, CONTENT_DELETIONS_PREFIX);
+  }
+
+  String contentDeletionMarkerKey(final BackupIdentifier id) {
+    return contentDeletionPrefix(id.partitionId()) + id.checkpointId() + "-" + id.nodeId();
+  }
+
   public static void validateConfig(final S3BackupConfig config) {
     if (config.bucketName() == null || config.bucketName().isEmpty()) {
       throw new IllegalArgumentException(
@@ -170,10 +230,11 @@ public final class S3BackupStore implements BackupStore {
     LOG.info("Saving {}", backup.id());
     return updateManifestObject(
             backup.id(), Manifest::expectNoBackup, manifest -> manifest.asInProgress(backup))
+        .thenComposeAsync(status -> shouldSaveContentAddressed(backup.id()))
         .thenComposeAsync(
-            status -> {
-              final var snapshot = saveSnapshotFiles(backup);
-              final var segments = saveSegmentFiles(backup);
+            contentAddressed -> {
+              final var snapshot = saveSnapshotFiles(backup, contentAddressed);
+              final var segments = saveSegmentFiles(backup, contentAddressed);
 
               return CompletableFuture.allOf(snapshot, segments)
                   .thenComposeAsync(
@@ -221,26 +282,33 @@ public final class S3BackupStore implements BackupStore {
                     "Can't delete in-progress backup %s, must be marked as failed first"
                         .formatted(manifest.id()));
               } else {
-                return manifest.id();
+                return manifest;
               }
             })
-        .thenComposeAsync(this::listBackupObjects)
-        .thenComposeAsync(this::deleteBackupObjects);
+        .thenComposeAsync(this::deleteBackupAndContentObjects);
   }
 
   @Override
   public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
     LOG.info("Restoring {} to {}", id, targetFolder);
     final var backupPrefix = objectPrefix(id);
+    final var contentPrefix = contentPrefix(id.partitionId());
     return readManifestObject(id)
         .thenApply(Manifest::expectCompleted)
         .thenComposeAsync(
             manifest ->
                 fileSetManager
-                    .restore(backupPrefix + SEGMENTS_PREFIX, manifest.segmentFiles(), targetFolder)
+                    .restore(
+                        backupPrefix + SEGMENTS_PREFIX,
+                        contentPrefix,
+                        manifest.segmentFiles(),
+                        targetFolder)
                     .thenCombineAsync(
                         fileSetManager.restore(
-                            backupPrefix + SNAPSHOT_PREFIX, manifest.snapshotFiles(), targetFolder),
+                            backupPrefix + SNAPSHOT_PREFIX,
+                            contentPrefix,
+                            manifest.snapshotFiles(),
+                            targetFolder),
                         (segments, snapshot) ->
                             new BackupImpl(id, manifest.descriptor(), snapshot, segments)));
   }
@@ -259,6 +327,75 @@ public final class S3BackupStore implements BackupStore {
     return CompletableFuture.completedFuture(null);
   }
 
+  /**
+   * Returns true if the files of the backup should be saved as content-addressed objects, which is
+   * not the case while content-addressed objects of the partition are deleted, as the deletion may
+   * not have seen that the backup is in progress.
+   */
+  private CompletableFuture<Boolean> shouldSaveContentAddressed(final BackupIdentifier id) {
+    if (!config.incrementalBackups()) {
+      return CompletableFuture.completedFuture(false);
+    }
+
+    final var expiredBefore = Instant.now().minus(CONTENT_DELETION_TIMEOUT);
+    return client
+        .listObjectsV2(
+            req -> req.bucket(config.bucketName()).prefix(contentDeletionPrefix(id.partitionId())))
+        .thenApplyAsync(
+            objects -> {
+              final var deletionInProgress =
+                  objects.contents().stream()
+                      .anyMatch(marker -> marker.lastModified().isAfter(expiredBefore));
+              if (deletionInProgress) {
+                LOG.info(
+                    "Content of partition {} is being deleted, saving {} without sharing content",
+                    id.partitionId(),
+                    id);
+              }
+              return !deletionInProgress;
+            });
+  }
+
+  private CompletableFuture<Void> deleteBackupAndContentObjects(final Manifest manifest) {
+    final var id = manifest.id();
+    if (contentObjectKeys(manifest, contentPrefix(id.partitionId())).isEmpty()) {
+      return listBackupObjects(id).thenComposeAsync(this::deleteBackupObjects);
+    }
+
+    final var markerKey = contentDeletionMarkerKey(id);
+    final var started = Instant.now();
+    return client
+        .putObject(req -> req.bucket(config.bucketName()).key(markerKey), AsyncRequestBody.empty())
+        // only check for backups in progress after writing the marker
+        .thenComposeAsync(
+            marker ->
+                listBackupObjects(id)
+                    .thenCombine(
+                        listUnreferencedContentObjects(manifest),
+                        (backupObjects, contentObjects) ->
+                            Stream.concat(backupObjects.stream(), contentObjects.stream())
+                                .toList()))
+        .thenComposeAsync(
+            objects -> {
+              if (Instant.now().isAfter(started.plus(CONTENT_DELETION_TIMEOUT))) {
+                throw new BackupDeletionIncomplete(
+                    "Did not delete %s, checking references to its content took longer than %s"
+                        .formatted(id, CONTENT_DELETION_TIMEOUT));
+              }
+              return deleteBackupObjects(objects);
+            })
+        .handleAsync(
+            (nothing, error) ->
+                client
+                    .deleteObject(req -> req.bucket(config.bucketName()).key(markerKey))
+                    .thenCompose(
+                        deleted ->
+                            error != null
+                                ? CompletableFuture.<Void>failedFuture(error)
+                                : CompletableFuture.<Void>completedFuture(null)))
+        .thenCompose(Function.identity());
+  }
+
   private CompletableFuture<List<ObjectIdentifier>> listBackupObjects(final BackupIdentifier id) {
     LOG.debug("Listing objects of {}", id);
     return client
@@ -271,6 +408,68 @@ public final class S3BackupStore implements BackupStore {
                     .toList());
   }
 
+  /**
+   * Lists the content-addressed objects which are referenced by the given backup, but not by any
+   * other backup of the same partition. While another backup of the partition is in progress, no
+   * content-addressed objects are considered unreferenced, as the in-progress backup may already
+   * rely on them without referencing them in its manifest yet.
+   */
+  private CompletableFuture<List<ObjectIdentifier>> listUnreferencedContentObjects(
+      final Manifest manifest) {
+    final var contentPrefix = contentPrefix(manifest.id().partitionId());
+    final var contentObjects = contentObjectKeys(manifest, contentPrefix);
+    if (contentObjects.isEmpty()) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+
+    final var partitionBackups =
+        new BackupIdentifierWildcardImpl(
+            Optional.empty(), Optional.of(manifest.id().partitionId()), Optional.empty());
+    return readManifestObjects(partitionBackups)
+        .thenApplyAsync(
+            manifests -> {
+              final var others =
+                  manifests.stream().filter(other -> !other.id().equals(manifest.id())).toList();
+              if (others.stream().anyMatch(m -> m.statusCode() == BackupStatusCode.IN_PROGRESS)) {
+                LOG.debug(
+                    "Not deleting content objects of {} while another backup is in progress",
+                    manifest.id());
+                return List.of();
+              }
+
+              final var referenced =
+                  others.stream()
+                      .flatMap(other -> contentObjectKeys(other, contentPrefix).stream())
+                      .collect(Collectors.toSet());
+              LOG.debug(
+                  "{} of {} content objects of {} are referenced by other backups",
+                  contentObjects.stream().filter(referenced::contains).count(),
+                  contentObjects.size(),
+                  manifest.id());
+              return contentObjects.stream()
+                  .filter(key -> !referenced.contains(key))
+                  .map(key -> ObjectIdentifier.builder().key(key).build())
+                  .toList();
+            });
+  }
+
+  private static Set<String> contentObjectKeys(
+      final Manifest manifest, final String contentPrefix) {
+    final Stream<FileSet> fileSets =
+        switch (manifest) {
+          case final CompletedBackupManifest completed ->
+              Stream.of(completed.snapshotFiles(), completed.segmentFiles());
+          case final FailedBackupManifest failed ->
+              Stream.of(failed.snapshotFiles(), failed.segmentFiles());
+          default -> Stream.empty();
+        };
+    return fileSets
+        .flatMap(fileSet -> fileSet.files().values().stream())
+        .filter(metadata -> metadata.contentId().isPresent())
+        .map(metadata -> contentPrefix + FileSetManager.contentObjectName(metadata))
+        .collect(Collectors.toSet());
+  }
+
   private CompletableFuture<Void> deleteBackupObjects(
       final Collection<ObjectIdentifier> objectIdentifiers) {
     LOG.debug("Deleting {} objects", objectIdentifiers.size());
@@ -381,14 +580,24 @@ public final class S3BackupStore implements BackupStore {
         .thenApply(resp -> manifest);
   }
 
-  private CompletableFuture<FileSet> saveSnapshotFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSnapshotFiles(
+      final Backup backup, final boolean contentAddressed) {
     LOG.debug("Saving snapshot files for {}", backup.id());
+    if (contentAddressed) {
+      return fileSetManager.saveContentAddressed(
+          contentPrefix(backup.id().partitionId()), backup.snapshot());
+    }
     final var prefix = objectPrefix(backup.id()) + SNAPSHOT_PREFIX;
     return fileSetManager.save(prefix, backup.snapshot());
   }
 
-  private CompletableFuture<FileSet> saveSegmentFiles(final Backup backup) {
+  private CompletableFuture<FileSet> saveSegmentFiles(
+      final Backup backup, final boolean contentAddressed) {
     LOG.debug("Saving segment files for {}", backup.id());
+    if (contentAddressed) {
+      return fileSetManager.saveContentAddressed(
+          contentPrefix(backup.id().partitionId()), backup.segments());
+    }
     final var prefix = objectPrefix(backup.id()) + SEGMENTS_PREFIX;
     return fileSetManager.save(prefix, backup.segments());
   }
@@ -75,4 +75,15 @@ public abstract sealed class S3BackupStoreException extends RuntimeException {
       super(message, cause);
     }
   }
+
+  /**
+   * Thrown when the content id of a file that is saved as content-addressed object can't be
+   * computed, for example because the file can't be read.
+   */
+  public static final class BackupContentAddressingFailed extends S3BackupStoreException {
+
+    public BackupContentAddressingFailed(final String message, final Throwable cause) {
+      super(message, cause);
+    }
+  }
 }
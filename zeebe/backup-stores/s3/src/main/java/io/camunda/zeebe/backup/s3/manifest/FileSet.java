@@ -47,14 +47,20 @@ public record FileSet(Map<String, FileMetadata> files) {
     return files.keySet();
   }
 
+  /**
+   * @param compressionAlgorithm the algorithm with which the file is compressed, if any
+   * @param contentId the SHA-256 digest of the file content, if the file is stored as a
+   *     content-addressed object which can be shared with other backups of the same partition.
+   *     Otherwise, the file is stored in the prefix of the backup itself.
+   */
   @JsonInclude(Include.NON_EMPTY)
-  public record FileMetadata(Optional<String> compressionAlgorithm) {
+  public record FileMetadata(Optional<String> compressionAlgorithm, Optional<String> contentId) {
     public static FileMetadata withCompression(final String algorithm) {
-      return new FileMetadata(Optional.of(algorithm));
+      return new FileMetadata(Optional.of(algorithm), Optional.empty());
     }
 
     public static FileMetadata none() {
-      return new FileMetadata(Optional.empty());
+      return new FileMetadata(Optional.empty(), Optional.empty());
     }
   }
 
@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.s3;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.s3.S3BackupConfig.Builder;
+import io.camunda.zeebe.backup.s3.manifest.Manifest;
+import io.camunda.zeebe.backup.testkit.support.BackupAssert;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.apache.commons.lang3.RandomUtils;
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.InstanceOfAssertFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.HttpWaitStrategy;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+@Testcontainers
+final class IncrementalBackupIT {
+  private static final String ACCESS_KEY = "letmein";
+  private static final String SECRET_KEY = "letmein1234";
+  private static final int DEFAULT_PORT = 9000;
+  private static final int PARTITION_ID = 2;
+
+  @SuppressWarnings("resource")
+  @Container
+  private static final GenericContainer<?> S3 =
+      new GenericContainer<>(DockerImageName.parse("minio/minio"))
+          .withCommand("server /data")
+          .withExposedPorts(DEFAULT_PORT)
+          .withEnv("MINIO_ACCESS_KEY", ACCESS_KEY)
+          .withEnv("MINIO_SECRET_KEY", SECRET_KEY)
+          .withEnv("MINIO_DOMAIN", "localhost")
+          .waitingFor(
+              new HttpWaitStrategy()
+                  .forPath("/minio/health/ready")
+                  .forPort(DEFAULT_PORT)
+                  .withStartupTimeout(Duration.ofMinutes(1)));
+
+  @TempDir private Path tempDir;
+  private S3BackupConfig config;
+  private S3AsyncClient client;
+  private S3BackupStore store;
+
+  @BeforeEach
+  void setupBucket() {
+    config =
+        new Builder()
+            .withBucketName(RandomStringUtils.randomAlphabetic(10).toLowerCase())
+            .withEndpoint("http://%s:%d".formatted(S3.getHost(), S3.getMappedPort(DEFAULT_PORT)))
+            .withRegion(Region.US_EAST_1.id())
+            .withCredentials(ACCESS_KEY, SECRET_KEY)
+            .forcePathStyleAccess(true)
+            .withIncrementalBackups(true)
+            .build();
+    client = S3BackupStore.buildClient(config);
+    store = new S3BackupStore(config, client);
+    client.createBucket(CreateBucketRequest.builder().bucket(config.bucketName()).build()).join();
+  }
+
+  @Test
+  void shouldShareContentBetweenBackups() throws IOException {
+    // given
+    final var sealedSegment = file("segment-1", RandomUtils.nextBytes(1024));
+    final var sstFile = file("000001.sst", RandomUtils.nextBytes(1024));
+    final var first = backup(1, Map.of("segment-1", sealedSegment), Map.of("000001.sst", sstFile));
+    Assertions.assertThat(store.save(first)).succeedsWithin(Duration.ofSeconds(30));
+
+    // when
+    final var second =
+        backup(
+            2,
+            Map.of("segment-1", sealedSegment, "segment-2", file("segment-2", new byte[] {1})),
+            Map.of("000001.sst", sstFile));
+    Assertions.assertThat(store.save(second)).succeedsWithin(Duration.ofSeconds(30));
+
+    // then
+    Assertions.assertThat(contentObjects()).hasSize(3);
+  }
+
+  @Test
+  void shouldRestoreBackupReferencingContentOfPreviousBackup(@TempDir final Path target)
+      throws IOException {
+    // given
+    final var sealedSegment = file("segment-1", RandomUtils.nextBytes(1024));
+    final var first = backup(1, Map.of("segment-1", sealedSegment), Map.of());
+    final var second =
+        backup(
+            2,
+            Map.of("segment-1", sealedSegment, "segment-2", file("segment-2", new byte[] {1})),
+            Map.of("000001.sst", file("000001.sst", RandomUtils.nextBytes(1024))));
+    Assertions.assertThat(store.save(first)).succeedsWithin(Duration.ofSeconds(30));
+    Assertions.assertThat(store.save(second)).succeedsWithin(Duration.ofSeconds(30));
+
+    // when
+    Assertions.assertThat(store.delete(first.id())).succeedsWithin(Duration.ofSeconds(30));
+
+    // then
+    Assertions.assertThat(store.restore(second.id(), target))
+        .succeedsWithin(Duration.ofSeconds(30))
+        .asInstanceOf(new InstanceOfAssertFactory<>(Backup.class, BackupAssert::assertThatBackup))
+        .hasSameContentsAs(second);
+  }
+
+  @Test
+  void shouldOnlyDeleteUnreferencedContent() throws IOException {
+    // given
+    final var sealedSegment = file("segment-1", RandomUtils.nextBytes(1024));
+    final var first =
+        backup(
+            1,
+            Map.of("segment-1", sealedSegment),
+            Map.of("000001.sst", file("000001.sst", RandomUtils.nextBytes(1024))));
+    final var second = backup(2, Map.of("segment-1", sealedSegment), Map.of());
+    Assertions.assertThat(store.save(first)).succeedsWithin(Duration.ofSeconds(30));
+    Assertions.assertThat(store.save(second)).succeedsWithin(Duration.ofSeconds(30));
+
+    // when
+    Assertions.assertThat(store.delete(first.id())).succeedsWithin(Duration.ofSeconds(30));
+
+    // then
+    Assertions.assertThat(contentObjects()).hasSize(1);
+
+    // when
+    Assertions.assertThat(store.delete(second.id())).succeedsWithin(Duration.ofSeconds(30));
+
+    // then
+    Assertions.assertThat(contentObjects()).isEmpty();
+  }
+
+  @Test
+  void shouldNotDeleteContentWhileAnotherBackupIsInProgress() throws IOException {
+    // given
+    final var sealedSegment = file("segment-1", RandomUtils.nextBytes(1024));
+    final var first = backup(1, Map.of("segment-1", sealedSegment), Map.of());
+    final var second = backup(2, Map.of("segment-1", sealedSegment), Map.of());
+    Assertions.assertThat(store.save(first)).succeedsWithin(Duration.ofSeconds(30));
+
+    // when -- the second backup started, but did not reference the content in its manifest yet
+    Assertions.assertThat(store.writeManifestObject(Manifest.fromNewBackup(second)))
+        .succeedsWithin(Duration.ofSeconds(30));
+    Assertions.assertThat(store.delete(first.id())).succeedsWithin(Duration.ofSeconds(30));
+
+    // then
+    Assertions.assertThat(contentObjects()).hasSize(1);
+    Assertions.assertThat(objects(store.contentDeletionPrefix(PARTITION_ID))).isEmpty();
+  }
+
+  @Test
+  void shouldNotRelyOnExistingContentWhileContentIsDeleted(@TempDir final Path target)
+      throws IOException {
+    // given
+    final var sealedSegment = file("segment-1", RandomUtils.nextBytes(1024));
+    final var first = backup(1, Map.of("segment-1", sealedSegment), Map.of());
+    final var second = backup(2, Map.of("segment-1", sealedSegment), Map.of());
+    Assertions.assertThat(store.save(first)).succeedsWithin(Duration.ofSeconds(30));
+
+    // when -- the deletion of the first backup did not see the second one in progress
+    client
+        .putObject(
+            req -> req.bucket(config.bucketName()).key(store.contentDeletionMarkerKey(first.id())),
+            AsyncRequestBody.empty())
+        .join();
+    Assertions.assertThat(store.save(second)).succeedsWithin(Duration.ofSeconds(30));
+    deleteObjects(contentObjects());
+
+    // then
+    Assertions.assertThat(store.restore(second.id(), target))
+        .succeedsWithin(Duration.ofSeconds(30))
+        .asInstanceOf(new InstanceOfAssertFactory<>(Backup.class, BackupAssert::assertThatBackup))
+        .hasSameContentsAs(second);
+  }
+
+  private List<String> contentObjects() {
+    return objects(store.contentPrefix(PARTITION_ID));
+  }
+
+  private List<String> objects(final String prefix) {
+    return client
+        .listObjectsV2(req -> req.bucket(config.bucketName()).prefix(prefix))
+        .join()
+        .contents()
+        .stream()
+        .map(S3Object::key)
+        .toList();
+  }
+
+  private void deleteObjects(final List<String> keys) {
+    keys.forEach(
+        key -> client.deleteObject(req -> req.bucket(config.bucketName()).key(key)).join());
+  }
+
+  private Path file(final String name, final byte[] content) throws IOException {
+    final var directory = Files.createTempDirectory(tempDir, "files");
+    return Files.write(directory.resolve(name), content);
+  }
+
+  private Backup backup(
+      final long checkpointId, final Map<String, Path> segments, final Map<String, Path> snapshot) {
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, PARTITION_ID, checkpointId),
+        new BackupDescriptorImpl(Optional.of("test-snapshot-id"), checkpointId, 3, "test"),
+        new NamedFileSetImpl(snapshot),
+        new NamedFileSetImpl(segments));
+  }
+}
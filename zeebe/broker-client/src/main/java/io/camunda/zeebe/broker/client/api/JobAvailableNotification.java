@@ -0,0 +1,55 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api;
+
+import java.util.Optional;
+
+/**
+ * Notification that a partition has jobs of a type available for activation. It is broadcast by
+ * the brokers on {@link #TOPIC} as a plain string of the form {@code <partitionId>:<jobType>}, such
+ * that gateways can restrict the activation of jobs to the partitions which have jobs. The legacy
+ * notification on {@link #LEGACY_TOPIC} contains only the job type.
+ *
+ * @param partitionId the partition which has jobs available
+ * @param jobType the type of the available jobs
+ */
+public record JobAvailableNotification(int partitionId, String jobType) {
+
+  /** The topic of the notifications which contain only the job type. */
+  public static final String LEGACY_TOPIC = "jobsAvailable";
+
+  /** The topic of the notifications which contain the partition and the job type. */
+  public static final String TOPIC = "jobsAvailableOnPartition";
+
+  private static final char SEPARATOR = ':';
+
+  public String encode() {
+    return partitionId + String.valueOf(SEPARATOR) + jobType;
+  }
+
+  /**
+   * Decodes a notification which was received on {@link #TOPIC}. As the job type may contain the
+   * separator itself, the message is only split at the first separator.
+   *
+   * @return the decoded notification, or {@link Optional#empty()} if the message is malformed
+   */
+  public static Optional<JobAvailableNotification> decode(final String message) {
+    final var separator = message.indexOf(SEPARATOR);
+    if (separator <= 0) {
+      return Optional.empty();
+    }
+
+    try {
+      final var partitionId = Integer.parseInt(message.substring(0, separator));
+      return Optional.of(
+          new JobAvailableNotification(partitionId, message.substring(separator + 1)));
+    } catch (final NumberFormatException e) {
+      return Optional.empty();
+    }
+  }
+}
@@ -13,6 +13,7 @@ import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import java.util.Iterator;
 import java.util.PrimitiveIterator.OfInt;
+import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
 
 public final class PartitionIdIterator implements Iterator<Integer> {
@@ -24,6 +25,18 @@ public final class PartitionIdIterator implements Iterator<Integer> {
       final int startPartitionId,
       final int partitionsCount,
       final BrokerTopologyManager topologyManager) {
+    this(startPartitionId, partitionsCount, topologyManager, partitionId -> true);
+  }
+
+  /**
+   * @param partitionFilter only partitions which match the filter are returned; it is evaluated
+   *     lazily, when the iterator reaches the partition
+   */
+  public PartitionIdIterator(
+      final int startPartitionId,
+      final int partitionsCount,
+      final BrokerTopologyManager topologyManager,
+      final IntPredicate partitionFilter) {
     iterator =
         IntStream.range(0, partitionsCount)
             .map(
@@ -31,6 +44,7 @@ public final class PartitionIdIterator implements Iterator<Integer> {
                     (index + startPartitionId - START_PARTITION_ID) % partitionsCount
                         + START_PARTITION_ID)
             .filter(p -> hasLeader(topologyManager, p))
+            .filter(partitionFilter)
             .iterator();
   }
 
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class JobAvailableNotificationTest {
+
+  @Test
+  void shouldDecodeEncodedNotification() {
+    // given
+    final var notification = new JobAvailableNotification(3, "payment:v2");
+
+    // when
+    final var decoded = JobAvailableNotification.decode(notification.encode());
+
+    // then
+    assertThat(decoded).hasValue(notification);
+  }
+
+  @Test
+  void shouldNotDecodeMessageWithoutPartition() {
+    // when
+    final var decoded = JobAvailableNotification.decode("payment");
+
+    // then
+    assertThat(decoded).isEmpty();
+  }
+
+  @Test
+  void shouldNotDecodeMessageWithInvalidPartition() {
+    // when
+    final var decoded = JobAvailableNotification.decode("foo:payment");
+
+    // then
+    assertThat(decoded).isEmpty();
+  }
+}
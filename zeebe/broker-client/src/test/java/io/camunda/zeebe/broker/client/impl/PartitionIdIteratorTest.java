@@ -44,6 +44,20 @@ final class PartitionIdIteratorTest {
     assertThat(ids).containsExactly(1, 3);
   }
 
+  @Test
+  void shouldSkipFilteredPartitions() {
+    // given
+    final var iterator = new PartitionIdIterator(2, 3, topologyManager, p -> p != 3);
+    final List<Integer> ids = new ArrayList<>();
+    topologyManager.addPartition(1, 0).addPartition(2, 0).addPartition(3, 0);
+
+    // when
+    iterator.forEachRemaining(ids::add);
+
+    // then
+    assertThat(ids).containsExactly(2, 1);
+  }
+
   @Test
   void shouldSkipAllPartitionsWhenNoTopology() {
     // given
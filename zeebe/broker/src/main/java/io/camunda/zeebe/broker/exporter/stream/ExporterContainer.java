@@ -19,10 +19,14 @@ import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -37,6 +41,9 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final boolean supportsBatchExport;
+  private final List<Record<?>> batch = new ArrayList<>();
+  private final List<Record<?>> unmodifiableBatch = Collections.unmodifiableList(batch);
   private long position;
   private boolean exporterIsSoftPaused = false;
   private long lastUnacknowledgedPosition;
@@ -61,6 +68,7 @@ final class ExporterContainer implements Controller {
             meterRegistry);
 
     exporter = descriptor.newInstance();
+    supportsBatchExport = overridesExportBatch(exporter);
   }
 
   void initContainer(
@@ -206,6 +214,15 @@ final class ExporterContainer implements Controller {
         && filter.acceptValue(metadata.getValueType());
   }
 
+  /**
+   * Returns true if the exporter handles batches of records itself, i.e. overrides {@link
+   * Exporter#exportBatch(List)}. Other exporters are called record by record through {@link
+   * #exportRecord(RecordMetadata, TypedRecord)}.
+   */
+  boolean supportsBatchExport() {
+    return supportsBatchExport;
+  }
+
   void configureExporter() throws Exception {
     LOG.debug("Configure exporter with id '{}'", getId());
     ThreadContextUtil.runCheckedWithClassLoader(
@@ -228,6 +245,52 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Exports all records of the given batch which were not acknowledged yet and are accepted by the
+   * exporter's filter through a single call of {@link Exporter#exportBatch(List)}.
+   *
+   * @param records the consecutive records to export
+   * @return true if the batch was exported, false if the exporter failed and the batch should be
+   *     exported again
+   */
+  boolean exportBatch(final List<TypedRecordImpl> records) {
+    batch.clear();
+    for (final var record : records) {
+      if (position >= record.getPosition()) {
+        continue;
+      }
+
+      if (acceptRecord(record.getMetadata())) {
+        batch.add(record);
+      } else if (batch.isEmpty()) {
+        // skipping is only safe as long as no record before was passed to the exporter
+        updatePositionOnSkipIfUpToDate(record.getPosition());
+      }
+    }
+
+    if (batch.isEmpty()) {
+      return true;
+    }
+
+    try {
+      ThreadContextUtil.runWithClassLoader(
+          () -> exporter.exportBatch(unmodifiableBatch), exporter.getClass().getClassLoader());
+      lastUnacknowledgedPosition = batch.get(batch.size() - 1).getPosition();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} record(s), starting with record with key {}",
+              batch.size(),
+              batch.get(0).getKey(),
+              ex);
+      return false;
+    } finally {
+      batch.clear();
+    }
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
@@ -243,6 +306,15 @@ final class ExporterContainer implements Controller {
     lastUnacknowledgedPosition = record.getPosition();
   }
 
+  private static boolean overridesExportBatch(final Exporter exporter) {
+    try {
+      return exporter.getClass().getMethod("exportBatch", List.class).getDeclaringClass()
+          != Exporter.class;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
+  }
+
   public void close() {
     try {
       ThreadContextUtil.runCheckedWithClassLoader(
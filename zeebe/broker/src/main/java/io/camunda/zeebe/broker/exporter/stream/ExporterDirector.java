@@ -52,10 +52,12 @@ import org.slf4j.Logger;
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export the records up to position '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  // the max number of filtered events skipped in one actor job, before yielding to other jobs
+  private static final int MAX_SKIPPED_EVENTS_PER_READ = 1_000;
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -111,7 +113,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
             .collect(Collectors.toCollection(ArrayList::new));
     metrics = new ExporterMetrics(partitionId);
     metrics.initializeExporterState(exporterPhase);
-    recordExporter = new RecordExporter(metrics, containers, partitionId);
+    recordExporter =
+        new RecordExporter(metrics, containers, partitionId, context.getMaxBatchSize());
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
@@ -196,7 +199,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           exporterPhase = ExporterPhase.EXPORTING;
           metrics.setExporterActive();
           if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
+            actor.submit(this::readNextEvents);
           }
         });
   }
@@ -515,7 +518,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     logStream.registerRecordAvailableListener(this);
     if (!exporterPhase.equals(ExporterPhase.PAUSED)) {
-      actor.submit(this::readNextEvent);
+      actor.submit(this::readNextEvents);
     }
 
     exporterDistributionTimer =
@@ -560,20 +563,41 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     for (final ExporterContainer container : containers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
-  private void readNextEvent() {
-    if (shouldExport()) {
-      final LoggedEvent currentEvent = logStreamReader.next();
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        inExportingPhase = true;
-        exportEvent(currentEvent);
+  /**
+   * Reads the next events into a batch, until the batch is full, no more events are available, or
+   * an event which is filtered out would follow records which were added to the batch. Filtered
+   * events are only skipped as long as the batch is empty, as skipping updates the positions of the
+   * exporters. After skipping {@link #MAX_SKIPPED_EVENTS_PER_READ} events, reading continues in the
+   * next actor job, so a long run of filtered events does not block other jobs of the actor.
+   */
+  private void readNextEvents() {
+    if (!shouldExport()) {
+      return;
+    }
+
+    int skippedEvents = 0;
+    while (!recordExporter.isFull()
+        && skippedEvents < MAX_SKIPPED_EVENTS_PER_READ
+        && logStreamReader.hasNext()) {
+      final LoggedEvent nextEvent = logStreamReader.peekNext();
+      if (eventFilter == null || eventFilter.applies(nextEvent)) {
+        recordExporter.add(logStreamReader.next());
+      } else if (recordExporter.isEmpty()) {
+        skipRecord(logStreamReader.next());
+        skippedEvents++;
       } else {
-        skipRecord(currentEvent);
+        break;
       }
     }
+
+    if (!recordExporter.isEmpty()) {
+      inExportingPhase = true;
+      exportBatch();
+    } else if (skippedEvents > 0) {
+      actor.submit(this::readNextEvents);
+    }
   }
 
   private boolean shouldExport() {
@@ -584,11 +608,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
-  private void exportEvent(final LoggedEvent event) {
+  private void exportBatch() {
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
             () -> {
-              recordExporter.wrap(event);
+              recordExporter.wrap();
               return true;
             },
             this::isClosed);
@@ -605,15 +629,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
               retryFuture,
               (bool, throwable) -> {
                 if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  LOG.error(
+                      ERROR_MESSAGE_EXPORTING_ABORTED, recordExporter.getLastPosition(), throwable);
                   onFailure();
                 } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  logStream.getFlowControl().onExported(recordExporter.getLastPosition());
+                  for (final var record : recordExporter.getRecords()) {
+                    metrics.eventExported(record.getValueType());
+                  }
+                  recordExporter.reset();
                   inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
+                  actor.submit(this::readNextEvents);
                 }
               });
         });
@@ -655,7 +681,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   public void onRecordAvailable() {
-    actor.run(this::readNextEvent);
+    actor.run(this::readNextEvents);
   }
 
   public ActorFuture<Long> getLowestPosition() {
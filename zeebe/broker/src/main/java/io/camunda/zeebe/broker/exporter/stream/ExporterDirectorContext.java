@@ -20,6 +20,7 @@ import java.util.Map;
 public final class ExporterDirectorContext {
 
   public static final Duration DEFAULT_DISTRIBUTION_INTERVAL = Duration.ofSeconds(15);
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
 
   private int id;
   private String name;
@@ -31,6 +32,7 @@ public final class ExporterDirectorContext {
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
 
   public int getId() {
     return id;
@@ -72,6 +74,10 @@ public final class ExporterDirectorContext {
     return meterRegistry;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -124,6 +130,11 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  public ExporterDirectorContext maxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
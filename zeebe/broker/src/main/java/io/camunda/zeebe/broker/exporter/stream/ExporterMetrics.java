@@ -10,6 +10,8 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+import java.util.concurrent.TimeUnit;
 
 public final class ExporterMetrics {
 
@@ -50,6 +52,24 @@ public final class ExporterMetrics {
               "Describes the phase of the exporter, namely if it is exporting, paused or soft paused.")
           .labelNames(LABEL_NAME_PARTITION)
           .register();
+
+  private static final Histogram EXPORTER_BATCH_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_batch_size")
+          .help("Number of records per batch handed to an exporter")
+          .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
+          .buckets(1, 2, 5, 10, 25, 50, 100, 250, 500, 1000)
+          .register();
+
+  private static final Histogram EXPORTER_BATCH_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE_ZEEBE)
+          .name("exporter_batch_latency")
+          .help("Time in seconds an exporter took to export a batch of records, including retries")
+          .labelNames(LABEL_NAME_EXPORTER, LABEL_NAME_PARTITION)
+          .register();
+
   private final String partitionIdLabel;
 
   private final Gauge.Child exporterPhase;
@@ -91,6 +111,14 @@ public final class ExporterMetrics {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
 
+  public void observeExportedBatch(
+      final String exporter, final int batchSize, final long latencyNanos) {
+    EXPORTER_BATCH_SIZE.labels(exporter, partitionIdLabel).observe(batchSize);
+    EXPORTER_BATCH_LATENCY
+        .labels(exporter, partitionIdLabel)
+        .observe(latencyNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
   public void initializeExporterState(final ExporterPhase state) {
     switch (state) {
       case PAUSED:
@@ -7,74 +7,219 @@
  */
 package io.camunda.zeebe.broker.exporter.stream;
 
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import java.util.ArrayList;
 import java.util.List;
+import org.agrona.ExpandableArrayBuffer;
 
+/**
+ * Exports batches of consecutive records to all exporters. The events of a batch are copied into a
+ * buffer which is reused for all batches, such that the reader can move on while the batch is
+ * exported, and the record views are reused across batches.
+ *
+ * <p>Batches are only useful to exporters which export whole batches at once. If all exporters
+ * export record by record, each batch contains a single event, which is not copied but decoded
+ * from the reader's buffer, as the reader does not move on until the event is exported.
+ */
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
-  private final RecordMetadata rawMetadata = new RecordMetadata();
+  // once a batch reaches this size, no more events are added to it
+  private static final int MAX_BATCH_BYTES = 4 * 1024 * 1024;
+  // the buffer is only kept for the next batch if it did not grow beyond this capacity
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 2 * MAX_BATCH_BYTES;
+
   private final List<ExporterContainer> containers;
-  private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
+  private final int partitionId;
+  private final int maxBatchSize;
+  private final List<BatchEntry> entries = new ArrayList<>();
+  private final List<TypedRecordImpl> batch = new ArrayList<>();
 
-  private boolean shouldExport;
+  private ExpandableArrayBuffer batchBuffer = new ExpandableArrayBuffer();
+  private int batchLength;
+  private int eventCount;
+  private boolean copyEvents;
   private int exporterIndex;
+  private int recordIndex;
+  private long exporterStartTime;
 
   RecordExporter(
       final ExporterMetrics exporterMetrics,
       final List<ExporterContainer> containers,
-      final int partitionId) {
+      final int partitionId,
+      final int maxBatchSize) {
     this.containers = containers;
-    typedEvent = new TypedRecordImpl(partitionId);
     this.exporterMetrics = exporterMetrics;
+    this.partitionId = partitionId;
+    this.maxBatchSize = maxBatchSize;
   }
 
-  void wrap(final LoggedEvent rawEvent) {
-    rawEvent.readMetadata(rawMetadata);
+  /**
+   * Adds the given event to the current batch. The event is only decoded on {@link #wrap()}.
+   *
+   * @param rawEvent the event to add, which is copied if any exporter exports whole batches, and
+   *     must otherwise stay valid until the batch was exported
+   */
+  void add(final LoggedEvent rawEvent) {
+    if (eventCount == 0) {
+      copyEvents = containers.stream().anyMatch(ExporterContainer::supportsBatchExport);
+    }
+    if (eventCount == entries.size()) {
+      entries.add(new BatchEntry(partitionId));
+    }
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+    final var entry = entries.get(eventCount++);
+    if (copyEvents) {
+      entry.offset = batchLength;
+      entry.source = null;
+      rawEvent.write(batchBuffer, batchLength);
+      batchLength += rawEvent.getLength();
+    } else {
+      entry.source = rawEvent;
+    }
+  }
+
+  /** Returns true if no more events should be added to the current batch. */
+  boolean isFull() {
+    if (!copyEvents) {
+      return eventCount >= 1;
+    }
+    return eventCount >= maxBatchSize || batchLength >= MAX_BATCH_BYTES;
+  }
+
+  boolean isEmpty() {
+    return eventCount == 0;
+  }
 
-    shouldExport = recordValue != null;
-    if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-      exporterIndex = 0;
+  /**
+   * Decodes the events of the current batch into records. Events with an unknown value type are
+   * not exported.
+   */
+  void wrap() {
+    batch.clear();
+    for (int i = 0; i < eventCount; i++) {
+      final var entry = entries.get(i);
+      if (entry.wrap(batchBuffer)) {
+        batch.add(entry.record);
+      }
     }
+
+    resetExporterIndex();
   }
 
+  /**
+   * Exports the current batch to all exporters, continuing with the exporter, and for exporters
+   * which export record by record with the record, which failed on the last call.
+   *
+   * @return true if the batch was exported to all exporters, false otherwise
+   */
   boolean export() {
-    if (!shouldExport) {
+    if (batch.isEmpty()) {
       return true;
     }
 
     final int exportersCount = containers.size();
 
-    // current error handling strategy is simply to repeat forever until the record can be
+    // current error handling strategy is simply to repeat forever until the batch can be
     // successfully exported.
     while (exporterIndex < exportersCount) {
       final ExporterContainer container = containers.get(exporterIndex);
 
-      if (container.exportRecord(rawMetadata, typedEvent)) {
-        exporterIndex++;
-        exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
-      } else {
+      if (!exportTo(container)) {
         return false;
       }
+
+      exporterMetrics.observeExportedBatch(
+          container.getId(), batch.size(), System.nanoTime() - exporterStartTime);
+      exporterMetrics.setLastExportedPosition(container.getId(), getLastPosition());
+      exporterIndex++;
+      recordIndex = 0;
+      exporterStartTime = System.nanoTime();
     }
 
     return true;
   }
 
-  TypedRecordImpl getTypedEvent() {
-    return typedEvent;
+  /** Returns the records of the current batch, which are only valid until the next batch. */
+  List<TypedRecordImpl> getRecords() {
+    return batch;
+  }
+
+  /** Returns the position of the last event of the current batch. */
+  long getLastPosition() {
+    return entries.get(eventCount - 1).loggedEvent().getPosition();
+  }
+
+  /** Clears the current batch, such that the next events can be added. */
+  void reset() {
+    batch.clear();
+    eventCount = 0;
+    batchLength = 0;
+    if (batchBuffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      batchBuffer = new ExpandableArrayBuffer();
+    }
   }
 
   public void resetExporterIndex() {
     exporterIndex = 0;
+    recordIndex = 0;
+    exporterStartTime = System.nanoTime();
+  }
+
+  private boolean exportTo(final ExporterContainer container) {
+    if (container.supportsBatchExport()) {
+      return container.exportBatch(batch);
+    }
+
+    while (recordIndex < batch.size()) {
+      final var record = batch.get(recordIndex);
+      if (!container.exportRecord(record.getMetadata(), record)) {
+        return false;
+      }
+      recordIndex++;
+    }
+
+    return true;
+  }
+
+  private static final class BatchEntry {
+    private final LoggedEventImpl copiedEvent = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final RecordValues recordValues = new RecordValues();
+    private final TypedRecordImpl record;
+    private int offset;
+    // the event of the reader, if the event was not copied
+    private LoggedEvent source;
+
+    private BatchEntry(final int partitionId) {
+      record = new TypedRecordImpl(partitionId);
+    }
+
+    private LoggedEvent loggedEvent() {
+      return source != null ? source : copiedEvent;
+    }
+
+    private boolean wrap(final ExpandableArrayBuffer buffer) {
+      if (source == null) {
+        copiedEvent.wrap(buffer, offset);
+      }
+
+      final var event = loggedEvent();
+      event.readMetadata(metadata);
+
+      final UnifiedRecordValue recordValue =
+          recordValues.readRecordValue(event, metadata.getValueType());
+      if (recordValue == null) {
+        return false;
+      }
+
+      record.wrap(event, metadata, recordValue);
+      return true;
+    }
   }
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.jobstream;
+
+import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import java.util.Optional;
+import java.util.function.Predicate;
+import org.agrona.DirectBuffer;
+
+/**
+ * Scopes a broker wide {@link JobStreamer} to a single partition, such that the notifications about
+ * available jobs name the partition which has the jobs. Gateways use this to only activate jobs on
+ * partitions which have jobs available.
+ */
+public final class PartitionJobStreamer implements JobStreamer {
+
+  private final int partitionId;
+  private final JobStreamer delegate;
+
+  public PartitionJobStreamer(final int partitionId, final JobStreamer delegate) {
+    this.partitionId = partitionId;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void notifyWorkAvailable(final String jobType) {
+    delegate.notifyWorkAvailable(partitionId, jobType);
+  }
+
+  @Override
+  public Optional<JobStream> streamFor(
+      final DirectBuffer jobType, final Predicate<JobActivationProperties> filter) {
+    return delegate.streamFor(jobType, filter);
+  }
+}
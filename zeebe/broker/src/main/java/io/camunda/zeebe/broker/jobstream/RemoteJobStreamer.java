@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.jobstream;
 
 import io.atomix.cluster.messaging.ClusterEventService;
+import io.camunda.zeebe.broker.client.api.JobAvailableNotification;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
@@ -17,8 +18,6 @@ import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 
 public final class RemoteJobStreamer implements JobStreamer {
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
-
   private final RemoteStreamer<JobActivationProperties, ActivatedJob> delegate;
   private final ClusterEventService eventService;
 
@@ -31,7 +30,13 @@ public final class RemoteJobStreamer implements JobStreamer {
 
   @Override
   public void notifyWorkAvailable(final String jobType) {
-    eventService.broadcast(JOBS_AVAILABLE_TOPIC, jobType);
+    eventService.broadcast(JobAvailableNotification.LEGACY_TOPIC, jobType);
+  }
+
+  @Override
+  public void notifyWorkAvailable(final int partitionId, final String jobType) {
+    final var notification = new JobAvailableNotification(partitionId, jobType);
+    eventService.broadcast(JobAvailableNotification.TOPIC, notification.encode());
   }
 
   @Override
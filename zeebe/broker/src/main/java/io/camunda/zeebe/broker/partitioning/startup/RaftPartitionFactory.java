@@ -71,6 +71,8 @@ public final class RaftPartitionFactory {
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setPrimitiveJournalIndex(
+        brokerCfg.getExperimental().getRaft().isPrimitiveJournalIndex());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -78,6 +80,10 @@ public final class RaftPartitionFactory {
         (int) brokerCfg.getExperimental().getMaxAppendBatchSizeInBytes());
     partitionConfig.setMaxAppendsPerFollower(
         brokerCfg.getExperimental().getMaxAppendsPerFollower());
+    partitionConfig.setWindowedReplication(
+        brokerCfg.getExperimental().getRaft().isWindowedReplication());
+    partitionConfig.setMaxInflightAppendSize(
+        (int) brokerCfg.getExperimental().getRaft().getMaxInflightAppendSize().toBytes());
     partitionConfig.setPriorityElectionEnabled(
         brokerCfg.getCluster().getRaft().isEnablePriorityElection());
     partitionConfig.setElectionTimeout(brokerCfg.getCluster().getElectionTimeout());
@@ -87,6 +93,8 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setIncrementalSnapshotReplication(
+        brokerCfg.getExperimental().getRaft().isIncrementalSnapshotReplication());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -12,6 +12,7 @@ import io.camunda.zeebe.broker.PartitionListener;
 import io.camunda.zeebe.broker.PartitionRaftListener;
 import io.camunda.zeebe.broker.clustering.ClusterServices;
 import io.camunda.zeebe.broker.exporter.repo.ExporterRepository;
+import io.camunda.zeebe.broker.jobstream.PartitionJobStreamer;
 import io.camunda.zeebe.broker.logstreams.state.StatePositionSupplier;
 import io.camunda.zeebe.broker.partitioning.topology.TopologyManagerImpl;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
@@ -213,13 +214,18 @@ public final class ZeebePartitionFactory {
           new SubscriptionCommandSender(
               recordProcessorContext.getPartitionId(), partitionCommandSender);
 
+      final JobStreamer partitionJobStreamer =
+          featureFlags.enablePartitionJobNotifications()
+              ? new PartitionJobStreamer(recordProcessorContext.getPartitionId(), jobStreamer)
+              : jobStreamer;
+
       return EngineProcessors.createEngineProcessors(
           recordProcessorContext,
           localBroker.getPartitionsCount(),
           subscriptionCommandSender,
           partitionCommandSender,
           featureFlags,
-          jobStreamer);
+          partitionJobStreamer);
     };
   }
 }
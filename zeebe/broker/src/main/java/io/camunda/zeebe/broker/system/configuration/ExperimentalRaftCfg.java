@@ -24,6 +24,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_INCREMENTAL_SNAPSHOT_REPLICATION = false;
+  private static final boolean DEFAULT_WINDOWED_REPLICATION = false;
+  private static final DataSize DEFAULT_MAX_INFLIGHT_APPEND_SIZE = DataSize.ofMegabytes(1);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
   private DataSize snapshotChunkSize = DEFAULT_SNAPSHOT_CHUNK_SIZE;
@@ -33,6 +37,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
 
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
+  private boolean incrementalSnapshotReplication = DEFAULT_INCREMENTAL_SNAPSHOT_REPLICATION;
+  private boolean windowedReplication = DEFAULT_WINDOWED_REPLICATION;
+  private DataSize maxInflightAppendSize = DEFAULT_MAX_INFLIGHT_APPEND_SIZE;
 
   public Duration getRequestTimeout() {
     return requestTimeout;
@@ -97,4 +105,36 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   public void setPreallocateSegmentFiles(final boolean preallocateSegmentFiles) {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
+
+  public boolean isPrimitiveJournalIndex() {
+    return primitiveJournalIndex;
+  }
+
+  public void setPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+  }
+
+  public boolean isIncrementalSnapshotReplication() {
+    return incrementalSnapshotReplication;
+  }
+
+  public void setIncrementalSnapshotReplication(final boolean incrementalSnapshotReplication) {
+    this.incrementalSnapshotReplication = incrementalSnapshotReplication;
+  }
+
+  public boolean isWindowedReplication() {
+    return windowedReplication;
+  }
+
+  public void setWindowedReplication(final boolean windowedReplication) {
+    this.windowedReplication = windowedReplication;
+  }
+
+  public DataSize getMaxInflightAppendSize() {
+    return maxInflightAppendSize;
+  }
+
+  public void setMaxInflightAppendSize(final DataSize maxInflightAppendSize) {
+    this.maxInflightAppendSize = maxInflightAppendSize;
+  }
 }
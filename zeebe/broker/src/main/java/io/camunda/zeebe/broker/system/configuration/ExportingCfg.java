@@ -15,7 +15,18 @@ import java.util.Set;
  * to all exporters.
  */
 public final class ExportingCfg implements ConfigurationEntry {
+  public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
   private Set<Long> skipRecords;
+  private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (maxBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "Expected maxBatchSize to be at least 1, but was %d".formatted(maxBatchSize));
+    }
+  }
 
   public Set<Long> getSkipRecords() {
     return skipRecords != null ? skipRecords : Set.of();
@@ -25,9 +36,17 @@ public final class ExportingCfg implements ConfigurationEntry {
     this.skipRecords = skipRecords;
   }
 
+  public int getMaxBatchSize() {
+    return maxBatchSize;
+  }
+
+  public void setMaxBatchSize(final int maxBatchSize) {
+    this.maxBatchSize = maxBatchSize;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(skipRecords);
+    return Objects.hash(skipRecords, maxBatchSize);
   }
 
   @Override
@@ -39,11 +58,17 @@ public final class ExportingCfg implements ConfigurationEntry {
       return false;
     }
     final ExportingCfg that = (ExportingCfg) o;
-    return Objects.equals(skipRecords, that.skipRecords);
+    return maxBatchSize == that.maxBatchSize && Objects.equals(skipRecords, that.skipRecords);
   }
 
   @Override
   public String toString() {
-    return "ExporterCfg{" + "skipRecords='" + skipRecords + '}';
+    return "ExporterCfg{"
+        + "skipRecords='"
+        + skipRecords
+        + '\''
+        + ", maxBatchSize="
+        + maxBatchSize
+        + '}';
   }
 }
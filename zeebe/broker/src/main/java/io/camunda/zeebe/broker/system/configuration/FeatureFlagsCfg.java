@@ -37,6 +37,9 @@ public final class FeatureFlagsCfg {
       DEFAULT_SETTINGS.enableTimerDueDateCheckerAsync();
   private boolean enableStraightThroughProcessingLoopDetector =
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
+  private boolean enablePartitionJobNotifications =
+      DEFAULT_SETTINGS.enablePartitionJobNotifications();
+  private boolean enableCompiledExpressions = DEFAULT_SETTINGS.enableCompiledExpressions();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -79,13 +82,31 @@ public final class FeatureFlagsCfg {
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
   }
 
+  public boolean isEnablePartitionJobNotifications() {
+    return enablePartitionJobNotifications;
+  }
+
+  public void setEnablePartitionJobNotifications(final boolean enablePartitionJobNotifications) {
+    this.enablePartitionJobNotifications = enablePartitionJobNotifications;
+  }
+
+  public boolean isEnableCompiledExpressions() {
+    return enableCompiledExpressions;
+  }
+
+  public void setEnableCompiledExpressions(final boolean enableCompiledExpressions) {
+    this.enableCompiledExpressions = enableCompiledExpressions;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
         enableActorMetrics,
         enableMessageTtlCheckerAsync,
         enableTimerDueDateCheckerAsync,
-        enableStraightThroughProcessingLoopDetector
+        enableStraightThroughProcessingLoopDetector,
+        enablePartitionJobNotifications,
+        enableCompiledExpressions
         /*, enableFoo*/ );
   }
 
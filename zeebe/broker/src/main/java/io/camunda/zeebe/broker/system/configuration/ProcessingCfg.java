@@ -7,12 +7,17 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.time.Duration;
 import java.util.Set;
 
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_MAX_BATCHES_IN_COMMIT_GROUP = 1;
+  private static final Duration DEFAULT_MAX_COMMIT_GROUP_DELAY = Duration.ofMillis(10);
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private int maxBatchesInCommitGroup = DEFAULT_MAX_BATCHES_IN_COMMIT_GROUP;
+  private Duration maxCommitGroupDelay = DEFAULT_MAX_COMMIT_GROUP_DELAY;
   private boolean enableAsyncScheduledTasks = true;
   private Set<Long> skipPositions;
 
@@ -22,6 +27,14 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxBatchesInCommitGroup < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchesInCommitGroup must be >= 1 but was %s".formatted(maxBatchesInCommitGroup));
+    }
+    if (maxCommitGroupDelay == null || maxCommitGroupDelay.isNegative()) {
+      throw new IllegalArgumentException(
+          "maxCommitGroupDelay must not be negative but was %s".formatted(maxCommitGroupDelay));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -32,6 +45,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxBatchesInCommitGroup() {
+    return maxBatchesInCommitGroup;
+  }
+
+  public void setMaxBatchesInCommitGroup(final int maxBatchesInCommitGroup) {
+    this.maxBatchesInCommitGroup = maxBatchesInCommitGroup;
+  }
+
+  public Duration getMaxCommitGroupDelay() {
+    return maxCommitGroupDelay;
+  }
+
+  public void setMaxCommitGroupDelay(final Duration maxCommitGroupDelay) {
+    this.maxCommitGroupDelay = maxCommitGroupDelay;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -53,6 +82,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", maxBatchesInCommitGroup="
+        + maxBatchesInCommitGroup
+        + ", maxCommitGroupDelay="
+        + maxCommitGroupDelay
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + '}';
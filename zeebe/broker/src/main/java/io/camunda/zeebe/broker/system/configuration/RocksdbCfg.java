@@ -8,7 +8,10 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.NativeColumnFamilyConfiguration;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
@@ -28,6 +31,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
   private int ioRateBytesPerSecond = RocksDbConfiguration.DEFAULT_IO_RATE_BYTES_PER_SECOND;
   private boolean disableWal = RocksDbConfiguration.DEFAULT_WAL_DISABLED;
   private boolean enableSstPartitioning = RocksDbConfiguration.DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean enableNativeColumnFamilies =
+      RocksDbConfiguration.DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+  private Map<String, NativeColumnFamilyConfiguration> nativeColumnFamilyGroups = new HashMap<>();
+  private DataSize readCacheSize = DataSize.ofBytes(RocksDbConfiguration.DEFAULT_READ_CACHE_SIZE);
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -121,6 +128,31 @@ public final class RocksdbCfg implements ConfigurationEntry {
     this.enableSstPartitioning = enableSstPartitioning;
   }
 
+  public boolean isEnableNativeColumnFamilies() {
+    return enableNativeColumnFamilies;
+  }
+
+  public void setEnableNativeColumnFamilies(final boolean enableNativeColumnFamilies) {
+    this.enableNativeColumnFamilies = enableNativeColumnFamilies;
+  }
+
+  public Map<String, NativeColumnFamilyConfiguration> getNativeColumnFamilyGroups() {
+    return nativeColumnFamilyGroups;
+  }
+
+  public void setNativeColumnFamilyGroups(
+      final Map<String, NativeColumnFamilyConfiguration> nativeColumnFamilyGroups) {
+    this.nativeColumnFamilyGroups = nativeColumnFamilyGroups;
+  }
+
+  public DataSize getReadCacheSize() {
+    return readCacheSize;
+  }
+
+  public void setReadCacheSize(final DataSize readCacheSize) {
+    this.readCacheSize = readCacheSize;
+  }
+
   public AccessMetricsConfiguration.Kind getAccessMetrics() {
     return accessMetrics;
   }
@@ -139,7 +171,10 @@ public final class RocksdbCfg implements ConfigurationEntry {
         .setStatisticsEnabled(enableStatistics)
         .setIoRateBytesPerSecond(ioRateBytesPerSecond)
         .setWalDisabled(disableWal)
-        .setSstPartitioningEnabled(enableSstPartitioning);
+        .setSstPartitioningEnabled(enableSstPartitioning)
+        .setNativeColumnFamiliesEnabled(enableNativeColumnFamilies)
+        .setNativeColumnFamilyGroups(nativeColumnFamilyGroups)
+        .setReadCacheSize(readCacheSize.toBytes());
   }
 
   @Override
@@ -165,6 +200,12 @@ public final class RocksdbCfg implements ConfigurationEntry {
         + disableWal
         + ", enableSstPartitioning="
         + enableSstPartitioning
+        + ", enableNativeColumnFamilies="
+        + enableNativeColumnFamilies
+        + ", nativeColumnFamilyGroups="
+        + nativeColumnFamilyGroups
+        + ", readCacheSize="
+        + readCacheSize
         + '}';
   }
 
@@ -14,6 +14,7 @@ public final class CachesCfg implements ConfigurationEntry {
   private int drgCacheCapacity = EngineConfiguration.DEFAULT_DRG_CACHE_CAPACITY;
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int variableCacheCapacity = EngineConfiguration.DEFAULT_VARIABLE_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -39,6 +40,14 @@ public final class CachesCfg implements ConfigurationEntry {
     this.processCacheCapacity = processCacheCapacity;
   }
 
+  public int getVariableCacheCapacity() {
+    return variableCacheCapacity;
+  }
+
+  public void setVariableCacheCapacity(final int variableCacheCapacity) {
+    this.variableCacheCapacity = variableCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -48,6 +57,8 @@ public final class CachesCfg implements ConfigurationEntry {
         + formCacheCapacity
         + ", processCacheCapacity="
         + processCacheCapacity
+        + ", variableCacheCapacity="
+        + variableCacheCapacity
         + '}';
   }
 }
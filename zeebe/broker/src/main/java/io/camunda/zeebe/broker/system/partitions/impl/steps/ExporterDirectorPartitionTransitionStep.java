@@ -124,6 +124,9 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .exporterMode(exporterMode)
             .positionsToSkipFilter(exporterFilter)
             .meterRegistry(context.getMeterRegistry());
+    if (context.getBrokerCfg() != null) {
+      exporterCtx.maxBatchSize(context.getBrokerCfg().getExporting().getMaxBatchSize());
+    }
 
     final ExporterDirector director =
         exporterDirectorBuilder.apply(exporterCtx, context.getExporterPhase());
@@ -158,6 +158,9 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxBatchesInCommitGroup(
+            context.getBrokerCfg().getProcessing().getMaxBatchesInCommitGroup())
+        .maxCommitGroupDelay(context.getBrokerCfg().getProcessing().getMaxCommitGroupDelay())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .processingFilter(processingFilter)
@@ -22,10 +22,13 @@ import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.BeforeEach;
@@ -99,6 +102,28 @@ final class ExporterContainerTest {
     }
   }
 
+  public static final class FakeBatchExporter extends FakeExporter {
+
+    private final List<List<Record<?>>> batches = new ArrayList<>();
+    private boolean failOnExport;
+
+    public List<List<Record<?>>> getBatches() {
+      return batches;
+    }
+
+    public void setFailOnExport(final boolean failOnExport) {
+      this.failOnExport = failOnExport;
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> records) {
+      if (failOnExport) {
+        throw new IllegalStateException("expected");
+      }
+      batches.add(List.copyOf(records));
+    }
+  }
+
   private static final class AlwaysRejectingFilter implements Context.RecordFilter {
 
     @Override
@@ -711,4 +736,108 @@ final class ExporterContainerTest {
           .isEqualTo(REGISTERED_COUNTER_NAME);
     }
   }
+
+  @Nested
+  class WithBatchExporter {
+
+    private FakeBatchExporter batchExporter;
+
+    @BeforeEach
+    void beforeEach(final @TempDir Path storagePath) throws Exception {
+      runtime = new ExporterContainerRuntime(storagePath);
+
+      final var descriptor =
+          runtime.getRepository().load(EXPORTER_ID, FakeBatchExporter.class, Map.of());
+      exporterContainer = runtime.newContainer(descriptor, PARTITION_ID);
+      batchExporter = (FakeBatchExporter) exporterContainer.getExporter();
+      exporterContainer.configureExporter();
+    }
+
+    @Test
+    void shouldExportBatchThroughSingleCall() throws Exception {
+      // given
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+      final var records = List.of(mockRecord(1), mockRecord(2), mockRecord(3));
+
+      // when
+      final boolean exported = exporterContainer.exportBatch(records);
+
+      // then
+      assertThat(exported).isTrue();
+      assertThat(exporterContainer.supportsBatchExport()).isTrue();
+      assertThat(batchExporter.getBatches()).containsExactly(List.copyOf(records));
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+      assertThat(exporterContainer.getPosition()).isZero();
+    }
+
+    @Test
+    void shouldNotExportAlreadyExportedRecordsOfBatch() throws Exception {
+      // given
+      runtime.getState().setPosition(EXPORTER_ID, 2);
+      exporterContainer.initMetadata();
+      final var lastRecord = mockRecord(3);
+
+      // when
+      exporterContainer.exportBatch(List.of(mockRecord(1), mockRecord(2), lastRecord));
+
+      // then
+      assertThat(batchExporter.getBatches()).containsExactly(List.of(lastRecord));
+    }
+
+    @Test
+    void shouldExportBatchAgainAfterFailure() throws Exception {
+      // given
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+      final var records = List.of(mockRecord(1), mockRecord(2));
+      batchExporter.setFailOnExport(true);
+      final boolean firstAttempt = exporterContainer.exportBatch(records);
+
+      // when
+      batchExporter.setFailOnExport(false);
+      final boolean secondAttempt = exporterContainer.exportBatch(records);
+
+      // then
+      assertThat(firstAttempt).isFalse();
+      assertThat(secondAttempt).isTrue();
+      assertThat(batchExporter.getBatches()).containsExactly(List.copyOf(records));
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldUpdatePositionWhenWholeBatchIsFiltered() throws Exception {
+      // given
+      batchExporter.getContext().setFilter(new AlwaysRejectingFilter());
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+
+      // when
+      exporterContainer.exportBatch(List.of(mockRecord(1), mockRecord(2)));
+
+      // then
+      assertThat(batchExporter.getBatches()).isEmpty();
+      Awaitility.await()
+          .untilAsserted(() -> assertThat(exporterContainer.getPosition()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldExportRecordByRecordIfBatchIsNotOverridden() throws Exception {
+      // given
+      final var descriptor = runtime.getRepository().load("other", FakeExporter.class, Map.of());
+
+      // when
+      final var container = runtime.newContainer(descriptor, PARTITION_ID);
+
+      // then
+      assertThat(container.supportsBatchExport()).isFalse();
+    }
+
+    private TypedRecordImpl mockRecord(final long position) {
+      final var record = mock(TypedRecordImpl.class);
+      when(record.getPosition()).thenReturn(position);
+      when(record.getMetadata()).thenReturn(new RecordMetadata());
+      return record;
+    }
+  }
 }
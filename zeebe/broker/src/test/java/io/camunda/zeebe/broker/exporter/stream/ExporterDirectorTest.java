@@ -335,6 +335,32 @@ public final class ExporterDirectorTest {
         .contains(deploymentEvent, jobEvent);
   }
 
+  @Test
+  public void shouldExportRecordAfterLongRunOfFilteredRecords() {
+    // given -- more filtered records than are skipped in one actor job
+    exporters.forEach(
+        e -> e.onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT))));
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    for (int i = 0; i < 2_500; i++) {
+      rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    }
+    final long deploymentCommand =
+        rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+
+    // then
+    Awaitility.await("all exporters have exported the record after the filtered records")
+        .atMost(Duration.ofSeconds(10))
+        .untilAsserted(
+            () ->
+                exporters.forEach(
+                    exporter ->
+                        assertThat(exporter.getExportedRecords())
+                            .extracting(Record::getPosition)
+                            .containsExactly(deploymentCommand)));
+  }
+
   @Test
   public void shouldNotExportSkipRecordsFilter() {
     // given
@@ -222,6 +222,64 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(value);
   }
 
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetPrimitiveJournalIndex(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setPrimitiveJournalIndex(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getStorageConfig().isPrimitiveJournalIndex())
+        .isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetIncrementalSnapshotReplication(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setIncrementalSnapshotReplication(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isIncrementalSnapshotReplication()).isEqualTo(value);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void shouldSetWindowedReplication(final boolean value) {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setWindowedReplication(value);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().isWindowedReplication()).isEqualTo(value);
+  }
+
+  @Test
+  void shouldSetMaxInflightAppendSize() {
+    // given
+    final var maxInflightAppendSize = DataSize.ofMegabytes(4);
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxInflightAppendSize(maxInflightAppendSize);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxInflightAppendSize())
+        .isEqualTo(maxInflightAppendSize.toBytes());
+  }
+
   private RaftPartition buildRaftPartition(final BrokerCfg brokerCfg) {
     return new RaftPartitionFactory(brokerCfg)
         .createRaftPartition(
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.HashMap;
 import java.util.Set;
@@ -62,4 +63,41 @@ class ExporterConfigurationTest {
     // then
     assertThat(exportingCfg.getSkipRecords()).isEqualTo(Set.of(1L, 2L, 3L));
   }
+
+  @Test
+  void shouldUseDefaultMaxBatchSize() {
+    // given
+    final var environment = new HashMap<String, String>();
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+
+    // then
+    assertThat(cfg.getExporting().getMaxBatchSize())
+        .isEqualTo(ExportingCfg.DEFAULT_MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldSetMaxBatchSizeFromEnvironment() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxBatchSize", "500");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("exporters", environment);
+
+    // then
+    assertThat(cfg.getExporting().getMaxBatchSize()).isEqualTo(500);
+  }
+
+  @Test
+  void shouldRejectNonPositiveMaxBatchSize() {
+    // given
+    final var environment = new HashMap<String, String>();
+    environment.put("zeebe.broker.exporting.maxBatchSize", "0");
+
+    // when - then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("exporters", environment))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
 }
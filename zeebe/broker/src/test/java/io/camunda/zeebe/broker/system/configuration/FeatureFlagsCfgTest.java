@@ -162,4 +162,70 @@ final class FeatureFlagsCfgTest {
     // then
     assertThat(featureFlagsCfg.isEnableStraightThroughProcessingLoopDetector()).isTrue();
   }
+
+  @Test
+  void shouldDisablePartitionJobNotificationsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnablePartitionJobNotifications()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnablePartitionJobNotificationsFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnablePartitionJobNotifications()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnablePartitionJobNotificationsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enablePartitionJobNotifications", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnablePartitionJobNotifications()).isFalse();
+  }
+
+  @Test
+  void shouldDisableCompiledExpressionsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableCompiledExpressions()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableCompiledExpressionsFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableCompiledExpressions()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableCompiledExpressionsFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableCompiledExpressions", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableCompiledExpressions()).isFalse();
+  }
 }
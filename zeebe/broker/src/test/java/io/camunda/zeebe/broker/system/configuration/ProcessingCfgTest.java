@@ -10,7 +10,9 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 
@@ -80,6 +82,62 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldNotGroupCommitsByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxBatchesInCommitGroup();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+    assertThat(cfg.getMaxCommitGroupDelay()).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldSetCommitGroupFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxBatchesInCommitGroup();
+
+    // then
+    assertThat(limit).isEqualTo(20);
+    assertThat(cfg.getMaxCommitGroupDelay()).isEqualTo(Duration.ofMillis(5));
+  }
+
+  @Test
+  void shouldSetCommitGroupFromEnvironment() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.processing.maxBatchesInCommitGroup", "8",
+            "zeebe.broker.processing.maxCommitGroupDelay", "2ms");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxBatchesInCommitGroup();
+
+    // then
+    assertThat(limit).isEqualTo(8);
+    assertThat(cfg.getMaxCommitGroupDelay()).isEqualTo(Duration.ofMillis(2));
+  }
+
+  @Test
+  void shouldRejectInvalidMaxBatchesInCommitGroup() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInCommitGroup", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchesInCommitGroup must be >= 1");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
@@ -115,4 +115,42 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldChooseDefaultCpuThreadAffinityGroupCount() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final int affinityGroupCount = cfg.getCpuThreadAffinityGroupCount();
+
+    // then
+    assertThat(affinityGroupCount).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetCpuThreadAffinityGroupCountFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final int affinityGroupCount = cfg.getCpuThreadAffinityGroupCount();
+
+    // then
+    assertThat(affinityGroupCount).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetCpuThreadAffinityGroupCountFromEnv() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.threads.cpuThreadAffinityGroupCount", "2");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final int affinityGroupCount = cfg.getCpuThreadAffinityGroupCount();
+
+    // then
+    assertThat(affinityGroupCount).isEqualTo(2);
+  }
 }
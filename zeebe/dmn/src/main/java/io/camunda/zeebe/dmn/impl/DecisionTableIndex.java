@@ -0,0 +1,488 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.DecisionType;
+import io.camunda.zeebe.dmn.EvaluatedInput;
+import io.camunda.zeebe.dmn.EvaluatedOutput;
+import io.camunda.zeebe.dmn.MatchedRule;
+import io.camunda.zeebe.dmn.impl.NumericIntervalTree.Interval;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.bpm.model.dmn.HitPolicy;
+import org.camunda.dmn.parser.EmptyExpression$;
+import org.camunda.dmn.parser.FeelExpression;
+import org.camunda.dmn.parser.ParsedDecision;
+import org.camunda.dmn.parser.ParsedDecisionTable;
+import org.camunda.dmn.parser.ParsedExpression;
+import org.camunda.dmn.parser.ParsedInput;
+import org.camunda.dmn.parser.ParsedOutput;
+import org.camunda.dmn.parser.ParsedRule;
+import org.camunda.feel.syntaxtree.AtLeastOne;
+import org.camunda.feel.syntaxtree.ClosedConstRangeBoundary;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNull$;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.InputEqualTo;
+import org.camunda.feel.syntaxtree.InputGreaterOrEqual;
+import org.camunda.feel.syntaxtree.InputGreaterThan;
+import org.camunda.feel.syntaxtree.InputInRange;
+import org.camunda.feel.syntaxtree.InputLessOrEqual;
+import org.camunda.feel.syntaxtree.InputLessThan;
+import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.Ref;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValBoolean;
+import org.camunda.feel.syntaxtree.ValNull$;
+import org.camunda.feel.syntaxtree.ValNumber;
+import org.camunda.feel.syntaxtree.ValString;
+import scala.Tuple2;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * A pre-computed index of a decision table, which finds the matching rules without evaluating the
+ * table rule by rule. It is built when the decision requirements graph is parsed, for decision
+ * tables whose inputs are variable references, whose input entries are literal comparisons, and
+ * whose output entries are literals. Equality checks are looked up in hash maps, and numeric
+ * comparisons and ranges in an interval tree.
+ *
+ * <p>An evaluation that the index can't answer exactly, e.g. because an input value is missing or
+ * has another type than the input entries, or because the hit policy is violated, is left to the
+ * DMN engine, as are all decision tables that use any other FEEL expression.
+ */
+final class DecisionTableIndex {
+
+  private static final Set<HitPolicy> SINGLE_RESULT_HIT_POLICIES =
+      EnumSet.of(HitPolicy.UNIQUE, HitPolicy.FIRST, HitPolicy.ANY);
+  private static final Set<HitPolicy> MULTIPLE_RESULTS_HIT_POLICIES =
+      EnumSet.of(HitPolicy.COLLECT, HitPolicy.RULE_ORDER);
+  private static final String ANY_VALUE = "-";
+
+  private final ParsedDecision decision;
+  private final HitPolicy hitPolicy;
+  private final List<ParsedInput> inputs;
+  private final List<List<String>> inputPaths = new ArrayList<>();
+  private final List<InputColumn> inputColumns = new ArrayList<>();
+  private final List<ParsedOutput> outputs;
+  private final List<ParsedRule> rules;
+  private final List<Val[]> ruleOutputs = new ArrayList<>();
+
+  private DecisionTableIndex(
+      final ParsedDecision decision, final ParsedDecisionTable decisionTable) {
+    this.decision = decision;
+    hitPolicy = decisionTable.hitPolicy();
+    inputs = new ArrayList<>(CollectionConverters.asJava(decisionTable.inputs()));
+    outputs = new ArrayList<>(CollectionConverters.asJava(decisionTable.outputs()));
+    rules = new ArrayList<>(CollectionConverters.asJava(decisionTable.rules()));
+
+    for (final ParsedInput input : inputs) {
+      inputPaths.add(getVariablePath(input));
+      inputColumns.add(new InputColumn());
+    }
+    for (final ParsedOutput output : outputs) {
+      if (output.defaultValue().isDefined()) {
+        throw new NotIndexableException();
+      }
+    }
+
+    for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+      final var rule = rules.get(ruleIndex);
+      final var inputEntries = CollectionConverters.asJava(rule.inputEntries()).iterator();
+      for (final var inputColumn : inputColumns) {
+        if (!inputEntries.hasNext()) {
+          throw new NotIndexableException();
+        }
+        inputColumn.addEntry(ruleIndex, inputEntries.next());
+      }
+
+      final var outputValues = new Val[outputs.size()];
+      int outputIndex = 0;
+      for (final Tuple2<String, ParsedExpression> outputEntry :
+          CollectionConverters.asJava(rule.outputEntries())) {
+        if (outputIndex >= outputValues.length) {
+          throw new NotIndexableException();
+        }
+        outputValues[outputIndex++] = getLiteralValue(outputEntry._2());
+      }
+      if (outputIndex < outputValues.length) {
+        throw new NotIndexableException();
+      }
+      ruleOutputs.add(outputValues);
+    }
+
+    inputColumns.forEach(InputColumn::buildIntervalTree);
+  }
+
+  /**
+   * Builds the index of the given decision, if it is a decision table that can be indexed. Tables
+   * which depend on other decisions or on business knowledge models are not indexed, as their
+   * input values are only known while the decision requirements graph is evaluated.
+   */
+  static Optional<DecisionTableIndex> of(final ParsedDecision decision) {
+    if (!(decision.logic() instanceof final ParsedDecisionTable decisionTable)
+        || !decision.requiredDecisions().isEmpty()
+        || !decision.requiredBkms().isEmpty()
+        || !isSupportedHitPolicy(decisionTable)) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.of(new DecisionTableIndex(decision, decisionTable));
+    } catch (final NotIndexableException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Evaluates the decision table with the given variables, or returns an empty result if the
+   * decision table needs to be evaluated by the DMN engine instead.
+   */
+  Optional<DecisionEvaluationResult> evaluate(
+      final Map<String, Object> variables, final Function<Val, DirectBuffer> converter) {
+    final var inputValues = new Object[inputs.size()];
+    final var matchingRules = new BitSet(rules.size());
+    matchingRules.set(0, rules.size());
+
+    for (int i = 0; i < inputs.size(); i++) {
+      final var inputValue = toIndexValue(getVariable(variables, inputPaths.get(i)));
+      if (inputValue == null) {
+        return Optional.empty();
+      }
+      final var columnRules = inputColumns.get(i).findRules(inputValue);
+      if (columnRules == null) {
+        return Optional.empty();
+      }
+      matchingRules.and(columnRules);
+      inputValues[i] = inputValue;
+    }
+
+    final int matches = matchingRules.cardinality();
+    if (hitPolicy == HitPolicy.FIRST && matches > 1) {
+      matchingRules.clear(matchingRules.nextSetBit(0) + 1, rules.size());
+    } else if (SINGLE_RESULT_HIT_POLICIES.contains(hitPolicy) && matches > 1) {
+      // the DMN engine reports the violation of the hit policy, or compares the outputs
+      return Optional.empty();
+    } else if (MULTIPLE_RESULTS_HIT_POLICIES.contains(hitPolicy) && matches == 0) {
+      return Optional.empty();
+    }
+
+    final var evaluatedInputs = new ArrayList<EvaluatedInput>(inputs.size());
+    for (int i = 0; i < inputs.size(); i++) {
+      final var input = inputs.get(i);
+      evaluatedInputs.add(
+          new EvaluatedDmnScalaInput(
+              input.id(),
+              EvaluatedDmnScalaInput.determineInputName(input),
+              converter.apply(toVal(inputValues[i]))));
+    }
+
+    final var matchedRules = new ArrayList<MatchedRule>();
+    final var ruleResults = new ArrayList<DirectBuffer>();
+    for (int rule = matchingRules.nextSetBit(0);
+        rule >= 0;
+        rule = matchingRules.nextSetBit(rule + 1)) {
+      final var evaluatedOutputs = getEvaluatedOutputs(ruleOutputs.get(rule), converter);
+      matchedRules.add(new MatchedDmnScalaRule(rules.get(rule).id(), rule + 1, evaluatedOutputs));
+      ruleResults.add(getRuleResult(evaluatedOutputs));
+    }
+
+    final DirectBuffer decisionOutput;
+    if (MULTIPLE_RESULTS_HIT_POLICIES.contains(hitPolicy)) {
+      decisionOutput =
+          writeMessagePack(
+              writer -> {
+                writer.writeArrayHeader(ruleResults.size());
+                ruleResults.forEach(writer::writeRaw);
+              });
+    } else if (ruleResults.isEmpty()) {
+      decisionOutput = writeMessagePack(MsgPackWriter::writeNil);
+    } else {
+      decisionOutput = ruleResults.get(0);
+    }
+
+    final var evaluatedDecision =
+        new EvaluatedDmnScalaDecision(
+            decision.id(),
+            decision.name(),
+            DecisionType.DECISION_TABLE,
+            decisionOutput,
+            evaluatedInputs,
+            matchedRules);
+    return Optional.of(new EvaluationResult(decisionOutput, List.of(evaluatedDecision)));
+  }
+
+  private List<EvaluatedOutput> getEvaluatedOutputs(
+      final Val[] outputValues, final Function<Val, DirectBuffer> converter) {
+    final var evaluatedOutputs = new ArrayList<EvaluatedOutput>(outputValues.length);
+    for (int i = 0; i < outputValues.length; i++) {
+      final var output = outputs.get(i);
+      evaluatedOutputs.add(
+          new EvaluatedDmnScalaOutput(
+              output.id(),
+              EvaluatedDmnScalaOutput.determineOutputName(output),
+              converter.apply(outputValues[i])));
+    }
+    return evaluatedOutputs;
+  }
+
+  private DirectBuffer getRuleResult(final List<EvaluatedOutput> evaluatedOutputs) {
+    if (evaluatedOutputs.size() == 1) {
+      return evaluatedOutputs.get(0).outputValue();
+    }
+
+    // with multiple outputs, the result of a rule is a context of the output names and values
+    return writeMessagePack(
+        writer -> {
+          writer.writeMapHeader(evaluatedOutputs.size());
+          for (int i = 0; i < evaluatedOutputs.size(); i++) {
+            writer.writeString(BufferUtil.wrapString(outputs.get(i).name()));
+            writer.writeRaw(evaluatedOutputs.get(i).outputValue());
+          }
+        });
+  }
+
+  private static boolean isSupportedHitPolicy(final ParsedDecisionTable decisionTable) {
+    final var hitPolicy = decisionTable.hitPolicy();
+    return SINGLE_RESULT_HIT_POLICIES.contains(hitPolicy)
+        || MULTIPLE_RESULTS_HIT_POLICIES.contains(hitPolicy) && decisionTable.aggregation() == null;
+  }
+
+  private static List<String> getVariablePath(final ParsedInput input) {
+    if (!(input.expression() instanceof final FeelExpression feelExpression)) {
+      throw new NotIndexableException();
+    }
+    final var path = new ArrayList<String>();
+    addVariablePath(feelExpression.expression().expression(), path);
+    return path;
+  }
+
+  private static void addVariablePath(final Exp expression, final List<String> path) {
+    switch (expression) {
+      case final Ref ref -> path.addAll(CollectionConverters.asJava(ref.names()));
+      case final PathExpression pathExpression -> {
+        addVariablePath(pathExpression.path(), path);
+        path.add(pathExpression.key());
+      }
+      default -> throw new NotIndexableException();
+    }
+  }
+
+  private static Val getLiteralValue(final ParsedExpression outputEntry) {
+    if (!(outputEntry instanceof final FeelExpression feelExpression)) {
+      throw new NotIndexableException();
+    }
+    return switch (feelExpression.expression().expression()) {
+      case final ConstString string -> new ValString(string.value());
+      case final ConstNumber number -> new ValNumber(number.value());
+      case final ConstBool bool -> new ValBoolean(bool.value());
+      case final ConstNull$ ignored -> ValNull$.MODULE$;
+      default -> throw new NotIndexableException();
+    };
+  }
+
+  private static Object getVariable(final Map<String, Object> variables, final List<String> path) {
+    Object value = variables;
+    for (final var name : path) {
+      if (!(value instanceof final Map<?, ?> context)) {
+        return null;
+      }
+      value = context.get(name);
+    }
+    return value;
+  }
+
+  /**
+   * Returns the value as it is used as key of the index, i.e. numbers as normalized {@link
+   * BigDecimal}s, or {@code null} if the value is not supported by the index.
+   */
+  private static Object toIndexValue(final Object value) {
+    if (value instanceof String || value instanceof Boolean) {
+      return value;
+    } else if (value instanceof Long
+        || value instanceof Integer
+        || value instanceof Short
+        || value instanceof Byte) {
+      return normalize(BigDecimal.valueOf(((Number) value).longValue()));
+    } else if (value instanceof Double || value instanceof Float) {
+      final double number = ((Number) value).doubleValue();
+      return Double.isFinite(number) ? normalize(BigDecimal.valueOf(number)) : null;
+    } else if (value instanceof final BigDecimal number) {
+      return normalize(number);
+    } else if (value instanceof final BigInteger number) {
+      return normalize(new BigDecimal(number));
+    } else if (value instanceof final DirectBuffer messagePack) {
+      return toIndexValue(readScalarValue(messagePack));
+    }
+    return null;
+  }
+
+  private static Object readScalarValue(final DirectBuffer messagePack) {
+    final var reader = new MsgPackReader();
+    reader.wrap(messagePack, 0, messagePack.capacity());
+    final var token = reader.readToken();
+    return switch (token.getType()) {
+      case STRING -> BufferUtil.bufferAsString(token.getValueBuffer());
+      case INTEGER -> token.getIntegerValue();
+      case FLOAT -> token.getFloatValue();
+      case BOOLEAN -> token.getBooleanValue();
+      default -> null;
+    };
+  }
+
+  private static BigDecimal normalize(final BigDecimal number) {
+    return number.stripTrailingZeros();
+  }
+
+  private static Val toVal(final Object indexValue) {
+    return switch (indexValue) {
+      case final String string -> new ValString(string);
+      case final Boolean bool -> new ValBoolean(bool);
+      case final BigDecimal number -> new ValNumber(scala.math.BigDecimal.apply(number));
+      default -> throw new IllegalStateException("Unexpected index value: " + indexValue);
+    };
+  }
+
+  private static DirectBuffer writeMessagePack(final Consumer<MsgPackWriter> valueWriter) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+    valueWriter.accept(writer);
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  /** The index of the input entries of all rules for one input of the decision table. */
+  private static final class InputColumn {
+    private final BitSet anyValueRules = new BitSet();
+    private final Map<Object, BitSet> rulesByValue = new HashMap<>();
+    private final List<Interval> intervals = new ArrayList<>();
+    private NumericIntervalTree intervalTree;
+    private Class<?> valueType;
+
+    private void addEntry(final int rule, final ParsedExpression inputEntry) {
+      if (inputEntry instanceof EmptyExpression$) {
+        anyValueRules.set(rule);
+        return;
+      }
+      if (!(inputEntry instanceof final FeelExpression feelExpression)) {
+        throw new NotIndexableException();
+      }
+
+      final var unaryTests = feelExpression.expression();
+      if (ANY_VALUE.equals(unaryTests.text().trim())) {
+        anyValueRules.set(rule);
+      } else if (unaryTests.expression() instanceof final AtLeastOne disjunction) {
+        CollectionConverters.asJava(disjunction.xs()).forEach(test -> addUnaryTest(rule, test));
+      } else {
+        addUnaryTest(rule, unaryTests.expression());
+      }
+    }
+
+    private void addUnaryTest(final int rule, final Exp unaryTest) {
+      switch (unaryTest) {
+        case final InputEqualTo equalTo ->
+            rulesByValue.computeIfAbsent(getLiteral(equalTo.x()), value -> new BitSet()).set(rule);
+        case final InputLessThan lessThan ->
+            intervals.add(new Interval(null, false, getNumber(lessThan.x()), false, rule));
+        case final InputLessOrEqual lessOrEqual ->
+            intervals.add(new Interval(null, false, getNumber(lessOrEqual.x()), true, rule));
+        case final InputGreaterThan greaterThan ->
+            intervals.add(new Interval(getNumber(greaterThan.x()), false, null, false, rule));
+        case final InputGreaterOrEqual greaterOrEqual ->
+            intervals.add(new Interval(getNumber(greaterOrEqual.x()), true, null, false, rule));
+        case final InputInRange inRange -> {
+          final var range = inRange.range();
+          intervals.add(
+              new Interval(
+                  getNumber(range.start().value()),
+                  range.start() instanceof ClosedConstRangeBoundary,
+                  getNumber(range.end().value()),
+                  range.end() instanceof ClosedConstRangeBoundary,
+                  rule));
+        }
+        default -> throw new NotIndexableException();
+      }
+    }
+
+    private Object getLiteral(final Exp expression) {
+      final Object literal =
+          switch (expression) {
+            case final ConstString string -> string.value();
+            case final ConstNumber number -> normalize(number.value().bigDecimal());
+            case final ConstBool bool -> bool.value();
+            default -> throw new NotIndexableException();
+          };
+      setValueType(literal.getClass());
+      return literal;
+    }
+
+    private BigDecimal getNumber(final Exp expression) {
+      if (!(expression instanceof final ConstNumber number)) {
+        throw new NotIndexableException();
+      }
+      setValueType(BigDecimal.class);
+      return number.value().bigDecimal();
+    }
+
+    private void setValueType(final Class<?> type) {
+      if (valueType != null && valueType != type) {
+        // comparing values of different types is left to the DMN engine
+        throw new NotIndexableException();
+      }
+      valueType = type;
+    }
+
+    private void buildIntervalTree() {
+      intervalTree = intervals.isEmpty() ? null : NumericIntervalTree.of(intervals);
+    }
+
+    /**
+     * Returns the rules whose input entry matches the given value, or {@code null} if the value
+     * has another type than the input entries.
+     */
+    private BitSet findRules(final Object value) {
+      if (valueType != null && !valueType.isInstance(value)) {
+        return null;
+      }
+
+      final var rules = (BitSet) anyValueRules.clone();
+      final var equalValueRules = rulesByValue.get(value);
+      if (equalValueRules != null) {
+        rules.or(equalValueRules);
+      }
+      if (intervalTree != null) {
+        intervalTree.collect((BigDecimal) value, rules);
+      }
+      return rules;
+    }
+  }
+
+  private static final class NotIndexableException extends RuntimeException {
+    private NotIndexableException() {
+      super(null, null, false, false);
+    }
+  }
+}
@@ -93,7 +93,16 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
           decisionId);
     }
 
-    final var parsedDmn = ((ParsedDmnScalaDrg) decisionRequirementsGraph).getParsedDmn();
+    final var parsedDrg = (ParsedDmnScalaDrg) decisionRequirementsGraph;
+    final var indexedResult =
+        parsedDrg
+            .findDecisionTableIndex(decisionId)
+            .flatMap(index -> index.evaluate(evalContext.toMap(), this::toMessagePack));
+    if (indexedResult.isPresent()) {
+      return indexedResult.get();
+    }
+
+    final var parsedDmn = parsedDrg.getParsedDmn();
     // todo(#8092): pass in context that allows fetching variable by name (lazy)
     final Either<EvalFailure, EvalResult> result =
         dmnEngine.eval(parsedDmn, decisionId, evalContext.toMap());
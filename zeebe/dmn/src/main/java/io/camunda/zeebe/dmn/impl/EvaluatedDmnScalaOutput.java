@@ -11,6 +11,7 @@ import io.camunda.zeebe.dmn.EvaluatedOutput;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.camunda.dmn.Audit;
+import org.camunda.dmn.parser.ParsedOutput;
 import org.camunda.feel.syntaxtree.Val;
 
 public record EvaluatedDmnScalaOutput(String outputId, String outputName, DirectBuffer outputValue)
@@ -20,8 +21,12 @@ public record EvaluatedDmnScalaOutput(String outputId, String outputName, Direct
       final Audit.EvaluatedOutput evaluatedOutput, final Function<Val, DirectBuffer> converter) {
     final var output = evaluatedOutput.output();
     final var outputValue = evaluatedOutput.value();
-    // Just like the Modeler, we favor the label over the name
-    final var outputName = output.label() != null ? output.label() : output.name();
+    final var outputName = determineOutputName(output);
     return new EvaluatedDmnScalaOutput(output.id(), outputName, converter.apply(outputValue));
   }
+
+  static String determineOutputName(final ParsedOutput output) {
+    // Just like the Modeler, we favor the label over the name
+    return output.label() != null ? output.label() : output.name();
+  }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A static centered interval tree over numeric intervals, e.g. the range unary tests {@code <
+ * 10} or {@code [1..5)} of a decision table column. Each interval belongs to a rule, and a query
+ * collects all rules whose interval contains a given value.
+ */
+final class NumericIntervalTree {
+
+  private static final Comparator<Interval> BY_LOW =
+      Comparator.comparing(Interval::low, Comparator.nullsFirst(Comparator.naturalOrder()));
+  private static final Comparator<Interval> BY_HIGH_DESCENDING =
+      Comparator.comparing(
+          Interval::high, Comparator.nullsFirst(Comparator.<BigDecimal>reverseOrder()));
+
+  private final Node root;
+
+  private NumericIntervalTree(final Node root) {
+    this.root = root;
+  }
+
+  static NumericIntervalTree of(final List<Interval> intervals) {
+    return new NumericIntervalTree(intervals.isEmpty() ? null : Node.of(intervals));
+  }
+
+  /** Adds the rules of all intervals that contain the given value to the given set. */
+  void collect(final BigDecimal value, final BitSet rules) {
+    Node node = root;
+    while (node != null) {
+      node = node.collect(value, rules);
+    }
+  }
+
+  /**
+   * A numeric interval of a rule. A bound of {@code null} is unbounded, e.g. the interval of the
+   * unary test {@code < 10} has no lower bound.
+   */
+  record Interval(
+      BigDecimal low, boolean lowInclusive, BigDecimal high, boolean highInclusive, int rule) {
+
+    boolean contains(final BigDecimal value) {
+      if (low != null) {
+        final int comparison = value.compareTo(low);
+        if (comparison < 0 || comparison == 0 && !lowInclusive) {
+          return false;
+        }
+      }
+      if (high != null) {
+        final int comparison = value.compareTo(high);
+        return comparison < 0 || comparison == 0 && highInclusive;
+      }
+      return true;
+    }
+
+    private boolean isBelow(final BigDecimal value) {
+      if (high == null) {
+        return false;
+      }
+      final int comparison = high.compareTo(value);
+      return comparison < 0 || comparison == 0 && !highInclusive;
+    }
+
+    private boolean isAbove(final BigDecimal value) {
+      if (low == null) {
+        return false;
+      }
+      final int comparison = low.compareTo(value);
+      return comparison > 0 || comparison == 0 && !lowInclusive;
+    }
+  }
+
+  private static final class Node {
+    private final BigDecimal center;
+    // the intervals which contain the center, or all intervals if they can't be split further
+    private final List<Interval> byLow;
+    private final List<Interval> byHighDescending;
+    private final boolean unsplit;
+    private final Node left;
+    private final Node right;
+
+    private Node(
+        final BigDecimal center,
+        final List<Interval> intervals,
+        final boolean unsplit,
+        final Node left,
+        final Node right) {
+      this.center = center;
+      byLow = new ArrayList<>(intervals);
+      byLow.sort(BY_LOW);
+      byHighDescending = new ArrayList<>(intervals);
+      byHighDescending.sort(BY_HIGH_DESCENDING);
+      this.unsplit = unsplit;
+      this.left = left;
+      this.right = right;
+    }
+
+    private static Node of(final List<Interval> intervals) {
+      final var center = medianBound(intervals);
+
+      final var below = new ArrayList<Interval>();
+      final var above = new ArrayList<Interval>();
+      final var containing = new ArrayList<Interval>();
+      for (final var interval : intervals) {
+        if (interval.isBelow(center)) {
+          below.add(interval);
+        } else if (interval.isAbove(center)) {
+          above.add(interval);
+        } else {
+          containing.add(interval);
+        }
+      }
+
+      if (below.size() == intervals.size() || above.size() == intervals.size()) {
+        // the intervals are all on one side of the center, e.g. if they have the same open bound
+        return new Node(center, intervals, true, null, null);
+      }
+
+      return new Node(
+          center,
+          containing,
+          false,
+          below.isEmpty() ? null : of(below),
+          above.isEmpty() ? null : of(above));
+    }
+
+    private static BigDecimal medianBound(final List<Interval> intervals) {
+      final var bounds = new ArrayList<BigDecimal>(intervals.size() * 2);
+      for (final var interval : intervals) {
+        if (interval.low() != null) {
+          bounds.add(interval.low());
+        }
+        if (interval.high() != null) {
+          bounds.add(interval.high());
+        }
+      }
+      bounds.sort(Comparator.naturalOrder());
+      return bounds.isEmpty() ? BigDecimal.ZERO : bounds.get(bounds.size() / 2);
+    }
+
+    /** Collects the matching intervals of this node, and returns the next node to visit. */
+    private Node collect(final BigDecimal value, final BitSet rules) {
+      if (unsplit) {
+        byLow.forEach(interval -> collectIfContained(interval, value, rules));
+        return null;
+      }
+
+      final int comparison = value.compareTo(center);
+      if (comparison < 0) {
+        // all intervals of this node reach up to the center, only their lower bound matters
+        for (final var interval : byLow) {
+          if (interval.low() != null && interval.low().compareTo(value) > 0) {
+            break;
+          }
+          collectIfContained(interval, value, rules);
+        }
+        return left;
+
+      } else if (comparison > 0) {
+        for (final var interval : byHighDescending) {
+          if (interval.high() != null && interval.high().compareTo(value) < 0) {
+            break;
+          }
+          collectIfContained(interval, value, rules);
+        }
+        return right;
+
+      } else {
+        byLow.forEach(interval -> collectIfContained(interval, value, rules));
+        return null;
+      }
+    }
+
+    private static void collectIfContained(
+        final Interval interval, final BigDecimal value, final BitSet rules) {
+      if (interval.contains(value)) {
+        rules.set(interval.rule());
+      }
+    }
+  }
+}
@@ -11,7 +11,10 @@ import io.camunda.zeebe.dmn.ParsedDecision;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
 import org.camunda.bpm.model.dmn.instance.Definitions;
 import org.camunda.dmn.parser.ParsedDmn;
@@ -23,18 +26,21 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
   private final String decisionRequirementsName;
   private final String decisionRequirementsNamespace;
   private final List<ParsedDecision> decisions;
+  private final Map<String, DecisionTableIndex> decisionTableIndexes;
 
   private ParsedDmnScalaDrg(
       final ParsedDmn parsedDmn,
       final String decisionRequirementsId,
       final String decisionRequirementsName,
       final String decisionRequirementsNamespace,
-      final List<ParsedDecision> decisions) {
+      final List<ParsedDecision> decisions,
+      final Map<String, DecisionTableIndex> decisionTableIndexes) {
     this.parsedDmn = parsedDmn;
     this.decisionRequirementsId = decisionRequirementsId;
     this.decisionRequirementsName = decisionRequirementsName;
     this.decisionRequirementsNamespace = decisionRequirementsNamespace;
     this.decisions = decisions;
+    this.decisionTableIndexes = decisionTableIndexes;
   }
 
   @Override
@@ -71,6 +77,14 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     return parsedDmn;
   }
 
+  /**
+   * Returns the pre-computed index of the decision table with the given id, if the decision is a
+   * decision table that could be indexed.
+   */
+  Optional<DecisionTableIndex> findDecisionTableIndex(final String decisionId) {
+    return Optional.ofNullable(decisionTableIndexes.get(decisionId));
+  }
+
   public static ParsedDmnScalaDrg of(final ParsedDmn parsedDmn) {
 
     final DmnModelInstance modelInstance = parsedDmn.model();
@@ -79,8 +93,11 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     final String name = definitions.getName();
     final String namespace = definitions.getNamespace();
     final List<ParsedDecision> parsedDecisions = getParsedDecisions(parsedDmn);
+    final Map<String, DecisionTableIndex> decisionTableIndexes =
+        getDecisionTableIndexes(parsedDmn);
 
-    return new ParsedDmnScalaDrg(parsedDmn, id, name, namespace, parsedDecisions);
+    return new ParsedDmnScalaDrg(
+        parsedDmn, id, name, namespace, parsedDecisions, decisionTableIndexes);
   }
 
   private static List<ParsedDecision> getParsedDecisions(final ParsedDmn parsedDmn) {
@@ -96,4 +113,20 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
 
     return decisions;
   }
+
+  private static Map<String, DecisionTableIndex> getDecisionTableIndexes(
+      final ParsedDmn parsedDmn) {
+    final var decisionTableIndexes = new HashMap<String, DecisionTableIndex>();
+
+    parsedDmn
+        .decisions()
+        .foreach(
+            decision -> {
+              DecisionTableIndex.of(decision)
+                  .ifPresent(index -> decisionTableIndexes.put(decision.id(), index));
+              return null;
+            });
+
+    return decisionTableIndexes;
+  }
 }
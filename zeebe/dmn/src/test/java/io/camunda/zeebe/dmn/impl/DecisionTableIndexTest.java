@@ -0,0 +1,215 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.dmn.DecisionEvaluationResult;
+import io.camunda.zeebe.dmn.EvaluatedInput;
+import io.camunda.zeebe.dmn.MatchedRule;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.camunda.dmn.DmnEngine;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValNull$;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class DecisionTableIndexTest {
+
+  private static final String DRG = "/decision-table-index.dmn";
+
+  private final DmnScalaDecisionEngine decisionEngine = new DmnScalaDecisionEngine();
+  private final FeelToMessagePackTransformer transformer = new FeelToMessagePackTransformer();
+  private final ParsedDmnScalaDrg drg =
+      (ParsedDmnScalaDrg) decisionEngine.parse(getClass().getResourceAsStream(DRG));
+
+  @Test
+  void shouldIndexDecisionTablesWithLiteralEntries() {
+    // then
+    assertThat(drg.findDecisionTableIndex("warehouse")).isPresent();
+    assertThat(drg.findDecisionTableIndex("discount")).isPresent();
+    assertThat(drg.findDecisionTableIndex("shipping"))
+        .describedAs("Expect that a table with a unary test expression is not indexed")
+        .isEmpty();
+  }
+
+  @Test
+  void shouldEvaluateMatchingRule() {
+    // when
+    final var result =
+        evaluate("warehouse", Map.of("order", Map.of("region", "EU"), "amount", 250));
+
+    // then
+    assertEquality(result.getOutput(), "{'warehouse': 'Hamburg', 'priority': 2}");
+
+    final var evaluatedDecision = result.getEvaluatedDecisions().get(0);
+    assertThat(evaluatedDecision.evaluatedInputs())
+        .extracting(EvaluatedInput::inputId, EvaluatedInput::inputName)
+        .containsExactly(tuple("Input_region", "Region"), tuple("Input_amount", "Amount"));
+    assertEquality(evaluatedDecision.evaluatedInputs().get(1).inputValue(), "250");
+    assertThat(evaluatedDecision.matchedRules())
+        .extracting(MatchedRule::ruleId, MatchedRule::ruleIndex)
+        .containsExactly(tuple("Rule_EU_medium", 2));
+  }
+
+  @Test
+  void shouldEvaluateFirstMatchingRule() {
+    // when
+    final var result = evaluate("discount", Map.of("amount", 600.5));
+
+    // then
+    assertEquality(result.getOutput(), "10");
+    assertThat(result.getEvaluatedDecisions().get(0).matchedRules())
+        .extracting(MatchedRule::ruleIndex)
+        .containsExactly(1);
+  }
+
+  @Test
+  void shouldNotEvaluateIfInputIsMissing() {
+    // when
+    final var result =
+        drg.findDecisionTableIndex("warehouse")
+            .orElseThrow()
+            .evaluate(Map.of("amount", 250), decisionEngineConverter());
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void shouldNotEvaluateIfInputHasOtherType() {
+    // when
+    final var result =
+        drg.findDecisionTableIndex("warehouse")
+            .orElseThrow()
+            .evaluate(
+                Map.of("order", Map.of("region", "EU"), "amount", "250"),
+                decisionEngineConverter());
+
+    // then
+    assertThat(result).isEmpty();
+  }
+
+  @ParameterizedTest
+  @MethodSource("variables")
+  void shouldEvaluateLikeDmnEngine(final String decisionId, final Map<String, Object> variables) {
+    // given
+    final var dmnEngine = new DmnEngine.Builder().build();
+    final var expected = dmnEngine.eval(drg.getParsedDmn(), decisionId, variables);
+
+    // when
+    final var result = evaluate(decisionId, variables);
+
+    // then
+    assertThat(expected.isRight()).isTrue();
+    final var evalResult = expected.right().get();
+    final var expectedOutput =
+        evalResult.isNil()
+            ? transformer.toMessagePack(ValNull$.MODULE$)
+            : transformer.toMessagePack((Val) evalResult.value());
+    assertThat(bufferAsArray(result.getOutput())).isEqualTo(bufferAsArray(expectedOutput));
+  }
+
+  @Nested
+  class IntervalTreeTest {
+
+    @Test
+    void shouldFindContainingIntervals() {
+      // given
+      final var tree =
+          NumericIntervalTree.of(
+              List.of(
+                  new NumericIntervalTree.Interval(null, false, number(10), false, 0),
+                  new NumericIntervalTree.Interval(number(10), true, number(20), true, 1),
+                  new NumericIntervalTree.Interval(number(15), false, null, false, 2),
+                  new NumericIntervalTree.Interval(number(20), false, number(30), false, 3)));
+
+      // then
+      assertThat(collect(tree, 5)).isEqualTo(rules(0));
+      assertThat(collect(tree, 10)).isEqualTo(rules(1));
+      assertThat(collect(tree, 15)).isEqualTo(rules(1));
+      assertThat(collect(tree, 20)).isEqualTo(rules(1, 2));
+      assertThat(collect(tree, 25)).isEqualTo(rules(2, 3));
+      assertThat(collect(tree, 30)).isEqualTo(rules(2));
+    }
+
+    @Test
+    void shouldFindIntervalsWithSameOpenBound() {
+      // given
+      final var tree =
+          NumericIntervalTree.of(
+              List.of(
+                  new NumericIntervalTree.Interval(null, false, number(10), false, 0),
+                  new NumericIntervalTree.Interval(null, false, number(10), false, 1)));
+
+      // then
+      assertThat(collect(tree, 9)).isEqualTo(rules(0, 1));
+      assertThat(collect(tree, 10)).isEqualTo(rules());
+    }
+
+    private BitSet collect(final NumericIntervalTree tree, final long value) {
+      final var rules = new BitSet();
+      tree.collect(number(value), rules);
+      return rules;
+    }
+
+    private BitSet rules(final int... rules) {
+      final var bitSet = new BitSet();
+      for (final int rule : rules) {
+        bitSet.set(rule);
+      }
+      return bitSet;
+    }
+
+    private BigDecimal number(final long value) {
+      return BigDecimal.valueOf(value);
+    }
+  }
+
+  private DecisionEvaluationResult evaluate(
+      final String decisionId, final Map<String, Object> variables) {
+    final var result =
+        drg.findDecisionTableIndex(decisionId)
+            .orElseThrow()
+            .evaluate(variables, decisionEngineConverter());
+    assertThat(result)
+        .describedAs("Expect that the decision is evaluated by the index")
+        .isPresent();
+    return result.get();
+  }
+
+  private Function<Val, DirectBuffer> decisionEngineConverter() {
+    return value -> cloneBuffer(transformer.toMessagePack(value));
+  }
+
+  private static Stream<Arguments> variables() {
+    return Stream.of(
+        Arguments.of("warehouse", Map.of("order", Map.of("region", "EU"), "amount", 50)),
+        Arguments.of("warehouse", Map.of("order", Map.of("region", "EU"), "amount", 1000)),
+        Arguments.of("warehouse", Map.of("order", Map.of("region", "CA"), "amount", 1000.5)),
+        Arguments.of("warehouse", Map.of("order", Map.of("region", "US"), "amount", 7)),
+        Arguments.of("warehouse", Map.of("order", Map.of("region", "APAC"), "amount", 1)),
+        Arguments.of("warehouse", Map.of("order", Map.of("region", "AF"), "amount", 1)),
+        Arguments.of("discount", Map.of("amount", 150)),
+        Arguments.of("discount", Map.of("amount", 100)));
+  }
+}
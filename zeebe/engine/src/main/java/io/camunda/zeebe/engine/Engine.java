@@ -16,8 +16,10 @@ import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.EventApplier;
 import io.camunda.zeebe.engine.state.appliers.EventAppliers;
+import io.camunda.zeebe.engine.state.instance.TransientDueDateState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.processing.DbBannedInstanceState;
+import io.camunda.zeebe.engine.state.variable.VariableCache;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.error.ErrorRecord;
 import io.camunda.zeebe.protocol.record.RejectionType;
@@ -51,6 +53,8 @@ public class Engine implements RecordProcessor {
   private EventApplier eventApplier;
   private RecordProcessorMap recordProcessorMap;
   private MutableProcessingState processingState;
+  private TransientDueDateState transientDueDateState;
+  private VariableCache variableCache;
 
   private final ErrorRecord errorRecord = new ErrorRecord();
 
@@ -76,6 +80,8 @@ public class Engine implements RecordProcessor {
     final var typedProcessorContext =
         new TypedRecordProcessorContextImpl(recordProcessorContext, writers, config);
     processingState = typedProcessorContext.getProcessingState();
+    transientDueDateState = typedProcessorContext.getTransientDueDateState();
+    variableCache = typedProcessorContext.getVariableCache();
 
     ((EventAppliers) eventApplier).registerEventAppliers(processingState);
     final TypedRecordProcessors typedRecordProcessors =
@@ -130,6 +136,19 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onRollback() {
+    // the rolled back changes may have changed the due dates in the timing wheels, or the cached
+    // variables, so these changes must be reverted
+    transientDueDateState.onRollback();
+    variableCache.clear();
+  }
+
+  @Override
+  public void onCommit() {
+    transientDueDateState.onCommit();
+  }
+
   @Override
   public ProcessingResult onProcessingError(
       final Throwable processingException,
@@ -99,7 +99,8 @@ public final class EngineProcessors {
             timerChecker,
             jobStreamer,
             jobMetrics,
-            decisionBehavior);
+            decisionBehavior,
+            featureFlags);
 
     final var commandDistributionBehavior =
         new CommandDistributionBehavior(
@@ -196,7 +197,8 @@ public final class EngineProcessors {
       final DueDateTimerChecker timerChecker,
       final JobStreamer jobStreamer,
       final JobMetrics jobMetrics,
-      final DecisionBehavior decisionBehavior) {
+      final DecisionBehavior decisionBehavior,
+      final FeatureFlags featureFlags) {
     return new BpmnBehaviorsImpl(
         processingState,
         writers,
@@ -205,7 +207,8 @@ public final class EngineProcessors {
         subscriptionCommandSender,
         partitionsCount,
         timerChecker,
-        jobStreamer);
+        jobStreamer,
+        featureFlags.enableCompiledExpressions());
   }
 
   private static TypedRecordProcessor<ProcessInstanceRecord> addProcessProcessors(
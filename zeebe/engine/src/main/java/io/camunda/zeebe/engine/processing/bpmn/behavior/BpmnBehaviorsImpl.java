@@ -56,11 +56,12 @@ public final class BpmnBehaviorsImpl implements BpmnBehaviors {
       final SubscriptionCommandSender subscriptionCommandSender,
       final int partitionsCount,
       final DueDateTimerChecker timerChecker,
-      final JobStreamer jobStreamer) {
+      final JobStreamer jobStreamer,
+      final boolean enableCompiledExpressions) {
     expressionBehavior =
         new ExpressionProcessor(
             ExpressionLanguageFactory.createExpressionLanguage(
-                new ZeebeFeelEngineClock(ActorClock.current())),
+                new ZeebeFeelEngineClock(ActorClock.current()), enableCompiledExpressions),
             new VariableStateEvaluationContextLookup(processingState.getVariableState()));
 
     variableBehavior =
@@ -37,6 +37,17 @@ public interface JobStreamer {
    */
   default void notifyWorkAvailable(final String jobType) {}
 
+  /**
+   * Can be used to notify listeners that the given partition has jobs available for activation. By
+   * default, listeners are only notified about the job type.
+   *
+   * @param partitionId the partition which has items available
+   * @param jobType the type of the stream which has items available
+   */
+  default void notifyWorkAvailable(final int partitionId, final String jobType) {
+    notifyWorkAvailable(jobType);
+  }
+
   /**
    * Returns a job stream for the job type, or {@link Optional#empty()} if there is none.
    *
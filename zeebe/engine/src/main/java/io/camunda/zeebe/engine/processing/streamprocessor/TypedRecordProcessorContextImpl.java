@@ -13,8 +13,10 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.ScheduledTaskDbState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
+import io.camunda.zeebe.engine.state.instance.TransientDueDateState;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.state.variable.VariableCache;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.RecordProcessorContext;
 import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
@@ -31,6 +33,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
   private final EngineConfiguration config;
   private final TransientPendingSubscriptionState transientMessageSubscriptionState;
   private final TransientPendingSubscriptionState transientProcessMessageSubscriptionState;
+  private final TransientDueDateState transientDueDateState;
+  private final VariableCache variableCache;
 
   public TypedRecordProcessorContextImpl(
       final RecordProcessorContext context,
@@ -41,6 +45,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
     zeebeDb = context.getZeebeDb();
     transientMessageSubscriptionState = new TransientPendingSubscriptionState();
     transientProcessMessageSubscriptionState = new TransientPendingSubscriptionState();
+    transientDueDateState = new TransientDueDateState();
+    variableCache = new VariableCache(config.getVariableCacheCapacity());
     processingState =
         new ProcessingDbState(
             partitionId,
@@ -49,6 +55,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             context.getKeyGenerator(),
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
+            transientDueDateState,
+            variableCache,
             config);
     this.writers = writers;
     partitionCommandSender = context.getPartitionCommandSender();
@@ -88,7 +96,16 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             zeebeDb.createContext(),
             partitionId,
             transientMessageSubscriptionState,
-            transientProcessMessageSubscriptionState);
+            transientProcessMessageSubscriptionState,
+            transientDueDateState);
+  }
+
+  public TransientDueDateState getTransientDueDateState() {
+    return transientDueDateState;
+  }
+
+  public VariableCache getVariableCache() {
+    return variableCache;
   }
 
   @Override
@@ -26,6 +26,7 @@ import io.camunda.zeebe.engine.state.instance.DbIncidentState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TransientDueDateState;
 import io.camunda.zeebe.engine.state.message.DbMessageCorrelationState;
 import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
@@ -58,6 +59,7 @@ import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.engine.state.processing.DbBannedInstanceState;
 import io.camunda.zeebe.engine.state.signal.DbSignalSubscriptionState;
 import io.camunda.zeebe.engine.state.variable.DbVariableState;
+import io.camunda.zeebe.engine.state.variable.VariableCache;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.state.KeyGenerator;
@@ -101,18 +103,41 @@ public class ProcessingDbState implements MutableProcessingState {
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
       final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
       final EngineConfiguration config) {
+    this(
+        partitionId,
+        zeebeDb,
+        transactionContext,
+        keyGenerator,
+        transientMessageSubscriptionState,
+        transientProcessMessageSubscriptionState,
+        new TransientDueDateState(),
+        VariableCache.disabled(),
+        config);
+  }
+
+  public ProcessingDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final TransientPendingSubscriptionState transientMessageSubscriptionState,
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TransientDueDateState transientDueDateState,
+      final VariableCache variableCache,
+      final EngineConfiguration config) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
-    variableState = new DbVariableState(zeebeDb, transactionContext);
+    variableState = new DbVariableState(zeebeDb, transactionContext, variableCache);
     processState = new DbProcessState(zeebeDb, transactionContext, config);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    timerInstanceState =
+        new DbTimerInstanceState(zeebeDb, transactionContext, transientDueDateState);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
+    jobState = new DbJobState(zeebeDb, transactionContext, transientDueDateState);
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
@@ -23,6 +23,7 @@ import io.camunda.zeebe.engine.state.immutable.UserTaskState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbUserTaskState;
+import io.camunda.zeebe.engine.state.instance.TransientDueDateState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.engine.state.message.DbMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbProcessMessageSubscriptionState;
@@ -46,11 +47,13 @@ public final class ScheduledTaskDbState implements ScheduledTaskState {
       final TransactionContext transactionContext,
       final int partitionId,
       final TransientPendingSubscriptionState transientMessageSubscriptionState,
-      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState) {
+      final TransientPendingSubscriptionState transientProcessMessageSubscriptionState,
+      final TransientDueDateState transientDueDateState) {
     distributionState = new DbDistributionState(zeebeDb, transactionContext);
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
+    timerInstanceState =
+        new DbTimerInstanceState(zeebeDb, transactionContext, transientDueDateState);
+    jobState = new DbJobState(zeebeDb, transactionContext, transientDueDateState);
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
     pendingMessageSubscriptionState =
         new DbMessageSubscriptionState(
@@ -20,10 +20,12 @@ import io.camunda.zeebe.db.impl.DbTenantAwareKey;
 import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.instance.TimingWheel.DueDateVisitor;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
@@ -31,12 +33,17 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  // activatable jobs are looked up in chunks, to avoid a native call per job
+  private static final int ACTIVATABLE_JOBS_CHUNK_SIZE = 32;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -71,10 +78,27 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbCompositeKey<DbLong, DbForeignKey<DbLong>> backoffJobKey;
   private final ColumnFamily<DbCompositeKey<DbLong, DbForeignKey<DbLong>>, DbNil>
       backoffColumnFamily;
-  private long nextBackOffDueDate;
+
+  private final DbLong[] activatableJobKeys = new DbLong[ACTIVATABLE_JOBS_CHUNK_SIZE];
+  private final List<DbLong> activatableJobKeysChunk = new ArrayList<>(ACTIVATABLE_JOBS_CHUNK_SIZE);
+
+  // in-memory copies of the deadlines and backoffs, to find the due ones without iterating
+  private final TransientDueDateState transientDueDateState;
+  private final TimingWheel deadlines;
+  private final TimingWheel backoffs;
 
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new TransientDueDateState());
+  }
+
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientDueDateState transientDueDateState) {
+    this.transientDueDateState = transientDueDateState;
+    deadlines = transientDueDateState.jobDeadlines();
+    backoffs = transientDueDateState.jobBackoffs();
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -108,6 +132,10 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    for (int i = 0; i < ACTIVATABLE_JOBS_CHUNK_SIZE; i++) {
+      activatableJobKeys[i] = new DbLong();
+    }
   }
 
   @Override
@@ -264,6 +292,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
       deadlineKey.wrapLong(oldDeadline);
       deadlinesColumnFamily.deleteExisting(deadlineJobKey);
+      transientDueDateState.remove(deadlines, jobKey, oldDeadline, 0);
 
       job.setDeadline(newDeadline);
       updateJobRecord(jobKey, job);
@@ -347,33 +376,30 @@ public final class DbJobState implements JobState, MutableJobState {
       final long executionTimestamp,
       final DeadlineIndex startAt,
       final BiPredicate<Long, JobRecord> callback) {
-
-    final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
-    if (startAt != null) {
-      deadlineKey.wrapLong(startAt.deadline());
-      jobKey.wrapLong(startAt.key());
-      startAtKey = deadlineJobKey;
-    } else {
-      startAtKey = null;
-    }
+    syncDeadlines();
 
     final var lastVisitedIndex = new AtomicReference<DeadlineIndex>();
-    deadlinesColumnFamily.whileTrue(
-        startAtKey,
-        (key, value) -> {
-          final var deadline = key.first().getValue();
-          final var isDue = deadline < executionTimestamp;
-          if (!isDue) {
-            return false;
+    // deadlines are due if they are before the execution timestamp, so we visit all deadlines up
+    // to the previous ms
+    final var timestamp = executionTimestamp - 1;
+    final DueDateVisitor visitor =
+        (jobKey, deadline, payload) -> {
+          if (!jobDeadlineExists(jobKey, deadline)) {
+            deadlines.markMissing(jobKey, deadline, timestamp);
+            return true;
           }
-          final var jobKey = key.second().inner().getValue();
           if (!visitJob(jobKey, callback)) {
-            lastVisitedIndex.set(
-                new DeadlineIndex(key.first().getValue(), key.second().inner().getValue()));
+            lastVisitedIndex.set(new DeadlineIndex(deadline, jobKey));
             return false;
           }
           return true;
-        });
+        };
+
+    if (startAt != null) {
+      deadlines.visitDue(timestamp, startAt.deadline(), startAt.key(), visitor);
+    } else {
+      deadlines.visitDue(timestamp, visitor);
+    }
 
     return lastVisitedIndex.get();
   }
@@ -408,7 +434,9 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeysChunk.clear();
 
+    final var shouldContinue = new MutableBoolean(true);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
@@ -416,11 +444,24 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            final var chunkKey = activatableJobKeys[activatableJobKeysChunk.size()];
+            chunkKey.wrapLong(jobKey.getValue());
+            activatableJobKeysChunk.add(chunkKey);
+
+            if (activatableJobKeysChunk.size() == ACTIVATABLE_JOBS_CHUNK_SIZE) {
+              shouldContinue.set(visitJobs(activatableJobKeysChunk, callback::apply));
+              activatableJobKeysChunk.clear();
+              return shouldContinue.get();
+            }
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (shouldContinue.get() && !activatableJobKeysChunk.isEmpty()) {
+      visitJobs(activatableJobKeysChunk, callback::apply);
+      activatableJobKeysChunk.clear();
+    }
   }
 
   @Override
@@ -449,21 +490,19 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
-    nextBackOffDueDate = -1L;
-    backoffColumnFamily.whileTrue(
-        (key, value) -> {
-          final long deadline = key.first().getValue();
-          boolean consumed = false;
-          if (deadline <= timestamp) {
-            final long jobKey = key.second().inner().getValue();
-            consumed = visitJob(jobKey, callback);
-          }
-          if (!consumed) {
-            nextBackOffDueDate = deadline;
+    syncBackoffs();
+
+    return backoffs.visitDue(
+        timestamp,
+        (jobKey, backoff, payload) -> {
+          this.jobKey.wrapLong(jobKey);
+          backoffKey.wrapLong(backoff);
+          if (!backoffColumnFamily.exists(backoffJobKey)) {
+            backoffs.markMissing(jobKey, backoff, timestamp);
+            return true;
           }
-          return consumed;
+          return visitJob(jobKey, callback);
         });
-    return nextBackOffDueDate;
   }
 
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
@@ -475,6 +514,33 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Like {@link #visitJob(long, BiPredicate)}, but looks up all jobs at once.
+   *
+   * @return false if the callback requested to stop, true otherwise
+   */
+  private boolean visitJobs(
+      final List<DbLong> jobKeys, final BiPredicate<Long, JobRecord> callback) {
+    final var shouldContinue = new MutableBoolean(true);
+    final var foundJobs = new MutableInteger();
+    jobsColumnFamily.multiGet(
+        jobKeys,
+        (key, job) -> {
+          foundJobs.increment();
+          if (shouldContinue.get()) {
+            shouldContinue.set(callback.test(key.getValue(), job.getRecord()));
+          }
+        });
+
+    if (shouldContinue.get() && foundJobs.get() < jobKeys.size()) {
+      LOG.warn(
+          "Expected to find jobs with keys {}, but only found {} of them",
+          jobKeys.stream().map(DbLong::getValue).toList(),
+          foundJobs.get());
+    }
+    return shouldContinue.get();
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -526,6 +592,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
       deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
+      transientDueDateState.add(deadlines, job, deadline, 0);
     }
   }
 
@@ -534,6 +601,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
       deadlinesColumnFamily.deleteIfExists(deadlineJobKey);
+      transientDueDateState.remove(deadlines, job, deadline, 0);
     }
   }
 
@@ -542,6 +610,7 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
       backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
+      transientDueDateState.add(backoffs, job, backoff, 0);
     }
   }
 
@@ -550,6 +619,23 @@ public final class DbJobState implements JobState, MutableJobState {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
       backoffColumnFamily.deleteIfExists(backoffJobKey);
+      transientDueDateState.remove(backoffs, job, backoff, 0);
+    }
+  }
+
+  /** Adds all deadlines to the timing wheel again if it is stale, e.g. after recovery. */
+  private void syncDeadlines() {
+    if (deadlines.clearStale()) {
+      deadlinesColumnFamily.forEach(
+          (key, nil) -> deadlines.add(key.second().inner().getValue(), key.first().getValue(), 0));
+    }
+  }
+
+  /** Adds all backoffs to the timing wheel again if it is stale, e.g. after recovery. */
+  private void syncBackoffs() {
+    if (backoffs.clearStale()) {
+      backoffColumnFamily.forEach(
+          (key, nil) -> backoffs.add(key.second().inner().getValue(), key.first().getValue(), 0));
     }
   }
 
@@ -35,10 +35,20 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
-  private long nextDueDate;
+  private final TransientDueDateState transientDueDateState;
+  private final TimingWheel dueDates;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new TransientDueDateState());
+  }
+
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientDueDateState transientDueDateState) {
+    this.transientDueDateState = transientDueDateState;
+    dueDates = transientDueDateState.timers();
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -71,6 +81,9 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    transientDueDateState.add(
+        dueDates, timer.getKey(), timer.getDueDate(), timer.getElementInstanceKey());
   }
 
   @Override
@@ -81,38 +94,31 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    transientDueDateState.remove(
+        dueDates, timer.getKey(), timer.getDueDate(), timer.getElementInstanceKey());
   }
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
-    nextDueDate = -1L;
-
-    dueDateColumnFamily.whileTrue(
-        (key, nil) -> {
-          final var dueDate = key.first().getValue();
-          final var elementAndTimerKey = key.second();
-
-          boolean consumed = false;
-          if (dueDate <= timestamp) {
-            final var timerInstance = timerInstanceColumnFamily.get(elementAndTimerKey);
-            if (timerInstance == null) {
-              // Time for due date no longer exists. This can occur due to the following data race:
-              // 1. Scheduled task reads a due date for a timer
-              // 2. Processing removes timer and due date
-              // 3. Scheduled task fails to find timer
-              // Because timer and due date were already removed, we can ignore this here.
-              return true;
-            }
-            consumed = consumer.visit(timerInstance);
+    syncDueDates();
+
+    return dueDates.visitDue(
+        timestamp,
+        (timerKey, dueDate, elementInstanceKey) -> {
+          final var timerInstance = get(elementInstanceKey, timerKey);
+          if (timerInstance == null || timerInstance.getDueDate() != dueDate) {
+            // The timer no longer exists. This can occur due to the following data race:
+            // 1. Scheduled task reads a due date for a timer
+            // 2. Processing removes timer and due date
+            // 3. Scheduled task fails to find timer
+            // Because timer and due date were already removed, we can ignore this here. It can
+            // also be an addition that was rolled back, or that is not committed yet.
+            dueDates.markMissing(timerKey, dueDate, timestamp);
+            return true;
           }
-
-          if (!consumed) {
-            nextDueDate = dueDate;
-          }
-          return consumed;
+          return consumer.visit(timerInstance);
         });
-
-    return nextDueDate;
   }
 
   @Override
@@ -134,4 +140,16 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  /** Adds all due dates to the timing wheel again if it is stale, e.g. after recovery. */
+  private void syncDueDates() {
+    if (dueDates.clearStale()) {
+      dueDateColumnFamily.forEach(
+          (key, nil) ->
+              dueDates.add(
+                  key.second().second().getValue(),
+                  key.first().getValue(),
+                  key.second().first().inner().getValue()));
+    }
+  }
 }
@@ -0,0 +1,477 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * An in-memory hierarchical timing wheel of due dates, used to find due timers and jobs without
+ * iterating over the column families ordered by due date. The column families stay the source of
+ * truth: the wheel only tells which entries to look up, and every visited entry must be validated
+ * against the state before acting on it.
+ *
+ * <p>Entries are identified by a key and a due date, and carry an additional payload (e.g. the
+ * element instance key of a timer). Entries are kept in unordered buckets until their tick is
+ * reached, at which point they are moved into an ordered set of expired entries. Expired entries
+ * stay in the wheel until they are removed, i.e. until the state they mirror is removed, same as
+ * the rows of the column families.
+ *
+ * <p>There are {@link #LEVELS} levels of {@link #SLOTS} slots each. An entry is stored at the
+ * lowest level whose range contains its tick, and moved down a level whenever the wheel reaches the
+ * range of its slot. Entries beyond the range of the highest level are kept in an overflow bucket.
+ *
+ * <p>The costs, with n entries in the wheel, are:
+ *
+ * <ul>
+ *   <li>adding or removing an entry which is not due yet is O(1), plus a scan of the other due
+ *       dates of the same key, which is usually a single one
+ *   <li>adding or removing an entry which is due already, i.e. an expired entry, is O(log n), as
+ *       expired entries are kept in a {@link TreeSet}; until the wheel is first visited, all
+ *       entries are kept as expired
+ *   <li>advancing the wheel moves each entry down at most {@link #LEVELS} times, plus O(log n) to
+ *       expire it; entries in the overflow bucket are placed again whenever the highest level wraps
+ *       around, i.e. about every 19 days with the default tick of 100 ms
+ *   <li>looking up the next due date, when no expired entry is left, scans the remaining slots of
+ *       each level and the entries of the first non-empty slot, or all entries of the overflow
+ *       bucket if the levels are empty
+ * </ul>
+ *
+ * <p>This class is thread safe. It's intended use is that the stream processor adds and removes
+ * entries while a scheduled task visits the due ones. The wheel is not transactional; the owner is
+ * expected to revert the changes of rolled back transactions (see {@link TransientDueDateState}).
+ * Entries of additions which are visible before their transaction is committed are ignored when
+ * validated. A new wheel is stale, after which the owner is expected to add all entries of the
+ * state, see {@link #clearStale()}.
+ */
+public final class TimingWheel {
+
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = 4;
+  private static final int OVERFLOW = LEVELS;
+  private static final int EXPIRED = -1;
+  private static final int VISIT_BATCH_SIZE = 256;
+
+  /**
+   * How long an expired entry may be missing from the state before it is dropped. Entries are
+   * added before the transaction of the stream processor is committed, so a scheduled task may not
+   * see them yet.
+   *
+   * <p>Dropping an entry is safe as long as its state row can't appear after the grace period. The
+   * wheel and the column families only go out of sync in two ways:
+   *
+   * <ul>
+   *   <li>the wheel has an entry without a row: the addition is not committed yet, or was rolled
+   *       back without being reverted in the wheel. An uncommitted addition becomes visible once
+   *       its batch is committed, which takes far less than the grace period, as commit groups only
+   *       defer a batch for a few ms (10 ms by default). A rolled back addition never becomes
+   *       visible, so its entry can be dropped.
+   *   <li>the column families have a row without an entry: this can't happen, as the rows are only
+   *       added together with their entry, and a wheel that is not complete, e.g. after recovery,
+   *       is stale and filled with all rows again, see {@link #clearStale()}.
+   * </ul>
+   *
+   * <p>If an addition was not visible for longer than the grace period anyway, e.g. because the
+   * commit was retried for that long, its entry is lost until the wheel is rebuilt. This happens
+   * whenever the stream processor is recreated, e.g. after a restart or a role change, as the
+   * wheels of a new engine are stale.
+   */
+  private static final long MISSING_ENTRY_GRACE_PERIOD = 30_000L;
+
+  private final long tickMillis;
+  private final Entry[][] slots = new Entry[LEVELS][SLOTS];
+  private final int[] entriesPerLevel = new int[LEVELS + 1];
+  private Entry overflow;
+  private final NavigableSet<Entry> expired = new TreeSet<>(TimingWheel::compare);
+  private final Long2ObjectHashMap<Entry> entriesByKey = new Long2ObjectHashMap<>();
+  private final AtomicBoolean stale = new AtomicBoolean(true);
+
+  /** The last tick the wheel advanced to; all entries up to this tick are expired. */
+  private long currentTick;
+
+  private boolean started;
+  private int size;
+
+  /**
+   * @param tickMillis the duration of a tick in ms, due dates within the same tick are expired
+   *     together
+   */
+  public TimingWheel(final long tickMillis) {
+    this.tickMillis = tickMillis;
+  }
+
+  /**
+   * Adds the entry, unless there is already an entry with the same key and due date.
+   *
+   * @return true if the entry was added, false if it existed already
+   */
+  public synchronized boolean add(final long key, final long dueDate, final long payload) {
+    final var head = entriesByKey.get(key);
+    for (Entry entry = head; entry != null; entry = entry.nextOfKey) {
+      if (entry.dueDate == dueDate) {
+        return false;
+      }
+    }
+
+    final var entry = new Entry(key, dueDate, payload);
+    entry.nextOfKey = head;
+    entriesByKey.put(key, entry);
+    place(entry);
+    size++;
+    return true;
+  }
+
+  /**
+   * Removes the entry with the given key and due date, if there is one.
+   *
+   * @return true if the entry was removed, false if there was none
+   */
+  public synchronized boolean remove(final long key, final long dueDate) {
+    final var entry = removeFromKey(key, dueDate);
+    if (entry != null) {
+      unlink(entry);
+      size--;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Marks the expired entry with the given key and due date as missing from the state. An entry
+   * which is still missing after a grace period is removed, as it belongs to a rolled back
+   * addition.
+   */
+  public synchronized void markMissing(final long key, final long dueDate, final long timestamp) {
+    for (Entry entry = entriesByKey.get(key); entry != null; entry = entry.nextOfKey) {
+      if (entry.dueDate == dueDate) {
+        if (entry.missingSince < 0) {
+          entry.missingSince = timestamp;
+        } else if (timestamp - entry.missingSince >= MISSING_ENTRY_GRACE_PERIOD) {
+          remove(key, dueDate);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * Visits the entries that are due at the given timestamp, ordered by due date and key, until the
+   * visitor returns false.
+   *
+   * @return the due date of the entry the visitor returned false for, otherwise the due date of the
+   *     next entry that is not due yet, or -1 if there is none
+   */
+  public long visitDue(final long timestamp, final DueDateVisitor visitor) {
+    return visitDue(timestamp, Long.MIN_VALUE, Long.MIN_VALUE, visitor);
+  }
+
+  /**
+   * Like {@link #visitDue(long, DueDateVisitor)}, but starts at the given due date and key
+   * (inclusive) instead of the first due entry.
+   */
+  public long visitDue(
+      final long timestamp,
+      final long fromDueDate,
+      final long fromKey,
+      final DueDateVisitor visitor) {
+    var cursor = new Entry(fromKey, fromDueDate, 0);
+    var inclusive = true;
+
+    while (true) {
+      final List<Entry> batch = new ArrayList<>();
+      synchronized (this) {
+        advance(timestamp);
+        for (final var entry : expired.tailSet(cursor, inclusive)) {
+          if (entry.dueDate > timestamp || batch.size() == VISIT_BATCH_SIZE) {
+            break;
+          }
+          batch.add(entry);
+        }
+
+        if (batch.isEmpty()) {
+          return nextDueDate(timestamp);
+        }
+      }
+
+      // the entries are visited without holding the lock, as the visitor looks up the state
+      for (final var entry : batch) {
+        if (!visitor.visit(entry.key, entry.dueDate, entry.payload)) {
+          return entry.dueDate;
+        }
+      }
+
+      cursor = batch.get(batch.size() - 1);
+      inclusive = false;
+    }
+  }
+
+  /**
+   * Marks the wheel as stale, e.g. because its entries can't be trusted anymore. See {@link
+   * #clearStale()}.
+   */
+  public void markStale() {
+    stale.set(true);
+  }
+
+  /**
+   * Clears the stale flag. A new wheel is stale, as it does not contain the entries of the state
+   * yet.
+   *
+   * @return true if the wheel was stale, in which case the caller must add all entries of the
+   *     state again
+   */
+  public boolean clearStale() {
+    return stale.getAndSet(false);
+  }
+
+  public synchronized int size() {
+    return size;
+  }
+
+  private void advance(final long timestamp) {
+    final long targetTick = tickOf(timestamp);
+    if (!started) {
+      // the wheel starts at the first visited timestamp, until then all entries are kept as
+      // expired so we don't have to guess the current time
+      started = true;
+      currentTick = targetTick;
+      final var entries = new ArrayList<>(expired);
+      expired.clear();
+      entries.forEach(this::place);
+      return;
+    }
+
+    while (currentTick < targetTick) {
+      final int lowestLevel = lowestNonEmptyLevel();
+      if (lowestLevel < 0) {
+        currentTick = targetTick;
+        return;
+      }
+
+      if (lowestLevel > 0) {
+        // nothing changes until the next slot of the lowest non-empty level is reached
+        final long lastTickOfSlot = currentTick | (levelSpan(lowestLevel) - 1);
+        if (lastTickOfSlot >= targetTick) {
+          currentTick = targetTick;
+          return;
+        }
+        currentTick = lastTickOfSlot;
+      }
+
+      tick();
+    }
+  }
+
+  private void tick() {
+    currentTick++;
+
+    int highestLevel = 0;
+    while (highestLevel < LEVELS && (currentTick & (levelSpan(highestLevel + 1) - 1)) == 0) {
+      highestLevel++;
+    }
+
+    // cascade the slots we've reached from the top, so entries can move down multiple levels
+    for (int level = highestLevel; level > 0; level--) {
+      if (level == OVERFLOW) {
+        final var entries = unlinkAll(overflow);
+        overflow = null;
+        entriesPerLevel[OVERFLOW] = 0;
+        entries.forEach(this::place);
+      } else {
+        cascade(level, slotOf(currentTick, level));
+      }
+    }
+
+    cascade(0, slotOf(currentTick, 0));
+  }
+
+  private void cascade(final int level, final int slot) {
+    final var entries = unlinkAll(slots[level][slot]);
+    slots[level][slot] = null;
+    entriesPerLevel[level] -= entries.size();
+    entries.forEach(this::place);
+  }
+
+  private void place(final Entry entry) {
+    final long dueTick = tickOf(entry.dueDate);
+    if (!started || dueTick <= currentTick) {
+      entry.level = EXPIRED;
+      expired.add(entry);
+      return;
+    }
+
+    for (int level = 0; level < LEVELS; level++) {
+      final int higherBits = SLOT_BITS * (level + 1);
+      if ((dueTick >>> higherBits) == (currentTick >>> higherBits)) {
+        final int slot = slotOf(dueTick, level);
+        slots[level][slot] = link(entry, slots[level][slot], level, slot);
+        entriesPerLevel[level]++;
+        return;
+      }
+    }
+
+    overflow = link(entry, overflow, OVERFLOW, 0);
+    entriesPerLevel[OVERFLOW]++;
+  }
+
+  private long nextDueDate(final long timestamp) {
+    final var nextExpired = expired.higher(new Entry(Long.MAX_VALUE, timestamp, 0));
+    if (nextExpired != null) {
+      return nextExpired.dueDate;
+    }
+
+    // the entries of a level are due before the entries of the levels above
+    for (int level = 0; level < LEVELS; level++) {
+      if (entriesPerLevel[level] == 0) {
+        continue;
+      }
+      for (int slot = slotOf(currentTick, level) + 1; slot < SLOTS; slot++) {
+        if (slots[level][slot] != null) {
+          return earliestDueDate(slots[level][slot]);
+        }
+      }
+    }
+
+    return overflow != null ? earliestDueDate(overflow) : -1;
+  }
+
+  private int lowestNonEmptyLevel() {
+    for (int level = 0; level <= OVERFLOW; level++) {
+      if (entriesPerLevel[level] > 0) {
+        return level;
+      }
+    }
+    return -1;
+  }
+
+  private long tickOf(final long timestamp) {
+    return Math.floorDiv(timestamp, tickMillis);
+  }
+
+  private Entry removeFromKey(final long key, final long dueDate) {
+    Entry previous = null;
+    for (Entry entry = entriesByKey.get(key); entry != null; entry = entry.nextOfKey) {
+      if (entry.dueDate == dueDate) {
+        if (previous != null) {
+          previous.nextOfKey = entry.nextOfKey;
+        } else if (entry.nextOfKey != null) {
+          entriesByKey.put(key, entry.nextOfKey);
+        } else {
+          entriesByKey.remove(key);
+        }
+        return entry;
+      }
+      previous = entry;
+    }
+    return null;
+  }
+
+  private void unlink(final Entry entry) {
+    if (entry.level == EXPIRED) {
+      expired.remove(entry);
+      return;
+    }
+
+    if (entry.previous != null) {
+      entry.previous.next = entry.next;
+    } else if (entry.level == OVERFLOW) {
+      overflow = entry.next;
+    } else {
+      slots[entry.level][entry.slot] = entry.next;
+    }
+
+    if (entry.next != null) {
+      entry.next.previous = entry.previous;
+    }
+    entry.previous = null;
+    entry.next = null;
+    entriesPerLevel[entry.level]--;
+  }
+
+  private static Entry link(final Entry entry, final Entry head, final int level, final int slot) {
+    entry.level = level;
+    entry.slot = slot;
+    entry.previous = null;
+    entry.next = head;
+    if (head != null) {
+      head.previous = entry;
+    }
+    return entry;
+  }
+
+  private static List<Entry> unlinkAll(final Entry head) {
+    final List<Entry> entries = new ArrayList<>();
+    Entry entry = head;
+    while (entry != null) {
+      final var next = entry.next;
+      entry.previous = null;
+      entry.next = null;
+      entries.add(entry);
+      entry = next;
+    }
+    return entries;
+  }
+
+  private static long earliestDueDate(final Entry head) {
+    long earliest = Long.MAX_VALUE;
+    for (Entry entry = head; entry != null; entry = entry.next) {
+      earliest = Math.min(earliest, entry.dueDate);
+    }
+    return earliest;
+  }
+
+  private static long levelSpan(final int level) {
+    return 1L << (SLOT_BITS * level);
+  }
+
+  private static int slotOf(final long tick, final int level) {
+    return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+  }
+
+  private static int compare(final Entry first, final Entry second) {
+    final int byDueDate = Long.compare(first.dueDate, second.dueDate);
+    return byDueDate != 0 ? byDueDate : Long.compare(first.key, second.key);
+  }
+
+  @FunctionalInterface
+  public interface DueDateVisitor {
+
+    /**
+     * @return true to continue with the next due entry, false to stop
+     */
+    boolean visit(long key, long dueDate, long payload);
+  }
+
+  private static final class Entry {
+    private final long key;
+    private final long dueDate;
+    private final long payload;
+
+    // the entries of a slot form a doubly linked list, so they can be removed in O(1)
+    private Entry previous;
+    private Entry next;
+    private int level;
+    private int slot;
+
+    // other entries with the same key, but a different due date
+    private Entry nextOfKey;
+    private long missingSince = -1;
+
+    private Entry(final long key, final long dueDate, final long payload) {
+      this.key = key;
+      this.dueDate = dueDate;
+      this.payload = payload;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the {@link TimingWheel timing wheels} which are shared between the processing state, which
+ * keeps them in sync when applying events, and the state of the scheduled tasks, which uses them to
+ * find due timers and jobs. See {@link DbTimerInstanceState} and {@link DbJobState}.
+ *
+ * <p>The wheels are not transactional, so the processing state changes them via {@link #add} and
+ * {@link #remove}, which record the changes of the current transaction. When the transaction is
+ * rolled back, only these changes are reverted. The recorded changes are only accessed by the
+ * stream processor, while the wheels themselves are thread safe.
+ */
+public final class TransientDueDateState {
+
+  private static final long TICK_MILLIS = 100;
+
+  private final TimingWheel timers = new TimingWheel(TICK_MILLIS);
+  private final TimingWheel jobDeadlines = new TimingWheel(TICK_MILLIS);
+  private final TimingWheel jobBackoffs = new TimingWheel(TICK_MILLIS);
+  private final List<Change> uncommittedChanges = new ArrayList<>();
+
+  public TimingWheel timers() {
+    return timers;
+  }
+
+  public TimingWheel jobDeadlines() {
+    return jobDeadlines;
+  }
+
+  public TimingWheel jobBackoffs() {
+    return jobBackoffs;
+  }
+
+  /** Adds the entry to the given wheel, and records the addition if the entry is new. */
+  public void add(final TimingWheel wheel, final long key, final long dueDate, final long payload) {
+    if (wheel.add(key, dueDate, payload)) {
+      uncommittedChanges.add(new Change(wheel, true, key, dueDate, payload));
+    }
+  }
+
+  /** Removes the entry from the given wheel, and records the removal if the entry existed. */
+  public void remove(
+      final TimingWheel wheel, final long key, final long dueDate, final long payload) {
+    if (wheel.remove(key, dueDate)) {
+      uncommittedChanges.add(new Change(wheel, false, key, dueDate, payload));
+    }
+  }
+
+  /**
+   * Forgets the recorded changes. Must be called whenever the changes of the processing state can
+   * no longer be rolled back, i.e. when the transaction is committed.
+   */
+  public void onCommit() {
+    uncommittedChanges.clear();
+  }
+
+  /**
+   * Reverts the recorded changes in reverse order. Must be called whenever a transaction of the
+   * processing state is rolled back.
+   */
+  public void onRollback() {
+    for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+      final var change = uncommittedChanges.get(i);
+      if (change.added()) {
+        change.wheel().remove(change.key(), change.dueDate());
+      } else {
+        change.wheel().add(change.key(), change.dueDate(), change.payload());
+      }
+    }
+    uncommittedChanges.clear();
+  }
+
+  private record Change(TimingWheel wheel, boolean added, long key, long dueDate, long payload) {}
+}
@@ -15,11 +15,13 @@ import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
 import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.state.variable.VariableCache.CachedScope;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -55,9 +57,23 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  private final List<DbCompositeKey<DbLong, DbString>> requestedVariableKeys = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> requestedVariableKeysPool =
+      new ArrayList<>();
+
+  private final VariableCache cache;
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, VariableCache.disabled());
+  }
+
+  public DbVariableState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final VariableCache cache) {
+    this.cache = cache;
+
     childKey = new DbLong();
     childParentColumnFamily =
         zeebeDb.createColumnFamily(
@@ -109,6 +125,7 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    cache.setVariable(scopeKey, variableNameView, value, valueOffset, valueLength);
   }
 
   @Override
@@ -117,6 +134,7 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cache.invalidate(childKey);
   }
 
   @Override
@@ -128,6 +146,7 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cache.invalidate(scopeKey);
   }
 
   @Override
@@ -137,6 +156,7 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    cache.removeVariables(scopeKey);
   }
 
   @Override
@@ -179,6 +199,17 @@ public class DbVariableState implements MutableVariableState {
 
     long currentScopeKey = scopeKey;
     do {
+      final CachedScope cachedScope = cache.get(currentScopeKey);
+      if (cachedScope != null) {
+        final DirectBuffer value = cachedScope.getVariable(name, nameOffset, nameLength);
+        if (value != null) {
+          return value;
+        }
+
+        currentScopeKey = cachedScope.parentKey();
+        continue;
+      }
+
       final VariableInstance variable =
           getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
@@ -194,6 +225,9 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
+    if (cache.isEnabled()) {
+      return getCachedVariablesAsDocument(scopeKey);
+    }
 
     collectedVariables.clear();
     writer.wrap(documentResultBuffer, 0);
@@ -232,16 +266,19 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    // the requested variables are looked up directly instead of iterating over all variables of
+    // each scope, which is much cheaper if a scope contains many more variables than requested
+    long currentScope = scopeKey;
+    while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+      final CachedScope cachedScope = cache.get(currentScope);
+      if (cachedScope != null) {
+        collectRequestedVariablesLocal(cachedScope);
+        currentScope = cachedScope.parentKey();
+      } else {
+        collectRequestedVariablesLocal(currentScope);
+        currentScope = getParentScopeKey(currentScope);
+      }
+    }
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -254,6 +291,19 @@ public class DbVariableState implements MutableVariableState {
     writer.wrap(documentResultBuffer, 0);
     writer.reserveMapHeader();
 
+    final CachedScope cachedScope = cache.get(scopeKey);
+    if (cachedScope != null) {
+      cachedScope.forEach(
+          (name, value) -> {
+            writer.writeString(name);
+            writer.writeRaw(value);
+          });
+      writer.writeReservedMapHeader(0, cachedScope.variableCount());
+
+      resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+      return resultView;
+    }
+
     final MutableInteger variableCount = new MutableInteger();
     visitVariablesLocal(
         scopeKey,
@@ -301,6 +351,11 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    final CachedScope cachedScope = cache.get(childScopeKey);
+    if (cachedScope != null) {
+      return cachedScope.parentKey();
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
@@ -316,6 +371,103 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Writes all variables of the given scope which are still to be collected to the document, and
+   * removes them from the variables to collect.
+   */
+  private void collectRequestedVariablesLocal(final long scopeKey) {
+    requestedVariableKeys.clear();
+    for (final DirectBuffer name : variablesToCollect) {
+      final var key = getRequestedVariableKey(requestedVariableKeys.size());
+      key.first().wrapLong(scopeKey);
+      key.second().wrapBuffer(name);
+      requestedVariableKeys.add(key);
+    }
+
+    variablesColumnFamily.multiGet(
+        requestedVariableKeys,
+        (key, variable) -> {
+          final DirectBuffer name = key.second().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(variable.getValue());
+
+          variablesToCollect.remove(name);
+        });
+  }
+
+  /** Same as {@link #collectRequestedVariablesLocal(long)}, but for a cached scope. */
+  private void collectRequestedVariablesLocal(final CachedScope scope) {
+    final Iterator<DirectBuffer> names = variablesToCollect.iterator();
+    while (names.hasNext()) {
+      final DirectBuffer name = names.next();
+      final DirectBuffer value = scope.getVariable(name, 0, name.capacity());
+      if (value != null) {
+        writer.writeString(name);
+        writer.writeRaw(value);
+
+        names.remove();
+      }
+    }
+  }
+
+  /**
+   * Like {@link #getVariablesAsDocument(long)}, but reads the variables of each scope from the
+   * cache. Scopes which are not cached yet are read from the state and added to the cache, so the
+   * next document of the same scope hierarchy doesn't need to read them again.
+   */
+  private DirectBuffer getCachedVariablesAsDocument(final long scopeKey) {
+    collectedVariables.clear();
+    writer.wrap(documentResultBuffer, 0);
+
+    writer.reserveMapHeader();
+
+    long currentScope = scopeKey;
+    do {
+      final CachedScope scope = getOrLoadScope(currentScope);
+      scope.forEach(
+          (name, value) -> {
+            // the cached names are immutable copies, so they can be collected without copying
+            if (collectedVariables.add(name)) {
+              writer.writeString(name);
+              writer.writeRaw(value);
+            }
+          });
+
+      currentScope = scope.parentKey();
+    } while (currentScope >= 0);
+
+    writer.writeReservedMapHeader(0, collectedVariables.size());
+
+    resultView.wrap(documentResultBuffer, 0, writer.getOffset());
+    return resultView;
+  }
+
+  private CachedScope getOrLoadScope(final long scopeKey) {
+    final CachedScope cachedScope = cache.get(scopeKey);
+    if (cachedScope != null) {
+      return cachedScope;
+    }
+
+    final var scope = new CachedScope(getParentScopeKey(scopeKey));
+    visitVariablesLocal(
+        scopeKey,
+        name -> true,
+        (name, variable) -> {
+          final DirectBuffer value = variable.getValue();
+          scope.setVariable(name.getBuffer(), value, 0, value.capacity());
+        },
+        () -> false);
+    cache.put(scopeKey, scope);
+    return scope;
+  }
+
+  private DbCompositeKey<DbLong, DbString> getRequestedVariableKey(final int index) {
+    if (index == requestedVariableKeysPool.size()) {
+      requestedVariableKeysPool.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+    }
+    return requestedVariableKeysPool.get(index);
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -0,0 +1,170 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps copies of the local variables and the parent of recently used variable scopes, so the
+ * variables of a scope hierarchy can be collected without reading every scope from the state again.
+ * See {@link DbVariableState}.
+ *
+ * <p>A cached scope is always complete: it is only added after all its variables were read from the
+ * state, and it is kept up to date by the variable state on every change. The cache is not aware of
+ * transactions, so it must be {@link #clear() cleared} whenever a transaction is rolled back.
+ *
+ * <p>The cache is bounded by the number of scopes, and scopes whose variables exceed {@link
+ * #MAX_SCOPE_SIZE} are not cached at all. It is not thread safe, and must only be used by the
+ * processing state.
+ */
+public final class VariableCache {
+
+  /** The max size in bytes of the variable names and values of a single cached scope. */
+  static final int MAX_SCOPE_SIZE = 16 * 1024;
+
+  private final int capacity;
+  private final Map<Long, CachedScope> scopes;
+
+  public VariableCache(final int capacity) {
+    this.capacity = capacity;
+    scopes =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<Long, CachedScope> eldest) {
+            return size() > VariableCache.this.capacity;
+          }
+        };
+  }
+
+  /**
+   * @return a cache which never caches any scope
+   */
+  public static VariableCache disabled() {
+    return new VariableCache(0);
+  }
+
+  boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  /**
+   * @return the cached scope, or null if it is not cached
+   */
+  CachedScope get(final long scopeKey) {
+    return scopes.get(scopeKey);
+  }
+
+  /** Adds the given scope, if it is not too big to be cached. */
+  void put(final long scopeKey, final CachedScope scope) {
+    if (isEnabled() && scope.size <= MAX_SCOPE_SIZE) {
+      scopes.put(scopeKey, scope);
+    }
+  }
+
+  void setVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final DirectBuffer value,
+      final int valueOffset,
+      final int valueLength) {
+    final var scope = scopes.get(scopeKey);
+    if (scope == null) {
+      return;
+    }
+
+    scope.setVariable(name, value, valueOffset, valueLength);
+    if (scope.size > MAX_SCOPE_SIZE) {
+      scopes.remove(scopeKey);
+    }
+  }
+
+  void removeVariables(final long scopeKey) {
+    final var scope = scopes.get(scopeKey);
+    if (scope != null) {
+      scope.clear();
+    }
+  }
+
+  void invalidate(final long scopeKey) {
+    scopes.remove(scopeKey);
+  }
+
+  public void clear() {
+    scopes.clear();
+  }
+
+  int size() {
+    return scopes.size();
+  }
+
+  /**
+   * The local variables and the parent key of a variable scope. Names and values are copied, so
+   * returned buffers stay valid even if the variable is updated or the scope is evicted.
+   */
+  static final class CachedScope {
+
+    private final long parentKey;
+    private final Map<DirectBuffer, DirectBuffer> variables = new LinkedHashMap<>();
+    private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+    private int size;
+
+    CachedScope(final long parentKey) {
+      this.parentKey = parentKey;
+    }
+
+    long parentKey() {
+      return parentKey;
+    }
+
+    /**
+     * @return the value of the variable, or null if the scope has no such local variable
+     */
+    DirectBuffer getVariable(final DirectBuffer name, final int nameOffset, final int nameLength) {
+      nameView.wrap(name, nameOffset, nameLength);
+      return variables.get(nameView);
+    }
+
+    void forEach(final BiConsumer<DirectBuffer, DirectBuffer> consumer) {
+      variables.forEach(consumer);
+    }
+
+    int variableCount() {
+      return variables.size();
+    }
+
+    void setVariable(
+        final DirectBuffer name,
+        final DirectBuffer value,
+        final int valueOffset,
+        final int valueLength) {
+      final var valueCopy = new UnsafeBuffer(new byte[valueLength]);
+      valueCopy.putBytes(0, value, valueOffset, valueLength);
+
+      nameView.wrap(name);
+      final var previousValue = variables.get(nameView);
+      if (previousValue != null) {
+        variables.replace(nameView, valueCopy);
+        size += valueLength - previousValue.capacity();
+      } else {
+        final var nameCopy = new UnsafeBuffer(new byte[name.capacity()]);
+        nameCopy.putBytes(0, name, 0, name.capacity());
+        variables.put(nameCopy, valueCopy);
+        size += name.capacity() + valueLength;
+      }
+    }
+
+    private void clear() {
+      variables.clear();
+      size = 0;
+    }
+  }
+}
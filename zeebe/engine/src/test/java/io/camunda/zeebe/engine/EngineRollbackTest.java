@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessors;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
+import io.camunda.zeebe.engine.util.MockTypedRecord;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
+import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
+import io.camunda.zeebe.stream.api.scheduling.ProcessingScheduleService;
+import io.camunda.zeebe.stream.impl.RecordProcessorContextImpl;
+import io.camunda.zeebe.stream.impl.state.DbKeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class EngineRollbackTest {
+
+  private static final long PROCESS_DEFINITION_KEY = 1;
+  private static final long SCOPE = 10;
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+
+  private Engine engine;
+  private MutableVariableState variableState;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    final var keyGenerator =
+        new DbKeyGenerator(Protocol.DEPLOYMENT_PARTITION, zeebeDb, transactionContext);
+    engine =
+        new Engine(
+            context -> {
+              variableState = context.getProcessingState().getVariableState();
+              return TypedRecordProcessors.processors(keyGenerator, context.getWriters());
+            },
+            new EngineConfiguration());
+    engine.init(
+        new RecordProcessorContextImpl(
+            Protocol.DEPLOYMENT_PARTITION,
+            mock(ProcessingScheduleService.class),
+            zeebeDb,
+            transactionContext,
+            mock(InterPartitionCommandSender.class),
+            keyGenerator));
+
+    variableState.createScope(SCOPE, VariableState.NO_PARENT);
+    replayVariableCreated(1, "a", "1");
+    transactionContext.getCurrentTransaction().commit();
+    engine.onCommit();
+  }
+
+  @Test
+  void shouldNotKeepVariablesOfRolledBackReplayBatchInCache() throws Exception {
+    // given - the scope is cached
+    assertEquality(variableState.getVariablesAsDocument(SCOPE), "{'a': 1}");
+
+    // when - the replayed batch fails after its variables were applied
+    replayVariableCreated(2, "b", "2");
+    assertEquality(variableState.getVariablesAsDocument(SCOPE), "{'a': 1, 'b': 2}");
+    transactionContext.getCurrentTransaction().rollback();
+    engine.onRollback();
+
+    // then
+    assertEquality(variableState.getVariablesAsDocument(SCOPE), "{'a': 1}");
+  }
+
+  private void replayVariableCreated(final long key, final String name, final String value) {
+    final var variable =
+        new VariableRecord()
+            .setScopeKey(SCOPE)
+            .setProcessInstanceKey(SCOPE)
+            .setProcessDefinitionKey(PROCESS_DEFINITION_KEY)
+            .setName(wrapString(name))
+            .setValue(asMsgPack(value));
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.VARIABLE)
+            .intent(VariableIntent.CREATED);
+    engine.replay(new MockTypedRecord<>(key, metadata, variable));
+  }
+}
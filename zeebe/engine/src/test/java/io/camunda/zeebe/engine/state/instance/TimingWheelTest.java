@@ -0,0 +1,283 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class TimingWheelTest {
+
+  private static final long TICK = 100;
+  private static final long NOW = 1_700_000_000_000L;
+
+  private final TimingWheel wheel = new TimingWheel(TICK);
+
+  @BeforeEach
+  void startWheel() {
+    wheel.visitDue(NOW, (key, dueDate, payload) -> true);
+  }
+
+  @Test
+  void shouldVisitDueEntriesOrderedByDueDateAndKey() {
+    // given
+    wheel.add(3, NOW + 200, 30);
+    wheel.add(1, NOW + 500, 10);
+    wheel.add(2, NOW + 200, 20);
+    wheel.add(4, NOW + 900, 40);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    final long nextDueDate = visitDue(NOW + 500, visited);
+
+    // then
+    assertThat(visited).containsExactly(2L, 3L, 1L);
+    assertThat(nextDueDate).isEqualTo(NOW + 900);
+  }
+
+  @Test
+  void shouldPassPayloadToVisitor() {
+    // given
+    wheel.add(1, NOW + 100, 42);
+
+    // when
+    final var payloads = new ArrayList<Long>();
+    wheel.visitDue(NOW + 100, (key, dueDate, payload) -> payloads.add(payload));
+
+    // then
+    assertThat(payloads).containsExactly(42L);
+  }
+
+  @Test
+  void shouldNotVisitEntriesDueLaterInSameTick() {
+    // given
+    wheel.add(1, NOW + 110, 0);
+    wheel.add(2, NOW + 150, 0);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    final long nextDueDate = visitDue(NOW + 120, visited);
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(NOW + 150);
+  }
+
+  @Test
+  void shouldCascadeEntriesOfHigherLevels() {
+    // given
+    final var dueDates =
+        List.of(
+            NOW + Duration.ofSeconds(3).toMillis(),
+            NOW + Duration.ofMinutes(3).toMillis(),
+            NOW + Duration.ofHours(3).toMillis(),
+            NOW + Duration.ofDays(3).toMillis(),
+            NOW + Duration.ofDays(300).toMillis());
+    for (int i = 0; i < dueDates.size(); i++) {
+      wheel.add(i, dueDates.get(i), 0);
+    }
+
+    // when - advance the wheel step by step
+    final var visited = new ArrayList<Long>();
+    final var nextDueDates = new ArrayList<Long>();
+    long timestamp = NOW;
+    while (timestamp > 0) {
+      final var visitedBefore = visited.size();
+      timestamp = visitDue(timestamp, visited);
+      if (visited.size() > visitedBefore) {
+        // remove visited entries, as the processing would do
+        visited.subList(visitedBefore, visited.size()).forEach(key -> remove(dueDates, key));
+      }
+      nextDueDates.add(timestamp);
+    }
+
+    // then
+    assertThat(visited).containsExactly(0L, 1L, 2L, 3L, 4L);
+    assertThat(nextDueDates).containsSubsequence(dueDates).endsWith(-1L);
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldVisitEntriesAfterLargeTimeJump() {
+    // given
+    wheel.add(1, NOW + Duration.ofDays(30).toMillis(), 0);
+    wheel.add(2, NOW + Duration.ofDays(400).toMillis(), 0);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    final long nextDueDate = visitDue(NOW + Duration.ofDays(31).toMillis(), visited);
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(NOW + Duration.ofDays(400).toMillis());
+  }
+
+  @Test
+  void shouldKeepVisitedEntriesUntilRemoved() {
+    // given
+    wheel.add(1, NOW + 100, 0);
+    visitDue(NOW + 100, new ArrayList<>());
+
+    // when
+    final var visitedAgain = new ArrayList<Long>();
+    visitDue(NOW + 200, visitedAgain);
+    wheel.remove(1, NOW + 100);
+    final var visitedAfterRemoval = new ArrayList<Long>();
+    final long nextDueDate = visitDue(NOW + 300, visitedAfterRemoval);
+
+    // then
+    assertThat(visitedAgain).containsExactly(1L);
+    assertThat(visitedAfterRemoval).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldRemoveEntriesBeforeTheyAreDue() {
+    // given
+    wheel.add(1, NOW + 100, 0);
+    wheel.add(2, NOW + Duration.ofMinutes(10).toMillis(), 0);
+    wheel.add(3, NOW + Duration.ofDays(100).toMillis(), 0);
+
+    // when
+    wheel.remove(1, NOW + 100);
+    wheel.remove(2, NOW + Duration.ofMinutes(10).toMillis());
+    wheel.remove(3, NOW + Duration.ofDays(100).toMillis());
+
+    // then
+    assertThat(wheel.size()).isZero();
+    assertThat(visitDue(NOW + Duration.ofDays(200).toMillis(), new ArrayList<>())).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldDistinguishEntriesByKeyAndDueDate() {
+    // given
+    wheel.add(1, NOW + 100, 0);
+    wheel.add(1, NOW + 200, 0);
+    wheel.add(1, NOW + 200, 0);
+
+    // when
+    wheel.remove(1, NOW + 100);
+
+    // then
+    final var visited = new ArrayList<Long>();
+    visitDue(NOW + 200, visited);
+    assertThat(visited).containsExactly(1L);
+    assertThat(wheel.size()).isOne();
+  }
+
+  @Test
+  void shouldStopWhenVisitorReturnsFalse() {
+    // given
+    wheel.add(1, NOW + 100, 0);
+    wheel.add(2, NOW + 200, 0);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    final long nextDueDate =
+        wheel.visitDue(
+            NOW + 200,
+            (key, dueDate, payload) -> {
+              visited.add(key);
+              return false;
+            });
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(NOW + 100);
+  }
+
+  @Test
+  void shouldVisitFromGivenEntry() {
+    // given
+    wheel.add(1, NOW + 100, 0);
+    wheel.add(2, NOW + 200, 0);
+    wheel.add(3, NOW + 200, 0);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    wheel.visitDue(NOW + 300, NOW + 200, 3, (key, dueDate, payload) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(3L);
+  }
+
+  @Test
+  void shouldVisitMoreEntriesThanBatchSize() {
+    // given
+    for (int key = 0; key < 1_000; key++) {
+      wheel.add(key, NOW + 100 + key, 0);
+    }
+
+    // when
+    final var visited = new ArrayList<Long>();
+    visitDue(NOW + 2_000, visited);
+
+    // then
+    assertThat(visited).hasSize(1_000).isSorted();
+  }
+
+  @Test
+  void shouldKeepEntriesAddedBeforeStart() {
+    // given
+    final var notStarted = new TimingWheel(TICK);
+    notStarted.add(1, NOW - 100, 0);
+    notStarted.add(2, NOW + 100, 0);
+
+    // when
+    final var visited = new ArrayList<Long>();
+    final long nextDueDate =
+        notStarted.visitDue(NOW, (key, dueDate, payload) -> visited.add(key));
+
+    // then
+    assertThat(visited).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(NOW + 100);
+  }
+
+  @Test
+  void shouldDropMissingEntryAfterGracePeriod() {
+    // given
+    wheel.add(1, NOW + 100, 0);
+
+    // when
+    wheel.markMissing(1, NOW + 100, NOW + 100);
+    final var sizeWithinGracePeriod = wheel.size();
+    wheel.markMissing(1, NOW + 100, NOW + 100 + Duration.ofMinutes(1).toMillis());
+
+    // then
+    assertThat(sizeWithinGracePeriod).isOne();
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldBeStaleUntilCleared() {
+    // given
+    final var newWheel = new TimingWheel(TICK);
+
+    // when
+    final var staleWhenCreated = newWheel.clearStale();
+    final var staleAfterClear = newWheel.clearStale();
+    newWheel.markStale();
+
+    // then
+    assertThat(staleWhenCreated).isTrue();
+    assertThat(staleAfterClear).isFalse();
+    assertThat(newWheel.clearStale()).isTrue();
+  }
+
+  private long visitDue(final long timestamp, final List<Long> visited) {
+    return wheel.visitDue(timestamp, (key, dueDate, payload) -> visited.add(key));
+  }
+
+  private void remove(final List<Long> dueDates, final long key) {
+    wheel.remove(key, dueDates.get((int) key));
+  }
+}
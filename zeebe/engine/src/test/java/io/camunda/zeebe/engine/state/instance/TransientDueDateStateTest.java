@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class TransientDueDateStateTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+
+  private final TransientDueDateState state = new TransientDueDateState();
+
+  @Test
+  void shouldRevertUncommittedChangesOnRollback() {
+    // given
+    state.add(state.timers(), 1, NOW, 10);
+    state.add(state.timers(), 2, NOW, 20);
+    state.onCommit();
+
+    // when
+    state.remove(state.timers(), 1, NOW, 10);
+    state.add(state.timers(), 3, NOW, 30);
+    state.onRollback();
+
+    // then
+    assertThat(visitDue(state.timers())).containsExactly(10L, 20L);
+  }
+
+  @Test
+  void shouldKeepCommittedChangesOnRollback() {
+    // given
+    state.add(state.jobDeadlines(), 1, NOW, 0);
+    state.remove(state.jobDeadlines(), 1, NOW, 0);
+    state.add(state.jobDeadlines(), 2, NOW, 0);
+    state.onCommit();
+
+    // when
+    state.onRollback();
+
+    // then
+    assertThat(state.jobDeadlines().size()).isOne();
+  }
+
+  @Test
+  void shouldNotRevertEntriesWhichExistedBefore() {
+    // given
+    state.add(state.jobBackoffs(), 1, NOW, 0);
+    state.onCommit();
+
+    // when -- the entry exists already, so it's not added by this transaction
+    state.add(state.jobBackoffs(), 1, NOW, 0);
+    state.onRollback();
+
+    // then
+    assertThat(state.jobBackoffs().size()).isOne();
+  }
+
+  @Test
+  void shouldNotMarkWheelsAsStaleOnRollback() {
+    // given
+    state.timers().clearStale();
+    state.add(state.timers(), 1, NOW, 10);
+
+    // when
+    state.onRollback();
+
+    // then
+    assertThat(state.timers().clearStale()).isFalse();
+  }
+
+  private static List<Long> visitDue(final TimingWheel wheel) {
+    final var payloads = new ArrayList<Long>();
+    wheel.visitDue(NOW, (key, dueDate, payload) -> payloads.add(payload));
+    return payloads;
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.variable;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.assertEquality;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.state.immutable.VariableState;
+import io.camunda.zeebe.engine.util.ProcessingStateExtension;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(ProcessingStateExtension.class)
+final class VariableCacheTest {
+
+  private static final long PROCESS_DEFINITION_KEY = 1;
+  private static final long ROOT = 10;
+  private static final long CHILD = 11;
+  private static final long GRANDCHILD = 12;
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+
+  private final VariableCache cache = new VariableCache(10);
+  private DbVariableState cachedState;
+  private DbVariableState uncachedState;
+
+  @BeforeEach
+  void setUp() {
+    cachedState = new DbVariableState(zeebeDb, transactionContext, cache);
+    uncachedState = new DbVariableState(zeebeDb, transactionContext);
+
+    cachedState.createScope(ROOT, VariableState.NO_PARENT);
+    cachedState.createScope(CHILD, ROOT);
+    cachedState.createScope(GRANDCHILD, CHILD);
+  }
+
+  @Test
+  void shouldCacheScopesWhenCollectingVariables() {
+    // given
+    setVariable(ROOT, "a", asMsgPack("1"));
+    setVariable(CHILD, "b", asMsgPack("2"));
+
+    // when
+    final var document = cachedState.getVariablesAsDocument(GRANDCHILD);
+
+    // then
+    assertEquality(document, "{'a': 1, 'b': 2}");
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get(GRANDCHILD).parentKey()).isEqualTo(CHILD);
+  }
+
+  @Test
+  void shouldUpdateCachedScopeWhenVariableIsSet() {
+    // given
+    setVariable(ROOT, "a", asMsgPack("1"));
+    setVariable(CHILD, "a", asMsgPack("2"));
+    cachedState.getVariablesAsDocument(GRANDCHILD);
+
+    // when
+    setVariable(CHILD, "a", asMsgPack("3"));
+    setVariable(GRANDCHILD, "b", asMsgPack("{'x': 4}"));
+
+    // then
+    assertEquality(cachedState.getVariablesAsDocument(GRANDCHILD), "{'a': 3, 'b': {'x': 4}}");
+    assertSameAsUncached(GRANDCHILD);
+  }
+
+  @Test
+  void shouldUpdateCachedScopeWhenVariablesAreRemoved() {
+    // given
+    setVariable(ROOT, "a", asMsgPack("1"));
+    setVariable(CHILD, "a", asMsgPack("2"));
+    cachedState.getVariablesAsDocument(CHILD);
+
+    // when
+    cachedState.removeAllVariables(CHILD);
+
+    // then
+    assertEquality(cachedState.getVariablesAsDocument(CHILD), "{'a': 1}");
+    assertEquality(cachedState.getVariablesLocalAsDocument(CHILD), "{}");
+  }
+
+  @Test
+  void shouldInvalidateCachedScopeWhenScopeIsRemoved() {
+    // given
+    setVariable(CHILD, "a", asMsgPack("1"));
+    cachedState.getVariablesAsDocument(GRANDCHILD);
+
+    // when
+    cachedState.removeScope(CHILD);
+
+    // then
+    assertThat(cache.get(CHILD)).isNull();
+    assertThat(cachedState.getParentScopeKey(CHILD)).isEqualTo(VariableState.NO_PARENT);
+  }
+
+  @Test
+  void shouldInvalidateCachedScopeWhenScopeIsCreated() {
+    // given
+    final long newScope = 20;
+    cachedState.getVariablesAsDocument(newScope);
+
+    // when
+    cachedState.createScope(newScope, ROOT);
+    setVariable(ROOT, "a", asMsgPack("1"));
+
+    // then
+    assertEquality(cachedState.getVariablesAsDocument(newScope), "{'a': 1}");
+    assertSameAsUncached(newScope);
+  }
+
+  @Test
+  void shouldCollectRequestedVariablesFromCache() {
+    // given
+    setVariable(ROOT, "a", asMsgPack("1"));
+    setVariable(ROOT, "b", asMsgPack("2"));
+    setVariable(CHILD, "b", asMsgPack("3"));
+    cachedState.getVariablesAsDocument(GRANDCHILD);
+    setVariable(ROOT, "c", asMsgPack("4"));
+
+    // when
+    final var document =
+        cachedState.getVariablesAsDocument(
+            GRANDCHILD, List.of(wrapString("b"), wrapString("c"), wrapString("d")));
+
+    // then
+    assertEquality(document, "{'b': 3, 'c': 4}");
+  }
+
+  @Test
+  void shouldGetVariableFromCache() {
+    // given
+    setVariable(ROOT, "a", asMsgPack("1"));
+    cachedState.getVariablesAsDocument(GRANDCHILD);
+
+    // when
+    setVariable(CHILD, "a", asMsgPack("2"));
+    final DirectBuffer value = cachedState.getVariable(GRANDCHILD, wrapString("a"));
+
+    // then
+    assertEquality(value, "2");
+    assertThat(cachedState.getVariable(GRANDCHILD, wrapString("b"))).isNull();
+  }
+
+  @Test
+  void shouldNotCacheLargeScope() {
+    // given
+    final var largeValue = asMsgPack("'" + "x".repeat(VariableCache.MAX_SCOPE_SIZE) + "'");
+    setVariable(CHILD, "large", largeValue);
+
+    // when
+    cachedState.getVariablesAsDocument(GRANDCHILD);
+
+    // then
+    assertThat(cache.get(CHILD)).isNull();
+    assertThat(cache.get(GRANDCHILD)).isNotNull();
+    assertSameAsUncached(GRANDCHILD);
+  }
+
+  @Test
+  void shouldInvalidateCachedScopeWhichGrowsTooLarge() {
+    // given
+    cachedState.getVariablesAsDocument(CHILD);
+
+    // when
+    setVariable(CHILD, "large", asMsgPack("'" + "x".repeat(VariableCache.MAX_SCOPE_SIZE) + "'"));
+
+    // then
+    assertThat(cache.get(CHILD)).isNull();
+    assertSameAsUncached(CHILD);
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedScope() {
+    // given
+    final var smallCache = new VariableCache(2);
+    final var state = new DbVariableState(zeebeDb, transactionContext, smallCache);
+
+    // when
+    state.getVariablesAsDocument(GRANDCHILD);
+
+    // then
+    assertThat(smallCache.size()).isEqualTo(2);
+    assertThat(smallCache.get(GRANDCHILD)).isNull();
+  }
+
+  @Test
+  void shouldReadVariablesAgainAfterClear() {
+    // given - a change which bypasses the cache, e.g. like a rolled back transaction
+    setVariable(ROOT, "a", asMsgPack("1"));
+    cachedState.getVariablesAsDocument(ROOT);
+    uncachedState.setVariableLocal(
+        2, ROOT, PROCESS_DEFINITION_KEY, wrapString("a"), asMsgPack("2"));
+
+    // when
+    cache.clear();
+
+    // then
+    assertEquality(cachedState.getVariablesAsDocument(ROOT), "{'a': 2}");
+  }
+
+  private void setVariable(final long scopeKey, final String name, final DirectBuffer value) {
+    cachedState.setVariableLocal(1, scopeKey, PROCESS_DEFINITION_KEY, wrapString(name), value);
+  }
+
+  private void assertSameAsUncached(final long scopeKey) {
+    final var expected = uncachedState.getVariablesAsDocument(scopeKey);
+    assertEquality(
+        cachedState.getVariablesAsDocument(scopeKey), MsgPackConverter.convertToJson(expected));
+  }
+}
@@ -18,6 +18,7 @@ package io.camunda.zeebe.exporter.api;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
 
 /**
  * Minimal interface to be implemented by concrete exporters.
@@ -73,4 +74,27 @@ public interface Exporter {
    * @param record the record to export
    */
   void export(Record<?> record);
+
+  /**
+   * Called with a batch of consecutive records, ordered by position, as an alternative to {@link
+   * #export(Record)}. Exporters which buffer records internally can override this method to handle
+   * all records of the batch at once. The default implementation exports each record of the batch
+   * through {@link #export(Record)}.
+   *
+   * <p>Exporters which do not override this method are still called record by record, such that a
+   * failure only causes the failing record to be exported again. If an exporter overrides this
+   * method and it throws an unexpected {@link RuntimeException}, the method will be called again
+   * with the records of the batch which were not acknowledged yet, until it terminates without any
+   * exception.
+   *
+   * <p>Like the single record, the records of the batch wrap buffers which are reused after this
+   * method returns. The list itself must not be modified, and must not be retained either.
+   *
+   * @param records the records to export, which contains at least one record
+   */
+  default void exportBatch(final List<Record<?>> records) {
+    for (final var record : records) {
+      export(record);
+    }
+  }
 }
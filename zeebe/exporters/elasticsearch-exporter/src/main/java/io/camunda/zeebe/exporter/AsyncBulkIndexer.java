@@ -0,0 +1,241 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+
+/**
+ * Buffers records in several bulk requests, which are flushed asynchronously. Records are assigned
+ * to a shard by their target index, which keeps all operations on the same document in order. Each
+ * shard has at most one bulk request in flight, and one which buffers the next records, and each
+ * of these requests is subject to the configured size and memory limits.
+ *
+ * <p>As requests may complete out of order, records can only be acknowledged up to the first
+ * record which is still buffered or in flight; see {@link #firstPendingRecord()}. A failed request
+ * is sent again as is, until it succeeds.
+ *
+ * <p>This class is not thread safe, and is meant to be used from the exporter actor only. The HTTP
+ * client completes the requests on its own threads, which is only observed through their futures.
+ */
+final class AsyncBulkIndexer {
+
+  private final ElasticsearchClient client;
+  private final Logger log;
+  private final Shard[] shards;
+
+  AsyncBulkIndexer(final ElasticsearchClient client, final int shardCount, final Logger log) {
+    this.client = client;
+    this.log = log;
+    shards = new Shard[shardCount];
+    for (int i = 0; i < shardCount; i++) {
+      shards[i] = new Shard();
+    }
+  }
+
+  /**
+   * Buffers the given record in the bulk request of the shard of its target index.
+   *
+   * @param record the record to index
+   * @param recordSequence the sequence number of the record
+   * @param metadata supplies the exporter metadata as it was before the given record was indexed;
+   *     only called if the record is the first of a new bulk request
+   */
+  void index(
+      final Record<?> record,
+      final RecordSequence recordSequence,
+      final Supplier<byte[]> metadata) {
+    final var action = client.indexActionFor(record);
+    final var shard = shards[Math.floorMod(action.index().hashCode(), shards.length)];
+    final boolean isFirstRecord = shard.buffer.isEmpty();
+    final byte[] metadataBeforeRecord = isFirstRecord ? metadata.get() : null;
+
+    shard.buffer.index(action, record, recordSequence);
+    if (isFirstRecord) {
+      shard.firstPosition = record.getPosition();
+      shard.firstMetadata = metadataBeforeRecord;
+    }
+  }
+
+  /**
+   * Sends the bulk requests of all shards which reached the size or memory limit. If such a shard
+   * has still a request in flight, waits for it to complete first, which applies back pressure to
+   * the exporter.
+   *
+   * @throws ElasticsearchExporterException if the request in flight of a full shard failed; the
+   *     failed request is sent again, and the shard is flushed on the next call
+   */
+  void flushFull() {
+    for (final var shard : shards) {
+      if (!client.shouldFlush(shard.buffer)) {
+        continue;
+      }
+
+      if (shard.inFlight != null) {
+        shard.inFlight.result().exceptionally(error -> null).join();
+      }
+      if (!completeInFlight(shard)) {
+        throw new ElasticsearchExporterException(
+            "Failed to flush full bulk request, as the previous request of its shard failed");
+      }
+
+      send(shard);
+    }
+  }
+
+  /**
+   * Completes the requests which are done, sends the failed ones again, and sends the non-empty
+   * bulk requests of all shards which have no request in flight.
+   */
+  void flush() {
+    for (final var shard : shards) {
+      if (completeInFlight(shard) && !shard.buffer.isEmpty()) {
+        send(shard);
+      }
+    }
+  }
+
+  /**
+   * Sends all buffered records, and waits until all requests in flight are done.
+   *
+   * @throws ElasticsearchExporterException if any request failed
+   */
+  void flushAndAwait() {
+    // a shard may have both a request in flight and buffered records, which can only be sent once
+    // the former completed; failed requests are retried once
+    flush();
+    awaitInFlight();
+    flush();
+    awaitInFlight();
+
+    for (final var shard : shards) {
+      if (shard.inFlight == null || !shard.inFlight.result().isCompletedExceptionally()) {
+        completeInFlight(shard);
+      }
+    }
+
+    if (firstPendingRecord() != null) {
+      throw new ElasticsearchExporterException("Failed to flush all bulk requests");
+    }
+  }
+
+  /**
+   * Returns the first record, by position, which is still buffered or in flight, or null if all
+   * records were flushed successfully. All records before it were flushed successfully.
+   */
+  PendingRecord firstPendingRecord() {
+    PendingRecord first = null;
+    for (final var shard : shards) {
+      // the request in flight always contains older records than the buffer of its shard
+      final PendingRecord pending;
+      if (shard.inFlight != null) {
+        pending = new PendingRecord(shard.inFlight.firstPosition(), shard.inFlight.firstMetadata());
+      } else if (!shard.buffer.isEmpty()) {
+        pending = new PendingRecord(shard.firstPosition, shard.firstMetadata);
+      } else {
+        continue;
+      }
+
+      if (first == null || pending.position() < first.position()) {
+        first = pending;
+      }
+    }
+
+    return first;
+  }
+
+  /** Returns the number of requests which are currently in flight. */
+  int inFlightRequests() {
+    int count = 0;
+    for (final var shard : shards) {
+      count += shard.inFlight != null ? 1 : 0;
+    }
+    return count;
+  }
+
+  private void awaitInFlight() {
+    for (final var shard : shards) {
+      if (shard.inFlight != null) {
+        shard.inFlight.result().exceptionally(error -> null).join();
+      }
+    }
+  }
+
+  /**
+   * Completes the request in flight of the given shard if it is done. A failed request is sent
+   * again.
+   *
+   * @return true if the shard has no request in flight anymore, false otherwise
+   */
+  private boolean completeInFlight(final Shard shard) {
+    final var inFlight = shard.inFlight;
+    if (inFlight == null) {
+      return true;
+    }
+
+    if (!inFlight.result().isDone()) {
+      return false;
+    }
+
+    if (inFlight.result().isCompletedExceptionally()) {
+      final var error = inFlight.result().handle((ok, e) -> e).join();
+      log.warn(
+          "Failed to flush bulk request with {} record(s), will retry",
+          inFlight.request().size(),
+          error);
+      shard.inFlight = inFlight.retry(client.flushAsync(inFlight.request()));
+      return false;
+    }
+
+    inFlight.request().clear();
+    shard.spare = inFlight.request();
+    shard.inFlight = null;
+    return true;
+  }
+
+  private void send(final Shard shard) {
+    final var request = shard.buffer;
+    shard.inFlight =
+        new InFlightRequest(
+            request, shard.firstPosition, shard.firstMetadata, client.flushAsync(request));
+
+    shard.buffer = shard.spare != null ? shard.spare : new BulkIndexRequest();
+    shard.spare = null;
+    shard.firstPosition = -1;
+    shard.firstMetadata = null;
+  }
+
+  /**
+   * A record which was not flushed yet.
+   *
+   * @param position the position of the record
+   * @param metadata the exporter metadata as it was before the record was indexed
+   */
+  record PendingRecord(long position, byte[] metadata) {}
+
+  private record InFlightRequest(
+      BulkIndexRequest request,
+      long firstPosition,
+      byte[] firstMetadata,
+      CompletableFuture<Void> result) {
+
+    private InFlightRequest retry(final CompletableFuture<Void> retryResult) {
+      return new InFlightRequest(request, firstPosition, firstMetadata, retryResult);
+    }
+  }
+
+  private static final class Shard {
+    private BulkIndexRequest buffer = new BulkIndexRequest();
+    private BulkIndexRequest spare;
+    private long firstPosition = -1;
+    private byte[] firstMetadata;
+    private InFlightRequest inFlight;
+  }
+}
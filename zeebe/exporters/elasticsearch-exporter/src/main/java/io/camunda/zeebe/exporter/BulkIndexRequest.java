@@ -9,31 +9,30 @@ package io.camunda.zeebe.exporter;
 
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.ValueType;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
 
 /**
- * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
- * avoid having to serialize it again on retry.
+ * Buffers indexing requests of records. Each bulk operation is serialized directly into the body
+ * of the bulk request when it is buffered, which avoids intermediate copies of the documents, and
+ * having to serialize them again on retry.
  */
 final class BulkIndexRequest implements ContentProducer {
 
-  private static final ObjectMapper MAPPER =
-      new ObjectMapper()
-          .addMixIn(Record.class, RecordSequenceMixin.class)
-          .enable(Feature.ALLOW_SINGLE_QUOTES);
-
-  // The property of the ES record template to store the sequence of the record.
-  private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+  private static final ObjectMapper MAPPER = new ObjectMapper().enable(Feature.ALLOW_SINGLE_QUOTES);
+  private static final RecordJsonWriter RECORD_WRITER = new RecordJsonWriter(MAPPER);
 
   private final List<BulkOperation> operations = new ArrayList<>();
+  private final BulkBody body = new BulkBody();
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
@@ -56,33 +55,32 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = body.size();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      MAPPER.writeValue(body, action);
+      body.write('\n');
+      sourceOffset = body.size();
+      RECORD_WRITER.write(body, record, recordSequence.sequence());
+      body.write('\n');
     } catch (final IOException e) {
+      // drop the partially written operation, such that the body stays valid
+      body.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
+    } catch (final RuntimeException e) {
+      body.truncate(operationOffset);
+      throw e;
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    final var command =
+        new BulkOperation(
+            action, record.getValueType(), recordSequence, body, sourceOffset, body.size() - 1);
+    memoryUsageBytes += command.sourceLength();
     lastIndexedMetadata = action;
     operations.add(command);
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
-      throws IOException {
-    return MAPPER
-        .writer()
-        // Enhance the serialized record by its sequence number. The sequence number is not a part
-        // of the record itself but a special property for Elasticsearch. It can be used to limit
-        // the number of records when reading from the index, for example, by using a range query.
-        // Read https://github.com/camunda/camunda/issues/10568 for details.
-        .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
-  }
-
   /** Returns the number of operations indexed so far. */
   int size() {
     return operations.size();
@@ -101,6 +99,7 @@ final class BulkIndexRequest implements ContentProducer {
   /** Clears the buffer entirely. */
   void clear() {
     operations.clear();
+    body.reset();
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -121,16 +120,44 @@ final class BulkIndexRequest implements ContentProducer {
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
+    body.writeTo(outStream);
+  }
+
+  /**
+   * A buffered operation. The source is a slice of the body of the bulk request, and is only valid
+   * until the request is cleared.
+   */
+  record BulkOperation(
+      BulkIndexAction metadata,
+      ValueType valueType,
+      RecordSequence recordSequence,
+      BulkBody body,
+      int sourceStart,
+      int sourceEnd) {
+
+    int sourceLength() {
+      return sourceEnd - sourceStart;
+    }
+
+    /** Returns a copy of the serialized record. */
+    byte[] source() {
+      return body.copyOfRange(sourceStart, sourceEnd);
     }
   }
 
-  record BulkOperation(BulkIndexAction metadata, byte[] source) {}
+  /** The nd-json body of the bulk request, which can be truncated after a failed write. */
+  static final class BulkBody extends ByteArrayOutputStream {
+
+    private BulkBody() {
+      super(32 * 1024);
+    }
+
+    private void truncate(final int size) {
+      count = size;
+    }
 
-  @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
-  private static final class RecordSequenceMixin {}
+    private byte[] copyOfRange(final int from, final int to) {
+      return Arrays.copyOfRange(buf, from, to);
+    }
+  }
 }
@@ -30,9 +30,12 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -82,16 +85,20 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   public void index(final Record<?> record, final RecordSequence recordSequence) {
+    bulkIndexRequest.index(indexActionFor(record), record, recordSequence);
+  }
+
+  /**
+   * Returns the bulk action to index the given record, which contains the target index of the
+   * record.
+   */
+  BulkIndexAction indexActionFor(final Record<?> record) {
     if (metrics == null) {
       metrics = new ElasticsearchMetrics(record.getPartitionId(), meterRegistry);
     }
 
-    final BulkIndexAction action =
-        new BulkIndexAction(
-            indexRouter.indexFor(record),
-            indexRouter.idFor(record),
-            indexRouter.routingFor(record));
-    bulkIndexRequest.index(action, record, recordSequence);
+    return new BulkIndexAction(
+        indexRouter.indexFor(record), indexRouter.idFor(record), indexRouter.routingFor(record));
   }
 
   /**
@@ -112,6 +119,7 @@ class ElasticsearchClient implements AutoCloseable {
           try {
             exportBulk();
 
+            publishExportedRecords(bulkIndexRequest);
             bulkIndexRequest.clear();
           } catch (final ElasticsearchExporterException e) {
             metrics.recordFailedFlush();
@@ -126,8 +134,68 @@ class ElasticsearchClient implements AutoCloseable {
    * @return true if {@link #flush()} should be called, false otherwise
    */
   public boolean shouldFlush() {
-    return bulkIndexRequest.memoryUsageBytes() >= configuration.bulk.memoryLimit
-        || bulkIndexRequest.size() >= configuration.bulk.size;
+    return shouldFlush(bulkIndexRequest);
+  }
+
+  /** Returns whether the given bulk request reached the configured size or memory limit. */
+  boolean shouldFlush(final BulkIndexRequest request) {
+    return request.memoryUsageBytes() >= configuration.bulk.memoryLimit
+        || request.size() >= configuration.bulk.size;
+  }
+
+  /**
+   * Sends the given bulk request to Elastic without waiting for the response. The request must not
+   * be modified until the returned future is completed.
+   *
+   * @return a future which is completed once all items of the bulk were flushed successfully, or
+   *     completed exceptionally with an {@link ElasticsearchExporterException} otherwise
+   */
+  CompletableFuture<Void> flushAsync(final BulkIndexRequest request) {
+    metrics.recordBulkSize(request.size());
+    metrics.recordBulkMemorySize(request.memoryUsageBytes());
+
+    final var result = new CompletableFuture<Void>();
+    final long startTime = System.nanoTime();
+    client.performRequestAsync(
+        createBulkRequest(request),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+              publishExportedRecords(request);
+              result.complete(null);
+            } catch (final IOException e) {
+              result.completeExceptionally(
+                  new ElasticsearchExporterException("Failed to flush bulk", e));
+            } catch (final ElasticsearchExporterException e) {
+              result.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            result.completeExceptionally(
+                new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+
+    return result.whenComplete(
+        (ok, error) -> {
+          metrics.recordFlushDuration(System.nanoTime() - startTime);
+          if (error != null) {
+            metrics.recordFailedFlush();
+          }
+        });
+  }
+
+  private void publishExportedRecords(final BulkIndexRequest request) {
+    if (configuration.publishExportedRecords) {
+      ExportedRecordsListeners.publish(request);
+    }
   }
 
   /**
@@ -158,12 +226,7 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
@@ -173,6 +236,14 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private Request createBulkRequest(final BulkIndexRequest bulkRequest) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulkRequest);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -249,7 +320,11 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
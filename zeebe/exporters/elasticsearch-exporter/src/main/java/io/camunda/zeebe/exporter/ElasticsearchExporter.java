@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -51,10 +52,12 @@ public class ElasticsearchExporter implements Exporter {
   private Controller controller;
   private ElasticsearchExporterConfiguration configuration;
   private ElasticsearchClient client;
+  private AsyncBulkIndexer asyncIndexer;
   private ElasticsearchRecordCounters recordCounters;
   private MeterRegistry registry;
 
   private long lastPosition = -1;
+  private long lastAcknowledgedPosition = -1;
   private boolean indexTemplatesCreated;
 
   @Override
@@ -75,6 +78,9 @@ public class ElasticsearchExporter implements Exporter {
   public void open(final Controller controller) {
     this.controller = controller;
     client = createClient();
+    if (configuration.bulk.maxInFlightRequests > 1) {
+      asyncIndexer = new AsyncBulkIndexer(client, configuration.bulk.maxInFlightRequests, log);
+    }
 
     recordCounters =
         controller
@@ -92,7 +98,11 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
+      if (asyncIndexer != null) {
+        asyncIndexer.flushAndAwait();
+      } else {
+        flush();
+      }
       updateLastExportedPosition();
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
@@ -115,6 +125,11 @@ public class ElasticsearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (asyncIndexer != null) {
+      exportAsync(record);
+      return;
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
@@ -133,6 +148,23 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  private void exportAsync(final Record<?> record) {
+    // a record is exported again only if flushing failed after it was indexed, in which case only
+    // the flush is retried
+    if (record.getPosition() > lastPosition) {
+      final var recordSequence = recordCounters.getNextRecordSequence(record);
+      asyncIndexer.index(
+          record,
+          recordSequence,
+          () -> serializeExporterMetadata(recordCounters.getRecordCounters()));
+      recordCounters.updateRecordCounters(record, recordSequence);
+      lastPosition = record.getPosition();
+    }
+
+    asyncIndexer.flushFull();
+    updateLastExportedPosition();
+  }
+
   private void validate(final ElasticsearchExporterConfiguration configuration) {
     if (configuration.index.prefix != null && configuration.index.prefix.contains("_")) {
       throw new ExporterException(
@@ -147,6 +179,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 1) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 1. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -202,18 +241,38 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void flush() {
-    client.flush();
+    if (asyncIndexer != null) {
+      asyncIndexer.flush();
+    } else {
+      client.flush();
+    }
   }
 
   private void updateLastExportedPosition() {
-    exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    final var pendingRecord = asyncIndexer != null ? asyncIndexer.firstPendingRecord() : null;
+    if (pendingRecord == null) {
+      acknowledgePosition(
+          lastPosition, serializeExporterMetadata(recordCounters.getRecordCounters()));
+    } else {
+      // requests may complete out of order, so only the records before the first one which was
+      // not flushed yet can be acknowledged, together with the record counters at that point
+      acknowledgePosition(pendingRecord.position() - 1, pendingRecord.metadata());
+    }
+  }
+
+  private void acknowledgePosition(final long position, final byte[] metadata) {
+    if (asyncIndexer != null && position <= lastAcknowledgedPosition) {
+      return;
+    }
+
+    controller.updateLastExportedRecordPosition(position, metadata);
+    lastAcknowledgedPosition = position;
   }
 
-  private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
+  private byte[] serializeExporterMetadata(final Map<ValueType, Long> recordCounters) {
+    exporterMetadata.setRecordCountersByValueType(recordCounters);
     try {
-      return exporterMetadataObjectMapper.writeValueAsBytes(metadata);
+      return exporterMetadataObjectMapper.writeValueAsBytes(exporterMetadata);
     } catch (final JsonProcessingException e) {
       throw new ElasticsearchExporterException("Failed to serialize exporter metadata", e);
     }
@@ -21,6 +21,12 @@ public class ElasticsearchExporterConfiguration {
   /** The request timeout for the elastic search client. The timeout unit is milliseconds. */
   public int requestTimeoutMs = 30_000;
 
+  /**
+   * Whether to publish the records written to Elasticsearch to the {@link ExportedRecordsListeners}
+   * of the JVM, e.g. to an Operate importer running in the same application.
+   */
+  public boolean publishExportedRecords = false;
+
   public final IndexConfiguration index = new IndexConfiguration();
   public final BulkConfiguration bulk = new BulkConfiguration();
   public final RetentionConfiguration retention = new RetentionConfiguration();
@@ -42,6 +48,8 @@ public class ElasticsearchExporterConfiguration {
         + '\''
         + ", requestTimeoutMs="
         + requestTimeoutMs
+        + ", publishExportedRecords="
+        + publishExportedRecords
         + ", index="
         + index
         + ", bulk="
@@ -318,6 +326,10 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulk requests in flight at the same time; with more than one, records are
+    // sharded by their target index onto that many bulk requests, which are flushed asynchronously
+    // and each of which respects the size and memory limits above
+    public int maxInFlightRequests = 1;
 
     @Override
     public String toString() {
@@ -328,6 +340,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
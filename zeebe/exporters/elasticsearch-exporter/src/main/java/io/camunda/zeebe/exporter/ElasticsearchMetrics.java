@@ -12,6 +12,7 @@ import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class ElasticsearchMetrics {
@@ -59,6 +60,10 @@ public class ElasticsearchMetrics {
     flushDuration.record(flushFunction);
   }
 
+  public void recordFlushDuration(final long durationNanos) {
+    flushDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+  }
+
   public void recordBulkSize(final int bulkSize) {
     this.bulkSize.record(bulkSize);
   }
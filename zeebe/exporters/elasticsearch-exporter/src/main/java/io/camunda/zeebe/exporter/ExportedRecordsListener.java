@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.protocol.record.ValueType;
+
+/**
+ * Is notified of the records which were written to Elasticsearch by an exporter of the same JVM,
+ * if the exporter is configured to publish them. This allows a co-located consumer of the records
+ * to pick them up without searching the indices.
+ *
+ * <p>Listeners are called on the threads which complete the bulk requests, after all records of
+ * the request were written successfully. Records of different requests can be published out of
+ * order, and records can be published again when a request is retried. Listeners must therefore
+ * be fast and idempotent, and must not rely on being notified of every record.
+ *
+ * @see ExportedRecordsListeners
+ */
+@FunctionalInterface
+public interface ExportedRecordsListener {
+
+  /**
+   * Called for each record which was written to Elasticsearch.
+   *
+   * @param partitionId the partition of the record
+   * @param valueType the value type of the record
+   * @param sequence the sequence of the record, as written to the index
+   * @param index the name of the index the record was written to
+   * @param document the record, as written to the index; it is shared between the listeners and
+   *     must not be modified
+   */
+  void onExported(
+      int partitionId, ValueType valueType, long sequence, String index, byte[] document);
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import io.camunda.zeebe.exporter.BulkIndexRequest.BulkOperation;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the {@link ExportedRecordsListener}s of the JVM. The exporter is instantiated by the
+ * broker, so a co-located application registers its listeners here instead of passing them to the
+ * exporter.
+ */
+public final class ExportedRecordsListeners {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ExportedRecordsListeners.class);
+  private static final List<ExportedRecordsListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+  private ExportedRecordsListeners() {}
+
+  public static void register(final ExportedRecordsListener listener) {
+    LISTENERS.add(listener);
+  }
+
+  public static void unregister(final ExportedRecordsListener listener) {
+    LISTENERS.remove(listener);
+  }
+
+  /** Publishes the records of the given bulk request, which was written successfully. */
+  static void publish(final BulkIndexRequest request) {
+    if (LISTENERS.isEmpty()) {
+      return;
+    }
+
+    for (final BulkOperation operation : request.bulkOperations()) {
+      final var sequence = operation.recordSequence();
+      final byte[] document = operation.source();
+      for (final ExportedRecordsListener listener : LISTENERS) {
+        try {
+          listener.onExported(
+              sequence.partitionId(),
+              operation.valueType(),
+              sequence.sequence(),
+              operation.metadata().index(),
+              document);
+        } catch (final RuntimeException e) {
+          LOGGER.warn("Failed to publish exported record to listener {}", listener, e);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.record.Record;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes records as JSON documents directly to an output stream. The record metadata is written
+ * field by field through a streaming generator, such that no intermediate document or byte array
+ * is created, and only the record value is serialized through data binding.
+ *
+ * <p>The resulting document is the same as the one produced by serializing the {@link Record}
+ * interface with an {@link ObjectMapper}, with the additional {@code sequence} property.
+ */
+final class RecordJsonWriter {
+
+  // The property of the ES record template to store the sequence of the record.
+  static final String RECORD_SEQUENCE_PROPERTY = "sequence";
+
+  private final ObjectMapper mapper;
+
+  RecordJsonWriter(final ObjectMapper mapper) {
+    this.mapper = mapper;
+  }
+
+  /**
+   * Writes the record as a JSON document to the given stream. The stream is neither flushed nor
+   * closed.
+   *
+   * @param output the stream to write to
+   * @param record the record to write
+   * @param sequence the sequence of the record, see {@link RecordSequence}
+   */
+  void write(final OutputStream output, final Record<?> record, final long sequence)
+      throws IOException {
+    try (final var generator = mapper.getFactory().createGenerator(output, JsonEncoding.UTF8)) {
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      write(generator, record, sequence);
+    }
+  }
+
+  private void write(final JsonGenerator generator, final Record<?> record, final long sequence)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("partitionId", record.getPartitionId());
+    generator.writeFieldName("value");
+    mapper.writeValue(generator, record.getValue());
+    generator.writeNumberField("key", record.getKey());
+    generator.writeNumberField("position", record.getPosition());
+    generator.writeNumberField("sourceRecordPosition", record.getSourceRecordPosition());
+    generator.writeNumberField("timestamp", record.getTimestamp());
+    writeEnumField(generator, "recordType", record.getRecordType());
+    writeEnumField(generator, "valueType", record.getValueType());
+    final var intent = record.getIntent();
+    generator.writeStringField("intent", intent == null ? null : intent.name());
+    writeEnumField(generator, "rejectionType", record.getRejectionType());
+    generator.writeStringField("rejectionReason", record.getRejectionReason());
+    generator.writeStringField("brokerVersion", record.getBrokerVersion());
+    generator.writeFieldName("authorizations");
+    mapper.writeValue(generator, record.getAuthorizations());
+    generator.writeNumberField("recordVersion", record.getRecordVersion());
+    generator.writeNumberField("operationReference", record.getOperationReference());
+    // Enhance the serialized record by its sequence number. The sequence number is not a part of
+    // the record itself but a special property for Elasticsearch. It can be used to limit the
+    // number of records when reading from the index, for example, by using a range query.
+    // Read https://github.com/camunda/camunda/issues/10568 for details.
+    generator.writeNumberField(RECORD_SEQUENCE_PROPERTY, sequence);
+    generator.writeEndObject();
+  }
+
+  private static void writeEnumField(
+      final JsonGenerator generator, final String name, final Enum<?> value) throws IOException {
+    generator.writeStringField(name, value == null ? null : value.name());
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.exporter.AsyncBulkIndexer.PendingRecord;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+final class AsyncBulkIndexerTest {
+
+  // with two shards, the index "a" is assigned to the second shard, and "b" to the first one
+  private static final String FIRST_INDEX = "a";
+  private static final String SECOND_INDEX = "b";
+
+  private final ProtocolFactory factory = new ProtocolFactory();
+  private final ElasticsearchClient client = mock(ElasticsearchClient.class);
+  private final List<BulkIndexRequest> sentRequests = new ArrayList<>();
+  private final List<CompletableFuture<Void>> results = new ArrayList<>();
+  private final AsyncBulkIndexer indexer =
+      new AsyncBulkIndexer(client, 2, LoggerFactory.getLogger(AsyncBulkIndexerTest.class));
+
+  @BeforeEach
+  void beforeEach() {
+    when(client.indexActionFor(any()))
+        .thenAnswer(
+            invocation -> {
+              final Record<?> record = invocation.getArgument(0);
+              final var index = record.getPosition() % 2 == 1 ? FIRST_INDEX : SECOND_INDEX;
+              return new BulkIndexAction(index, String.valueOf(record.getPosition()), "1");
+            });
+    when(client.flushAsync(any()))
+        .thenAnswer(
+            invocation -> {
+              final var result = new CompletableFuture<Void>();
+              sentRequests.add(invocation.getArgument(0));
+              results.add(result);
+              return result;
+            });
+  }
+
+  @Test
+  void shouldSendBulkRequestPerShard() {
+    // given
+    index(1);
+    index(2);
+    index(3);
+
+    // when
+    indexer.flush();
+
+    // then
+    assertThat(sentRequests).hasSize(2);
+    assertThat(sentRequests.get(0).bulkOperations())
+        .extracting(operation -> operation.metadata().index())
+        .containsOnly(SECOND_INDEX);
+    assertThat(sentRequests.get(1).bulkOperations())
+        .extracting(operation -> operation.metadata().index())
+        .containsExactly(FIRST_INDEX, FIRST_INDEX);
+    assertThat(indexer.inFlightRequests()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldOnlyAcknowledgeRecordsBeforeFirstPendingRecord() {
+    // given
+    index(1);
+    index(2);
+    indexer.flush();
+
+    // when
+    results.get(0).complete(null);
+    indexer.flush();
+
+    // then
+    assertThat(indexer.firstPendingRecord()).extracting(PendingRecord::position).isEqualTo(1L);
+
+    // when
+    results.get(1).complete(null);
+    indexer.flush();
+
+    // then
+    assertThat(indexer.firstPendingRecord()).isNull();
+    assertThat(indexer.inFlightRequests()).isZero();
+  }
+
+  @Test
+  void shouldKeepMetadataOfFirstRecordOfEachRequest() {
+    // given
+    final var metadataCalls = new AtomicInteger();
+    index(1, metadataCalls);
+    index(3, metadataCalls);
+    indexer.flush();
+
+    // when
+    index(5, metadataCalls);
+
+    // then
+    assertThat(metadataCalls).hasValue(2);
+    assertThat(indexer.firstPendingRecord().metadata()).containsExactly(1);
+  }
+
+  @Test
+  void shouldConsiderBufferedRecordsAsPending() {
+    // given
+    index(1);
+    indexer.flush();
+    index(3);
+
+    // when
+    results.get(0).complete(null);
+    indexer.flush();
+
+    // then
+    assertThat(indexer.firstPendingRecord()).extracting(PendingRecord::position).isEqualTo(3L);
+    assertThat(sentRequests).hasSize(2);
+  }
+
+  @Test
+  void shouldRetryFailedRequest() {
+    // given
+    index(1);
+    indexer.flush();
+
+    // when
+    results.get(0).completeExceptionally(new ElasticsearchExporterException("failure"));
+    indexer.flush();
+
+    // then
+    assertThat(sentRequests).hasSize(2);
+    assertThat(sentRequests.get(1)).isSameAs(sentRequests.get(0));
+    assertThat(sentRequests.get(1).size()).isOne();
+    assertThat(indexer.firstPendingRecord()).extracting(PendingRecord::position).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldFlushFullShardOncePreviousRequestCompleted() {
+    // given
+    when(client.shouldFlush(any())).thenAnswer(invocation -> hasRecords(invocation.getArgument(0)));
+    index(1);
+    indexer.flushFull();
+    index(3);
+    results.get(0).complete(null);
+
+    // when
+    indexer.flushFull();
+
+    // then
+    assertThat(sentRequests).hasSize(2);
+    assertThat(indexer.firstPendingRecord()).extracting(PendingRecord::position).isEqualTo(3L);
+  }
+
+  @Test
+  void shouldFailToFlushFullShardIfPreviousRequestFailed() {
+    // given
+    when(client.shouldFlush(any())).thenAnswer(invocation -> hasRecords(invocation.getArgument(0)));
+    index(1);
+    indexer.flushFull();
+    index(3);
+    results.get(0).completeExceptionally(new ElasticsearchExporterException("failure"));
+
+    // when - then
+    assertThatCode(indexer::flushFull).isInstanceOf(ElasticsearchExporterException.class);
+    assertThat(sentRequests).hasSize(2);
+    assertThat(sentRequests.get(1).size()).isOne();
+    assertThat(indexer.firstPendingRecord()).extracting(PendingRecord::position).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldFailToFlushAndAwaitIfRequestKeepsFailing() {
+    // given
+    index(1);
+    when(client.flushAsync(any()))
+        .thenReturn(CompletableFuture.failedFuture(new ElasticsearchExporterException("failure")));
+
+    // when - then
+    assertThatCode(indexer::flushAndAwait).isInstanceOf(ElasticsearchExporterException.class);
+    assertThat(indexer.firstPendingRecord()).extracting(PendingRecord::position).isEqualTo(1L);
+  }
+
+  @Test
+  void shouldFlushAndAwaitAllRecords() {
+    // given
+    when(client.flushAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+    index(1);
+    index(2);
+
+    // when
+    indexer.flushAndAwait();
+
+    // then
+    assertThat(indexer.firstPendingRecord()).isNull();
+  }
+
+  private boolean hasRecords(final BulkIndexRequest request) {
+    return !request.isEmpty();
+  }
+
+  private void index(final long position) {
+    index(position, new AtomicInteger());
+  }
+
+  private void index(final long position, final AtomicInteger metadataCalls) {
+    final Record<RecordValue> record = factory.generateRecord(b -> b.withPosition(position));
+    indexer.index(
+        record,
+        new RecordSequence(1, position),
+        () -> new byte[] {(byte) metadataCalls.incrementAndGet()});
+  }
+}
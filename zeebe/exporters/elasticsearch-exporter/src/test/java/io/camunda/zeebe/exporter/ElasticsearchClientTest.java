@@ -11,6 +11,7 @@ import static io.camunda.zeebe.exporter.ElasticsearchClient.buildPutIndexLifecyc
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -20,6 +21,9 @@ import static org.mockito.Mockito.when;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.zeebe.exporter.dto.BulkIndexResponse;
+import io.camunda.zeebe.exporter.dto.BulkIndexResponse.Error;
+import io.camunda.zeebe.exporter.dto.BulkIndexResponse.Index;
+import io.camunda.zeebe.exporter.dto.BulkIndexResponse.Item;
 import io.camunda.zeebe.exporter.dto.PutIndexTemplateResponse;
 import io.camunda.zeebe.exporter.dto.Template;
 import io.camunda.zeebe.protocol.jackson.ZeebeProtocolModule;
@@ -28,11 +32,15 @@ import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 import org.apache.http.entity.BasicHttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -130,9 +138,16 @@ final class ElasticsearchClientTest {
   }
 
   private <T> ArgumentCaptor<Request> mockClientResponse(final T content) throws IOException {
+    final var requestCaptor = ArgumentCaptor.forClass(Request.class);
+    final var response = mockResponse(content);
+    when(restClient.performRequest(requestCaptor.capture())).thenReturn(response);
+
+    return requestCaptor;
+  }
+
+  private <T> Response mockResponse(final T content) throws IOException {
     final var httpEntity = new BasicHttpEntity();
     final var serializedContent = MAPPER.writeValueAsBytes(content);
-    final var requestCaptor = ArgumentCaptor.forClass(Request.class);
     final var response = mock(Response.class);
 
     httpEntity.setContent(new ByteArrayInputStream(serializedContent));
@@ -140,9 +155,7 @@ final class ElasticsearchClientTest {
     httpEntity.setContentType("application/json");
 
     when(response.getEntity()).thenReturn(httpEntity);
-    when(restClient.performRequest(requestCaptor.capture())).thenReturn(response);
-
-    return requestCaptor;
+    return response;
   }
 
   @Nested
@@ -234,6 +247,62 @@ final class ElasticsearchClientTest {
       assertThat(bulkRequest.isEmpty()).isTrue();
     }
 
+    @Test
+    void shouldPublishExportedRecordsOnSuccess() throws IOException {
+      // given
+      config.publishExportedRecords = true;
+      mockClientResponse(new BulkIndexResponse(false, List.of()));
+      final var record = factory.generateRecord(ValueType.VARIABLE);
+      final var sequence = new RecordSequence(PARTITION_ID, 1);
+      final List<Long> publishedSequences = new CopyOnWriteArrayList<>();
+      final ExportedRecordsListener listener =
+          (partitionId, valueType, recordSequence, index, document) -> {
+            if (recordSequence == sequence.sequence()) {
+              assertThat(valueType).isEqualTo(ValueType.VARIABLE);
+              assertThat(index).isEqualTo(indexRouter.indexFor(record));
+              publishedSequences.add(recordSequence);
+            }
+          };
+      ExportedRecordsListeners.register(listener);
+
+      // when
+      try {
+        client.index(record, sequence);
+        client.flush();
+      } finally {
+        ExportedRecordsListeners.unregister(listener);
+      }
+
+      // then
+      assertThat(publishedSequences).containsExactly(sequence.sequence());
+    }
+
+    @Test
+    void shouldNotPublishExportedRecordsIfDisabled() throws IOException {
+      // given
+      mockClientResponse(new BulkIndexResponse(false, List.of()));
+      final var sequence = new RecordSequence(PARTITION_ID, 2);
+      final List<Long> publishedSequences = new CopyOnWriteArrayList<>();
+      final ExportedRecordsListener listener =
+          (partitionId, valueType, recordSequence, index, document) -> {
+            if (recordSequence == sequence.sequence()) {
+              publishedSequences.add(recordSequence);
+            }
+          };
+      ExportedRecordsListeners.register(listener);
+
+      // when
+      try {
+        client.index(factory.generateRecord(), sequence);
+        client.flush();
+      } finally {
+        ExportedRecordsListeners.unregister(listener);
+      }
+
+      // then
+      assertThat(publishedSequences).isEmpty();
+    }
+
     @Test
     void shouldNotClearBulkOnFailure() throws IOException {
       // given
@@ -248,5 +317,74 @@ final class ElasticsearchClientTest {
       // then
       assertThat(bulkRequest.size()).isEqualTo(1);
     }
+
+    @Test
+    void shouldCompleteAsyncFlush() throws IOException {
+      // given
+      final var response = mockResponse(new BulkIndexResponse(false, List.of()));
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onSuccess(response);
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(any(), any());
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var result = client.flushAsync(bulkRequest);
+
+      // then
+      assertThat(result).isCompleted();
+      assertThat(bulkRequest.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailAsyncFlushOnItemErrors() throws IOException {
+      // given
+      final var error = new Error("mapper_parsing_exception", "failed to parse");
+      final var response =
+          mockResponse(new BulkIndexResponse(true, List.of(new Item(new Index(400, error)))));
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onSuccess(response);
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(any(), any());
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var result = client.flushAsync(bulkRequest);
+
+      // then
+      assertThat(result)
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .withCauseInstanceOf(ElasticsearchExporterException.class)
+          .withMessageContaining("mapper_parsing_exception");
+    }
+
+    @Test
+    void shouldFailAsyncFlushOnRequestFailure() {
+      // given
+      doAnswer(
+              invocation -> {
+                invocation.<ResponseListener>getArgument(1).onFailure(new IOException("failure"));
+                return null;
+              })
+          .when(restClient)
+          .performRequestAsync(any(), any());
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      final var result = client.flushAsync(bulkRequest);
+
+      // then
+      assertThat(result)
+          .failsWithin(Duration.ZERO)
+          .withThrowableOfType(ExecutionException.class)
+          .withCauseInstanceOf(ElasticsearchExporterException.class);
+    }
   }
 }
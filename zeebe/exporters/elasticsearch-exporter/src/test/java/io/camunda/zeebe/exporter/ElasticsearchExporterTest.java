@@ -21,6 +21,7 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
 import io.camunda.zeebe.exporter.test.ExporterTestController;
@@ -31,6 +32,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -311,6 +313,45 @@ final class ElasticsearchExporterTest {
           .isInstanceOf(ElasticsearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldOnlyAcknowledgeContiguouslyFlushedRecordsWithConcurrentRequests() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      final var firstResult = new CompletableFuture<Void>();
+      final var secondResult = new CompletableFuture<Void>();
+      when(client.indexActionFor(any()))
+          .thenReturn(
+              new BulkIndexAction("first", "1-10", "1"),
+              new BulkIndexAction("second", "1-11", "1"));
+      when(client.shouldFlush(any(BulkIndexRequest.class))).thenReturn(true);
+      when(client.flushAsync(any())).thenReturn(firstResult, secondResult);
+      exporter.configure(context);
+      exporter.open(controller);
+      exporter.export(recordAtPosition(10L));
+      exporter.export(recordAtPosition(11L));
+
+      // when
+      secondResult.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(9L);
+
+      // when
+      firstResult.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(config.bulk.delay));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(11L);
+    }
+
+    private Record<?> recordAtPosition(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
   }
 
   @Nested
@@ -360,6 +401,16 @@ final class ElasticsearchExporterTest {
           .hasMessageContaining("Examples are: 'yyyy-MM-dd' or 'yyyy-MM-dd_HH'");
     }
 
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(ints = {-1, 0})
+    void shouldForbidNonPositiveMaxInFlightRequests(final int invalidMaxInFlightRequests) {
+      // given
+      config.bulk.maxInFlightRequests = invalidMaxInFlightRequests;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @Test
     void shouldForbidNegativeNumberOfReplicas() {
       // given
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.exporter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordValue;
+import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+final class RecordJsonWriterTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+  private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+      new TypeReference<>() {};
+
+  private final ProtocolFactory recordFactory = new ProtocolFactory();
+  private final RecordJsonWriter writer = new RecordJsonWriter(MAPPER);
+
+  @Test
+  void shouldWriteSameDocumentAsDataBinding() {
+    // given
+    final var records = recordFactory.generateForAllValueTypes().toList();
+    final var sequence = new RecordSequence(1, 10).sequence();
+
+    // when - then
+    assertThat(records)
+        .allSatisfy(
+            record ->
+                assertThat(readDocument(write(record, sequence)))
+                    .isEqualTo(expectedDocument(record, sequence)));
+  }
+
+  @Test
+  void shouldNotCloseOutputStream() throws IOException {
+    // given
+    final var output = new ByteArrayOutputStream();
+    writer.write(output, recordFactory.generateRecord(), 1);
+
+    // when
+    output.write('\n');
+
+    // then
+    assertThat(output.toString()).endsWith("}\n");
+  }
+
+  private byte[] write(final Record<RecordValue> record, final long sequence) {
+    final var output = new ByteArrayOutputStream();
+    try {
+      writer.write(output, record, sequence);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return output.toByteArray();
+  }
+
+  private Map<String, Object> expectedDocument(
+      final Record<RecordValue> record, final long sequence) {
+    try {
+      final var document = readDocument(MAPPER.writeValueAsBytes(record));
+      document.put(RecordJsonWriter.RECORD_SEQUENCE_PROPERTY, sequence);
+      return readDocument(MAPPER.writeValueAsBytes(document));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Map<String, Object> readDocument(final byte[] json) {
+    try {
+      return MAPPER.readValue(json, MAP_TYPE_REFERENCE);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -19,4 +19,15 @@ public class ExpressionLanguageFactory {
   public static ExpressionLanguage createExpressionLanguage(final FeelEngineClock feelEngineClock) {
     return new FeelExpressionLanguage(feelEngineClock);
   }
+
+  /**
+   * @param resolveReferencedVariablesOnly if true, only the variables which an expression
+   *     references are resolved from the evaluation context, instead of looking up every name the
+   *     FEEL engine asks for
+   * @return a new instance of the {@link ExpressionLanguage}
+   */
+  public static ExpressionLanguage createExpressionLanguage(
+      final FeelEngineClock feelEngineClock, final boolean resolveReferencedVariablesOnly) {
+    return new FeelExpressionLanguage(feelEngineClock, resolveReferencedVariablesOnly);
+  }
 }
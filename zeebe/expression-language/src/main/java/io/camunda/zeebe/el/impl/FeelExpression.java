@@ -8,18 +8,27 @@
 package io.camunda.zeebe.el.impl;
 
 import io.camunda.zeebe.el.Expression;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import org.camunda.feel.syntaxtree.Exp;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.PathExpression;
 import org.camunda.feel.syntaxtree.Ref;
+import scala.Product;
+import scala.collection.Iterable;
 
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Set<String> variableNames;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+
+    final var names = new HashSet<String>();
+    collectVariableNames(expression.expression(), names);
+    variableNames = Set.copyOf(names);
   }
 
   @Override
@@ -59,6 +68,35 @@ public final class FeelExpression implements Expression {
     return Optional.empty();
   }
 
+  /**
+   * Collects the names of all variables which are referenced by the given syntax tree, by walking
+   * all nested expressions. A reference to a nested property only needs the root variable, and
+   * names which are bound within the expression, e.g. by a for-loop, are collected as well, which
+   * is harmless, as they are resolved from the local context first.
+   */
+  private static void collectVariableNames(final Object node, final Set<String> names) {
+    if (node instanceof final Ref ref) {
+      names.add(ref.names().head());
+    } else if (node instanceof final Iterable<?> iterable) {
+      iterable.foreach(child -> collectChild(child, names));
+    } else if (node instanceof final Product product) {
+      product.productIterator().foreach(child -> collectChild(child, names));
+    }
+  }
+
+  private static Object collectChild(final Object child, final Set<String> names) {
+    collectVariableNames(child, names);
+    return null;
+  }
+
+  /**
+   * Returns the names of the variables which are referenced by this expression. Only these
+   * variables can be resolved from the evaluation context when the expression is evaluated.
+   */
+  public Set<String> getVariableNames() {
+    return variableNames;
+  }
+
   public ParsedExpression getParsedExpression() {
     return expression;
   }
@@ -42,8 +42,21 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       new FeelToMessagePackTransformer();
 
   private final FeelEngine feelEngine;
+  private final boolean resolveReferencedVariablesOnly;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
+    this(clock, false);
+  }
+
+  /**
+   * @param clock the clock used by the FEEL engine
+   * @param resolveReferencedVariablesOnly if true, expressions are evaluated in compiled mode, i.e.
+   *     only the variables which an expression references are resolved from the evaluation
+   *     context, each at most once per evaluation
+   */
+  public FeelExpressionLanguage(
+      final FeelEngineClock clock, final boolean resolveReferencedVariablesOnly) {
+    this.resolveReferencedVariablesOnly = resolveReferencedVariablesOnly;
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -108,7 +121,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final FeelExpression feelExpression) {
 
     final var parsedExpression = feelExpression.getParsedExpression();
-    final var feelContext = new FeelVariableContext(context);
+    final var feelContext =
+        resolveReferencedVariablesOnly
+            ? new ReferencedVariablesContext(context, feelExpression.getVariableNames())
+            : new FeelVariableContext(context);
 
     final var evaluationResult = feelEngine.evaluate(parsedExpression, feelContext);
 
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.context.CustomContext;
+import org.camunda.feel.context.VariableProvider;
+import scala.Option;
+import scala.collection.Iterable;
+import scala.collection.immutable.List$;
+
+/**
+ * A variable context which only resolves the variables that are referenced by the evaluated
+ * expression, as collected when the expression was parsed. Each variable is resolved at most once
+ * per evaluation, and lookups of any other name, e.g. of a built-in function, don't reach the
+ * evaluation context at all.
+ */
+final class ReferencedVariablesContext extends CustomContext {
+  private final EvaluationContext context;
+  private final Set<String> variableNames;
+  private final Map<String, DirectBuffer> resolvedVariables = new HashMap<>();
+
+  ReferencedVariablesContext(final EvaluationContext context, final Set<String> variableNames) {
+    this.context = context;
+    this.variableNames = variableNames;
+  }
+
+  @Override
+  public VariableProvider variableProvider() {
+    return new ReferencedVariablesProvider();
+  }
+
+  private DirectBuffer resolve(final String name) {
+    if (resolvedVariables.containsKey(name)) {
+      return resolvedVariables.get(name);
+    }
+
+    final var variable = context.getVariable(name);
+    // the buffer may be reused by the next lookup of the evaluation context
+    final var resolved =
+        variable == null || variable.capacity() == 0 ? null : cloneBuffer(variable);
+    resolvedVariables.put(name, resolved);
+    return resolved;
+  }
+
+  private final class ReferencedVariablesProvider implements VariableProvider {
+
+    @Override
+    public Option<Object> getVariable(final String name) {
+      if (!variableNames.contains(name)) {
+        return Option.empty();
+      }
+      return Option.<Object>apply(resolve(name));
+    }
+
+    @Override
+    public Iterable<String> keys() {
+      return List$.MODULE$.empty();
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.impl.FeelExpression;
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class CompiledFeelExpressionTest {
+
+  private final ExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new TestFeelEngineClock(), true);
+
+  @Test
+  public void shouldCollectReferencedVariableNames() {
+    // when
+    final var expression =
+        expressionLanguage.parseExpression("= x > 5 and count(items) > 2 and order.total > y");
+
+    // then
+    assertThat(expression).isInstanceOf(FeelExpression.class);
+    assertThat(((FeelExpression) expression).getVariableNames())
+        .contains("x", "y", "items", "order")
+        .doesNotContain("total", "count");
+  }
+
+  @Test
+  public void shouldResolveEachReferencedVariableOnce() {
+    // given
+    final var variables = Map.of("x", asMsgPack("7"), "y", asMsgPack("3"));
+    final List<String> lookups = new ArrayList<>();
+    final EvaluationContext context =
+        name -> {
+          lookups.add(name);
+          return variables.get(name);
+        };
+
+    // when
+    final var evaluationResult =
+        expressionLanguage.evaluateExpression(
+            expressionLanguage.parseExpression("= x > 5 and x < 10 and x + y = 10"), context);
+
+    // then
+    assertThat(evaluationResult.isFailure()).isFalse();
+    assertThat(evaluationResult.getBoolean()).isTrue();
+    assertThat(lookups).containsExactlyInAnyOrder("x", "y");
+  }
+
+  @Test
+  public void shouldEvaluateLikeDynamicResolution() {
+    // given
+    final var dynamicExpressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock());
+    final var variables =
+        Map.of(
+            "items", asMsgPack("[1, 2, 3]"),
+            "order", asMsgPack(Map.of("id", "order-1", "total", 10)));
+    final var expression =
+        "= {id: order.id, doubled: for i in items return i * order.total, missing: z}";
+
+    // when
+    final var compiledResult =
+        expressionLanguage.evaluateExpression(
+            expressionLanguage.parseExpression(expression), variables::get);
+    final var dynamicResult =
+        dynamicExpressionLanguage.evaluateExpression(
+            dynamicExpressionLanguage.parseExpression(expression), variables::get);
+
+    // then
+    assertThat(compiledResult.isFailure()).isFalse();
+    assertThat(compiledResult.toBuffer()).isEqualTo(dynamicResult.toBuffer());
+  }
+}
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import java.util.LinkedHashMap;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
@@ -19,17 +20,25 @@ import scala.Option;
 import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
+import scala.jdk.javaapi.CollectionConverters;
 
+/**
+ * A FEEL context of a MessagePack map. The entries of the map are only scanned on demand, until
+ * the requested entry is found, such that accessing a few properties of a large map doesn't
+ * require reading all of its keys. This relies on the keys of a map being unique, as in all
+ * documents written by the broker.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
   public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
+    final var entriesOffset = reader.getOffset() - bufferOffset;
+    reader.skipValues(2L * size);
     messagePackMap =
         cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, entriesOffset, size);
   }
 
   @Override
@@ -37,62 +46,78 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
-    }
-    return spans.result();
-  }
-
   record Span(int offset, int length) {}
 
   private static final class MessagePackMapVariableProvider implements VariableProvider {
     private final DirectBuffer entries;
     private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private final MsgPackReader reader = new MsgPackReader();
+    private final int size;
+    private final java.util.Map<String, Span> scannedSpans = new LinkedHashMap<>();
+    private int scannedEntries;
+    private int scanOffset;
 
     private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+        final DirectBuffer entries, final int entriesOffset, final int size) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
+      this.size = size;
+      scanOffset = entriesOffset;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      final var span = scanUntil(name);
+      if (span == null) {
+        return Option.empty();
+      }
+
+      resultView.wrap(entries, span.offset(), span.length());
+      return Option.<Object>apply(resultView);
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      scanUntil(null);
+      return CollectionConverters.asScala(scannedSpans.keySet());
     }
 
     @Override
     public Map<String, Object> getVariables() {
+      scanUntil(null);
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
+      scannedSpans.forEach(
+          (key, span) ->
               clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+                  new Tuple2<>(key, cloneBuffer(entries, span.offset(), span.length()))));
       return clonedMap.result();
     }
+
+    /**
+     * Returns the span of the entry with the given name, scanning the entries which were not
+     * scanned yet until it is found. If the name is null, all remaining entries are scanned.
+     */
+    private Span scanUntil(final String name) {
+      final var scannedSpan = name == null ? null : scannedSpans.get(name);
+      if (scannedSpan != null || scannedEntries == size) {
+        return scannedSpan;
+      }
+
+      reader.wrap(entries, scanOffset, entries.capacity() - scanOffset);
+      Span span = null;
+      while (span == null && scannedEntries < size) {
+        final var key = bufferAsString(reader.readToken().getValueBuffer());
+        final var valueOffset = reader.getOffset();
+        reader.skipValue();
+        final var entrySpan = new Span(scanOffset + valueOffset, reader.getOffset() - valueOffset);
+
+        scannedSpans.putIfAbsent(key, entrySpan);
+        scannedEntries++;
+        if (key.equals(name)) {
+          span = entrySpan;
+        }
+      }
+      scanOffset += reader.getOffset();
+      return span;
+    }
   }
 }
@@ -366,6 +366,7 @@ public final class Gateway implements CloseableSilently {
         .setLongPollingTimeout(gatewayCfg.getLongPolling().getTimeout())
         .setProbeTimeoutMillis(gatewayCfg.getLongPolling().getProbeTimeout())
         .setMinEmptyResponses(gatewayCfg.getLongPolling().getMinEmptyResponses())
+        .setTargetedActivation(gatewayCfg.getLongPolling().isTargetedActivation())
         .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
         .setNoJobsReceivedExceptionProvider(NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
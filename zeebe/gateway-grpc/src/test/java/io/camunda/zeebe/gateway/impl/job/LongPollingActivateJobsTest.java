@@ -10,6 +10,7 @@ package io.camunda.zeebe.gateway.impl.job;
 import static io.camunda.zeebe.test.util.TestUtil.waitUntil;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -947,6 +948,83 @@ public final class LongPollingActivateJobsTest {
     assertThat(brokerRequestValue.getErrorMessageBuffer()).isNotNull();
   }
 
+  @Test
+  public void shouldSkipEmptyPartitionsWithTargetedActivation() {
+    // given
+    handler = buildTargetedActivationHandler();
+    submitActorToActivateJobs(handler);
+    activateJobsAndWaitUntilBlocked(1);
+
+    // when
+    activateJobsAndWaitUntilBlocked(1);
+
+    // then
+    verify(activateJobsStub, times(partitionsCount)).handle(any());
+  }
+
+  @Test
+  public void shouldOnlyActivateOnNotifiedPartitionWithTargetedActivation() {
+    // given
+    handler = buildTargetedActivationHandler();
+    submitActorToActivateJobs(handler);
+    final InflightActivateJobsRequest<ActivateJobsResponse> request =
+        getLongPollingActivateJobsRequest();
+    handler.internalActivateJobsRetry(request);
+    waitUntil(request::hasScheduledTimer);
+
+    // when
+    activateJobsStub.addAvailableJobs(TYPE, 1);
+    brokerClient.notifyJobsAvailable(3, TYPE);
+    Awaitility.await().until(request::isCompleted);
+
+    // then
+    verify(activateJobsStub, times(partitionsCount + 1)).handle(any());
+    verify(activateJobsStub, times(2)).handle(argThat(r -> r.getPartitionId() == 3));
+    verify(request.getResponseObserver(), times(1)).onNext(any());
+  }
+
+  @Test
+  public void shouldActivateOnAllPartitionsAfterNotificationWithoutPartition() {
+    // given
+    handler = buildTargetedActivationHandler();
+    submitActorToActivateJobs(handler);
+    activateJobsAndWaitUntilBlocked(1);
+
+    // when
+    brokerClient.notifyJobsAvailable(TYPE);
+
+    // then
+    verify(activateJobsStub, timeout(2000).times(2 * partitionsCount)).handle(any());
+  }
+
+  @Test
+  public void shouldActivateOnEmptyPartitionsAgainOnProbe() {
+    // given
+    handler = buildTargetedActivationHandler();
+    submitActorToActivateJobs(handler);
+    activateJobsAndWaitUntilBlocked(1);
+
+    // when
+    actorClock.addTime(Duration.ofMillis(PROBE_TIMEOUT));
+
+    // then
+    verify(activateJobsStub, timeout(2000).times(2 * partitionsCount)).handle(any());
+  }
+
+  private LongPollingActivateJobsHandler<ActivateJobsResponse> buildTargetedActivationHandler() {
+    return LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
+        .setBrokerClient(brokerClient)
+        .setMaxMessageSize(MAX_MESSAGE_SIZE)
+        .setLongPollingTimeout(LONG_POLLING_TIMEOUT)
+        .setProbeTimeoutMillis(PROBE_TIMEOUT)
+        .setMinEmptyResponses(FAILED_RESPONSE_THRESHOLD)
+        .setTargetedActivation(true)
+        .setActivationResultMapper(ResponseMapper::toActivateJobsResponse)
+        .setNoJobsReceivedExceptionProvider(Gateway.NO_JOBS_RECEIVED_EXCEPTION_PROVIDER)
+        .setRequestCanceledExceptionProvider(Gateway.REQUEST_CANCELED_EXCEPTION_PROVIDER)
+        .build();
+  }
+
   private List<InflightActivateJobsRequest<ActivateJobsResponse>> activateJobsAndWaitUntilBlocked(
       final int amount) {
     return IntStream.range(0, amount)
@@ -16,6 +16,8 @@ public final class LongPollingCfg {
   private long probeTimeout = ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+  private boolean targetedActivation =
+      ConfigurationDefaults.DEFAULT_LONG_POLLING_TARGETED_ACTIVATION;
 
   public long getTimeout() {
     return timeout;
@@ -41,6 +43,14 @@ public final class LongPollingCfg {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public boolean isTargetedActivation() {
+    return targetedActivation;
+  }
+
+  public void setTargetedActivation(final boolean targetedActivation) {
+    this.targetedActivation = targetedActivation;
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -52,7 +62,7 @@ public final class LongPollingCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses);
+    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses, targetedActivation);
   }
 
   @Override
@@ -67,7 +77,8 @@ public final class LongPollingCfg {
     return enabled == that.enabled
         && timeout == that.timeout
         && probeTimeout == that.probeTimeout
-        && minEmptyResponses == that.minEmptyResponses;
+        && minEmptyResponses == that.minEmptyResponses
+        && targetedActivation == that.targetedActivation;
   }
 
   @Override
@@ -81,6 +92,8 @@ public final class LongPollingCfg {
         + probeTimeout
         + ", minEmptyResponses="
         + minEmptyResponses
+        + ", targetedActivation="
+        + targetedActivation
         + '}';
   }
 }
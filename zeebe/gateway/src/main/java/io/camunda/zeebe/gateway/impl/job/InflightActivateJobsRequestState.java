@@ -8,18 +8,35 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import io.camunda.zeebe.broker.client.impl.PartitionIdIterator;
+import java.util.List;
 
 public class InflightActivateJobsRequestState {
 
   private final PartitionIdIterator iterator;
+  private final List<String> tenantIds;
+  private final long lastNotification;
   private int remainingAmount;
   private boolean pollPrevPartition;
   private boolean resourceExhaustedWasPresent;
 
   public InflightActivateJobsRequestState(
       final PartitionIdIterator iterator, final int remainingAmount) {
+    this(iterator, remainingAmount, List.of(), 0);
+  }
+
+  /**
+   * @param tenantIds the tenants of the request, for which partitions may be known to be empty
+   * @param lastNotification the last jobs available notification before the request was started
+   */
+  public InflightActivateJobsRequestState(
+      final PartitionIdIterator iterator,
+      final int remainingAmount,
+      final List<String> tenantIds,
+      final long lastNotification) {
     this.iterator = iterator;
     this.remainingAmount = remainingAmount;
+    this.tenantIds = tenantIds;
+    this.lastNotification = lastNotification;
   }
 
   private boolean hasNextPartition() {
@@ -34,6 +51,14 @@ public class InflightActivateJobsRequestState {
     return pollPrevPartition ? iterator.getCurrentPartitionId() : iterator.next();
   }
 
+  public List<String> getTenantIds() {
+    return tenantIds;
+  }
+
+  public long getLastNotification() {
+    return lastNotification;
+  }
+
   public int getRemainingAmount() {
     return remainingAmount;
   }
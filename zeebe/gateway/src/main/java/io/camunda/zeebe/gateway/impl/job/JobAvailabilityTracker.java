@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps track of the partitions which are known to have no jobs of a type, such that job
+ * activations can skip them. A partition is known to be empty after it returned no jobs for an
+ * activation, until the brokers notify that jobs of the type are available again. Notifications
+ * which name the partition only make that partition available again, while notifications which
+ * contain only the job type make all partitions available again.
+ *
+ * <p>As notifications may get lost, a partition is only known to be empty for a limited time,
+ * after which it is polled again.
+ *
+ * <p>A partition is known to be empty per set of tenants, as an activation for some tenants says
+ * nothing about the jobs of other tenants.
+ */
+final class JobAvailabilityTracker {
+
+  private static final int ALL_PARTITIONS = -1;
+
+  private final AtomicLong notificationSequence = new AtomicLong();
+  private final Map<String, JobTypeAvailability> jobTypes = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final long ttlMillis;
+  private final LongPollingMetrics metrics;
+
+  /**
+   * @param enabled if false, partitions are never skipped, but empty polls are still counted
+   * @param ttlMillis the time after which a partition which returned no jobs is polled again
+   * @param metrics the metrics to count empty polls and skipped partitions
+   */
+  JobAvailabilityTracker(
+      final boolean enabled, final long ttlMillis, final LongPollingMetrics metrics) {
+    this.enabled = enabled;
+    this.ttlMillis = ttlMillis;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Returns the sequence number of the last notification received for the job type. It must be
+   * read before jobs are activated, and passed to {@link #onEmptyPoll(String, List, int, long,
+   * long)}, such that a notification which arrives while the activation is in flight is not
+   * overridden.
+   */
+  long getLastNotification(final String jobType) {
+    final var availability = jobTypes.get(jobType);
+    return availability == null ? 0 : availability.getLastNotification();
+  }
+
+  /**
+   * @return true if the partition returned no jobs of the type for the given tenants recently, and
+   *     no jobs were reported to be available since
+   */
+  boolean isKnownEmpty(
+      final String jobType, final List<String> tenantIds, final int partitionId, final long now) {
+    if (!enabled) {
+      return false;
+    }
+
+    final var availability = jobTypes.get(jobType);
+    final boolean isEmpty =
+        availability != null && availability.isEmpty(tenantIds, partitionId, now - ttlMillis);
+    if (isEmpty) {
+      metrics.countSkippedPartition(jobType);
+    }
+    return isEmpty;
+  }
+
+  /**
+   * Marks the partition as empty for the job type and tenants, unless jobs of the type were
+   * reported to be available since the activation was started.
+   *
+   * @param lastNotification the last notification before the activation was started
+   */
+  void onEmptyPoll(
+      final String jobType,
+      final List<String> tenantIds,
+      final int partitionId,
+      final long lastNotification,
+      final long now) {
+    metrics.countEmptyPoll(jobType);
+    if (enabled) {
+      jobTypes
+          .computeIfAbsent(jobType, type -> new JobTypeAvailability())
+          .markEmpty(tenantIds, partitionId, lastNotification, now);
+    }
+  }
+
+  /** Makes all partitions available again for the job type. */
+  void onJobsAvailable(final String jobType) {
+    onJobsAvailable(jobType, ALL_PARTITIONS);
+  }
+
+  /** Makes the partition available again for the job type. */
+  void onJobsAvailable(final String jobType, final int partitionId) {
+    if (enabled) {
+      jobTypes
+          .computeIfAbsent(jobType, type -> new JobTypeAvailability())
+          .markAvailable(partitionId, notificationSequence.incrementAndGet());
+    }
+  }
+
+  /**
+   * Removes the partitions which were empty for longer than the time to live, and the job types
+   * which have no empty partitions anymore.
+   */
+  void removeExpired(final long now) {
+    jobTypes.values().removeIf(availability -> availability.removeExpired(now - ttlMillis));
+  }
+
+  private static final class JobTypeAvailability {
+
+    private final Map<EmptyPartition, Long> emptySince = new HashMap<>();
+    private long lastNotification;
+
+    synchronized long getLastNotification() {
+      return lastNotification;
+    }
+
+    synchronized boolean isEmpty(
+        final List<String> tenantIds, final int partitionId, final long expiredBefore) {
+      final var since = emptySince.get(new EmptyPartition(partitionId, tenantIds));
+      return since != null && since > expiredBefore;
+    }
+
+    synchronized void markEmpty(
+        final List<String> tenantIds,
+        final int partitionId,
+        final long lastNotificationBefore,
+        final long now) {
+      if (lastNotificationBefore == lastNotification) {
+        emptySince.put(new EmptyPartition(partitionId, tenantIds), now);
+      }
+    }
+
+    synchronized void markAvailable(final int partitionId, final long notification) {
+      lastNotification = notification;
+      if (partitionId == ALL_PARTITIONS) {
+        emptySince.clear();
+      } else {
+        emptySince.keySet().removeIf(partition -> partition.partitionId() == partitionId);
+      }
+    }
+
+    /**
+     * @return true if no partition is known to be empty anymore
+     */
+    synchronized boolean removeExpired(final long expiredBefore) {
+      emptySince.values().removeIf(since -> since <= expiredBefore);
+      return emptySince.isEmpty();
+    }
+  }
+
+  private record EmptyPartition(int partitionId, List<String> tenantIds) {}
+}
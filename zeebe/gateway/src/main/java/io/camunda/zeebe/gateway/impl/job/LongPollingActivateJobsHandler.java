@@ -8,12 +8,14 @@
 package io.camunda.zeebe.gateway.impl.job;
 
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TARGETED_ACTIVATION;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_LONG_POLLING_TIMEOUT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
 import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
 
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.JobAvailableNotification;
 import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
@@ -34,7 +36,6 @@ import org.slf4j.Logger;
  */
 public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
   private static final Logger LOG = Loggers.LONG_POLLING;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -49,6 +50,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
   private final int failedAttemptThreshold;
 
   private final LongPollingMetrics metrics;
+  private final JobAvailabilityTracker availabilityTracker;
 
   private ActorControl actor;
 
@@ -60,18 +62,26 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final long longPollingTimeout,
       final long probeTimeoutMillis,
       final int failedAttemptThreshold,
+      final boolean targetedActivation,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> noJobsReceivedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
     this.brokerClient = brokerClient;
+    metrics = new LongPollingMetrics();
+    // partitions without jobs are polled again with the next probe, in case a notification got lost
+    availabilityTracker =
+        new JobAvailabilityTracker(targetedActivation, probeTimeoutMillis, metrics);
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            availabilityTracker);
     this.noJobsReceivedExceptionProvider = noJobsReceivedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
     this.failedAttemptThreshold = failedAttemptThreshold;
-    metrics = new LongPollingMetrics();
   }
 
   @Override
@@ -85,7 +95,9 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     actor.run(
         () -> {
           brokerClient.subscribeJobAvailableNotification(
-              JOBS_AVAILABLE_TOPIC, this::onJobAvailableNotification);
+              JobAvailableNotification.LEGACY_TOPIC, this::onJobAvailableNotification);
+          brokerClient.subscribeJobAvailableNotification(
+              JobAvailableNotification.TOPIC, this::onPartitionJobAvailableNotification);
           actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
         });
   }
@@ -286,9 +298,28 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
         });
   }
 
+  private void onPartitionJobAvailableNotification(final String message) {
+    JobAvailableNotification.decode(message)
+        .ifPresentOrElse(
+            notification -> {
+              LOG.trace(
+                  "Received jobs available notification for type {} on partition {}.",
+                  notification.jobType(),
+                  notification.partitionId());
+              availabilityTracker.onJobsAvailable(
+                  notification.jobType(), notification.partitionId());
+              handleJobAvailableNotification(notification.jobType());
+            },
+            () -> LOG.debug("Ignore malformed jobs available notification '{}'.", message));
+  }
+
   private void onJobAvailableNotification(final String jobType) {
     LOG.trace("Received jobs available notification for type {}.", jobType);
+    availabilityTracker.onJobsAvailable(jobType);
+    handleJobAvailableNotification(jobType);
+  }
 
+  private void handleJobAvailableNotification(final String jobType) {
     // instead of calling #getJobTypeState(), do only a
     // get to avoid the creation of a state instance.
     final var state = jobTypeState.get(jobType);
@@ -352,6 +383,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
 
   private void probe() {
     final long now = currentTimeMillis();
+    availabilityTracker.removeExpired(now);
     jobTypeState.forEach(
         (type, state) -> {
           if (state.getLastUpdatedTime() < (now - probeTimeoutMillis)) {
@@ -380,6 +412,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private long probeTimeoutMillis = DEFAULT_PROBE_TIMEOUT;
     // Minimum number of responses with jobCount 0 to infer that no jobs are available
     private int minEmptyResponses = DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+    private boolean targetedActivation = DEFAULT_LONG_POLLING_TARGETED_ACTIVATION;
     private Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
     private Function<String, Exception> noJobsReceivedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
@@ -409,6 +442,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setTargetedActivation(final boolean targetedActivation) {
+      this.targetedActivation = targetedActivation;
+      return this;
+    }
+
     public Builder<T> setActivationResultMapper(
         final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper) {
       this.activationResultMapper = activationResultMapper;
@@ -435,6 +473,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           longPollingTimeout,
           probeTimeoutMillis,
           minEmptyResponses,
+          targetedActivation,
           activationResultMapper,
           noJobsReceivedExceptionProvider,
           requestCanceledExceptionProvider);
@@ -21,6 +21,7 @@ import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.util.List;
 import java.util.Map;
@@ -28,6 +29,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
@@ -50,13 +52,33 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
+  private final JobAvailabilityTracker availabilityTracker;
 
   public RoundRobinActivateJobsHandler(
       final BrokerClient brokerClient,
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        null);
+  }
+
+  /**
+   * @param availabilityTracker tracks the partitions without jobs, which are skipped on activation;
+   *     if null, all partitions are polled
+   */
+  RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final JobAvailabilityTracker availabilityTracker) {
     this.brokerClient = brokerClient;
+    this.availabilityTracker = availabilityTracker;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
@@ -97,10 +119,26 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final BiConsumer<Integer, Boolean> onCompleted) {
     final var jobType = request.getType();
     final var maxJobsToActivate = request.getMaxJobsToActivate();
-    final var partitionIterator = partitionIdIteratorForType(jobType, partitionsCount);
 
-    final var requestState =
-        new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
+    final InflightActivateJobsRequestState requestState;
+    if (availabilityTracker == null) {
+      final var partitionIterator =
+          partitionIdIteratorForType(jobType, partitionsCount, partitionId -> true);
+      requestState = new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
+    } else {
+      final var tenantIds = request.getRequest().getRequestWriter().getTenantIds();
+      final var lastNotification = availabilityTracker.getLastNotification(jobType);
+      final var partitionIterator =
+          partitionIdIteratorForType(
+              jobType,
+              partitionsCount,
+              partitionId ->
+                  !availabilityTracker.isKnownEmpty(
+                      jobType, tenantIds, partitionId, ActorClock.currentTimeMillis()));
+      requestState =
+          new InflightActivateJobsRequestState(
+              partitionIterator, maxJobsToActivate, tenantIds, lastNotification);
+    }
     final var delegate = new ResponseObserverDelegate(onError, onCompleted);
 
     activateJobs(request, requestState, delegate);
@@ -196,6 +234,15 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
           final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
           final var shouldPollCurrentPartitionAgain = response.getTruncated();
 
+          if (!jobsActivated && !shouldPollCurrentPartitionAgain && availabilityTracker != null) {
+            availabilityTracker.onEmptyPoll(
+                request.getType(),
+                requestState.getTenantIds(),
+                requestState.getCurrentPartition(),
+                requestState.getLastNotification(),
+                ActorClock.currentTimeMillis());
+          }
+
           requestState.setRemainingAmount(remainingJobsToActivate);
           requestState.setPollPrevPartition(shouldPollCurrentPartitionAgain);
           activateJobs(request, requestState, delegate);
@@ -290,13 +337,14 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   }
 
   private PartitionIdIterator partitionIdIteratorForType(
-      final String jobType, final int partitionsCount) {
+      final String jobType, final int partitionsCount, final IntPredicate partitionFilter) {
     final var nextPartitionSupplier =
         jobTypeToNextPartitionId.computeIfAbsent(jobType, t -> new RoundRobinDispatchStrategy());
     return new PartitionIdIterator(
         nextPartitionSupplier.determinePartition(topologyManager),
         partitionsCount,
-        topologyManager);
+        topologyManager,
+        partitionFilter);
   }
 
   private record ResponseObserverDelegate(
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.metrics;
 
 import io.camunda.zeebe.util.VisibleForTesting;
+import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
 public final class LongPollingMetrics {
@@ -19,10 +20,36 @@ public final class LongPollingMetrics {
           .labelNames("type")
           .register();
 
+  private static final Counter EMPTY_POLLS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_empty_polls")
+          .help("Number of job activations on a partition which returned no jobs")
+          .labelNames("type")
+          .register();
+
+  private static final Counter SKIPPED_PARTITIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("long_polling_skipped_partitions")
+          .help(
+              "Number of partitions skipped when activating jobs, as they were known to have no"
+                  + " jobs of the type")
+          .labelNames("type")
+          .register();
+
   public void setBlockedRequestsCount(final String type, final int count) {
     REQUESTS_QUEUED_CURRENT.labels(type).set(count);
   }
 
+  public void countEmptyPoll(final String type) {
+    EMPTY_POLLS.labels(type).inc();
+  }
+
+  public void countSkippedPartition(final String type) {
+    SKIPPED_PARTITIONS.labels(type).inc();
+  }
+
   @VisibleForTesting("Allows introspecting the long polling state in QA tests")
   public double getBlockedRequestsCount(final String type) {
     return REQUESTS_QUEUED_CURRENT.labels(type).get();
@@ -16,6 +16,7 @@ import io.camunda.zeebe.broker.client.api.BrokerResponseConsumer;
 import io.camunda.zeebe.broker.client.api.BrokerResponseException;
 import io.camunda.zeebe.broker.client.api.BrokerTopologyManager;
 import io.camunda.zeebe.broker.client.api.IllegalBrokerResponseException;
+import io.camunda.zeebe.broker.client.api.JobAvailableNotification;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
 import io.camunda.zeebe.protocol.Protocol;
@@ -27,13 +28,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private final Map<String, Consumer<String>> jobsAvailableHandlers = new ConcurrentHashMap<>();
 
   private final Map<Class<?>, RequestHandler<?, ?>> requestHandlers = new HashMap<>();
 
@@ -123,7 +125,7 @@ public final class StubbedBrokerClient implements BrokerClient {
   @Override
   public void subscribeJobAvailableNotification(
       final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+    jobsAvailableHandlers.put(topic, handler);
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -133,7 +135,13 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    jobsAvailableHandlers.get(JobAvailableNotification.LEGACY_TOPIC).accept(type);
+  }
+
+  public void notifyJobsAvailable(final int partitionId, final String type) {
+    jobsAvailableHandlers
+        .get(JobAvailableNotification.TOPIC)
+        .accept(new JobAvailableNotification(partitionId, type).encode());
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
@@ -29,7 +29,18 @@ interface JournalIndex {
    * @param record the record that should be indexed
    * @param position the position of the given index
    */
-  void index(JournalRecord record, int position);
+  default void index(final JournalRecord record, final int position) {
+    index(record.index(), record.asqn(), position);
+  }
+
+  /**
+   * Indexes the given index, asqn and position with in a segment
+   *
+   * @param index the index of the record that should be indexed
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the given index
+   */
+  void index(long index, long asqn, int position);
 
   /**
    * Looks up the position of the given index.
@@ -79,6 +90,16 @@ interface JournalIndex {
   /** Delete all index mappings */
   void clear();
 
+  /**
+   * Visits all indexed entries with an index between the given bounds (both inclusive), in
+   * ascending order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called for each indexed entry
+   */
+  void forEach(long fromIndex, long toIndex, IndexedEntryVisitor visitor);
+
   /**
    * Checks if the entry at this index might have been already indexed. Note that the result is
    * probabilistic. If it returns true, it does not mean the lookup return exact index. If it
@@ -89,4 +110,15 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface IndexedEntryVisitor {
+
+    /**
+     * @param index the indexed record index
+     * @param position the position of the record within its segment
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+     */
+    void visit(long index, int position, long asqn);
+  }
 }
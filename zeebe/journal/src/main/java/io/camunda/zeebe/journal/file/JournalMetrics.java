@@ -15,11 +15,14 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import io.camunda.zeebe.journal.file.SegmentWriter.RecoveryMode;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Gauge.Timer;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
+import java.util.EnumMap;
+import java.util.Map;
 
 final class JournalMetrics {
   private static final String NAMESPACE = "atomix";
@@ -112,6 +115,16 @@ final class JournalMetrics {
           .buckets(0.0001, 0.001, .005, .01, .025, .05, .075, .1, .25, .5, .75, 1, 2.5, 5)
           .register();
 
+  private static final Counter SEGMENT_LOAD =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("journal_segment_load")
+          .help(
+              "Number of existing segments loaded when opening the journal, by recovery path "
+                  + "(index sidecar, last entry from the descriptor, or full scan)")
+          .labelNames(PARTITION_LABEL, "recovery")
+          .register();
+
   private final Histogram.Child segmentCreationTime;
   private final Histogram.Child segmentTruncateTime;
   private final Histogram.Child segmentFlushTime;
@@ -123,6 +136,7 @@ final class JournalMetrics {
   private final Counter.Child appendRate;
   private final Counter.Child appendDataRate;
   private final Child seekLatency;
+  private final Map<RecoveryMode, Counter.Child> segmentLoads = new EnumMap<>(RecoveryMode.class);
 
   JournalMetrics(final String partitionId) {
     segmentCreationTime = SEGMENT_CREATION_TIME.labels(partitionId);
@@ -136,6 +150,9 @@ final class JournalMetrics {
     appendRate = APPEND_RATE.labels(partitionId);
     appendDataRate = APPEND_DATA_RATE.labels(partitionId);
     seekLatency = SEEK_LATENCY.labels(partitionId);
+    for (final var mode : RecoveryMode.values()) {
+      segmentLoads.put(mode, SEGMENT_LOAD.labels(partitionId, mode.name().toLowerCase()));
+    }
   }
 
   void observeSegmentCreation(final Runnable segmentCreation) {
@@ -179,6 +196,10 @@ final class JournalMetrics {
     return appendLatency.startTimer();
   }
 
+  void observeSegmentLoad(final RecoveryMode recoveryMode) {
+    segmentLoads.get(recoveryMode).inc();
+  }
+
   Histogram.Timer observeSeekLatency() {
     return seekLatency.startTimer();
   }
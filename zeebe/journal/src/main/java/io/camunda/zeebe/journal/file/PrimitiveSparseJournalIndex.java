@@ -0,0 +1,328 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse {@link JournalIndex} backed by sorted primitive arrays instead of skip lists, which
+ * avoids boxing and allocating a node per indexed entry.
+ *
+ * <p>Records are mostly indexed in ascending index order (and ascending asqn order), so new entries
+ * are usually appended. Readers may still index older entries while seeking, in which case the
+ * entry is inserted at its sorted position. Lookups are binary searches, and truncation from either
+ * end only moves the bounds of the valid range. The arrays are compacted or grown lazily when
+ * inserting.
+ *
+ * <p>There is a single writer, but lookups may happen concurrently from readers. Lookups use
+ * optimistic reads, and only fall back to a read lock if a write happened concurrently.
+ */
+final class PrimitiveSparseJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 1024;
+  private static final int NOT_FOUND = -1;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // index => position, valid range is [head, tail)
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int head;
+  private int tail;
+
+  // asqn => index, valid range is [asqnHead, asqnTail); both arrays are sorted
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private int asqnHead;
+  private int asqnTail;
+
+  PrimitiveSparseJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      insertPosition(index, position);
+
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        insertAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    long stamp = lock.tryOptimisticRead();
+    IndexInfo result = lookupUnsafe(index);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        result = lookupUnsafe(index);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return result;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    long stamp = lock.tryOptimisticRead();
+    long result = lookupAsqnUnsafe(asqn, indexUpperBound);
+    if (!lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        result = lookupAsqnUnsafe(asqn, indexUpperBound);
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return result == NOT_FOUND ? null : result;
+  }
+
+  @Override
+  public void deleteAfter(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      tail = upperBound(indexes, head, tail, index);
+      asqnTail = upperBound(asqnIndexes, asqnHead, asqnTail, index);
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      head = upperBound(indexes, head, tail, index - 1);
+
+      // keep the last asqn entry before the index, so asqn lookups in the retained range still
+      // resolve, same as the skip list based index
+      final int floor = upperBound(asqnIndexes, asqnHead, asqnTail, index) - 1;
+      if (floor >= asqnHead) {
+        asqnHead = floor;
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      head = 0;
+      tail = 0;
+      asqnHead = 0;
+      asqnTail = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    final long stamp = lock.readLock();
+    try {
+      int asqnSlot = upperBound(asqnIndexes, asqnHead, asqnTail, fromIndex - 1);
+      for (int slot = upperBound(indexes, head, tail, fromIndex - 1);
+          slot < tail && indexes[slot] <= toIndex;
+          slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnTail && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final boolean hasAsqn = asqnSlot < asqnTail && asqnIndexes[asqnSlot] == index;
+        visitor.visit(
+            index, positions[slot], hasAsqn ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  /**
+   * Must be called either while holding the lock, or within an optimistic read which is validated
+   * afterwards. As the fields may be inconsistent in the latter case, the bounds are clamped to the
+   * arrays read, so the result may be wrong but the lookup never fails.
+   */
+  private IndexInfo lookupUnsafe(final long index) {
+    final long[] currentIndexes = indexes;
+    final int[] currentPositions = positions;
+    final int to = Math.min(tail, Math.min(currentIndexes.length, currentPositions.length));
+    final int from = Math.min(head, to);
+
+    final int slot = upperBound(currentIndexes, from, to, index) - 1;
+    if (slot < from) {
+      return null;
+    }
+
+    return new IndexInfo(currentIndexes[slot], currentPositions[slot]);
+  }
+
+  /** Same as {@link #lookupUnsafe(long)}, but for the asqn lookup. */
+  private long lookupAsqnUnsafe(final long asqn, final long indexUpperBound) {
+    final long[] currentAsqns = asqns;
+    final long[] currentAsqnIndexes = asqnIndexes;
+    final int to = Math.min(asqnTail, Math.min(currentAsqns.length, currentAsqnIndexes.length));
+    final int from = Math.min(asqnHead, to);
+
+    final int slot = upperBound(currentAsqns, from, to, asqn) - 1;
+    if (slot < from) {
+      return NOT_FOUND;
+    }
+
+    if (currentAsqnIndexes[slot] <= indexUpperBound) {
+      return currentAsqnIndexes[slot];
+    }
+
+    final int boundedSlot = upperBound(currentAsqnIndexes, from, to, indexUpperBound) - 1;
+    return boundedSlot < from ? NOT_FOUND : currentAsqnIndexes[boundedSlot];
+  }
+
+  /**
+   * @return the first slot in [from, to) whose value is greater than the given value, or {@code
+   *     to} if there is none
+   */
+  private static int upperBound(
+      final long[] values, final int from, final int to, final long value) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      if (values[middle] <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+
+    return low;
+  }
+
+  private void insertPosition(final long index, final int position) {
+    int slot = upperBound(indexes, head, tail, index - 1);
+    if (slot < tail && indexes[slot] == index) {
+      positions[slot] = position;
+      return;
+    }
+
+    slot -= ensurePositionCapacity();
+    if (slot < tail) {
+      System.arraycopy(indexes, slot, indexes, slot + 1, tail - slot);
+      System.arraycopy(positions, slot, positions, slot + 1, tail - slot);
+    }
+
+    indexes[slot] = index;
+    positions[slot] = position;
+    tail++;
+  }
+
+  private void insertAsqn(final long index, final long asqn) {
+    int slot = upperBound(asqnIndexes, asqnHead, asqnTail, index - 1);
+    if (slot < asqnTail && asqnIndexes[slot] == index) {
+      asqns[slot] = asqn;
+      return;
+    }
+
+    slot -= ensureAsqnCapacity();
+    if (slot < asqnTail) {
+      System.arraycopy(asqns, slot, asqns, slot + 1, asqnTail - slot);
+      System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnTail - slot);
+    }
+
+    asqns[slot] = asqn;
+    asqnIndexes[slot] = index;
+    asqnTail++;
+  }
+
+  /**
+   * Ensures there is space for at least one more entry after the tail.
+   *
+   * @return the number of slots by which all entries were shifted to the left
+   */
+  private int ensurePositionCapacity() {
+    if (tail < indexes.length) {
+      return 0;
+    }
+
+    final int shift = head;
+    final int size = tail - head;
+    if (head >= indexes.length / 2) {
+      // enough space was freed by compaction, so reuse the arrays
+      System.arraycopy(indexes, head, indexes, 0, size);
+      System.arraycopy(positions, head, positions, 0, size);
+    } else {
+      final int capacity = indexes.length * 2;
+      final long[] newIndexes = new long[capacity];
+      final int[] newPositions = new int[capacity];
+      System.arraycopy(indexes, head, newIndexes, 0, size);
+      System.arraycopy(positions, head, newPositions, 0, size);
+      indexes = newIndexes;
+      positions = newPositions;
+    }
+
+    head = 0;
+    tail = size;
+    return shift;
+  }
+
+  /** Same as {@link #ensurePositionCapacity()}, but for the asqn entries. */
+  private int ensureAsqnCapacity() {
+    if (asqnTail < asqns.length) {
+      return 0;
+    }
+
+    final int shift = asqnHead;
+    final int size = asqnTail - asqnHead;
+    if (asqnHead >= asqns.length / 2) {
+      System.arraycopy(asqns, asqnHead, asqns, 0, size);
+      System.arraycopy(asqnIndexes, asqnHead, asqnIndexes, 0, size);
+    } else {
+      final int capacity = asqns.length * 2;
+      final long[] newAsqns = new long[capacity];
+      final long[] newAsqnIndexes = new long[capacity];
+      System.arraycopy(asqns, asqnHead, newAsqns, 0, size);
+      System.arraycopy(asqnIndexes, asqnHead, newAsqnIndexes, 0, size);
+      asqns = newAsqns;
+      asqnIndexes = newAsqnIndexes;
+    }
+
+    asqnHead = 0;
+    asqnTail = size;
+    return shift;
+  }
+}
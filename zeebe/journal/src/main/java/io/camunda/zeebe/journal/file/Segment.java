@@ -63,13 +63,24 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final long lastWrittenAsqn,
       final JournalIndex index,
       final JournalMetrics metrics) {
+    this(file, descriptor, buffer, lastWrittenAsqn, index, metrics, null);
+  }
+
+  Segment(
+      final SegmentFile file,
+      final SegmentDescriptor descriptor,
+      final MappedByteBuffer buffer,
+      final long lastWrittenAsqn,
+      final JournalIndex index,
+      final JournalMetrics metrics,
+      final SegmentIndexSidecar sidecar) {
     this.file = file;
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
 
-    writer = createWriter(lastWrittenAsqn, metrics);
+    writer = new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics, sidecar);
   }
 
   /**
@@ -190,10 +201,6 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return reader;
   }
 
-  private SegmentWriter createWriter(final long lastWrittenAsqn, final JournalMetrics metrics) {
-    return new SegmentWriter(buffer, this, index, lastWrittenAsqn, metrics);
-  }
-
   /**
    * Removes the reader from this segment.
    *
@@ -234,6 +241,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Deletes the segment. */
   void delete() {
     open = false;
+    deleteIndexSidecar();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -284,6 +292,31 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.updateIfCurrentVersion(buffer);
   }
 
+  /**
+   * Persists the index entries of this segment in its sidecar, so the segment does not need to be
+   * scanned on the next start up. Should only be called once the segment is sealed, i.e. no more
+   * entries will be appended to it. Does nothing if the index may not contain all entries of the
+   * segment, e.g. if the writer skipped to the last entry on load.
+   */
+  void writeIndexSidecar() {
+    if (!writer.isIndexedFromStart()) {
+      return;
+    }
+
+    SegmentIndexSidecar.write(
+        file.file().toPath(),
+        descriptor,
+        writer.getLastIndex(),
+        writer.getLastEntryPosition(),
+        writer.getLastAsqn(),
+        index);
+  }
+
+  /** Deletes the index sidecar, e.g. because the segment is truncated and not sealed anymore. */
+  void deleteIndexSidecar() {
+    SegmentIndexSidecar.delete(file.file().toPath());
+  }
+
   void resetLastEntryInDescriptor() {
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
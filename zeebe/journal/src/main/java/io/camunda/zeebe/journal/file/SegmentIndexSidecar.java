@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.file.JournalIndex.IndexedEntryVisitor;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A compact copy of the journal index entries of a sealed segment, stored next to the segment
+ * file. When a segment is loaded on start up, a valid sidecar lets us restore the index entries and
+ * the writer's last entry without scanning the whole segment.
+ *
+ * <p>The sidecar is written without flushing it, and is never trusted blindly: it is only used if
+ * its checksum is valid, it belongs to the same segment (id and first index), and the segment's
+ * last entry is exactly where the sidecar says it is. Otherwise, the segment is scanned as before.
+ *
+ * <p>Layout (little endian): magic (int), version (byte), segment id (long), first index (long),
+ * last index (long), last position (int), last asqn (long), entry count (int), entries of index
+ * (long), position (int) and asqn (long), and finally a CRC32C checksum (long) of everything
+ * before it.
+ */
+final class SegmentIndexSidecar {
+
+  static final String EXTENSION = ".idx";
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexSidecar.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final int MAGIC = 0x5A4A4958;
+  private static final byte VERSION = 1;
+
+  private static final int MAGIC_OFFSET = 0;
+  private static final int VERSION_OFFSET = MAGIC_OFFSET + Integer.BYTES;
+  private static final int SEGMENT_ID_OFFSET = VERSION_OFFSET + Byte.BYTES;
+  private static final int FIRST_INDEX_OFFSET = SEGMENT_ID_OFFSET + Long.BYTES;
+  private static final int LAST_INDEX_OFFSET = FIRST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_ASQN_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int ENTRY_COUNT_OFFSET = LAST_ASQN_OFFSET + Long.BYTES;
+  private static final int HEADER_LENGTH = ENTRY_COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final DirectBuffer buffer;
+  private final int entryCount;
+
+  private SegmentIndexSidecar(final DirectBuffer buffer, final int entryCount) {
+    this.buffer = buffer;
+    this.entryCount = entryCount;
+  }
+
+  long lastIndex() {
+    return buffer.getLong(LAST_INDEX_OFFSET, ENDIANNESS);
+  }
+
+  int lastPosition() {
+    return buffer.getInt(LAST_POSITION_OFFSET, ENDIANNESS);
+  }
+
+  long lastAsqn() {
+    return buffer.getLong(LAST_ASQN_OFFSET, ENDIANNESS);
+  }
+
+  void forEach(final IndexedEntryVisitor visitor) {
+    for (int i = 0; i < entryCount; i++) {
+      final int offset = HEADER_LENGTH + i * ENTRY_LENGTH;
+      visitor.visit(
+          buffer.getLong(offset, ENDIANNESS),
+          buffer.getInt(offset + Long.BYTES, ENDIANNESS),
+          buffer.getLong(offset + Long.BYTES + Integer.BYTES, ENDIANNESS));
+    }
+  }
+
+  static Path pathOf(final Path segmentFile) {
+    return segmentFile.resolveSibling(segmentFile.getFileName() + EXTENSION);
+  }
+
+  /**
+   * Writes the index entries of the given segment into its sidecar, replacing any previous one.
+   * Failing to write the sidecar is not an error, as the segment can always be scanned instead.
+   */
+  static void write(
+      final Path segmentFile,
+      final SegmentDescriptor descriptor,
+      final long lastIndex,
+      final int lastPosition,
+      final long lastAsqn,
+      final JournalIndex index) {
+    final var content = new ExpandableArrayBuffer(HEADER_LENGTH + CHECKSUM_LENGTH);
+    content.putInt(MAGIC_OFFSET, MAGIC, ENDIANNESS);
+    content.putByte(VERSION_OFFSET, VERSION);
+    content.putLong(SEGMENT_ID_OFFSET, descriptor.id(), ENDIANNESS);
+    content.putLong(FIRST_INDEX_OFFSET, descriptor.index(), ENDIANNESS);
+    content.putLong(LAST_INDEX_OFFSET, lastIndex, ENDIANNESS);
+    content.putInt(LAST_POSITION_OFFSET, lastPosition, ENDIANNESS);
+    content.putLong(LAST_ASQN_OFFSET, lastAsqn, ENDIANNESS);
+
+    final var writer = new EntryWriter(content);
+    index.forEach(descriptor.index(), lastIndex, writer);
+    content.putInt(ENTRY_COUNT_OFFSET, writer.count, ENDIANNESS);
+
+    final int checksumOffset = writer.offset;
+    content.putLong(checksumOffset, checksum(content, checksumOffset), ENDIANNESS);
+
+    final var sidecar = pathOf(segmentFile);
+    try (final var channel =
+        FileChannel.open(
+            sidecar,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final var bytes = ByteBuffer.wrap(content.byteArray(), 0, checksumOffset + CHECKSUM_LENGTH);
+      while (bytes.hasRemaining()) {
+        channel.write(bytes);
+      }
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to write index sidecar {}, the segment will be scanned on the next start up",
+          sidecar,
+          e);
+      delete(segmentFile);
+    }
+  }
+
+  /**
+   * @return the sidecar of the given segment, or null if there is none or it is not valid
+   */
+  static SegmentIndexSidecar read(final Path segmentFile, final SegmentDescriptor descriptor) {
+    final var sidecar = pathOf(segmentFile);
+    final byte[] content;
+    try {
+      content = Files.readAllBytes(sidecar);
+    } catch (final NoSuchFileException e) {
+      return null;
+    } catch (final IOException e) {
+      LOG.debug("Failed to read index sidecar {}, the segment will be scanned", sidecar, e);
+      return null;
+    }
+
+    final var buffer = new UnsafeBuffer(content);
+    if (content.length < HEADER_LENGTH + CHECKSUM_LENGTH
+        || buffer.getInt(MAGIC_OFFSET, ENDIANNESS) != MAGIC
+        || buffer.getByte(VERSION_OFFSET) != VERSION) {
+      LOG.debug("Index sidecar {} has an unknown format, the segment will be scanned", sidecar);
+      return null;
+    }
+
+    final int entryCount = buffer.getInt(ENTRY_COUNT_OFFSET, ENDIANNESS);
+    final long expectedLength = HEADER_LENGTH + (long) entryCount * ENTRY_LENGTH + CHECKSUM_LENGTH;
+    if (entryCount < 0 || expectedLength != content.length) {
+      LOG.debug("Index sidecar {} is truncated, the segment will be scanned", sidecar);
+      return null;
+    }
+
+    final int checksumOffset = content.length - CHECKSUM_LENGTH;
+    if (checksum(buffer, checksumOffset) != buffer.getLong(checksumOffset, ENDIANNESS)) {
+      LOG.debug("Index sidecar {} is corrupted, the segment will be scanned", sidecar);
+      return null;
+    }
+
+    if (buffer.getLong(SEGMENT_ID_OFFSET, ENDIANNESS) != descriptor.id()
+        || buffer.getLong(FIRST_INDEX_OFFSET, ENDIANNESS) != descriptor.index()) {
+      LOG.debug("Index sidecar {} belongs to another segment, it will be ignored", sidecar);
+      return null;
+    }
+
+    return new SegmentIndexSidecar(buffer, entryCount);
+  }
+
+  static void delete(final Path segmentFile) {
+    final var sidecar = pathOf(segmentFile);
+    try {
+      Files.deleteIfExists(sidecar);
+    } catch (final IOException e) {
+      LOG.warn(
+          "Failed to delete index sidecar {}; it will be validated and ignored on start up",
+          sidecar,
+          e);
+    }
+  }
+
+  static boolean isSidecarFile(final String journalName, final String fileName) {
+    return fileName.endsWith(EXTENSION)
+        && SegmentFile.isSegmentFile(
+            journalName, fileName.substring(0, fileName.length() - EXTENSION.length()));
+  }
+
+  private static long checksum(final DirectBuffer buffer, final int length) {
+    final var crc = new CRC32C();
+    crc.update(buffer.byteArray(), 0, length);
+    return crc.getValue();
+  }
+
+  private static final class EntryWriter implements IndexedEntryVisitor {
+    private final MutableDirectBuffer buffer;
+    private int offset = HEADER_LENGTH;
+    private int count;
+
+    private EntryWriter(final MutableDirectBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void visit(final long index, final int position, final long asqn) {
+      buffer.putLong(offset, index, ENDIANNESS);
+      buffer.putInt(offset + Long.BYTES, position, ENDIANNESS);
+      buffer.putLong(offset + Long.BYTES + Integer.BYTES, asqn, ENDIANNESS);
+      offset += ENTRY_LENGTH;
+      count++;
+    }
+  }
+}
@@ -80,7 +80,8 @@ final class SegmentLoader {
           e);
     }
 
-    return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+    return loadSegment(
+        segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex, null);
   }
 
   UninitializedSegment createUninitializedSegment(
@@ -127,7 +128,12 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
-      return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      final var sidecar = SegmentIndexSidecar.read(segmentFile, descriptor);
+      final var segment =
+          loadSegment(
+              segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex, sidecar);
+      metrics.observeSegmentLoad(segment.writer().recoveryMode());
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
@@ -140,9 +146,11 @@ final class SegmentLoader {
       final MappedByteBuffer buffer,
       final SegmentDescriptor descriptor,
       final long lastWrittenAsqn,
-      final JournalIndex journalIndex) {
+      final JournalIndex journalIndex,
+      final SegmentIndexSidecar sidecar) {
     final SegmentFile segmentFile = new SegmentFile(file.toFile());
-    return new Segment(segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics);
+    return new Segment(
+        segmentFile, descriptor, buffer, lastWrittenAsqn, journalIndex, metrics, sidecar);
   }
 
   private MappedByteBuffer mapSegment(final FileChannel channel, final long segmentSize)
@@ -59,13 +59,17 @@ final class SegmentWriter {
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
+  private final RecoveryMode recoveryMode;
+  // true if all entries of the segment went through the index since it was loaded or created
+  private boolean indexedFromStart;
 
   SegmentWriter(
       final MappedByteBuffer buffer,
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final SegmentIndexSidecar sidecar) {
     this.segment = segment;
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
@@ -77,21 +81,39 @@ final class SegmentWriter {
     lastAsqn = lastWrittenAsqn;
     lastEntryPosition = segment.descriptor().lastPosition();
     this.metrics = metrics;
-    if (lastEntryPosition > 0) {
+    if (sidecar != null && restoreFromSidecar(sidecar)) {
+      LOG.trace(
+          "Restored index and lastIndex {} of segment {} from its index sidecar",
+          sidecar.lastIndex(),
+          segment.id());
+      recoveryMode = RecoveryMode.SIDECAR;
+    } else if (lastEntryPosition > 0) {
       LOG.trace(
           "Found lastEntryPosition {} and lastIndex {} in descriptor.",
           lastEntryPosition,
           segment.descriptor().lastIndex());
       // jump to last entry
-      jumpToLastEntry(lastEntryPosition, segment.descriptor().lastIndex());
+      recoveryMode =
+          jumpToLastEntry(lastEntryPosition, segment.descriptor().lastIndex())
+              ? RecoveryMode.DESCRIPTOR
+              : RecoveryMode.SCAN;
     } else {
       LOG.trace(
           "Found not info about last entry in descriptor. Scanning the segment to reset the writer.");
       // iterate over all entries
       reset(0, false);
+      recoveryMode = RecoveryMode.SCAN;
     }
   }
 
+  RecoveryMode recoveryMode() {
+    return recoveryMode;
+  }
+
+  boolean isIndexedFromStart() {
+    return indexedFromStart;
+  }
+
   long getLastIndex() {
     return lastEntry != null ? lastEntry.index() : segment.index() - 1;
   }
@@ -301,7 +323,66 @@ final class SegmentWriter {
     FrameUtil.markAsIgnored(buffer, position);
   }
 
-  private void jumpToLastEntry(final int lastPosition, final long lastIndex) {
+  /**
+   * Restores the writer from the sidecar, if the segment's last entry is exactly where the sidecar
+   * expects it; only then are the sidecar's index entries trusted and added to the index.
+   *
+   * @return true if the writer was restored, false if the segment must be loaded otherwise
+   */
+  private boolean restoreFromSidecar(final SegmentIndexSidecar sidecar) {
+    final long lastIndex = sidecar.lastIndex();
+    final int lastPosition = sidecar.lastPosition();
+    if (!isLastEntryAt(lastPosition, lastIndex)) {
+      // undo whatever was read, so the segment can be loaded as if there was no sidecar
+      lastEntry = null;
+      lastEntryPosition = segment.descriptor().lastPosition();
+      lastAsqn = firstAsqn - 1;
+      return false;
+    }
+
+    updateLastAsqn(sidecar.lastAsqn());
+    sidecar.forEach(
+        (indexedIndex, position, asqn) -> {
+          if (indexedIndex >= firstIndex
+              && indexedIndex <= lastIndex
+              && position >= descriptorLength
+              && position <= lastPosition) {
+            index.index(indexedIndex, asqn, position);
+          }
+        });
+    indexedFromStart = true;
+    return true;
+  }
+
+  private boolean isLastEntryAt(final int lastPosition, final long lastIndex) {
+    if (lastIndex < firstIndex || lastPosition < descriptorLength) {
+      return false;
+    }
+
+    try {
+      buffer.position(lastPosition);
+      buffer.mark();
+      if (!FrameUtil.hasValidVersion(buffer)) {
+        return false;
+      }
+
+      advanceToNextEntry(lastIndex);
+      // if there are entries after the sealed last entry, the sidecar is stale
+      return !FrameUtil.hasValidVersion(buffer);
+    } catch (final Exception e) {
+      LOG.trace(
+          "Failed to read last entry at position {} of the index sidecar, ignoring the sidecar",
+          lastPosition,
+          e);
+      return false;
+    }
+  }
+
+  /**
+   * @return true if the writer jumped to the last entry, false if it fell back to scanning the
+   *     whole segment
+   */
+  private boolean jumpToLastEntry(final int lastPosition, final long lastIndex) {
     try {
       buffer.position(lastPosition);
       buffer.mark();
@@ -310,6 +391,7 @@ final class SegmentWriter {
         // be a corruption or a race condition between updating the description and flushing the
         // segment. To simplify the handling, we switch to scanning the whole segment.
         reset(0, false);
+        return false;
       } else {
         // Here normally we expect to jump to last entry directly. But to handle the case where new
         // entries where written after descriptor was updated, iterate until the end.
@@ -318,6 +400,8 @@ final class SegmentWriter {
           advanceToNextEntry(nextIndex);
           nextIndex++;
         }
+        indexedFromStart = false;
+        return true;
       }
     } catch (final Exception e) {
       /*
@@ -332,6 +416,7 @@ final class SegmentWriter {
           lastPosition,
           e);
       reset(0, false);
+      return false;
     }
   }
 
@@ -348,6 +433,7 @@ final class SegmentWriter {
 
   private void reset(final long index, final boolean detectCorruption) {
     long nextIndex = firstIndex;
+    indexedFromStart = true;
 
     buffer.position(descriptorLength);
     buffer.mark();
@@ -407,4 +493,14 @@ final class SegmentWriter {
       invalidateNextEntry(buffer.position());
     }
   }
+
+  /** How the writer found the last entry of an existing segment when it was loaded. */
+  enum RecoveryMode {
+    /** The index entries and last entry were restored from the segment's index sidecar */
+    SIDECAR,
+    /** The writer jumped to the last entry referenced by the segment descriptor */
+    DESCRIPTOR,
+    /** The whole segment was scanned */
+    SCAN
+  }
 }
@@ -32,6 +32,7 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PRIMITIVE_JOURNAL_INDEX = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +44,7 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean primitiveJournalIndex = DEFAULT_PRIMITIVE_JOURNAL_INDEX;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -126,6 +128,19 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of skip lists. This
+   * reduces the memory footprint and the allocation rate of the index, especially with a low index
+   * density.
+   *
+   * @param primitiveJournalIndex true to use the primitive array based index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPrimitiveJournalIndex(final boolean primitiveJournalIndex) {
+    this.primitiveJournalIndex = primitiveJournalIndex;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -162,7 +177,10 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        primitiveJournalIndex
+            ? new PrimitiveSparseJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
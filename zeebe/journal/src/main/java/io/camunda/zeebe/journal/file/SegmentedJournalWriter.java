@@ -113,6 +113,8 @@ final class SegmentedJournalWriter {
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
     // the old truncated entry.
     currentSegment.resetLastEntryInDescriptor();
+    // The segment is not sealed anymore, and its sidecar would reference the truncated entries
+    currentSegment.deleteIndexSidecar();
     // Truncate down to the current index, such that the last index is `index`, and the next index
     // `index + 1`
     currentWriter.truncate(index);
@@ -127,6 +129,7 @@ final class SegmentedJournalWriter {
 
   private void createNewSegment() {
     currentSegment.updateDescriptor();
+    currentSegment.writeIndexSidecar();
     currentSegment = segments.getNextSegment();
     currentWriter = currentSegment.writer();
   }
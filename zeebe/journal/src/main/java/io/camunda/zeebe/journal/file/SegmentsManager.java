@@ -314,6 +314,7 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    deleteOrphanedIndexSidecars();
   }
 
   private void prepareNextSegment() {
@@ -442,6 +443,7 @@ final class SegmentsManager implements AutoCloseable {
 
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
+      SegmentIndexSidecar.delete(file.toPath());
       try {
         Files.delete(file.toPath());
       } catch (final IOException e) {
@@ -484,6 +486,32 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  /**
+   * Deletes index sidecars whose segment does not exist anymore, e.g. because the node stopped
+   * after deleting the segment but before deleting its sidecar.
+   */
+  private void deleteOrphanedIndexSidecars() {
+    try (final DirectoryStream<Path> sidecars =
+        Files.newDirectoryStream(
+            directory.toPath(),
+            path -> SegmentIndexSidecar.isSidecarFile(name, path.getFileName().toString()))) {
+      for (final Path sidecar : sidecars) {
+        final var fileName = sidecar.getFileName().toString();
+        final var segmentFile =
+            sidecar.resolveSibling(
+                fileName.substring(0, fileName.length() - SegmentIndexSidecar.EXTENSION.length()));
+        if (!Files.exists(segmentFile)) {
+          deleteDeferredFile(sidecar);
+        }
+      }
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete orphaned index sidecars in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
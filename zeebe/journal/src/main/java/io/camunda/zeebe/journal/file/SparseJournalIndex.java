@@ -15,7 +15,6 @@
  */
 package io.camunda.zeebe.journal.file;
 
-import io.camunda.zeebe.journal.JournalRecord;
 import java.util.Map;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -35,11 +34,9 @@ final class SparseJournalIndex implements JournalIndex {
   }
 
   @Override
-  public void index(final JournalRecord indexedEntry, final int position) {
-    final long index = indexedEntry.index();
+  public void index(final long index, final long asqn, final int position) {
     if (index % density == 0) {
       indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
         asqnToIndex.put(asqn, index);
         indexToAsqn.put(index, asqn);
@@ -102,6 +99,15 @@ final class SparseJournalIndex implements JournalIndex {
     asqnToIndex.clear();
   }
 
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    for (final var entry : indexToPosition.subMap(fromIndex, true, toIndex, true).entrySet()) {
+      final Long asqn = indexToAsqn.get(entry.getKey());
+      visitor.visit(
+          entry.getKey(), entry.getValue(), asqn != null ? asqn : SegmentedJournal.ASQN_IGNORE);
+    }
+  }
+
   @Override
   public boolean hasIndexed(final long index) {
     final var indexInfo = lookup(index);
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/** Runs the sparse journal index tests against the primitive array based index. */
+final class PrimitiveSparseJournalIndexTest extends SparseJournalIndexTest {
+
+  @Override
+  JournalIndex createIndex(final int density) {
+    return new PrimitiveSparseJournalIndex(density);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = createIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(1).position()).isEqualTo(2);
+    assertThat(index.lookup(5_000).position()).isEqualTo(10_000);
+    assertThat(index.lookup(20_000).index()).isEqualTo(10_000);
+    assertThat(index.lookupAsqn(50_005)).isEqualTo(5_000);
+  }
+
+  @Test
+  void shouldReuseSpaceFreedByCompaction() {
+    // given
+    final JournalIndex index = createIndex(1);
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(9_000);
+    for (int i = 10_001; i <= 20_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertThat(index.lookup(8_999)).isNull();
+    assertThat(index.lookup(9_000).position()).isEqualTo(18_000);
+    assertThat(index.lookup(15_000).position()).isEqualTo(30_000);
+    assertThat(index.lookupAsqn(200_000)).isEqualTo(20_000);
+  }
+
+  @Test
+  void shouldReplaceEntriesWhenReindexingTruncatedRange() {
+    // given
+    final JournalIndex index = createIndex(2);
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i), i * 2);
+    }
+    index.deleteAfter(5);
+
+    // when
+    index.index(asJournalRecord(6, 60), 100);
+
+    // then
+    assertThat(index.lookup(10).index()).isEqualTo(6);
+    assertThat(index.lookup(10).position()).isEqualTo(100);
+    assertThat(index.lookupAsqn(60)).isEqualTo(6);
+    assertThat(index.lookupAsqn(59)).isEqualTo(4);
+  }
+}
@@ -31,6 +31,7 @@ import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -421,6 +422,7 @@ class SegmentedJournalTest {
 
     // when
     journal.close();
+    deleteIndexSidecars();
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -431,6 +433,82 @@ class SegmentedJournalTest {
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldRestoreIndexMappingsOfSealedSegmentsFromSidecar() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var indexBeforeRestart = journal.getJournalIndex();
+    final var firstPosition = indexBeforeRestart.lookup(firstIndex);
+    final var secondPosition = indexBeforeRestart.lookup(secondIndex);
+
+    // when
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final var indexAfterRestart = journal.getJournalIndex();
+    assertThat(journal.getFirstSegment().writer().recoveryMode())
+        .isEqualTo(SegmentWriter.RecoveryMode.SIDECAR);
+    assertThat(indexAfterRestart.lookup(firstIndex)).isEqualTo(firstPosition);
+    assertThat(indexAfterRestart.lookup(secondIndex)).isEqualTo(secondPosition);
+    assertThat(indexAfterRestart.lookupAsqn(1)).isEqualTo(firstIndex);
+    assertThat(journal.getFirstSegment().lastAsqn()).isEqualTo(2);
+    assertThat(journal.append(4, journalFactory.entry()).index()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldDeleteSidecarWhenTruncatingSealedSegment() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    final var firstSegmentFile = journal.getFirstSegment().file().file().toPath();
+    assertThat(SegmentIndexSidecar.pathOf(firstSegmentFile)).exists();
+
+    // when
+    journal.deleteAfter(firstIndex);
+
+    // then
+    assertThat(SegmentIndexSidecar.pathOf(firstSegmentFile)).doesNotExist();
+    journal.append(4, journalFactory.entry());
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+    assertThat(journal.getLastIndex()).isEqualTo(2);
+    assertThat(journal.getFirstSegment().writer().recoveryMode())
+        .isNotEqualTo(SegmentWriter.RecoveryMode.SIDECAR);
+  }
+
+  @Test
+  void shouldIgnoreCorruptedSidecar() throws Exception {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    journal.append(1, journalFactory.entry());
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+    final var sidecar =
+        SegmentIndexSidecar.pathOf(journal.getFirstSegment().file().file().toPath());
+    journal.close();
+
+    // when
+    final var content = Files.readAllBytes(sidecar);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(sidecar, content);
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getFirstSegment().writer().recoveryMode())
+        .isNotEqualTo(SegmentWriter.RecoveryMode.SIDECAR);
+    assertThat(journal.getFirstSegment().lastIndex()).isEqualTo(secondIndex);
+    assertThat(journal.getLastIndex()).isEqualTo(3);
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -915,6 +993,17 @@ class SegmentedJournalTest {
         .hasMessage("Nope, no free space.");
   }
 
+  private void deleteIndexSidecars() {
+    final File[] sidecars =
+        directory
+            .resolve("data")
+            .toFile()
+            .listFiles(file -> SegmentIndexSidecar.isSidecarFile(JOURNAL_NAME, file.getName()));
+    for (final File sidecar : Objects.requireNonNull(sidecars)) {
+      assertThat(sidecar.delete()).isTrue();
+    }
+  }
+
   private SegmentedJournal openJournal(final int entriesPerSegment) {
     return openJournal("test", entriesPerSegment);
   }
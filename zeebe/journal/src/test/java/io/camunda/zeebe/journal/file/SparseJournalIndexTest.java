@@ -30,7 +30,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldNotFindIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     final IndexInfo position = index.lookup(1);
@@ -43,10 +43,14 @@ class SparseJournalIndexTest {
     return new TestJournalRecord(index, asqn, 0, null, null);
   }
 
+  JournalIndex createIndex(final int density) {
+    return new SparseJournalIndex(density);
+  }
+
   @Test
   void shouldFindIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -64,7 +68,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindLowerIndexWhenNotReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -86,7 +90,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindNextIndexWhenReachedDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 1), 2);
     index.index(asJournalRecord(2, 2), 4);
@@ -110,7 +114,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -138,7 +142,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldTruncateCompleteIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -169,7 +173,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldNotCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -194,7 +198,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldCompactIndex() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     // index entries
     index.index(asJournalRecord(1, 10), 2);
     index.index(asJournalRecord(2, 20), 4);
@@ -221,7 +225,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldFindAsqnWithInBound() {
     // given - every 2nd index is added
-    final JournalIndex index = new SparseJournalIndex(2);
+    final JournalIndex index = createIndex(2);
 
     // when
     index.index(asJournalRecord(1, 1), 2);
@@ -241,10 +245,30 @@ class SparseJournalIndexTest {
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
 
+  @Test
+  void shouldIndexEntriesOutOfOrder() {
+    // given - the last entry is indexed first, e.g. when the writer jumps to the last entry
+    final JournalIndex index = createIndex(5);
+    index.index(asJournalRecord(20, 200), 40);
+
+    // when - a reader indexes older entries while seeking
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // then
+    assertEquals(10, index.lookup(12).index());
+    assertEquals(20, index.lookup(12).position());
+    assertEquals(20, index.lookup(22).index());
+    assertEquals(15, index.lookupAsqn(199));
+    assertEquals(20, index.lookupAsqn(200));
+    assertEquals(10, index.lookupAsqn(200, 12));
+  }
+
   @Test
   void shouldReturnAsIndexedWhenWithInDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
@@ -257,7 +281,7 @@ class SparseJournalIndexTest {
   @Test
   void shouldReturnAsNotIndexedWhenOutsideDensity() {
     // given - every 5 index is added
-    final JournalIndex index = new SparseJournalIndex(5);
+    final JournalIndex index = createIndex(5);
     index.index(asJournalRecord(5, 1), 2);
 
     // when - then
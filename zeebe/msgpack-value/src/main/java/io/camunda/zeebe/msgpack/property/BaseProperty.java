@@ -14,6 +14,8 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.StringValue;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final StringValue key;
@@ -21,6 +23,11 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   protected final T defaultValue;
   protected boolean isSet;
 
+  // the encoded value, if the property was read lazily and the value is not decoded yet
+  private final DirectBuffer rawValue = new UnsafeBuffer(0, 0);
+  private boolean hasRawValue;
+  private MsgPackReader rawValueReader;
+
   public BaseProperty(final T value) {
     this(StringValue.EMPTY_STRING, value);
   }
@@ -40,11 +47,14 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   public void set() {
     isSet = true;
+    // the value was overwritten, so the encoded value is outdated
+    hasRawValue = false;
   }
 
   @Override
   public void reset() {
     isSet = false;
+    hasRawValue = false;
     value.reset();
   }
 
@@ -57,6 +67,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   protected T resolveValue() {
+    decodeRawValue();
     if (isSet) {
       return value;
     } else if (defaultValue != null) {
@@ -68,6 +79,9 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
   }
 
   public int getEncodedLength() {
+    if (hasRawValue) {
+      return key.getEncodedLength() + rawValue.capacity();
+    }
     return key.getEncodedLength() + resolveValue().getEncodedLength();
   }
 
@@ -76,7 +90,59 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Reads the value lazily: only the position of the encoded value is remembered, and the value is
+   * decoded on first access. Until then, the encoded value is written as it is. Like other values
+   * which wrap the read buffer, the property is only valid as long as the read buffer is not
+   * modified.
+   */
+  public void readLazy(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+    rawValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+
+    value.reset();
+    set();
+    hasRawValue = true;
+  }
+
+  /**
+   * @return true if the property was read lazily and its value was not accessed yet
+   */
+  public boolean hasRawValue() {
+    return hasRawValue;
+  }
+
+  /**
+   * Decodes the value of a lazily read property, so it can be accessed or modified. Must be called
+   * before the value is accessed directly.
+   */
+  protected void decodeRawValue() {
+    if (!hasRawValue) {
+      return;
+    }
+
+    if (rawValueReader == null) {
+      rawValueReader = new MsgPackReader();
+    }
+    rawValueReader.wrap(rawValue, 0, rawValue.capacity());
+    hasRawValue = false;
+    try {
+      value.read(rawValueReader);
+    } catch (final Exception e) {
+      value.reset();
+      isSet = false;
+      throw new MsgpackPropertyException(key, e);
+    }
+  }
+
   public void write(final MsgPackWriter writer) {
+    if (hasRawValue) {
+      key.write(writer);
+      writer.writeRaw(rawValue);
+      return;
+    }
+
     T valueToWrite = value;
     if (!isSet) {
       valueToWrite = defaultValue;
@@ -103,6 +169,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public int hashCode() {
+    decodeRawValue();
     return Objects.hash(getKey(), value, defaultValue, isSet);
   }
 
@@ -123,6 +190,7 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
 
   @Override
   public String toString() {
+    decodeRawValue();
     final StringBuilder builder = new StringBuilder();
     builder.append(key.toString());
     builder.append(" => ");
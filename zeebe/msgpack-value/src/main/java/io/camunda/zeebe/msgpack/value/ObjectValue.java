@@ -21,6 +21,7 @@ public class ObjectValue extends BaseValue {
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>(0);
 
   private final StringValue decodedKey = new StringValue();
+  private boolean lazyDecoding;
 
   /**
    * Creates a new ObjectValue
@@ -37,6 +38,24 @@ public class ObjectValue extends BaseValue {
     return this;
   }
 
+  /**
+   * Enables or disables lazy decoding. If enabled, reading the object only indexes the encoded
+   * values of the declared properties, and each value is decoded on first access (see {@link
+   * BaseProperty#readLazy(MsgPackReader)}). Values which are never accessed are written as they
+   * were read, without decoding and encoding them again.
+   *
+   * <p>Note that invalid values are only detected on access, so lazy decoding should only be
+   * enabled for objects which are read from trusted sources, e.g. records which were validated
+   * before they were written to the log.
+   */
+  public void setLazyDecoding(final boolean lazyDecoding) {
+    this.lazyDecoding = lazyDecoding;
+  }
+
+  public boolean isLazyDecoding() {
+    return lazyDecoding;
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -101,6 +120,7 @@ public class ObjectValue extends BaseValue {
       decodedKey.read(reader);
 
       BaseProperty<? extends BaseValue> prop = null;
+      boolean isDeclared = false;
 
       for (int k = 0; k < declaredProperties.size(); ++k) {
         final BaseProperty<?> declaredProperty = declaredProperties.get(k);
@@ -108,6 +128,7 @@ public class ObjectValue extends BaseValue {
 
         if (declaredKey.equals(decodedKey)) {
           prop = declaredProperty;
+          isDeclared = true;
           break;
         }
       }
@@ -117,7 +138,11 @@ public class ObjectValue extends BaseValue {
       }
 
       try {
-        prop.read(reader);
+        if (lazyDecoding && isDeclared) {
+          prop.readLazy(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack;
+
+import static io.camunda.zeebe.test.util.BufferAssert.assertThatBuffer;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class LazyDecodingTest {
+
+  @Test
+  public void shouldDecodePropertiesOnAccess() {
+    // given
+    final var encoded = write(newPojo());
+    final var pojo = new POJO();
+    pojo.setLazyDecoding(true);
+
+    // when
+    pojo.wrap(encoded);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(456456L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getString()).hasBytes(wrapString("foo"));
+    assertThatBuffer(pojo.getBinary()).hasBytes(wrapString("bar"));
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
+  }
+
+  @Test
+  public void shouldWriteUntouchedPropertiesAsRead() {
+    // given
+    final var encoded = write(newPojo());
+    final var pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encoded);
+
+    // when
+    final var written = write(pojo);
+
+    // then
+    assertThatBuffer(written).hasBytes(encoded);
+  }
+
+  @Test
+  public void shouldWriteModifiedProperties() {
+    // given
+    final var pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(write(newPojo()));
+
+    // when
+    pojo.setLong(1L);
+    pojo.nestedObject().setLong(2L);
+    final var written = write(pojo);
+
+    // then
+    final var expected = newPojo();
+    expected.setLong(1L);
+    expected.nestedObject().setLong(2L);
+    assertThatBuffer(written).hasBytes(write(expected));
+  }
+
+  @Test
+  public void shouldAddToLazilyReadArray() {
+    // given
+    final var array = new POJOArray();
+    array.simpleArray().add().setLongProp(1L);
+    final var encoded = write(array);
+
+    final var lazyArray = new POJOArray();
+    lazyArray.setLazyDecoding(true);
+    lazyArray.wrap(encoded);
+
+    // when
+    lazyArray.simpleArray().add().setLongProp(2L);
+
+    // then
+    assertThat(lazyArray.simpleArray().stream().map(MinimalPOJO::getLongProp))
+        .containsExactly(1L, 2L);
+  }
+
+  @Test
+  public void shouldResetLazilyReadProperties() {
+    // given
+    final var pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(write(newPojo()));
+
+    // when
+    pojo.reset();
+
+    // then
+    assertThatThrownBy(pojo::getLong).isInstanceOf(MsgpackPropertyException.class);
+  }
+
+  @Test
+  public void shouldFailOnAccessOfInvalidValue() {
+    // given
+    final var encoded = new UnsafeBuffer(new byte[256]);
+    final var writer = new MsgPackWriter();
+    writer.wrap(encoded, 0);
+    writer.writeMapHeader(7);
+    writer.writeString(wrapString("enumProp")).writeString(wrapString("FOO"));
+    writer.writeString(wrapString("longProp")).writeString(wrapString("not a long"));
+    writer.writeString(wrapString("intProp")).writeInteger(1);
+    writer.writeString(wrapString("stringProp")).writeString(wrapString("foo"));
+    writer.writeString(wrapString("packedProp")).writeInteger(1);
+    writer.writeString(wrapString("binaryProp")).writeBinary(wrapString("bar"));
+    writer.writeString(wrapString("objectProp")).writeMapHeader(0);
+    final var pojo = new POJO();
+    pojo.setLazyDecoding(true);
+    pojo.wrap(encoded, 0, writer.getOffset());
+
+    // when - then
+    assertThat(pojo.getInt()).isEqualTo(1);
+    assertThatThrownBy(pojo::getLong)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("longProp");
+  }
+
+  private static POJO newPojo() {
+    final var pojo = new POJO();
+    pojo.setEnum(POJOEnum.BAR);
+    pojo.setLong(456456L);
+    pojo.setInt(123);
+    pojo.setString(wrapString("foo"));
+    pojo.setBinary(wrapString("bar"));
+    pojo.setPacked(ObjectMappingTest.MSGPACK_BUF1);
+    pojo.nestedObject().setLong(24L);
+    return pojo;
+  }
+
+  private static DirectBuffer write(final UnpackedObject object) {
+    final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[object.getLength()]);
+    object.write(buffer, 0);
+    return buffer;
+  }
+}
@@ -47,6 +47,25 @@ final class ActorMetrics {
           .help("The length of the job queue for an actor task")
           .labelNames("actorName")
           .register();
+
+  private static final Gauge THREAD_QUEUE_LENGTH =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("actor_thread_queue_length")
+          .help("The length of the task queue of an actor thread")
+          .labelNames("threadName")
+          .register();
+
+  private static final Counter STEAL_COUNT =
+      Counter.build()
+          .namespace("zeebe")
+          .name("actor_thread_steal_count")
+          .help(
+              "Number of actor tasks an actor thread stole from the queue of another thread, "
+                  + "either of the same affinity group or of another one")
+          .labelNames("threadName", "affinityGroup")
+          .register();
+
   private final boolean enabled;
 
   public ActorMetrics(final boolean metricsEnabled) {
@@ -72,6 +91,18 @@ final class ActorMetrics {
     }
   }
 
+  void updateThreadQueueLength(final String threadName, final long length) {
+    if (enabled) {
+      THREAD_QUEUE_LENGTH.labels(threadName).set(length);
+    }
+  }
+
+  void countSteal(final String threadName, final boolean sameAffinityGroup) {
+    if (enabled) {
+      STEAL_COUNT.labels(threadName, sameAffinityGroup ? "same" : "other").inc();
+    }
+  }
+
   public void observeJobSchedulingLatency(final long waitTimeNs, final String subscriptionType) {
     if (enabled) {
       SCHEDULING_LATENCY.labels(subscriptionType).observe(waitTimeNs / 1_000_000_000f);
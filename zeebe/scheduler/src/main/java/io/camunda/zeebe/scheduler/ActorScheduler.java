@@ -124,6 +124,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
+    private int cpuBoundAffinityGroupCount = 1;
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
@@ -188,6 +189,21 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public int getCpuBoundActorAffinityGroupCount() {
+      return cpuBoundAffinityGroupCount;
+    }
+
+    /**
+     * Splits the CPU bound threads into the given number of groups. The actors of a partition are
+     * pinned to one group, and idle threads steal work from their own group first. This keeps the
+     * state of a partition in the caches of the same cores. With a single group, which is the
+     * default, actors can run on any thread.
+     */
+    public ActorSchedulerBuilder setCpuBoundActorAffinityGroupCount(final int affinityGroupCount) {
+      cpuBoundAffinityGroupCount = affinityGroupCount;
+      return this;
+    }
+
     public int getIoBoundActorThreadCount() {
       return ioBoundThreadsCount;
     }
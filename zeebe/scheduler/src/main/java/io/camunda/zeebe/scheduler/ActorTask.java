@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
  */
 @SuppressWarnings("restriction")
 public class ActorTask {
+  static final int NO_PARTITION = -1;
   private static final Logger LOG = LoggerFactory.getLogger(ActorTask.class);
   private static final AtomicReferenceFieldUpdater<ActorTask, ActorLifecyclePhase>
       LIFECYCLE_UPDATER =
@@ -49,6 +50,7 @@ public class ActorTask {
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+  private int partitionId = NO_PARTITION;
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -66,6 +68,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    partitionId = partitionIdOf(actor);
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -469,6 +472,30 @@ public class ActorTask {
     return actor;
   }
 
+  /**
+   * @return the id of the partition to which the actor belongs, as given by its {@link
+   *     Actor#ACTOR_PROP_PARTITION_ID context}, or {@link #NO_PARTITION}
+   */
+  int getPartitionId() {
+    return partitionId;
+  }
+
+  private static int partitionIdOf(final Actor actor) {
+    final var partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return NO_PARTITION;
+    }
+    try {
+      return Integer.parseInt(partitionId);
+    } catch (final NumberFormatException e) {
+      LOG.debug(
+          "Expected partition id of actor {} to be a number, but was {}",
+          actor.getName(),
+          partitionId);
+      return NO_PARTITION;
+    }
+  }
+
   public boolean isClosing() {
     return lifecyclePhase == ActorLifecyclePhase.CLOSING;
   }
@@ -42,11 +42,22 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
    * @return the actor which was stolen or null in case no actor is available
    */
   public ActorTask trySteal() {
+    return trySteal(false);
+  }
+
+  /**
+   * Attempts to steal a task from this list, like {@link #trySteal()}.
+   *
+   * @param skipPartitionTasks if true, tasks of actors which belong to a partition are not stolen
+   * @return the actor which was stolen or null in case no actor is available
+   */
+  public ActorTask trySteal(final boolean skipPartitionTasks) {
     ActorTaskQueueNode node = tail;
 
     while (node != null && node != empty) {
       final ActorTask task = node.task;
-      if (task.claim(node.stateCount)) {
+      if ((!skipPartitionTasks || task.getPartitionId() == ActorTask.NO_PARTITION)
+          && task.claim(node.stateCount)) {
         return task;
       }
 
@@ -103,6 +114,22 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     return next == empty ? null : next;
   }
 
+  /**
+   * Counts the entries in the list by walking it, which includes entries of tasks that were already
+   * stolen but not yet removed. As this is linear in the length of the list, it is meant to be
+   * called only by the thread owning the list, and only to sample metrics. The number is only an
+   * estimate while tasks are appended concurrently.
+   */
+  public long size() {
+    long size = 0;
+    ActorTaskQueueNode node = head.next;
+    while (node != null && node != empty) {
+      size++;
+      node = node.next;
+    }
+    return size;
+  }
+
   public boolean isEmpty() {
     return head == tail;
   }
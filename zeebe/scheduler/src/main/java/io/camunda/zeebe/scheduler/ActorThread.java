@@ -26,6 +26,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
+  private static final long QUEUE_LENGTH_SAMPLE_INTERVAL_MS = 1_000;
 
   static {
     try {
@@ -49,6 +50,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private long nextQueueLengthSample;
 
   public ActorThread(
       final String name,
@@ -110,12 +112,22 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       if (actorMetrics.isEnabled()) {
         actorMetrics.updateJobQueueLength(actorName, currentTask.estimateQueueLength());
         actorMetrics.countExecution(actorName);
+        sampleQueueLength();
       }
     } else {
       idleStrategy.onIdle();
     }
   }
 
+  private void sampleQueueLength() {
+    // counting the queue entries is linear in the queue length, so it is only done periodically
+    final long now = clock.getTimeMillis();
+    if (now >= nextQueueLengthSample) {
+      nextQueueLengthSample = now + QUEUE_LENGTH_SAMPLE_INTERVAL_MS;
+      actorMetrics.updateThreadQueueLength(getName(), actorThreadGroup.queueLength(threadId));
+    }
+  }
+
   private void executeCurrentTask() {
     final var properties = currentTask.getActor().getContext();
     boolean resubmit = false;
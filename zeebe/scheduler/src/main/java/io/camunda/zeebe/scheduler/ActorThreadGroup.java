@@ -10,7 +10,6 @@ package io.camunda.zeebe.scheduler;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A thread group is a group of threads which process the same kind of tasks (ie. blocking I/O vs.
@@ -28,11 +27,24 @@ public abstract class ActorThreadGroup {
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, 1, builder, schedulerName);
+  }
+
+  /**
+   * @param affinityGroupCount the number of groups into which the threads are split, the actors of
+   *     a partition only run on the threads of one group (see {@link WorkStealingGroup})
+   */
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final int affinityGroupCount,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks = new WorkStealingGroup(numOfThreads, affinityGroupCount);
 
     threads = new ActorThread[numOfThreads];
 
@@ -57,15 +69,25 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int affinityGroup = tasks.affinityGroupOf(actorTask);
+    if (current != null
+        && current.getActorThreadGroup() == this
+        && tasks.isInAffinityGroup(current.getRunnerId(), affinityGroup)) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      final int threadId = tasks.randomThreadOf(affinityGroup);
       tasks.submit(actorTask, threadId);
       threads[threadId].hintWorkAvailable();
     }
   }
 
+  /**
+   * @return the number of entries in the task queue of the given thread
+   */
+  long queueLength(final int threadId) {
+    return tasks.queueLength(threadId);
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -13,6 +13,11 @@ import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 public final class CpuThreadGroup extends ActorThreadGroup {
 
   public CpuThreadGroup(final ActorSchedulerBuilder builder) {
-    super("zb-actors", builder.getCpuBoundActorThreadCount(), builder, builder.getSchedulerName());
+    super(
+        "zb-actors",
+        builder.getCpuBoundActorThreadCount(),
+        builder.getCpuBoundActorAffinityGroupCount(),
+        builder,
+        builder.getSchedulerName());
   }
 }
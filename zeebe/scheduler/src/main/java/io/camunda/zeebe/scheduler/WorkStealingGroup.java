@@ -11,17 +11,45 @@ import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread.
+ *
+ * <p>The threads can be split into affinity groups, each being a contiguous range of threads. The
+ * actors of a partition are then pinned to the affinity group of the partition: they are only
+ * queued and run on its threads, so their state stays in the caches of the same cores. Actors which
+ * don't belong to a partition can run on any thread. With a single affinity group, all actors can
+ * run on any thread.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
+  static final int NO_AFFINITY_GROUP = -1;
+
   private final int numOfThreads;
+  private final int affinityGroupCount;
+  private final int[] threadAffinityGroups;
   private final ActorTaskQueue[] taskQueues;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, 1);
+  }
+
+  public WorkStealingGroup(final int numOfThreads, final int affinityGroupCount) {
+    if (affinityGroupCount < 1 || affinityGroupCount > numOfThreads) {
+      throw new IllegalArgumentException(
+          "Expected affinity group count to be between 1 and the number of threads %d, but was %d"
+              .formatted(numOfThreads, affinityGroupCount));
+    }
     this.numOfThreads = numOfThreads;
+    this.affinityGroupCount = affinityGroupCount;
+    threadAffinityGroups = new int[numOfThreads];
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
     }
+    for (int group = 0; group < affinityGroupCount; group++) {
+      for (int i = firstThreadOf(group); i < firstThreadOf(group + 1); i++) {
+        threadAffinityGroups[i] = group;
+      }
+    }
   }
 
   /**
@@ -35,6 +63,45 @@ public final class WorkStealingGroup implements TaskScheduler {
     taskQueues[threadId].append(task);
   }
 
+  /**
+   * @return the affinity group to which the task is pinned, or {@link #NO_AFFINITY_GROUP} if it can
+   *     run on any thread
+   */
+  int affinityGroupOf(final ActorTask task) {
+    final int partitionId = task.getPartitionId();
+    if (affinityGroupCount == 1 || partitionId == ActorTask.NO_PARTITION) {
+      return NO_AFFINITY_GROUP;
+    }
+    // partition ids start at 1
+    return Math.floorMod(partitionId - 1, affinityGroupCount);
+  }
+
+  /**
+   * @return true if tasks of the given affinity group may be queued on the given thread
+   */
+  boolean isInAffinityGroup(final int threadId, final int affinityGroup) {
+    return affinityGroup == NO_AFFINITY_GROUP || threadAffinityGroups[threadId] == affinityGroup;
+  }
+
+  /**
+   * @return a random thread on which tasks of the given affinity group may be queued
+   */
+  int randomThreadOf(final int affinityGroup) {
+    if (affinityGroup == NO_AFFINITY_GROUP) {
+      return ThreadLocalRandom.current().nextInt(numOfThreads);
+    }
+    final int firstThread = firstThreadOf(affinityGroup);
+    final int threadCount = firstThreadOf(affinityGroup + 1) - firstThread;
+    return firstThread + ThreadLocalRandom.current().nextInt(threadCount);
+  }
+
+  /**
+   * @return the number of entries in the queue of the given thread
+   */
+  long queueLength(final int threadId) {
+    return taskQueues[threadId].size();
+  }
+
   /**
    * Attempts to acquire the next task to execute
    *
@@ -58,8 +125,37 @@ public final class WorkStealingGroup implements TaskScheduler {
    *
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
+   *
+   * <p>The runner first steals from the other runners of its own affinity group. Only if there is
+   * nothing to steal there, it steals actors which are not pinned to an affinity group from the
+   * runners of the other groups.
    */
   private ActorTask trySteal(final ActorThread currentThread) {
+    final int affinityGroup = threadAffinityGroups[currentThread.getRunnerId()];
+    final int firstThread = firstThreadOf(affinityGroup);
+    final int threadCount = firstThreadOf(affinityGroup + 1) - firstThread;
+
+    ActorTask stolenActor = trySteal(currentThread, firstThread, threadCount, false);
+    if (stolenActor != null) {
+      currentThread.getActorMetrics().countSteal(currentThread.getName(), true);
+      return stolenActor;
+    }
+
+    if (affinityGroupCount > 1) {
+      stolenActor = trySteal(currentThread, 0, numOfThreads, true);
+      if (stolenActor != null) {
+        currentThread.getActorMetrics().countSteal(currentThread.getName(), false);
+      }
+    }
+
+    return stolenActor;
+  }
+
+  private ActorTask trySteal(
+      final ActorThread currentThread,
+      final int firstThread,
+      final int threadCount,
+      final boolean otherAffinityGroups) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -75,13 +171,19 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Experimental verification of the effectiveness of the optimization has not been conducted yet.
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
-    final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int affinityGroup = threadAffinityGroups[currentThread.getRunnerId()];
+    final int offset = ThreadLocalRandom.current().nextInt(threadCount);
 
-    for (int i = offset; i < offset + numOfThreads; i++) {
-      final int runnerId = i % numOfThreads;
+    for (int i = offset; i < offset + threadCount; i++) {
+      final int runnerId = firstThread + i % threadCount;
+
+      if (otherAffinityGroups && threadAffinityGroups[runnerId] == affinityGroup) {
+        // already looked at the runners of the own group
+        continue;
+      }
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTask stolenActor = taskQueues[runnerId].trySteal(otherAffinityGroups);
 
         if (stolenActor != null) {
           return stolenActor;
@@ -91,4 +193,9 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     return null;
   }
+
+  /** Spreads the threads evenly across the groups, the group sizes differ by at most one. */
+  private int firstThreadOf(final int affinityGroup) {
+    return affinityGroup * numOfThreads / affinityGroupCount;
+  }
 }
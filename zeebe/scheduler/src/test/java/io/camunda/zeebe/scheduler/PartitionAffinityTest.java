@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class PartitionAffinityTest {
+
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldOnlyRunPartitionActorsOnThreadsOfTheirAffinityGroup() {
+    // given -- threads 0 and 1 form the first group, threads 2 and 3 the second one
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setCpuBoundActorAffinityGroupCount(2)
+            .build();
+    scheduler.start();
+
+    final var firstPartitionActors = new ArrayList<PartitionActor>();
+    final var secondPartitionActors = new ArrayList<PartitionActor>();
+    for (int i = 0; i < 4; i++) {
+      firstPartitionActors.add(new PartitionActor(1));
+      secondPartitionActors.add(new PartitionActor(2));
+    }
+    firstPartitionActors.forEach(actor -> scheduler.submitActor(actor).join());
+    secondPartitionActors.forEach(actor -> scheduler.submitActor(actor).join());
+
+    // when
+    final var futures = new ArrayList<ActorFuture<Void>>();
+    for (int i = 0; i < 1_000; i++) {
+      firstPartitionActors.forEach(actor -> futures.add(actor.recordThread()));
+      secondPartitionActors.forEach(actor -> futures.add(actor.recordThread()));
+    }
+    futures.forEach(future -> future.join(10, TimeUnit.SECONDS));
+
+    // then
+    firstPartitionActors.forEach(
+        actor -> assertThat(actor.threadNames).isSubsetOf("zb-actors-0", "zb-actors-1"));
+    secondPartitionActors.forEach(
+        actor -> assertThat(actor.threadNames).isSubsetOf("zb-actors-2", "zb-actors-3"));
+  }
+
+  @Test
+  void shouldRejectMoreAffinityGroupsThanThreads() {
+    // given
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setCpuBoundActorAffinityGroupCount(3);
+
+    // when - then
+    assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static final class PartitionActor extends Actor {
+    private final int partitionId;
+    private final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, String.valueOf(partitionId));
+      return context;
+    }
+
+    private ActorFuture<Void> recordThread() {
+      return actor.call(
+          () -> {
+            threadNames.add(Thread.currentThread().getName());
+            // resubmits the task from the current thread
+            actor.submit(() -> threadNames.add(Thread.currentThread().getName()));
+          });
+    }
+  }
+}
@@ -48,6 +48,18 @@ public interface PersistedSnapshot {
    */
   SnapshotChunkReader newChunkReader();
 
+  /**
+   * Returns a new snapshot chunk reader for this snapshot, which first sends the list of files of
+   * this snapshot with their checksums. A receiver can then reuse the files it has already, such
+   * that they can be skipped via {@link SnapshotChunkReader#skipFiles}. By default, this
+   * is the same as {@link #newChunkReader()}.
+   *
+   * @return a new snapshot chunk reader
+   */
+  default SnapshotChunkReader newIncrementalChunkReader() {
+    return newChunkReader();
+  }
+
   /**
    * @return a path to the snapshot location
    */
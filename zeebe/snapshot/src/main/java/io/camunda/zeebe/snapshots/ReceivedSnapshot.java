@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,15 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Returns the files which were reused from a local snapshot since the last call, instead of
+   * being received. The sender does not have to send these files anymore. Must only be called
+   * after the future returned by {@link #apply(SnapshotChunk)} was completed.
+   *
+   * @return the names of the newly reused files
+   */
+  default Collection<String> drainReusedFiles() {
+    return List.of();
+  }
 }
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -41,4 +42,13 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Skips all chunks of the given files, because the receiver has them already. Seeking to a chunk
+   * of a skipped file moves the reader to the next file which is not skipped. Readers which don't
+   * support skipping files simply keep sending them.
+   *
+   * @param fileNames the names of the files to skip
+   */
+  default void skipFiles(final Collection<String> fileNames) {}
 }
@@ -18,13 +18,25 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.zip.Checksum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A snapshot which is received chunk by chunk from another node. If the sender lists the files of
+ * the snapshot first (see {@link SnapshotFileList}), the files which are identical in the latest
+ * local snapshot are hard linked instead of being received, and chunks of these files are ignored.
+ */
 public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
@@ -33,6 +45,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private final Path directory;
   private final ConcurrencyControl actor;
   private final FileBasedSnapshotStoreImpl snapshotStore;
+  private final SnapshotMetrics snapshotMetrics;
 
   private final FileBasedSnapshotId snapshotId;
   private int expectedTotalCount;
@@ -40,14 +53,22 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private ByteBuffer metadataBuffer;
   private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private String currentFileName;
+  private Checksum currentFileChecksum;
+  private ByteBuffer fileListBuffer;
+  private long writtenFileListBytes;
+  private final Set<String> reusedFiles = new HashSet<>();
+  private final List<String> newlyReusedFiles = new ArrayList<>();
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
       final Path directory,
       final FileBasedSnapshotStoreImpl snapshotStore,
+      final SnapshotMetrics snapshotMetrics,
       final ConcurrencyControl actor) {
     this.snapshotId = snapshotId;
     this.snapshotStore = snapshotStore;
+    this.snapshotMetrics = snapshotMetrics;
     this.directory = directory;
     this.actor = actor;
     expectedTotalCount = Integer.MIN_VALUE;
@@ -68,6 +89,13 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         });
   }
 
+  @Override
+  public Collection<String> drainReusedFiles() {
+    final var files = List.copyOf(newlyReusedFiles);
+    newlyReusedFiles.clear();
+    return files;
+  }
+
   private void applyInternal(final SnapshotChunk snapshotChunk) throws SnapshotWriteException {
     checkSnapshotIdIsValid(snapshotChunk.getSnapshotId());
 
@@ -95,16 +123,27 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
           String.format("Failed to ensure that directory %s exists.", tmpSnapshotDirectory), e);
     }
 
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    if (chunkName.equals(SnapshotFileList.CHUNK_NAME)) {
+      collectFileList(snapshotChunk);
+      return;
+    }
+
+    if (reusedFiles.contains(chunkName)) {
+      // the file is a link to a file of another snapshot, which must not be written to
+      LOGGER.trace(
+          "Ignore snapshot chunk {} of snapshot {}, as the file was reused", chunkName, snapshotId);
+      return;
+    }
+
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
-    if (checksumCollection == null) {
-      checksumCollection = new SfvChecksumImpl();
-    }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    updateChecksum(snapshotChunk, snapshotFile);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,6 +154,89 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private void updateChecksum(final SnapshotChunk snapshotChunk, final Path snapshotFile) {
+    // files may be split into multiple chunks, which are received in order
+    final var fileName = snapshotFile.getFileName().toString();
+    if (snapshotChunk.getFileBlockPosition() == 0 || !fileName.equals(currentFileName)) {
+      currentFileName = fileName;
+      currentFileChecksum = SnapshotChunkUtil.newChecksum();
+    }
+
+    currentFileChecksum.update(snapshotChunk.getContent());
+    checksumCollection.updateFromChecksum(snapshotFile, currentFileChecksum.getValue());
+  }
+
+  private void collectFileList(final SnapshotChunk chunk) throws SnapshotWriteException {
+    if (fileListBuffer == null) {
+      fileListBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
+    }
+
+    fileListBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
+    writtenFileListBytes += chunk.getContent().length;
+
+    if (writtenFileListBytes == chunk.getTotalFileSize()) {
+      try {
+        reuseFiles(SnapshotFileList.decode(fileListBuffer.array()));
+      } catch (final IOException e) {
+        throw new SnapshotWriteException("Cannot decode snapshot file list", e);
+      }
+    }
+  }
+
+  private void reuseFiles(final SnapshotFileList fileList) {
+    final var latestSnapshot = snapshotStore.getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return;
+    }
+
+    final var localDirectory = latestSnapshot.get().getPath();
+    final var localChecksums = latestSnapshot.get().getChecksums().getChecksums();
+    int reusedCount = 0;
+    long reusedBytes = 0;
+    for (final var file : fileList.files()) {
+      // the metadata is always received, since it is decoded from the received chunks
+      if (file.name().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+        continue;
+      }
+
+      final var localChecksum = localChecksums.get(file.name());
+      if (localChecksum == null || localChecksum != file.checksum()) {
+        continue;
+      }
+
+      final var localFile = localDirectory.resolve(file.name());
+      final var snapshotFile = directory.resolve(file.name());
+      try {
+        if (Files.size(localFile) != file.size()) {
+          continue;
+        }
+        Files.createLink(snapshotFile, localFile);
+      } catch (final IOException | UnsupportedOperationException e) {
+        LOGGER.debug(
+            "Failed to reuse file {} of snapshot {}, will receive it instead",
+            localFile,
+            latestSnapshot.get().getId(),
+            e);
+        continue;
+      }
+
+      checksumCollection.updateFromChecksum(snapshotFile, file.checksum());
+      reusedFiles.add(file.name());
+      newlyReusedFiles.add(file.name());
+      reusedCount++;
+      reusedBytes += file.size();
+    }
+
+    LOGGER.debug(
+        "Reused {} of {} files ({} bytes) of snapshot {} for received snapshot {}",
+        reusedCount,
+        fileList.files().size(),
+        reusedBytes,
+        latestSnapshot.get().getId(),
+        snapshotId);
+    snapshotMetrics.observeReusedSnapshotFiles(reusedCount, reusedBytes);
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
@@ -15,6 +15,8 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -22,6 +24,10 @@ import java.util.TreeSet;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>When created with a {@link SnapshotFileList}, the encoded list is sent as first chunk, before
+ * any file. The receiver may then reuse some of the listed files, which can afterwards be skipped
+ * via {@link #skipFiles(Collection)}.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
@@ -32,6 +38,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  private final byte[] fileList;
+  private boolean fileListPending;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
@@ -39,6 +47,12 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, maximumChunkSize, null);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final long maximumChunkSize, final SnapshotFileList fileList)
+      throws IOException {
     this.directory = directory;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
@@ -47,6 +61,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     snapshotID = directory.getFileName().toString();
 
     this.maximumChunkSize = maximumChunkSize;
+    this.fileList = fileList == null ? null : fileList.encode();
+    fileListPending = fileList != null;
   }
 
   private NavigableSet<CharSequence> collectChunks(final Path directory) throws IOException {
@@ -60,6 +76,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   @Override
   public void reset() {
     chunksView = new TreeSet<>(chunks);
+    offset = 0;
+    fileListPending = fileList != null;
   }
 
   @Override
@@ -69,14 +87,30 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     }
 
     final var chunkId = new SnapshotChunkId(id);
+    final var fileName = chunkId.fileName();
 
     offset = chunkId.offset();
 
-    chunksView = new TreeSet<>(chunks.tailSet(chunkId.fileName(), true));
+    if (fileList != null && SnapshotFileList.CHUNK_NAME.equals(fileName)) {
+      fileListPending = true;
+      chunksView = new TreeSet<>(chunks);
+      return;
+    }
+
+    fileListPending = false;
+    if (!chunks.contains(fileName)) {
+      // the file was skipped, so we continue with the beginning of the next file
+      offset = 0;
+    }
+    chunksView = new TreeSet<>(chunks.tailSet(fileName, true));
   }
 
   @Override
   public ByteBuffer nextId() {
+    if (fileListPending) {
+      return new SnapshotChunkId(SnapshotFileList.CHUNK_NAME, offset).id();
+    }
+
     if (chunksView.isEmpty()) {
       return null;
     }
@@ -89,6 +123,25 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  /**
+   * Skips the given files, because the receiver reused them. The last file of the snapshot is never
+   * skipped, since the receiver only completes the snapshot when it receives the last chunk.
+   */
+  @Override
+  public void skipFiles(final Collection<String> fileNames) {
+    if (chunks.isEmpty()) {
+      return;
+    }
+
+    final var lastFile = chunks.last();
+    for (final var fileName : fileNames) {
+      if (CharSequence.compare(fileName, lastFile) != 0) {
+        chunks.remove(fileName);
+        chunksView.remove(fileName);
+      }
+    }
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -97,11 +150,15 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
   @Override
   public boolean hasNext() {
-    return !chunksView.isEmpty();
+    return fileListPending || !chunksView.isEmpty();
   }
 
   @Override
   public SnapshotChunk next() {
+    if (fileListPending) {
+      return nextFileListChunk();
+    }
+
     final var fileName = chunksView.first().toString();
     final var filePath = directory.resolve(fileName).toString();
 
@@ -125,4 +182,25 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private SnapshotChunk nextFileListChunk() {
+    final var bytesToRead = (int) Math.min(maximumChunkSize, fileList.length - offset);
+    final var fileBlockPosition = offset;
+    final var from = (int) fileBlockPosition;
+    final var content = Arrays.copyOfRange(fileList, from, from + bytesToRead);
+
+    offset += bytesToRead;
+    if (offset == fileList.length) {
+      offset = 0;
+      fileListPending = false;
+    }
+
+    return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
+        snapshotID,
+        totalCount,
+        SnapshotFileList.CHUNK_NAME,
+        content,
+        fileBlockPosition,
+        fileList.length);
+  }
 }
@@ -348,7 +348,7 @@ public final class FileBasedSnapshotStoreImpl {
       final Path directory,
       final CompletableActorFuture<FileBasedReceivedSnapshot> newSnapshotFuture) {
     final var newPendingSnapshot =
-        new FileBasedReceivedSnapshot(parsedSnapshotId, directory, this, actor);
+        new FileBasedReceivedSnapshot(parsedSnapshotId, directory, this, snapshotMetrics, actor);
     addPendingSnapshot(newPendingSnapshot);
     newSnapshotFuture.complete(newPendingSnapshot);
   }
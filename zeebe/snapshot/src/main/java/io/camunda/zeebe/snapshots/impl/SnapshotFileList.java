@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import io.camunda.zeebe.snapshots.ImmutableChecksumsSFV;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lists the files of a snapshot with their size and checksum. It is sent as the first chunk when a
+ * snapshot is replicated incrementally, such that the receiver can reuse the files which it has
+ * already in its own latest snapshot, and the sender only has to send the missing files.
+ *
+ * @param files the listed files, ordered by name
+ */
+record SnapshotFileList(List<Entry> files) {
+
+  /**
+   * The name of the chunk which contains the encoded file list. It is never written as a file, so
+   * it does not count as a file of the snapshot.
+   */
+  static final String CHUNK_NAME = "zeebe.files";
+
+  /**
+   * Lists all files of the given snapshot directory for which a checksum is known. Files without a
+   * checksum are not listed, and are therefore always sent.
+   */
+  static SnapshotFileList of(final Path directory, final ImmutableChecksumsSFV checksums)
+      throws IOException {
+    final var files = new ArrayList<Entry>();
+    for (final var checksum : checksums.getChecksums().entrySet()) {
+      final var file = directory.resolve(checksum.getKey());
+      if (Files.isRegularFile(file)) {
+        files.add(new Entry(checksum.getKey(), Files.size(file), checksum.getValue()));
+      }
+    }
+    return new SnapshotFileList(files);
+  }
+
+  static SnapshotFileList decode(final byte[] bytes) throws IOException {
+    try (final var input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      final var count = input.readInt();
+      final var files = new ArrayList<Entry>(count);
+      for (int i = 0; i < count; i++) {
+        files.add(new Entry(input.readUTF(), input.readLong(), input.readLong()));
+      }
+      return new SnapshotFileList(files);
+    }
+  }
+
+  byte[] encode() {
+    final var bytes = new ByteArrayOutputStream();
+    try (final var output = new DataOutputStream(bytes)) {
+      output.writeInt(files.size());
+      for (final var file : files) {
+        output.writeUTF(file.name());
+        output.writeLong(file.size());
+        output.writeLong(file.checksum());
+      }
+    } catch (final IOException e) {
+      // cannot happen when writing to a byte array
+      throw new IllegalStateException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  /**
+   * @param name the name of the file, relative to the snapshot directory
+   * @param size the size of the file in bytes
+   * @param checksum the CRC32C checksum of the whole file
+   */
+  record Entry(String name, long size, long checksum) {}
+}
@@ -61,6 +61,22 @@ public final class SnapshotMetrics {
           .name("snapshot_file_size_megabytes")
           .buckets(.01, .1, .5, 1, 5, 10, 25, 50, 100, 250, 500)
           .register();
+  private static final Counter SNAPSHOT_REUSED_FILES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_replication_reused_files")
+          .help("Total count of received snapshot files which were reused from a local snapshot")
+          .register();
+  private static final Counter SNAPSHOT_REUSED_BYTES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_replication_reused_bytes")
+          .help(
+              "Total size of received snapshot files which were reused from a local snapshot, i.e."
+                  + " the bytes which did not have to be replicated")
+          .register();
 
   private final Histogram.Child snapshotPersistDuration;
   private final Histogram.Child snapshotFileSize;
@@ -68,6 +84,8 @@ public final class SnapshotMetrics {
   private final Gauge.Child snapshotChunkCount;
   private final Gauge.Child snapshotSize;
   private final Child snapshotCount;
+  private final Child reusedFiles;
+  private final Child reusedBytes;
 
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
@@ -76,6 +94,8 @@ public final class SnapshotMetrics {
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
     snapshotCount = SNAPSHOT_COUNT.labels(partitionId);
+    reusedFiles = SNAPSHOT_REUSED_FILES.labels(partitionId);
+    reusedBytes = SNAPSHOT_REUSED_BYTES.labels(partitionId);
   }
 
   void incrementSnapshotCount() {
@@ -94,6 +114,11 @@ public final class SnapshotMetrics {
     snapshotFileSize.observe(sizeInBytes / 1_000_000f);
   }
 
+  void observeReusedSnapshotFiles(final int count, final long sizeInBytes) {
+    reusedFiles.inc(count);
+    reusedBytes.inc(sizeInBytes);
+  }
+
   Timer startTimer() {
     return snapshotDuration.startTimer();
   }
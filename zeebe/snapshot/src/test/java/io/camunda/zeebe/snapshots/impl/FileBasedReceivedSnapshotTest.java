@@ -348,6 +348,79 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldCalculateChecksumsOfChunkedFiles() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newIncrementalChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      final var reusedFiles = receivedSnapshot.drainReusedFiles();
+      snapshotChunkReader.skipFiles(reusedFiles);
+
+      // then
+      assertThat(reusedFiles).containsExactlyInAnyOrderElementsOf(SNAPSHOT_FILE_CONTENTS.keySet());
+      assertThat(receivedSnapshot.getPath().resolve("file1"))
+          .matches(file -> isSameFile(file, previousSnapshot.getPath().resolve("file1")));
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(persistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(snapshotToSend.getChecksums().getChecksums());
+    assertThat(persistedSnapshot.getPath().resolve("file1")).hasContent("file1 contents");
+  }
+
+  @Test
+  public void shouldNotReuseFilesWithoutLocalSnapshot() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newIncrementalChunkReader()) {
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedSnapshot.drainReusedFiles()).isEmpty();
+    assertThat(persistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(snapshotToSend.getChecksums().getChecksums());
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -361,6 +434,14 @@ public class FileBasedReceivedSnapshotTest {
     return receivedSnapshot;
   }
 
+  private static boolean isSameFile(final Path file, final Path other) {
+    try {
+      return Files.isSameFile(file, other);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
   private PersistedSnapshot takePersistedSnapshot(final long index) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
     transientSnapshot.take(this::writeSnapshot).join();
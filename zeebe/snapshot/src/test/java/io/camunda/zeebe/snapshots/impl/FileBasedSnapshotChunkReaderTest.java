@@ -28,6 +28,7 @@ import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
+import org.assertj.core.groups.Tuple;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -332,6 +333,58 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldSendFileListAsFirstChunk() throws IOException {
+    // given
+    final var reader = newReaderWithFileList();
+
+    // when
+    final var chunks = getAllChunks(reader);
+
+    // then
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly(SnapshotFileList.CHUNK_NAME, "file1", "file2", "file3");
+    assertThat(chunks.get(0).getTotalCount()).isEqualTo(SNAPSHOT_CHUNK.size());
+    assertThat(SnapshotFileList.decode(chunks.get(0).getContent()).files())
+        .extracting(SnapshotFileList.Entry::name, SnapshotFileList.Entry::size)
+        .containsExactly(
+            Tuple.tuple("file1", 4L), Tuple.tuple("file2", 2L), Tuple.tuple("file3", 7L));
+  }
+
+  @Test
+  public void shouldSkipReusedFiles() throws IOException {
+    // given
+    final var reader = newReaderWithFileList();
+    reader.next();
+    final var nextId = reader.nextId();
+
+    // when
+    reader.skipFiles(List.of("file1", "file3"));
+    reader.seek(nextId);
+
+    // then - the last file is never skipped
+    assertThat(reader.nextId()).isEqualTo(asByteBuffer("file2__0"));
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file2", "file3");
+  }
+
+  @Test
+  public void shouldSeekToFileList() throws IOException {
+    // given
+    final var reader = newReaderWithFileList();
+    final var fileListId = reader.nextId();
+    getAllChunks(reader);
+
+    // when
+    reader.seek(fileListId);
+
+    // then
+    assertThat(reader.next().getChunkName()).isEqualTo(SnapshotFileList.CHUNK_NAME);
+    assertThat(reader.next().getChunkName()).isEqualTo("file1");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -361,4 +414,16 @@ public final class FileBasedSnapshotChunkReaderTest {
   private FileBasedSnapshotChunkReader newReader() throws IOException {
     return newReader(Long.MAX_VALUE);
   }
+
+  private FileBasedSnapshotChunkReader newReaderWithFileList() throws IOException {
+    newReader().close();
+
+    final var checksums = new SfvChecksumImpl();
+    for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
+      checksums.updateFromFile(snapshotDirectory.resolve(chunk));
+    }
+
+    return new FileBasedSnapshotChunkReader(
+        snapshotDirectory, Long.MAX_VALUE, SnapshotFileList.of(snapshotDirectory, checksums));
+  }
 }
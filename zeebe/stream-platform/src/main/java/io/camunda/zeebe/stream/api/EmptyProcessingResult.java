@@ -35,6 +35,11 @@ public final class EmptyProcessingResult implements ProcessingResult {
     return true;
   }
 
+  @Override
+  public boolean hasPostCommitTasks() {
+    return false;
+  }
+
   @Override
   public boolean isEmpty() {
     return true;
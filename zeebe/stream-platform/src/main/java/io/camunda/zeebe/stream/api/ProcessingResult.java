@@ -37,6 +37,16 @@ public interface ProcessingResult {
    */
   boolean executePostCommitTasks();
 
+  /**
+   * Post commit tasks may capture state which is reused by the processor, so they must be executed
+   * before the next command is processed.
+   *
+   * @return <code>true</code> if there are post commit tasks to execute after the commit
+   */
+  default boolean hasPostCommitTasks() {
+    return true;
+  }
+
   /**
    * Indicates whether the processing result is empty.
    *
@@ -105,4 +105,36 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after the current transaction was rolled back, e.g. because the processing
+   * failed or the follow up records could not be written.
+   *
+   * <p><em>Contract</em>
+   *
+   * <ul>
+   *   <li>All changes to the database since the last commit are discarded at this point
+   *   <li>Implementors must discard any transient state that was derived from these changes
+   *   <li>Implementors must not write to the database or the log stream
+   * </ul>
+   */
+  default void onRollback() {}
+
+  /**
+   * Called by platform after the changes to the database can no longer be rolled back, i.e. after
+   * the current transaction was committed, or after a save point was set to commit it later.
+   *
+   * <p>The batches of a commit group are reported as committed as soon as their save point is set,
+   * i.e. before their transaction is committed. This is only safe because a failed commit of a
+   * commit group is never rolled back, but fails the stream processor instead, after which the
+   * state is recovered from the snapshot and the log.
+   *
+   * <p><em>Contract</em>
+   *
+   * <ul>
+   *   <li>A following {@link #onRollback()} only discards the changes made after this call
+   *   <li>Implementors must not write to the database or the log stream
+   * </ul>
+   */
+  default void onCommit() {}
 }
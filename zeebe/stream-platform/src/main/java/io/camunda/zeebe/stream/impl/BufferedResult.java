@@ -61,6 +61,11 @@ final class BufferedResult implements ProcessingResult, TaskResult {
     return aggregatedResult;
   }
 
+  @Override
+  public boolean hasPostCommitTasks() {
+    return !postCommitTasks.isEmpty();
+  }
+
   @Override
   public boolean isEmpty() {
     return getProcessingResponse().isEmpty()
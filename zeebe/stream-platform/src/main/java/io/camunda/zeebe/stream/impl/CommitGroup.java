@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.ProcessingResponse;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.prometheus.client.Histogram;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Collects the processed batches whose state changes are not committed yet, so the changes of
+ * several consecutive batches are committed in one transaction. The follow-up records of a deferred
+ * batch are already written, but its responses must only be sent after the group was committed, to
+ * keep the guarantee that the state is committed before a response is sent. Batches with post
+ * commit tasks are never deferred, as their tasks may capture state which is reused by the
+ * processor for the next batch.
+ *
+ * <p>A group is bounded by the number of batches it contains, and by the time since its first
+ * batch was processed. With a max of one batch per group, no batch is ever deferred.
+ */
+final class CommitGroup {
+
+  private final int maxBatches;
+  private final long maxDelayMillis;
+  private final List<DeferredBatch> batches = new ArrayList<>();
+  private long startTime;
+
+  CommitGroup(final int maxBatches, final Duration maxDelay) {
+    this.maxBatches = maxBatches;
+    maxDelayMillis = maxDelay.toMillis();
+  }
+
+  /**
+   * @return true if the commit of the current batch can be deferred, because the group has room
+   *     for at least one more batch after it and the group is not due yet
+   */
+  boolean canDefer(final long now) {
+    return batches.size() + 2 <= maxBatches && !isDue(now);
+  }
+
+  /**
+   * @return true if the group contains batches which were deferred for too long already
+   */
+  boolean isDue(final long now) {
+    return !batches.isEmpty() && now - startTime >= maxDelayMillis;
+  }
+
+  void defer(final DeferredBatch batch, final long now) {
+    if (batches.isEmpty()) {
+      startTime = now;
+    }
+    batches.add(batch);
+  }
+
+  boolean isEmpty() {
+    return batches.isEmpty();
+  }
+
+  int size() {
+    return batches.size();
+  }
+
+  /**
+   * @return the time when the first batch of the group was deferred
+   */
+  long startTime() {
+    return startTime;
+  }
+
+  DeferredBatch lastBatch() {
+    return batches.get(batches.size() - 1);
+  }
+
+  /**
+   * Removes all deferred batches from the group, e.g. because the group was committed.
+   *
+   * @return the removed batches, in the order they were processed
+   */
+  List<DeferredBatch> removeAll() {
+    final var removed = List.copyOf(batches);
+    batches.clear();
+    return removed;
+  }
+
+  /**
+   * A processed batch, whose state changes are not committed yet.
+   *
+   * @param command a copy of the command which started the batch
+   * @param writtenPosition the position of the last record written for the batch
+   * @param intent the intent of the command
+   * @param key the key of the command
+   * @param responses the responses to send once the batch is committed
+   * @param processingTimer the timer of the processing duration, which ends with the responses
+   */
+  record DeferredBatch(
+      TypedRecord<?> command,
+      long writtenPosition,
+      Intent intent,
+      long key,
+      Collection<ProcessingResponse> responses,
+      Histogram.Timer processingTimer) {}
+}
@@ -38,8 +38,10 @@ import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
+import io.camunda.zeebe.stream.impl.CommitGroup.DeferredBatch;
 import io.camunda.zeebe.stream.impl.metrics.ProcessingMetrics;
 import io.camunda.zeebe.stream.impl.metrics.StreamProcessorMetrics;
+import io.camunda.zeebe.stream.impl.records.CopiedRecords;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
 import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import io.camunda.zeebe.stream.impl.records.UnwrittenRecord;
@@ -95,6 +97,12 @@ import org.slf4j.Logger;
  *                                       +-----+
  *
  * </pre>
+ *
+ * <p>If commit groups are enabled (see {@link
+ * StreamProcessorContext#getMaxBatchesInCommitGroup()}), updateState() may defer the commit of a
+ * batch and continue with the next record right away. The deferred batches are committed together
+ * with a later batch, and only then are their responses sent. Batches with post commit tasks are
+ * never deferred. See {@link CommitGroup}.
  */
 public final class ProcessingStateMachine {
 
@@ -109,6 +117,8 @@ public final class ProcessingStateMachine {
       "Expected to execute side effects for record '{} {}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_UPDATE_STATE_FAILED =
       "Expected to successfully update state for record '{} {}', but caught an exception. Retry.";
+  private static final String ERROR_MESSAGE_COMMIT_GROUP_FAILED =
+      "Expected to commit the state changes of %d processed batches up to record '%s', but caught an exception. Their follow-up records are written already, so the state must be recovered by replaying the log.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_RETRY_PROCESSING =
       "Expected to process record '{} {}' successfully on stream processor, but caught recoverable exception. Retry processing.";
   private static final String ERROR_MESSAGE_PROCESSING_FAILED_UNRECOVERABLE =
@@ -163,6 +173,9 @@ public final class ProcessingStateMachine {
   private int processedCommandsCount;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
+  private final CommitGroup commitGroup;
+  // batches which are committed, but whose side effects were not executed yet
+  private final ArrayDeque<DeferredBatch> committedBatches = new ArrayDeque<>();
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
 
   public ProcessingStateMachine(
@@ -181,6 +194,8 @@ public final class ProcessingStateMachine {
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
     maxCommandsInBatch = context.getMaxCommandsInBatch();
+    commitGroup =
+        new CommitGroup(context.getMaxBatchesInCommitGroup(), context.getMaxCommitGroupDelay());
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -235,7 +250,17 @@ public final class ProcessingStateMachine {
               && lastWrittenPosition <= previousRecord.getPosition();
     }
 
-    if (shouldProcessNext.getAsBoolean() && hasNext && !inProcessing) {
+    if (inProcessing) {
+      return;
+    }
+
+    final var processNext = shouldProcessNext.getAsBoolean() && hasNext;
+    if (!commitGroup.isEmpty()
+        && (!processNext || commitGroup.isDue(ActorClock.currentTimeMillis()))) {
+      // don't hold back the side effects of the deferred batches, if no command can be added to
+      // the group right now or if the group was deferred for too long already
+      commitDeferredBatches();
+    } else if (processNext) {
       currentRecord = logStreamReader.next();
 
       if (processingFilter.applies(currentRecord)) {
@@ -441,7 +466,13 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
-              zeebeDbTransaction.rollback();
+              if (commitGroup.isEmpty()) {
+                zeebeDbTransaction.rollback();
+              } else {
+                // only roll back the current batch, the deferred batches are still valid
+                zeebeDbTransaction.rollbackToSavepoint();
+              }
+              recordProcessors.forEach(RecordProcessor::onRollback);
               return true;
             },
             abortCondition);
@@ -635,11 +666,55 @@ public final class ProcessingStateMachine {
             // of written records via the lastWritten and now written position.
             final var amount = writtenPosition - lastWrittenPosition;
             metrics.recordsWritten(amount);
-            updateState();
+            commitOrDefer();
           }
         });
   }
 
+  /**
+   * Defers the commit of the current batch if the commit group has room for more batches and the
+   * next command can be processed right away, otherwise commits the current batch together with
+   * all deferred batches. Batches of the error handling are never deferred, and neither are batches
+   * with post commit tasks, as these may capture state which the processor reuses for the next
+   * batch.
+   */
+  private void commitOrDefer() {
+    final var now = ActorClock.currentTimeMillis();
+    if (errorHandlingPhase != ErrorHandlingPhase.NO_ERROR
+        || currentProcessingResult.hasPostCommitTasks()
+        || !commitGroup.canDefer(now)
+        || !shouldProcessNext.getAsBoolean()
+        || !logStreamReader.hasNext()) {
+      updateState();
+      return;
+    }
+
+    try {
+      // marks the end of the deferred batches, so that the next batch can be rolled back alone
+      zeebeDbTransaction.setSavepoint();
+    } catch (final Exception e) {
+      LOG.debug("Failed to set save point, commit the current batch instead of deferring it", e);
+      updateState();
+      return;
+    }
+    recordProcessors.forEach(RecordProcessor::onCommit);
+    // the follow-up records are written already, so the end of the log is only reached after them
+    lastWrittenPosition = writtenPosition;
+
+    commitGroup.defer(
+        new DeferredBatch(
+            CopiedRecords.createCopiedTypedRecord(context.getPartitionId(), currentRecord),
+            writtenPosition,
+            metadata.getIntent(),
+            currentRecord.getKey(),
+            pendingResponses,
+            processingTimer),
+        now);
+
+    markProcessingCompleted();
+    actor.submit(this::tryToReadNextRecord);
+  }
+
   private void updateState() {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
@@ -657,6 +732,7 @@ public final class ProcessingStateMachine {
         (bool, throwable) -> {
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentRecord, metadata, throwable);
+            failIfBatchesAreDeferred(throwable);
             onError(
                 throwable,
                 () -> {
@@ -664,36 +740,112 @@ public final class ProcessingStateMachine {
                   updateState();
                 });
           } else {
+            recordProcessors.forEach(RecordProcessor::onCommit);
+            onDeferredBatchesCommitted(1);
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
             executeSideEffects();
           }
         });
   }
 
+  /**
+   * Commits the deferred batches on their own, e.g. because there is no next command to process
+   * right now, and sends their responses.
+   */
+  private void commitDeferredBatches() {
+    inProcessing = true;
+    final var lastBatch = commitGroup.lastBatch();
+    final ActorFuture<Boolean> retryFuture =
+        updateStateRetryStrategy.runWithRetry(
+            () -> {
+              zeebeDbTransaction.commit();
+              lastSuccessfulProcessedRecordPosition = lastBatch.command().getPosition();
+              metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
+              lastWrittenPosition = lastBatch.writtenPosition();
+              return true;
+            },
+            abortCondition);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            failIfBatchesAreDeferred(throwable);
+            return;
+          }
+
+          recordProcessors.forEach(RecordProcessor::onCommit);
+          onDeferredBatchesCommitted(0);
+          sendCommittedBatchesResponses();
+          markProcessingCompleted();
+          actor.submit(this::tryToReadNextRecord);
+        });
+  }
+
+  /**
+   * Moves the deferred batches, which are committed now, to the batches whose responses are sent
+   * next, and observes the size of the committed group.
+   *
+   * @param additionalBatches the number of batches committed together with the deferred batches
+   */
+  private void onDeferredBatchesCommitted(final int additionalBatches) {
+    final var now = ActorClock.currentTimeMillis();
+    final var delay = commitGroup.isEmpty() ? 0 : now - commitGroup.startTime();
+    processingMetrics.observeCommitGroup(commitGroup.size() + additionalBatches, delay);
+
+    for (final var batch : commitGroup.removeAll()) {
+      scheduledCommandCache.remove(batch.intent(), batch.key());
+      committedBatches.addLast(batch);
+    }
+  }
+
+  /**
+   * Fails the stream processor if the commit of deferred batches failed. Their follow-up records
+   * are written already, so their state changes must neither be rolled back nor be handled like
+   * the failure of a single batch. Instead, the state is recovered from the last snapshot and the
+   * log, which contains the follow-up records of all deferred batches.
+   */
+  private void failIfBatchesAreDeferred(final Throwable error) {
+    if (commitGroup.isEmpty()) {
+      return;
+    }
+
+    final var message =
+        ERROR_MESSAGE_COMMIT_GROUP_FAILED.formatted(
+            commitGroup.size(), commitGroup.lastBatch().command());
+    commitGroup.removeAll().forEach(batch -> batch.processingTimer().close());
+    throw new IllegalStateException(message, error);
+  }
+
+  /**
+   * Sends the responses of the committed batches in order. Deferred batches have no post commit
+   * tasks, so sending their responses is all that is left to do for them.
+   */
+  private void sendCommittedBatchesResponses() {
+    while (!committedBatches.isEmpty()) {
+      final var batch = committedBatches.removeFirst();
+      sendResponses(batch.responses());
+      completeBatch(batch.command(), batch.processingTimer());
+    }
+  }
+
+  private void completeBatch(final TypedRecord<?> command, final Histogram.Timer timer) {
+    notifyProcessedListener(command);
+    // observe the processing duration
+    timer.close();
+  }
+
   private void executeSideEffects() {
+    // the responses of the batches committed together with the current batch go first
+    sendCommittedBatchesResponses();
+
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
             () -> {
               // TODO refactor this into two parallel tasks, which are then combined, and on the
               // completion of which the process continues
-              for (final var processingResponse : pendingResponses) {
-                final var responseWriter = context.getCommandResponseWriter();
-
-                final var responseValue = processingResponse.responseValue();
-                final var recordMetadata = responseValue.recordMetadata();
-                responseWriter
-                    .intent(recordMetadata.getIntent())
-                    .key(responseValue.key())
-                    .recordType(recordMetadata.getRecordType())
-                    .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
-                    .rejectionType(recordMetadata.getRejectionType())
-                    .partitionId(context.getPartitionId())
-                    .valueType(recordMetadata.getValueType())
-                    .valueWriter(responseValue.recordValue())
-                    .tryWriteResponse(
-                        processingResponse.requestStreamId(), processingResponse.requestId());
-              }
-              return executePostCommitTasks();
+              sendResponses(pendingResponses);
+              return executePostCommitTasks(currentProcessingResult);
             },
             abortCondition);
 
@@ -705,10 +857,7 @@ public final class ProcessingStateMachine {
                 ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentRecord, metadata, throwable);
           }
 
-          notifyProcessedListener(typedCommand);
-
-          // observe the processing duration
-          processingTimer.close();
+          completeBatch(typedCommand, processingTimer);
 
           // continue with next record
           markProcessingCompleted();
@@ -716,9 +865,28 @@ public final class ProcessingStateMachine {
         });
   }
 
-  private boolean executePostCommitTasks() {
+  private void sendResponses(final Collection<ProcessingResponse> responses) {
+    for (final var processingResponse : responses) {
+      final var responseWriter = context.getCommandResponseWriter();
+
+      final var responseValue = processingResponse.responseValue();
+      final var recordMetadata = responseValue.recordMetadata();
+      responseWriter
+          .intent(recordMetadata.getIntent())
+          .key(responseValue.key())
+          .recordType(recordMetadata.getRecordType())
+          .rejectionReason(BufferUtil.wrapString(recordMetadata.getRejectionReason()))
+          .rejectionType(recordMetadata.getRejectionType())
+          .partitionId(context.getPartitionId())
+          .valueType(recordMetadata.getValueType())
+          .valueWriter(responseValue.recordValue())
+          .tryWriteResponse(processingResponse.requestStreamId(), processingResponse.requestId());
+    }
+  }
+
+  private boolean executePostCommitTasks(final ProcessingResult processingResult) {
     try (final var timer = processingMetrics.startBatchProcessingPostCommitTasksTimer()) {
-      return currentProcessingResult.executePostCommitTasks();
+      return processingResult.executePostCommitTasks();
     }
   }
 
@@ -200,6 +200,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     final boolean onRetry = zeebeDbTransaction != null;
     if (onRetry) {
       zeebeDbTransaction.rollback();
+      recordProcessors.forEach(RecordProcessor::onRollback);
       // reading the whole batch from the beginning again
       batch.head();
     }
@@ -216,6 +217,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
 
     zeebeDbTransaction.commit();
     zeebeDbTransaction = null;
+    recordProcessors.forEach(RecordProcessor::onCommit);
 
     return true;
   }
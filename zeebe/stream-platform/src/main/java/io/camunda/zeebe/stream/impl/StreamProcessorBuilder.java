@@ -17,6 +17,7 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.NoopScheduledCommandCache;
 import io.camunda.zeebe.stream.api.scheduling.ScheduledCommandCache.StageableScheduledCommandCache;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -145,6 +146,18 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxBatchesInCommitGroup() < 1) {
+      throw new IllegalArgumentException(
+          "Commit group limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxBatchesInCommitGroup()));
+    }
+    Objects.requireNonNull(
+        streamProcessorContext.getMaxCommitGroupDelay(), "No max commit group delay provided.");
+    if (streamProcessorContext.getMaxCommitGroupDelay().isNegative()) {
+      throw new IllegalArgumentException(
+          "Max commit group delay must not be negative but was %s"
+              .formatted(streamProcessorContext.getMaxCommitGroupDelay()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -152,6 +165,24 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Sets the max number of processed batches whose state changes are committed together in one
+   * transaction. By default, it is 1, i.e. every batch is committed on its own.
+   */
+  public StreamProcessorBuilder maxBatchesInCommitGroup(final int maxBatchesInCommitGroup) {
+    streamProcessorContext.maxBatchesInCommitGroup(maxBatchesInCommitGroup);
+    return this;
+  }
+
+  /**
+   * Sets the max time between processing the first batch of a commit group and committing the
+   * group. Only applies if {@link #maxBatchesInCommitGroup(int)} is greater than 1.
+   */
+  public StreamProcessorBuilder maxCommitGroupDelay(final Duration maxCommitGroupDelay) {
+    streamProcessorContext.maxCommitGroupDelay(maxCommitGroupDelay);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
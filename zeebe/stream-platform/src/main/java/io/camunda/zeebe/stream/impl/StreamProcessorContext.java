@@ -21,11 +21,14 @@ import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_BATCHES_IN_COMMIT_GROUP = 1;
+  public static final Duration DEFAULT_MAX_COMMIT_GROUP_DELAY = Duration.ofMillis(10);
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -48,6 +51,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxBatchesInCommitGroup = DEFAULT_MAX_BATCHES_IN_COMMIT_GROUP;
+  private Duration maxCommitGroupDelay = DEFAULT_MAX_COMMIT_GROUP_DELAY;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
 
@@ -206,6 +211,24 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public StreamProcessorContext maxBatchesInCommitGroup(final int maxBatchesInCommitGroup) {
+    this.maxBatchesInCommitGroup = maxBatchesInCommitGroup;
+    return this;
+  }
+
+  public int getMaxBatchesInCommitGroup() {
+    return maxBatchesInCommitGroup;
+  }
+
+  public StreamProcessorContext maxCommitGroupDelay(final Duration maxCommitGroupDelay) {
+    this.maxCommitGroupDelay = maxCommitGroupDelay;
+    return this;
+  }
+
+  public Duration getMaxCommitGroupDelay() {
+    return maxCommitGroupDelay;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
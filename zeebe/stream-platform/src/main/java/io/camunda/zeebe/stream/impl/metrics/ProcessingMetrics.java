@@ -54,6 +54,24 @@ public class ProcessingMetrics {
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
+  private static final Histogram COMMIT_GROUP_BATCHES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_commit_group_batches")
+          .help("Records the distribution of processed batches committed in one transaction")
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram COMMIT_GROUP_DELAY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_commit_group_delay")
+          .help("Time from processing the first batch of a group until its commit (in seconds)")
+          .buckets(.0001, .0005, .001, .0025, .005, .01, .025, .05, .1)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
   private static final Enumeration ERROR_HANDLING_PHASE =
       Enumeration.build()
           .namespace(NAMESPACE)
@@ -67,6 +85,8 @@ public class ProcessingMetrics {
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Child commitGroupBatches;
+  private final Child commitGroupDelay;
   private final Enumeration.Child errorHandlingPhase;
 
   public ProcessingMetrics(final String partitionIdLabel) {
@@ -74,6 +94,8 @@ public class ProcessingMetrics {
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    commitGroupBatches = COMMIT_GROUP_BATCHES.labels(partitionIdLabel);
+    commitGroupDelay = COMMIT_GROUP_DELAY.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
   }
 
@@ -93,6 +115,11 @@ public class ProcessingMetrics {
     return batchProcessingPostCommitTasks.startTimer();
   }
 
+  public void observeCommitGroup(final int batchCount, final long delayMillis) {
+    commitGroupBatches.observe(batchCount);
+    commitGroupDelay.observe(delayMillis / 1000.0);
+  }
+
   public void errorHandlingPhase(final ErrorHandlingPhase phase) {
     errorHandlingPhase.state(phase);
   }
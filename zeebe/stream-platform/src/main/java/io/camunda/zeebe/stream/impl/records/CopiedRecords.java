@@ -9,6 +9,7 @@ package io.camunda.zeebe.stream.impl.records;
 
 import static io.camunda.zeebe.stream.impl.TypedEventRegistry.EVENT_REGISTRY;
 
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -53,4 +54,26 @@ public final class CopiedRecords {
         rawEvent.getSourceEventPosition(),
         rawEvent.getTimestamp());
   }
+
+  /**
+   * Creates a typed record which is backed by a copy of the given event, so it stays valid after
+   * the reader moved on, unlike the records which wrap the reader's buffer.
+   */
+  public static TypedRecordImpl createCopiedTypedRecord(
+      final int partitionId, final LoggedEvent rawEvent) {
+    final var eventBuffer = new UnsafeBuffer(new byte[rawEvent.getLength()]);
+    rawEvent.write(eventBuffer, 0);
+    final var event = new LoggedEventImpl();
+    event.wrap(eventBuffer, 0);
+
+    final var metadata = new RecordMetadata();
+    event.readMetadata(metadata);
+    final UnifiedRecordValue recordValue =
+        ReflectUtil.newInstance(EVENT_REGISTRY.get(metadata.getValueType()));
+    event.readValue(recordValue);
+
+    final var record = new TypedRecordImpl(partitionId);
+    record.wrap(event, metadata, recordValue);
+    return record;
+  }
 }
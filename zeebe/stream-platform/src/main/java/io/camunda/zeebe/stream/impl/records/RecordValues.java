@@ -12,27 +12,33 @@ import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.stream.impl.TypedEventRegistry;
 import io.camunda.zeebe.util.ReflectUtil;
-import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
 public final class RecordValues {
 
-  private final Map<ValueType, UnifiedRecordValue> eventCache;
-
-  public RecordValues() {
-    final EnumMap<ValueType, UnifiedRecordValue> cache = new EnumMap<>(ValueType.class);
-    TypedEventRegistry.EVENT_REGISTRY.forEach((t, c) -> cache.put(t, ReflectUtil.newInstance(c)));
-
-    eventCache = Collections.unmodifiableMap(cache);
-  }
+  private final Map<ValueType, UnifiedRecordValue> eventCache = new EnumMap<>(ValueType.class);
 
   public UnifiedRecordValue readRecordValue(final LoggedEvent event, final ValueType valueType) {
-    final UnifiedRecordValue value = eventCache.get(valueType);
+    final UnifiedRecordValue value = eventCache.computeIfAbsent(valueType, RecordValues::newValue);
     if (value != null) {
       value.reset();
       event.readValue(value);
     }
     return value;
   }
+
+  // values are created on first use, as a reader usually sees only a few of the value types
+  private static UnifiedRecordValue newValue(final ValueType valueType) {
+    final var valueClass = TypedEventRegistry.EVENT_REGISTRY.get(valueType);
+    if (valueClass == null) {
+      return null;
+    }
+
+    final UnifiedRecordValue value = ReflectUtil.newInstance(valueClass);
+    // records on the log were validated before they were written, and processors usually
+    // access only a few properties of a record, so it's sufficient to decode them on access
+    value.setLazyDecoding(true);
+    return value;
+  }
 }
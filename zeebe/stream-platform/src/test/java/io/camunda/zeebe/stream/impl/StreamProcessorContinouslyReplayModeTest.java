@@ -61,6 +61,7 @@ public final class StreamProcessorContinouslyReplayModeTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT.times(2)).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
 
     Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
@@ -103,6 +104,7 @@ public final class StreamProcessorContinouslyReplayModeTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT.times(1)).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -155,6 +157,7 @@ public final class StreamProcessorContinouslyReplayModeTest {
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).init(any());
     inOrder.verify(recordProcessor, TIMEOUT.times(1)).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
 
     Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.PAUSED);
@@ -179,6 +182,7 @@ public final class StreamProcessorContinouslyReplayModeTest {
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).init(any());
     inOrder.verify(recordProcessor, TIMEOUT.times(1)).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
 
     Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
@@ -212,6 +216,7 @@ public final class StreamProcessorContinouslyReplayModeTest {
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).init(any());
     inOrder.verify(recordProcessor, TIMEOUT.times(2)).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
 
     Assertions.assertThat(streamProcessor.getCurrentPhase().join()).isEqualTo(Phase.REPLAY);
@@ -234,6 +239,7 @@ public final class StreamProcessorContinouslyReplayModeTest {
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).init(any());
     inOrder.verify(recordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
 
     Awaitility.await("position has to be updated during replay")
@@ -30,6 +30,7 @@ import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -62,6 +63,7 @@ final class StreamProcessorReplayTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -87,7 +89,9 @@ final class StreamProcessorReplayTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verify(recordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -107,6 +111,7 @@ final class StreamProcessorReplayTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -126,6 +131,30 @@ final class StreamProcessorReplayTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).init(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
+    inOrder.verifyNoMoreInteractions();
+  }
+
+  @Test
+  void shouldRollbackRecordProcessorsBeforeRetryingBatch() {
+    // given
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doThrow(new RecoverableException("expected")).doNothing().when(recordProcessor).replay(any());
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0));
+
+    // when
+    streamPlatform.startStreamProcessor();
+
+    // then
+    final InOrder inOrder = inOrder(recordProcessor);
+    inOrder.verify(recordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onRollback();
+    inOrder.verify(recordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -150,6 +179,7 @@ final class StreamProcessorReplayTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
 
     Awaitility.await("position has to be set on processing start")
@@ -239,6 +269,7 @@ final class StreamProcessorReplayTest {
     final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
     final InOrder inOrder = inOrder(recordProcessor);
     inOrder.verify(recordProcessor, TIMEOUT).replay(recordCaptor.capture());
+    inOrder.verify(recordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
 
     assertThat(recordCaptor.getValue().getKey()).isEqualTo(eventKeyAfterSnapshot);
@@ -337,6 +368,7 @@ final class StreamProcessorReplayTest {
     inOrder.verify(processorWhichFails, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(processorWhichFails, TIMEOUT).process(any(), any());
     inOrder.verify(processorWhichFails, TIMEOUT).onProcessingError(any(), any(), any());
+    inOrder.verify(processorWhichFails, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -54,8 +54,10 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.AssertionsForClassTypes;
@@ -160,8 +162,10 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).replay(any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onCommit();
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -185,9 +189,11 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -844,6 +850,129 @@ public final class StreamProcessorTest {
     AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 1);
   }
 
+  @Test
+  public void shouldCommitStateBeforeSendingResponsesOfCommitGroup() {
+    // given
+    final var testProcessor = spy(new TestProcessor());
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext()).nextKey();
+        };
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.withResponse(
+        RecordType.EVENT,
+        3,
+        ELEMENT_ACTIVATING,
+        Records.processInstance(1),
+        ValueType.PROCESS_INSTANCE,
+        RejectionType.NULL_VAL,
+        "",
+        1,
+        12);
+    testProcessor.processingResult = resultBuilder.build();
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInCommitGroup(10));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+    final var commandResponseWriter = streamPlatform.getMockCommandResponseWriter();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(commandResponseWriter, TIMEOUT.times(3)).tryWriteResponse(anyInt(), anyLong());
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 4);
+  }
+
+  @Test
+  public void shouldOnlyRollbackFailedBatchOfCommitGroup() {
+    // given
+    final var testProcessor = spy(new TestProcessor());
+    final var processed = new AtomicInteger();
+    testProcessor.processingAction =
+        (ctx) -> {
+          final var zeebeDb = ctx.getZeebeDb();
+          new DbKeyGenerator(1, zeebeDb, ctx.getTransactionContext()).nextKey();
+
+          if (processed.incrementAndGet() == 2) {
+            throw new RuntimeException("expected");
+          }
+        };
+    // in order to not mark the processing as skipped we need to return a result
+    final var resultBuilder = new BufferedProcessingResultBuilder((c, s) -> true);
+    resultBuilder.withResponse(
+        RecordType.EVENT,
+        3,
+        ELEMENT_ACTIVATING,
+        Records.processInstance(1),
+        ValueType.PROCESS_INSTANCE,
+        RejectionType.NULL_VAL,
+        "",
+        1,
+        12);
+    testProcessor.processingResult = resultBuilder.build();
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInCommitGroup(10));
+
+    final var zeebeDb = testProcessor.recordProcessorContext.getZeebeDb();
+    final var keyGenerator = new DbKeyGenerator(1, zeebeDb, zeebeDb.createContext());
+    final var firstKey = keyGenerator.nextKey();
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    verify(testProcessor, TIMEOUT.times(1)).onRollback();
+
+    final var nextKey = keyGenerator.nextKey();
+    AssertionsForClassTypes.assertThat(nextKey).isEqualTo(firstKey + 3);
+  }
+
+  @Test
+  public void shouldExecutePostCommitTasksBeforeProcessingNextCommandInCommitGroup() {
+    // given
+    final var testProcessor = spy(new TestProcessor());
+    final var processed = new AtomicInteger();
+    final var processedOnPostCommit = new CopyOnWriteArrayList<Integer>();
+    testProcessor.processingAction = (ctx) -> processed.incrementAndGet();
+    // the post commit task captures state which is changed again by the next command
+    testProcessor.processingResult =
+        new BufferedProcessingResultBuilder((c, s) -> true)
+            .appendPostCommitTask(() -> processedOnPostCommit.add(processed.get()))
+            .build();
+    streamPlatform
+        .withRecordProcessors(List.of(testProcessor))
+        .buildStreamProcessor(
+            streamPlatform.getLogStream(), true, cfg -> cfg.maxBatchesInCommitGroup(10));
+
+    // when
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+
+    // then
+    verify(streamPlatform.getMockStreamProcessorListener(), TIMEOUT.times(3)).onProcessed(any());
+    assertThat(processedOnPostCommit).isEqualTo(List.of(1, 2, 3));
+  }
+
   @Test
   public void shouldWriteResponse() {
     // given
@@ -1392,9 +1521,11 @@ public final class StreamProcessorTest {
     inOrder.verify(defaultRecordProcessor, TIMEOUT).init(any());
     inOrder.verify(defaultRecordProcessor, TIMEOUT).accepts(ValueType.PROCESS_INSTANCE);
     inOrder.verify(defaultRecordProcessor, TIMEOUT).process(any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onRollback();
     inOrder
         .verify(defaultRecordProcessor, TIMEOUT)
         .onProcessingError(eq(processingError), any(), any());
+    inOrder.verify(defaultRecordProcessor, TIMEOUT).onCommit();
     inOrder.verifyNoMoreInteractions();
   }
 
@@ -22,6 +22,8 @@ class FeatureFlagsTest {
     assertThat(sut.yieldingDueDateChecker()).isTrue();
     assertThat(sut.enableActorMetrics()).isFalse();
     assertThat(sut.enableMessageTTLCheckerAsync()).isFalse();
+    assertThat(sut.enablePartitionJobNotifications()).isFalse();
+    assertThat(sut.enableCompiledExpressions()).isFalse();
   }
 
   @Test
@@ -32,5 +34,7 @@ class FeatureFlagsTest {
     // then
     assertThat(sut.yieldingDueDateChecker()).isTrue();
     assertThat(sut.enableMessageTTLCheckerAsync()).isTrue();
+    assertThat(sut.enablePartitionJobNotifications()).isTrue();
+    assertThat(sut.enableCompiledExpressions()).isTrue();
   }
 }
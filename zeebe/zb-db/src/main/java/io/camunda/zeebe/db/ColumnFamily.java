@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,19 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys at once, which is cheaper than looking them up one by
+   * one. Uncommitted writes of the current transaction are visible, just like with {@link
+   * #get(DbKey)}.
+   *
+   * <p>The visitor is called in the order of the given keys, but only for keys which were found.
+   * Be aware that the given DbValue is reused between calls and should not be stored.
+   *
+   * @param keys the keys to look up; each key must be a separate instance
+   * @param visitor called with each key that was found and its value
+   */
+  void multiGet(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -55,6 +55,17 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<? extends EnumValue> & En
 
   TransactionContext createContext();
 
+  /**
+   * Creates a transaction context like {@link #createContext()}, which additionally caches point
+   * lookups of its column families in memory, if the database is configured to do so. The cache is
+   * only used by this context. It should be used for the context which does most of the reads and
+   * writes, i.e. the one of the stream processor, and at most one such context should be in use at
+   * a time.
+   */
+  default TransactionContext createCachedContext() {
+    return createContext();
+  }
+
   /**
    * Checks the database if the given column is empty.
    *
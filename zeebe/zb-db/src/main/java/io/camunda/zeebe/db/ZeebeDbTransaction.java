@@ -38,4 +38,24 @@ public interface ZeebeDbTransaction {
    * @throws Exception if the underlying database has a non recoverable exception thrown
    */
   void rollback() throws Exception;
+
+  /**
+   * Marks the current state of the transaction, so later changes can be discarded without
+   * discarding the changes made before. Save points are released when the transaction is committed
+   * or rolled back.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown
+   */
+  void setSavepoint() throws Exception;
+
+  /**
+   * Discards all changes made since the latest save point, but keeps the changes made before it.
+   * The save point is kept, so the transaction can be rolled back to it again.
+   *
+   * @throws ZeebeDbException if the underlying database has a recoverable exception thrown
+   * @throws Exception if the underlying database has a non recoverable exception thrown, or if no
+   *     save point was set
+   */
+  void rollbackToSavepoint() throws Exception;
 }
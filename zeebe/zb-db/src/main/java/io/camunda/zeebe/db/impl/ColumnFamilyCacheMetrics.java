@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl;
+
+import io.camunda.zeebe.protocol.EnumValue;
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class ColumnFamilyCacheMetrics {
+
+  private static final Counter REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_read_cache_requests_total")
+          .labelNames("partition", "columnFamily", "result")
+          .help("Number of point lookups served by the read cache, per column family and result")
+          .register();
+
+  private static final Counter EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_read_cache_evictions_total")
+          .labelNames("partition", "columnFamily")
+          .help("Number of entries evicted from the read cache per column family")
+          .register();
+
+  private static final Counter INVALIDATIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("rocksdb_read_cache_invalidations_total")
+          .labelNames("partition", "columnFamily")
+          .help("Number of times the read cache was cleared due to a rollback or foreign write")
+          .register();
+
+  private static final Gauge SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("rocksdb_read_cache_size_bytes")
+          .labelNames("partition", "columnFamily")
+          .help("Approximate size of the read cache per column family in bytes")
+          .register();
+
+  private final Counter.Child hits;
+  private final Counter.Child misses;
+  private final Counter.Child evictions;
+  private final Counter.Child invalidations;
+  private final Gauge.Child size;
+
+  public <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      ColumnFamilyCacheMetrics(final int partitionId, final ColumnFamilyNames columnFamily) {
+    final var partitionLabel = String.valueOf(partitionId);
+    final var columnFamilyLabel = columnFamily.name();
+    hits = REQUESTS.labels(partitionLabel, columnFamilyLabel, "hit");
+    misses = REQUESTS.labels(partitionLabel, columnFamilyLabel, "miss");
+    evictions = EVICTIONS.labels(partitionLabel, columnFamilyLabel);
+    invalidations = INVALIDATIONS.labels(partitionLabel, columnFamilyLabel);
+    size = SIZE.labels(partitionLabel, columnFamilyLabel);
+  }
+
+  public void hit() {
+    hits.inc();
+  }
+
+  public void miss() {
+    misses.inc();
+  }
+
+  public void evicted() {
+    evictions.inc();
+  }
+
+  public void invalidated() {
+    invalidations.inc();
+  }
+
+  public void setSize(final long bytes) {
+    size.set(bytes);
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.rocksdb.CompactionStyle;
+
+/**
+ * Tuning of a native RocksDB column family, which holds one or more of the logical column families
+ * (e.g. {@code ZbColumnFamilies}) when {@link RocksDbConfiguration#isNativeColumnFamiliesEnabled()}
+ * is set.
+ *
+ * <p>Logical column families which are not part of any configured group each get their own native
+ * column family with the default tuning.
+ */
+public final class NativeColumnFamilyConfiguration {
+
+  public static final long DEFAULT_BLOCK_SIZE = 32 * 1024L;
+  public static final int DEFAULT_BLOOM_FILTER_BITS_PER_KEY = 10;
+
+  /**
+   * Keys are always prefixed with the 8 byte logical column family value, so the default prefix
+   * length only covers that prefix. Only increase it if every prefix iteration over the grouped
+   * families uses a prefix at least as long, otherwise seeks fall out of the prefix domain.
+   */
+  public static final int DEFAULT_PREFIX_LENGTH = Long.BYTES;
+
+  public static final CompactionStyle DEFAULT_COMPACTION_STYLE = CompactionStyle.LEVEL;
+
+  private Set<String> columnFamilies = new HashSet<>();
+  private long blockSize = DEFAULT_BLOCK_SIZE;
+  private int bloomFilterBitsPerKey = DEFAULT_BLOOM_FILTER_BITS_PER_KEY;
+  private int prefixLength = DEFAULT_PREFIX_LENGTH;
+  private CompactionStyle compactionStyle = DEFAULT_COMPACTION_STYLE;
+
+  public NativeColumnFamilyConfiguration() {}
+
+  /**
+   * @return the names of the logical column families (i.e. the enum constant names) stored in this
+   *     native column family
+   */
+  public Set<String> getColumnFamilies() {
+    return columnFamilies;
+  }
+
+  public NativeColumnFamilyConfiguration setColumnFamilies(final Set<String> columnFamilies) {
+    this.columnFamilies = columnFamilies;
+    return this;
+  }
+
+  public long getBlockSize() {
+    return blockSize;
+  }
+
+  public NativeColumnFamilyConfiguration setBlockSize(final long blockSize) {
+    this.blockSize = blockSize;
+    return this;
+  }
+
+  public int getBloomFilterBitsPerKey() {
+    return bloomFilterBitsPerKey;
+  }
+
+  public NativeColumnFamilyConfiguration setBloomFilterBitsPerKey(
+      final int bloomFilterBitsPerKey) {
+    this.bloomFilterBitsPerKey = bloomFilterBitsPerKey;
+    return this;
+  }
+
+  public int getPrefixLength() {
+    return prefixLength;
+  }
+
+  public NativeColumnFamilyConfiguration setPrefixLength(final int prefixLength) {
+    if (prefixLength < Long.BYTES) {
+      throw new IllegalArgumentException(
+          "Expected prefix length to cover at least the column family prefix of %d bytes, but was %d"
+              .formatted(Long.BYTES, prefixLength));
+    }
+    this.prefixLength = prefixLength;
+    return this;
+  }
+
+  public CompactionStyle getCompactionStyle() {
+    return compactionStyle;
+  }
+
+  public NativeColumnFamilyConfiguration setCompactionStyle(
+      final CompactionStyle compactionStyle) {
+    this.compactionStyle = compactionStyle;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "NativeColumnFamilyConfiguration{"
+        + "columnFamilies="
+        + columnFamilies
+        + ", blockSize="
+        + blockSize
+        + ", bloomFilterBitsPerKey="
+        + bloomFilterBitsPerKey
+        + ", prefixLength="
+        + prefixLength
+        + ", compactionStyle="
+        + compactionStyle
+        + '}';
+  }
+}
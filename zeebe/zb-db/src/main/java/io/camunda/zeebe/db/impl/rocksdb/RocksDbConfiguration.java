@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 public final class RocksDbConfiguration {
@@ -43,6 +45,23 @@ public final class RocksDbConfiguration {
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
 
+  /**
+   * When enabled, each logical column family (or each configured group of them) is stored in its
+   * own native RocksDB column family, with its own memtables, filters and compaction. Existing data
+   * is migrated lazily from the previous layout when a column family is first opened.
+   *
+   * <p>Since the WAL is disabled by default, flushes are made atomic across all native column
+   * families to keep checkpoints consistent, see {@link #DEFAULT_WAL_DISABLED}.
+   */
+  public static final boolean DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED = false;
+
+  /**
+   * Size in bytes of the in-memory read cache per column family, which serves point lookups of the
+   * stream processor without going to RocksDB. Writes go through the cache, and rolled back
+   * transactions invalidate it. A size of 0 or less disables the cache.
+   */
+  public static final long DEFAULT_READ_CACHE_SIZE = 0;
+
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
   private long memoryLimit = DEFAULT_MEMORY_LIMIT;
@@ -51,6 +70,15 @@ public final class RocksDbConfiguration {
   private boolean walDisabled = DEFAULT_WAL_DISABLED;
 
   private boolean sstPartitioningEnabled = DEFAULT_SST_PARTITIONING_ENABLED;
+  private boolean nativeColumnFamiliesEnabled = DEFAULT_NATIVE_COLUMN_FAMILIES_ENABLED;
+
+  /**
+   * Groups of logical column families sharing one native column family, keyed by the name of the
+   * native column family. Only used if {@link #nativeColumnFamiliesEnabled} is set.
+   */
+  private Map<String, NativeColumnFamilyConfiguration> nativeColumnFamilyGroups = new HashMap<>();
+
+  private long readCacheSize = DEFAULT_READ_CACHE_SIZE;
 
   /**
    * Defines how many files are kept open by RocksDB, per default it is unlimited (-1). This is done
@@ -155,4 +183,33 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public boolean isNativeColumnFamiliesEnabled() {
+    return nativeColumnFamiliesEnabled;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamiliesEnabled(
+      final boolean nativeColumnFamiliesEnabled) {
+    this.nativeColumnFamiliesEnabled = nativeColumnFamiliesEnabled;
+    return this;
+  }
+
+  public Map<String, NativeColumnFamilyConfiguration> getNativeColumnFamilyGroups() {
+    return nativeColumnFamilyGroups;
+  }
+
+  public RocksDbConfiguration setNativeColumnFamilyGroups(
+      final Map<String, NativeColumnFamilyConfiguration> nativeColumnFamilyGroups) {
+    this.nativeColumnFamilyGroups = nativeColumnFamilyGroups;
+    return this;
+  }
+
+  public long getReadCacheSize() {
+    return readCacheSize;
+  }
+
+  public RocksDbConfiguration setReadCacheSize(final long readCacheSize) {
+    this.readCacheSize = readCacheSize;
+    return this;
+  }
 }
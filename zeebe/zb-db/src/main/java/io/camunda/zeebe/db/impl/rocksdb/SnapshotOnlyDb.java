@@ -15,11 +15,16 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.agrona.CloseHelper;
 import org.rocksdb.Checkpoint;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -85,8 +90,26 @@ final class SnapshotOnlyDb<ColumnFamilyType extends Enum<? extends EnumValue> &
       ZeebeDb<ColumnFamilyType> openDb(
           final Options options, final String path, final List<AutoCloseable> managedResources)
           throws RocksDBException {
-    final RocksDB db = RocksDB.openReadOnly(options, path);
+    final var columnFamilies = RocksDB.listColumnFamilies(options, path);
+    if (columnFamilies.size() <= 1) {
+      final RocksDB db = RocksDB.openReadOnly(options, path);
+      managedResources.add(db);
+      return new SnapshotOnlyDb<>(db, managedResources);
+    }
+
+    // all native column families have to be opened, otherwise they would be missing from the
+    // checkpoint
+    final var dbOptions = new DBOptions(options);
+    managedResources.add(dbOptions);
+    final var cfOptions = new ColumnFamilyOptions(options);
+    managedResources.add(cfOptions);
+    final var descriptors =
+        columnFamilies.stream().map(name -> new ColumnFamilyDescriptor(name, cfOptions)).toList();
+    final List<ColumnFamilyHandle> handles = new ArrayList<>();
+    final RocksDB db = RocksDB.openReadOnly(dbOptions, path, descriptors, handles);
     managedResources.add(db);
+    // handles have to be closed before the database
+    managedResources.addAll(handles);
 
     return new SnapshotOnlyDb<>(db, managedResources);
   }
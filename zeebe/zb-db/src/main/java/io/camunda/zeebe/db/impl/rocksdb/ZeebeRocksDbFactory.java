@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.AccessMetricsConfiguration;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.impl.rocksdb.transaction.ColumnFamilyLayout;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbOptions;
 import io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb;
 import io.camunda.zeebe.protocol.EnumValue;
@@ -18,12 +19,15 @@ import java.io.File;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
+import org.rocksdb.Cache;
 import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.CompactionPriority;
 import org.rocksdb.CompactionStyle;
@@ -40,6 +44,7 @@ import org.rocksdb.SstPartitionerFixedPrefixFactory;
 import org.rocksdb.Statistics;
 import org.rocksdb.StatsLevel;
 import org.rocksdb.TableFormatConfig;
+import org.rocksdb.WriteBufferManager;
 
 public final class ZeebeRocksDbFactory<
         ColumnFamilyType extends Enum<? extends EnumValue> & EnumValue>
@@ -102,15 +107,72 @@ public final class ZeebeRocksDbFactory<
   }
 
   private RocksDbOptions prepareOptions(final List<AutoCloseable> managedResources) {
+    // the block cache is shared by all column families
+    final var blockCache = createBlockCache(managedResources);
     // column family options have to be closed as last
-    final var columnFamilyOptions = createColumnFamilyOptions(managedResources);
+    final var columnFamilyOptions = createColumnFamilyOptions(managedResources, blockCache);
     managedResources.add(columnFamilyOptions);
-    final var dbOptions = createDefaultDbOptions(managedResources);
+    final var layout = createColumnFamilyLayout(managedResources, columnFamilyOptions, blockCache);
+    final var dbOptions = createDefaultDbOptions(managedResources, blockCache);
     managedResources.add(dbOptions);
-    return new RocksDbOptions(dbOptions, columnFamilyOptions);
+    return new RocksDbOptions(dbOptions, columnFamilyOptions, layout);
   }
 
-  private DBOptions createDefaultDbOptions(final List<AutoCloseable> closeables) {
+  private ColumnFamilyLayout createColumnFamilyLayout(
+      final List<AutoCloseable> closeables,
+      final ColumnFamilyOptions defaultOptions,
+      final Cache blockCache) {
+    if (!rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      return ColumnFamilyLayout.prefixed(defaultOptions);
+    }
+
+    final Map<String, String> groupByColumnFamily = new HashMap<>();
+    final Map<String, ColumnFamilyOptions> groupOptions = new HashMap<>();
+    for (final var group : rocksDbConfiguration.getNativeColumnFamilyGroups().entrySet()) {
+      final var groupName = group.getKey();
+      if (groupName.equals(new String(RocksDB.DEFAULT_COLUMN_FAMILY))) {
+        throw new IllegalStateException(
+            "Expected native column family group to not be named '%s', as it is reserved by RocksDB"
+                .formatted(groupName));
+      }
+
+      final var options =
+          createNativeColumnFamilyOptions(closeables, group.getValue(), blockCache);
+      closeables.add(options);
+      groupOptions.put(groupName, options);
+
+      for (final var columnFamily : group.getValue().getColumnFamilies()) {
+        final var previousGroup = groupByColumnFamily.put(columnFamily, groupName);
+        if (previousGroup != null) {
+          throw new IllegalStateException(
+              "Expected column family %s to be part of a single native column family group, but it is part of %s and %s"
+                  .formatted(columnFamily, previousGroup, groupName));
+        }
+      }
+    }
+
+    return ColumnFamilyLayout.nativeFamilies(defaultOptions, groupByColumnFamily, groupOptions);
+  }
+
+  private ColumnFamilyOptions createNativeColumnFamilyOptions(
+      final List<AutoCloseable> closeables,
+      final NativeColumnFamilyConfiguration configuration,
+      final Cache blockCache) {
+    final var tableConfig =
+        createTableFormatConfig(
+            closeables,
+            blockCache,
+            configuration.getBlockSize(),
+            configuration.getBloomFilterBitsPerKey());
+
+    return createDefaultColumnFamilyOptions(closeables, blockCache)
+        .useFixedLengthPrefixExtractor(configuration.getPrefixLength())
+        .setCompactionStyle(configuration.getCompactionStyle())
+        .setTableFormatConfig(tableConfig);
+  }
+
+  private DBOptions createDefaultDbOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var props = new Properties();
     props.put("file_checksum_gen_factory", "FileChecksumGenCrc32cFactory");
     //    Enables full file checksum
@@ -123,7 +185,7 @@ public final class ZeebeRocksDbFactory<
             .setMaxOpenFiles(rocksDbConfiguration.getMaxOpenFiles())
             // 1 flush, 1 compaction
             .setMaxBackgroundJobs(2)
-            // we only use the default CF
+            // native column families, if enabled, are created on demand
             .setCreateMissingColumnFamilies(false)
             // may not be necessary when WAL is disabled, but nevertheless recommended to avoid
             // many small SST files
@@ -136,6 +198,18 @@ public final class ZeebeRocksDbFactory<
             .setLogFileTimeToRoll(Duration.ofMinutes(30).toSeconds())
             .setKeepLogFileNum(2);
 
+    if (rocksDbConfiguration.isNativeColumnFamiliesEnabled()) {
+      // every native column family has its own memtables, so we limit the memory of all of them
+      // together and account for it in the block cache to stay within the memory limit; as the WAL
+      // is usually disabled, flushes need to be atomic across column families to keep checkpoints
+      // consistent
+      final var writeBufferManager =
+          new WriteBufferManager(
+              rocksDbConfiguration.getMemoryLimit() - getBlockCacheMemory(), blockCache);
+      closeables.add(writeBufferManager);
+      dbOptions.setWriteBufferManager(writeBufferManager).setAtomicFlush(true);
+    }
+
     // limit I/O writes
     if (rocksDbConfiguration.getIoRateBytesPerSecond() > 0) {
       final RateLimiter rateLimiter =
@@ -162,6 +236,11 @@ public final class ZeebeRocksDbFactory<
    * @return Options which are used on all column families
    */
   ColumnFamilyOptions createColumnFamilyOptions(final List<AutoCloseable> closeables) {
+    return createColumnFamilyOptions(closeables, createBlockCache(closeables));
+  }
+
+  private ColumnFamilyOptions createColumnFamilyOptions(
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var userProvidedColumnFamilyOptions = rocksDbConfiguration.getColumnFamilyOptions();
     final var hasUserOptions = !userProvidedColumnFamilyOptions.isEmpty();
 
@@ -169,7 +248,7 @@ public final class ZeebeRocksDbFactory<
       return createFromUserOptions(userProvidedColumnFamilyOptions);
     }
 
-    return createDefaultColumnFamilyOptions(closeables);
+    return createDefaultColumnFamilyOptions(closeables, blockCache);
   }
 
   private ColumnFamilyOptions createFromUserOptions(
@@ -189,13 +268,11 @@ public final class ZeebeRocksDbFactory<
   }
 
   private ColumnFamilyOptions createDefaultColumnFamilyOptions(
-      final List<AutoCloseable> closeables) {
+      final List<AutoCloseable> closeables, final Cache blockCache) {
     final var columnFamilyOptions = new ColumnFamilyOptions();
 
     final var totalMemoryBudget = rocksDbConfiguration.getMemoryLimit();
-    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
-    // and filters into the block cache, so we don't need to account for more memory there
-    final var blockCacheMemory = totalMemoryBudget / 3;
+    final var blockCacheMemory = getBlockCacheMemory();
     // flushing the memtables is done asynchronously, so there may be multiple memtables in memory,
     // although only a single one is writable. once we have too many memtables, writes will stop.
     // since prefix iteration is our bread n butter, we will build an additional filter for each
@@ -213,7 +290,12 @@ public final class ZeebeRocksDbFactory<
             ((totalMemoryBudget - blockCacheMemory) / (double) maxConcurrentMemtableCount)
                 * (1 - memtablePrefixFilterMemory));
 
-    final var tableConfig = createTableFormatConfig(closeables, blockCacheMemory);
+    final var tableConfig =
+        createTableFormatConfig(
+            closeables,
+            blockCache,
+            NativeColumnFamilyConfiguration.DEFAULT_BLOCK_SIZE,
+            NativeColumnFamilyConfiguration.DEFAULT_BLOOM_FILTER_BITS_PER_KEY);
 
     if (rocksDbConfiguration.isSstPartitioningEnabled()) {
       columnFamilyOptions.setSstPartitionerFactory(
@@ -269,20 +351,38 @@ public final class ZeebeRocksDbFactory<
         .setTableFormatConfig(tableConfig);
   }
 
-  private TableFormatConfig createTableFormatConfig(
-      final List<AutoCloseable> closeables, final long blockCacheMemory) {
+  private long getBlockCacheMemory() {
+    // recommended by RocksDB, but we could tweak it; keep in mind we're also caching the indexes
+    // and filters into the block cache, so we don't need to account for more memory there
+    return rocksDbConfiguration.getMemoryLimit() / 3;
+  }
+
+  private Cache createBlockCache(final List<AutoCloseable> closeables) {
+    // with native column families, the memtables are accounted for in the block cache as well, so
+    // it has to cover the whole memory budget
+    final var capacity =
+        rocksDbConfiguration.isNativeColumnFamiliesEnabled()
+            ? rocksDbConfiguration.getMemoryLimit()
+            : getBlockCacheMemory();
     // you can use the perf context to check if we're often blocked on the block cache mutex, in
     // which case we want to increase the number of shards (shard count == 2^shardBits)
-    final var cache = new LRUCache(blockCacheMemory, 8, false, 0.15);
+    final var cache = new LRUCache(capacity, 8, false, 0.15);
     closeables.add(cache);
+    return cache;
+  }
 
-    final var filter = new BloomFilter(10, false);
+  private TableFormatConfig createTableFormatConfig(
+      final List<AutoCloseable> closeables,
+      final Cache blockCache,
+      final long blockSize,
+      final int bloomFilterBitsPerKey) {
+    final var filter = new BloomFilter(bloomFilterBitsPerKey, false);
     closeables.add(filter);
 
     return new BlockBasedTableConfig()
-        .setBlockCache(cache)
+        .setBlockCache(blockCache)
         // increasing block size means reducing memory usage, but increasing read iops
-        .setBlockSize(32 * 1024L)
+        .setBlockSize(blockSize)
         // full and partitioned filters use a more efficient bloom filter implementation when
         // using format 5
         .setFormatVersion(5)
@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ColumnFamilyCacheMetrics;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map.Entry;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A size-bounded LRU cache of the serialized values of a single logical column family, keyed by the
+ * full key (including the column family prefix).
+ *
+ * <p>The cache is write-through: every write of the column family updates it, and it is cleared
+ * whenever a transaction with uncommitted writes is rolled back, since these writes may already be
+ * cached. It is owned by a single transaction context, see {@link ReadCaches}, and must only be
+ * used by that context.
+ */
+final class ColumnFamilyCache {
+
+  /** Rough estimate of the per entry overhead of the map entry, the key buffer and the arrays. */
+  private static final int ENTRY_OVERHEAD = 96;
+
+  private final LinkedHashMap<DirectBuffer, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private final UnsafeBuffer keyView = new UnsafeBuffer(0, 0);
+  private final ReadCaches owner;
+  private final long capacity;
+  private final ColumnFamilyCacheMetrics metrics;
+  private long size;
+
+  ColumnFamilyCache(
+      final ReadCaches owner, final long capacity, final ColumnFamilyCacheMetrics metrics) {
+    this.owner = owner;
+    this.capacity = capacity;
+    this.metrics = metrics;
+  }
+
+  /**
+   * @return the cached value for the given key, or null if it is not cached
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    owner.invalidateIfStale();
+    keyView.wrap(key, 0, keyLength);
+    final var value = entries.get(keyView);
+    if (value != null) {
+      metrics.hit();
+    } else {
+      metrics.miss();
+    }
+
+    return value;
+  }
+
+  /** Caches the given value; both arrays are copied, so they may be reused by the caller. */
+  void put(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    final var entrySize = sizeOf(keyLength, valueLength);
+    if (entrySize > capacity) {
+      remove(key, keyLength);
+      return;
+    }
+
+    final var previous =
+        entries.put(
+            new UnsafeBuffer(Arrays.copyOf(key, keyLength)), Arrays.copyOf(value, valueLength));
+    if (previous != null) {
+      size -= sizeOf(keyLength, previous.length);
+    }
+    size += entrySize;
+
+    evictIfNecessary();
+    metrics.setSize(size);
+  }
+
+  /** Caches the given value without copying it; it must not be modified afterwards. */
+  void putUnsafe(final byte[] key, final int keyLength, final byte[] value) {
+    if (sizeOf(keyLength, value.length) > capacity) {
+      return;
+    }
+
+    final var previous = entries.put(new UnsafeBuffer(Arrays.copyOf(key, keyLength)), value);
+    if (previous != null) {
+      size -= sizeOf(keyLength, previous.length);
+    }
+    size += sizeOf(keyLength, value.length);
+
+    evictIfNecessary();
+    metrics.setSize(size);
+  }
+
+  void remove(final byte[] key, final int keyLength) {
+    keyView.wrap(key, 0, keyLength);
+    final var previous = entries.remove(keyView);
+    if (previous != null) {
+      size -= sizeOf(keyLength, previous.length);
+      metrics.setSize(size);
+    }
+  }
+
+  void invalidate() {
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    entries.clear();
+    size = 0;
+    metrics.invalidated();
+    metrics.setSize(size);
+  }
+
+  private void evictIfNecessary() {
+    final Iterator<Entry<DirectBuffer, byte[]>> iterator = entries.entrySet().iterator();
+    while (size > capacity && iterator.hasNext()) {
+      final var eldest = iterator.next();
+      size -= sizeOf(eldest.getKey().capacity(), eldest.getValue().length);
+      iterator.remove();
+      metrics.evicted();
+    }
+  }
+
+  private static long sizeOf(final int keyLength, final int valueLength) {
+    return (long) keyLength + valueLength + ENTRY_OVERHEAD;
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Map;
+import org.rocksdb.ColumnFamilyOptions;
+
+/**
+ * Describes how logical column families are mapped onto native RocksDB column families.
+ *
+ * <p>With the prefixed layout, all logical column families live in the default native column
+ * family and are only separated by their key prefix. With the native layout, every logical column
+ * family is stored in a native column family named after its group (if configured) or after
+ * itself. In both layouts, keys keep the logical column family prefix, which makes migrating
+ * between the layouts a plain copy of the keys.
+ */
+public final class ColumnFamilyLayout {
+
+  private final boolean nativeLayout;
+  private final ColumnFamilyOptions defaultOptions;
+  private final Map<String, String> groupByColumnFamily;
+  private final Map<String, ColumnFamilyOptions> groupOptions;
+
+  private ColumnFamilyLayout(
+      final boolean nativeLayout,
+      final ColumnFamilyOptions defaultOptions,
+      final Map<String, String> groupByColumnFamily,
+      final Map<String, ColumnFamilyOptions> groupOptions) {
+    this.nativeLayout = nativeLayout;
+    this.defaultOptions = defaultOptions;
+    this.groupByColumnFamily = groupByColumnFamily;
+    this.groupOptions = groupOptions;
+  }
+
+  public static ColumnFamilyLayout prefixed(final ColumnFamilyOptions defaultOptions) {
+    return new ColumnFamilyLayout(false, defaultOptions, Map.of(), Map.of());
+  }
+
+  /**
+   * @param defaultOptions options used for logical column families which are not part of a group
+   * @param groupByColumnFamily the native column family name per grouped logical column family
+   * @param groupOptions the options per native column family name of each group
+   */
+  public static ColumnFamilyLayout nativeFamilies(
+      final ColumnFamilyOptions defaultOptions,
+      final Map<String, String> groupByColumnFamily,
+      final Map<String, ColumnFamilyOptions> groupOptions) {
+    return new ColumnFamilyLayout(true, defaultOptions, groupByColumnFamily, groupOptions);
+  }
+
+  public boolean isNative() {
+    return nativeLayout;
+  }
+
+  /**
+   * @return the name of the native column family the given logical column family is stored in, or
+   *     null if it is stored in the default column family
+   */
+  String nativeColumnFamilyName(final String columnFamily) {
+    if (!nativeLayout) {
+      return null;
+    }
+
+    return groupByColumnFamily.getOrDefault(columnFamily, columnFamily);
+  }
+
+  ColumnFamilyOptions options(final String nativeColumnFamilyName) {
+    return groupOptions.getOrDefault(nativeColumnFamilyName, defaultOptions);
+  }
+}
@@ -19,9 +19,15 @@ import org.rocksdb.Status;
 public final class DefaultTransactionContext implements TransactionContext {
 
   private final ZeebeTransaction transaction;
+  private final ReadCaches readCaches;
 
   DefaultTransactionContext(final ZeebeTransaction transaction) {
+    this(transaction, null);
+  }
+
+  DefaultTransactionContext(final ZeebeTransaction transaction, final ReadCaches readCaches) {
     this.transaction = transaction;
+    this.readCaches = readCaches;
   }
 
   @Override
@@ -55,6 +61,13 @@ public final class DefaultTransactionContext implements TransactionContext {
     return transaction;
   }
 
+  /**
+   * @return the read caches owned by this context, or null if it does not cache reads
+   */
+  ReadCaches getReadCaches() {
+    return readCaches;
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
@@ -72,7 +72,8 @@ public final class ForeignKeyChecker {
       throws Exception {
     final var exists =
         transaction.get(
-                transactionDb.getDefaultNativeHandle(),
+                ZeebeTransactionDb.getNativeHandle(
+                    transactionDb.getHandle(foreignKey.columnFamily())),
                 transactionDb.getReadOptionsNativeHandle(),
                 key,
                 keyLength)
@@ -90,7 +91,8 @@ public final class ForeignKeyChecker {
       final int prefixLength) {
     try (final var iterator =
         transaction.newIterator(
-            transactionDb.getPrefixReadOptions(), transactionDb.getDefaultHandle())) {
+            transactionDb.getPrefixReadOptions(),
+            transactionDb.getHandle(foreignKey.columnFamily()))) {
 
       final ByteBuffer bufferView = ByteBuffer.wrap(prefix, 0, prefixLength);
       iterator.seek(bufferView);
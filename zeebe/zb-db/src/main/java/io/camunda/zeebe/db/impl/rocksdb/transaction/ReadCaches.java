@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.impl.ColumnFamilyCacheMetrics;
+import io.camunda.zeebe.protocol.EnumValue;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The read caches of all column families of a single transaction context, which is the only one
+ * accessing them. As the caches are write-through, they contain the uncommitted writes of that
+ * context, which is fine as long as no other context reads from them.
+ *
+ * <p>The caches are invalidated whenever the owning context discards uncommitted writes, and
+ * whenever any other context commits writes, as these may change cached values. The latter happens
+ * on another thread, so the caches are only marked as stale and then invalidated by the owning
+ * context on its next lookup.
+ */
+final class ReadCaches {
+
+  private final Map<Integer, ColumnFamilyCache> caches = new HashMap<>();
+  private final long cacheSize;
+  private final int partitionId;
+  private volatile boolean stale;
+
+  ReadCaches(final long cacheSize, final int partitionId) {
+    this.cacheSize = cacheSize;
+    this.partitionId = partitionId;
+  }
+
+  <ColumnFamilyNames extends Enum<? extends EnumValue> & EnumValue>
+      ColumnFamilyCache forColumnFamily(final ColumnFamilyNames columnFamily) {
+    return caches.computeIfAbsent(
+        columnFamily.getValue(),
+        ignored ->
+            new ColumnFamilyCache(
+                this, cacheSize, new ColumnFamilyCacheMetrics(partitionId, columnFamily)));
+  }
+
+  /** Invalidates all caches; must only be called by the owning context. */
+  void invalidate() {
+    stale = false;
+    caches.values().forEach(ColumnFamilyCache::invalidate);
+  }
+
+  /** Marks all caches as stale, to be invalidated on their next lookup; safe from any thread. */
+  void markStale() {
+    stale = true;
+  }
+
+  void invalidateIfStale() {
+    if (stale) {
+      invalidate();
+    }
+  }
+}
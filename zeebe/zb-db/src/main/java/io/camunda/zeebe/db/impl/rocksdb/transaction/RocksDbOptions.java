@@ -15,11 +15,13 @@ import org.rocksdb.DBOptions;
  * change these depending on its own configuration. As each of the parts must be individually
  * closed, this record allows easily passing both configurations around within Zeebe.
  *
- * <p>While each column family in RocksDB can be configured differently, Zeebe only uses a single
- * RocksDB column family. We therefore don't have to differentiate further than a single database
- * options and a single column family options.
+ * <p>By default, Zeebe only uses the default RocksDB column family, configured by {@code
+ * cfOptions}. If native column families are enabled, the layout carries the options for each of
+ * them.
  *
  * @param dbOptions The database options used to open the RocksDB database
  * @param cfOptions The column family options used to open the RocksDB database
+ * @param layout The mapping of logical column families to native RocksDB column families
  */
-public record RocksDbOptions(DBOptions dbOptions, ColumnFamilyOptions cfOptions) {}
+public record RocksDbOptions(
+    DBOptions dbOptions, ColumnFamilyOptions cfOptions, ColumnFamilyLayout layout) {}
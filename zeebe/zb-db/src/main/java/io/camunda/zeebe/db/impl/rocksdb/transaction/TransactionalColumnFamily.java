@@ -19,12 +19,16 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -48,6 +52,9 @@ class TransactionalColumnFamily<
     implements ColumnFamily<KeyType, ValueType> {
 
   private final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
+  private final ColumnFamilyHandle handle;
+  private final long nativeHandle;
+  private final ColumnFamilyCache readCache;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final ColumnFamilyNames columnFamily;
   private final TransactionContext context;
@@ -59,6 +66,8 @@ class TransactionalColumnFamily<
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
+      final ColumnFamilyHandle handle,
+      final ColumnFamilyCache readCache,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final ColumnFamilyNames columnFamily,
       final TransactionContext context,
@@ -66,6 +75,9 @@ class TransactionalColumnFamily<
       final ValueType valueInstance,
       final ColumnFamilyMetrics metrics) {
     this.transactionDb = transactionDb;
+    this.handle = handle;
+    nativeHandle = ZeebeTransactionDb.getNativeHandle(handle);
+    this.readCache = readCache;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
     this.context = context;
@@ -87,11 +99,12 @@ class TransactionalColumnFamily<
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrittenValue(value);
           });
     }
   }
@@ -106,11 +119,12 @@ class TransactionalColumnFamily<
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrittenValue(value);
           });
     }
   }
@@ -124,11 +138,12 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
             transaction.put(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength(),
                 columnFamilyContext.getValueBufferArray(),
                 value.getLength());
+            cacheWrittenValue(value);
           });
     }
   }
@@ -139,13 +154,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +165,61 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(
+          transaction -> {
+            final var values = new byte[keys.size()][];
+            final var missingKeys = new ArrayList<byte[]>(keys.size());
+            final var missingIndexes = new int[keys.size()];
+
+            int index = 0;
+            for (final var key : keys) {
+              columnFamilyContext.writeKey(key);
+              final var keyBytes =
+                  Arrays.copyOf(
+                      columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+              values[index] =
+                  readCache != null ? readCache.get(keyBytes, keyBytes.length) : null;
+              if (values[index] == null) {
+                missingIndexes[missingKeys.size()] = index;
+                missingKeys.add(keyBytes);
+              }
+              index++;
+            }
+
+            if (!missingKeys.isEmpty()) {
+              final var fetchedValues =
+                  transaction.multiGet(transactionDb.getReadOptions(), handle, missingKeys);
+              for (int i = 0; i < missingKeys.size(); i++) {
+                final var value = fetchedValues.get(i);
+                values[missingIndexes[i]] = value;
+                if (readCache != null && value != null) {
+                  final var keyBytes = missingKeys.get(i);
+                  readCache.putUnsafe(keyBytes, keyBytes.length, value);
+                }
+              }
+            }
+
+            index = 0;
+            for (final var key : keys) {
+              columnFamilyContext.wrapValueView(values[index++]);
+              final var valueBuffer = columnFamilyContext.getValueView();
+              if (valueBuffer != null) {
+                valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+                visitor.accept(key, valueInstance);
+              }
+            }
+          });
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -226,9 +290,10 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            evictFromCache();
           });
     }
   }
@@ -240,9 +305,10 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
+                nativeHandle,
                 columnFamilyContext.getKeyBufferArray(),
                 columnFamilyContext.getKeyLength());
+            evictFromCache();
           });
     }
   }
@@ -253,13 +319,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -290,6 +350,51 @@ class TransactionalColumnFamily<
     return countEachInPrefix(prefix);
   }
 
+  /**
+   * Reads the value of the key currently written to the column family context, going through the
+   * read cache if enabled.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    if (readCache != null) {
+      final var cachedValue =
+          readCache.get(
+              columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+      if (cachedValue != null) {
+        return cachedValue;
+      }
+    }
+
+    final byte[] value =
+        transaction.get(
+            nativeHandle,
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength());
+    if (readCache != null && value != null) {
+      // the array is freshly allocated by RocksDB and only ever wrapped, so we can keep it as is
+      readCache.putUnsafe(
+          columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength(), value);
+    }
+    return value;
+  }
+
+  private void cacheWrittenValue(final ValueType value) {
+    if (readCache != null) {
+      readCache.put(
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength(),
+          columnFamilyContext.getValueBufferArray(),
+          value.getLength());
+    }
+  }
+
+  private void evictFromCache() {
+    if (readCache != null) {
+      readCache.remove(
+          columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+  }
+
   private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
@@ -308,7 +413,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -324,7 +429,7 @@ class TransactionalColumnFamily<
     }
     final var value =
         transaction.get(
-            transactionDb.getDefaultNativeHandle(),
+            nativeHandle,
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
@@ -346,7 +451,7 @@ class TransactionalColumnFamily<
 
   RocksIterator newIterator(final TransactionContext context, final ReadOptions options) {
     final var currentTransaction = (ZeebeTransaction) context.getCurrentTransaction();
-    return currentTransaction.newIterator(options, transactionDb.getDefaultHandle());
+    return currentTransaction.newIterator(options, handle);
   }
 
   /**
@@ -12,6 +12,8 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.Collections;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -23,13 +25,31 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final Runnable rollbackListener;
+  private final Runnable commitListener;
 
   private boolean inCurrentTransaction;
+  private boolean hasUncommittedWrites;
   private Transaction transaction;
 
   public ZeebeTransaction(
       final Transaction transaction, final TransactionRenovator transactionRenovator) {
+    this(transaction, transactionRenovator, () -> {}, () -> {});
+  }
+
+  /**
+   * @param rollbackListener called whenever uncommitted writes of this transaction are discarded,
+   *     i.e. on rollback or after a failed commit
+   * @param commitListener called whenever writes of this transaction are committed
+   */
+  public ZeebeTransaction(
+      final Transaction transaction,
+      final TransactionRenovator transactionRenovator,
+      final Runnable rollbackListener,
+      final Runnable commitListener) {
     this.transactionRenovator = transactionRenovator;
+    this.rollbackListener = rollbackListener;
+    this.commitListener = commitListener;
     this.transaction = transaction;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
@@ -45,6 +65,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
       final byte[] value,
       final int valueLength)
       throws Exception {
+    hasUncommittedWrites = true;
     try {
       final int keyOffset = 0;
       final int valueOffset = 0;
@@ -80,8 +101,15 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions, final ColumnFamilyHandle handle, final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(readOptions, Collections.nCopies(keys.size(), handle), keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
+    hasUncommittedWrites = true;
     try {
       RocksDbInternal.removeWithHandle.invokeExact(
           nativeHandle, key, keyLength, columnFamilyHandle, false);
@@ -95,6 +123,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   }
 
   void resetTransaction() {
+    if (hasUncommittedWrites) {
+      // renewing the transaction discards anything that was not committed
+      hasUncommittedWrites = false;
+      rollbackListener.run();
+    }
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
   }
@@ -142,14 +175,57 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  @Override
+  public void setSavepoint() throws RocksDBException {
+    try {
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+  }
+
+  @Override
+  public void rollbackToSavepoint() throws RocksDBException {
+    try {
+      transaction.rollbackToSavePoint();
+      // rolling back releases the save point, but we want to be able to roll back to it again
+      transaction.setSavePoint();
+    } catch (final RocksDBException rdbex) {
+      final String errorMessage =
+          "Unexpected error occurred during RocksDB transaction rollback to save point.";
+      if (isRocksDbExceptionRecoverable(rdbex)) {
+        throw new ZeebeDbException(errorMessage, rdbex);
+      }
+      throw rdbex;
+    }
+
+    // the writes before the save point are still uncommitted, so we keep the flag as it is
+    if (hasUncommittedWrites) {
+      rollbackListener.run();
+    }
+  }
+
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    if (hasUncommittedWrites) {
+      hasUncommittedWrites = false;
+      commitListener.run();
+    }
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.rollback();
+    if (hasUncommittedWrites) {
+      hasUncommittedWrites = false;
+      rollbackListener.run();
+    }
   }
 
   @Override
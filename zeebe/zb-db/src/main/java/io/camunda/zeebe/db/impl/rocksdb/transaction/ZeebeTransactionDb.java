@@ -18,24 +18,34 @@ import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.FineGrainedColumnFamilyMetrics;
 import io.camunda.zeebe.db.impl.NoopColumnFamilyMetrics;
+import io.camunda.zeebe.db.impl.ZeebeDbConstants;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
 import io.camunda.zeebe.protocol.EnumValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.io.File;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.OptimisticTransactionDB;
+import org.rocksdb.Options;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
 import org.rocksdb.RocksObject;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteOptions;
 import org.slf4j.Logger;
 
@@ -45,6 +55,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private static final Logger LOG = Loggers.DB_LOGGER;
   private static final String ERROR_MESSAGE_CLOSE_RESOURCE =
       "Expected to close RocksDB resource successfully, but exception was thrown. Will continue to close remaining resources.";
+  private static final int MIGRATION_BATCH_SIZE = 10_000;
   private final OptimisticTransactionDB optimisticTransactionDB;
   private final List<AutoCloseable> closables;
   private final ReadOptions prefixReadOptions;
@@ -54,9 +65,17 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final ColumnFamilyLayout layout;
+  private final Map<String, ColumnFamilyHandle> nativeHandles;
+  private final Set<Integer> migratedColumnFamilies = ConcurrentHashMap.newKeySet();
+  private final long readCacheSize;
+  // the read caches of the context created last by createCachedContext, if any
+  private volatile ReadCaches readCaches;
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
+      final Map<String, ColumnFamilyHandle> nativeHandles,
+      final ColumnFamilyLayout layout,
       final OptimisticTransactionDB optimisticTransactionDB,
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
@@ -64,10 +83,13 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final AccessMetricsConfiguration accessMetricsConfiguration) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
+    this.nativeHandles = new ConcurrentHashMap<>(nativeHandles);
+    this.layout = layout;
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    readCacheSize = rocksDbConfiguration.getReadCacheSize();
 
     prefixReadOptions =
         new ReadOptions()
@@ -93,25 +115,40 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final ConsistencyChecksSettings consistencyChecksSettings,
           final AccessMetricsConfiguration metrics)
           throws RocksDBException {
-    final var cfDescriptors =
-        Arrays.asList( // todo: could consider using List.of
-            new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    // all existing column families have to be opened, even if the layout changed in between; their
+    // content is migrated lazily when the corresponding logical column family is created
+    final var cfDescriptors = new ArrayList<ColumnFamilyDescriptor>();
+    cfDescriptors.add(
+        new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, options.cfOptions()));
+    for (final var name : listNativeColumnFamilies(options, path)) {
+      cfDescriptors.add(
+          new ColumnFamilyDescriptor(
+              name.getBytes(StandardCharsets.UTF_8), options.layout().options(name)));
+    }
+
     final List<ColumnFamilyHandle> cfHandles = new ArrayList<>();
     final OptimisticTransactionDB optimisticTransactionDB =
         OptimisticTransactionDB.open(options.dbOptions(), path, cfDescriptors, cfHandles);
     closables.add(optimisticTransactionDB);
 
-    if (cfHandles.size() != 1) {
+    if (cfHandles.size() != cfDescriptors.size()) {
       throw new IllegalStateException(
-          "Expected a handle for the default column family but found %d handles"
-              .formatted(cfHandles.size()));
+          "Expected a handle for each of the %d column families but found %d handles"
+              .formatted(cfDescriptors.size(), cfHandles.size()));
     }
 
+    closables.addAll(cfHandles);
     final ColumnFamilyHandle defaultColumnFamilyHandle = cfHandles.getFirst();
-    closables.add(defaultColumnFamilyHandle);
+    final var nativeHandles = new ConcurrentHashMap<String, ColumnFamilyHandle>();
+    for (int i = 1; i < cfHandles.size(); i++) {
+      nativeHandles.put(
+          new String(cfDescriptors.get(i).getName(), StandardCharsets.UTF_8), cfHandles.get(i));
+    }
 
     return new ZeebeTransactionDb<>(
         defaultColumnFamilyHandle,
+        nativeHandles,
+        options.layout(),
         optimisticTransactionDB,
         closables,
         rocksDbConfiguration,
@@ -119,6 +156,23 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  private static List<String> listNativeColumnFamilies(
+      final RocksDbOptions options, final String path) throws RocksDBException {
+    if (!new File(path, "CURRENT").exists()) {
+      return List.of();
+    }
+
+    final List<byte[]> names;
+    try (final var listOptions = new Options(options.dbOptions(), options.cfOptions())) {
+      names = RocksDB.listColumnFamilies(listOptions, path);
+    }
+
+    return names.stream()
+        .filter(name -> !Arrays.equals(name, RocksDB.DEFAULT_COLUMN_FAMILY))
+        .map(name -> new String(name, StandardCharsets.UTF_8))
+        .toList();
+  }
+
   static long getNativeHandle(final RocksObject object) {
     try {
       return RocksDbInternal.nativeHandle.getLong(object);
@@ -136,6 +190,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultHandle;
   }
 
+  protected ReadOptions getReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -144,6 +202,116 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return defaultNativeHandle;
   }
 
+  /**
+   * Returns the handle of the native column family which stores the given logical column family.
+   * The native column family is created if it doesn't exist yet. The first time a logical column
+   * family is resolved, any of its entries still stored in other native column families (e.g. from
+   * before the layout was changed) are moved over.
+   */
+  ColumnFamilyHandle getHandle(final Enum<? extends EnumValue> columnFamily) {
+    final var nativeName = layout.nativeColumnFamilyName(columnFamily.name());
+    final var handle =
+        nativeName == null
+            ? defaultHandle
+            : nativeHandles.computeIfAbsent(nativeName, this::createNativeColumnFamily);
+
+    final int prefix = ((EnumValue) columnFamily).getValue();
+    if (migratedColumnFamilies.add(prefix)) {
+      migrateColumnFamily(columnFamily, prefix, handle);
+    }
+
+    return handle;
+  }
+
+  private ColumnFamilyHandle createNativeColumnFamily(final String name) {
+    try {
+      final var handle =
+          optimisticTransactionDB.createColumnFamily(
+              new ColumnFamilyDescriptor(
+                  name.getBytes(StandardCharsets.UTF_8), layout.options(name)));
+      closables.add(handle);
+      return handle;
+    } catch (final RocksDBException e) {
+      throw new ZeebeDbException("Failed to create native column family " + name, e);
+    }
+  }
+
+  private void migrateColumnFamily(
+      final Enum<? extends EnumValue> columnFamily,
+      final int prefix,
+      final ColumnFamilyHandle target) {
+    final var sources = new ArrayList<ColumnFamilyHandle>(nativeHandles.values());
+    sources.add(defaultHandle);
+    sources.remove(target);
+
+    final var lowerBound = new byte[Long.BYTES];
+    final var upperBound = new byte[Long.BYTES];
+    new UnsafeBuffer(lowerBound).putLong(0, prefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    new UnsafeBuffer(upperBound).putLong(0, prefix + 1L, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+
+    for (final var source : sources) {
+      try {
+        final long moved = moveRange(source, target, lowerBound, upperBound);
+        if (moved > 0) {
+          LOG.info(
+              "Migrated {} entries of column family {} to native column family {}",
+              moved,
+              columnFamily,
+              new String(target.getName(), StandardCharsets.UTF_8));
+        }
+      } catch (final RocksDBException e) {
+        throw new ZeebeDbException(
+            "Failed to migrate column family %s to its native column family"
+                .formatted(columnFamily),
+            e);
+      }
+    }
+  }
+
+  /**
+   * Copies all entries between the bounds from the source to the target column family, and only
+   * afterwards deletes them from the source. If interrupted, the copy is simply repeated on the
+   * next start.
+   */
+  private long moveRange(
+      final ColumnFamilyHandle source,
+      final ColumnFamilyHandle target,
+      final byte[] lowerBound,
+      final byte[] upperBound)
+      throws RocksDBException {
+    long moved = 0;
+    try (final var readOptions = new ReadOptions().setTotalOrderSeek(true);
+        final RocksIterator iterator = optimisticTransactionDB.newIterator(source, readOptions)) {
+      var batch = new WriteBatch();
+      try {
+        for (iterator.seek(lowerBound); iterator.isValid(); iterator.next()) {
+          final byte[] key = iterator.key();
+          if (!BufferUtil.startsWith(lowerBound, 0, lowerBound.length, key, 0, key.length)) {
+            break;
+          }
+
+          batch.put(target, key, iterator.value());
+          moved++;
+          if (batch.count() >= MIGRATION_BATCH_SIZE) {
+            optimisticTransactionDB.write(defaultWriteOptions, batch);
+            batch.close();
+            batch = new WriteBatch();
+          }
+        }
+
+        if (moved > 0) {
+          batch.deleteRange(source, lowerBound, upperBound);
+          optimisticTransactionDB.write(defaultWriteOptions, batch);
+          onForeignWritesCommitted();
+        }
+      } finally {
+        batch.close();
+      }
+    }
+
+    return moved;
+  }
+
   @Override
   public <KeyType extends DbKey, ValueType extends DbValue>
       ColumnFamily<KeyType, ValueType> createColumnFamily(
@@ -160,6 +328,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         };
     return new TransactionalColumnFamily<>(
         this,
+        getHandle(columnFamily),
+        getReadCache(columnFamily, context),
         consistencyChecksSettings,
         columnFamily,
         context,
@@ -168,6 +338,27 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         metrics);
   }
 
+  /**
+   * @return the read cache of the given column family owned by the given context, or null if the
+   *     context does not cache reads
+   */
+  private ColumnFamilyCache getReadCache(
+      final ColumnFamilyNames columnFamily, final TransactionContext context) {
+    if (context instanceof final DefaultTransactionContext defaultContext
+        && defaultContext.getReadCaches() != null) {
+      return defaultContext.getReadCaches().forColumnFamily(columnFamily);
+    }
+    return null;
+  }
+
+  /** Called whenever writes are committed outside of the context owning the read caches. */
+  private void onForeignWritesCommitted() {
+    final var caches = readCaches;
+    if (caches != null) {
+      caches.markStale();
+    }
+  }
+
   @Override
   public void createSnapshot(final File snapshotDir) {
     try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
@@ -184,7 +375,13 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   public Optional<String> getProperty(final String propertyName) {
     String propertyValue = null;
     try {
-      propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      if (nativeHandles.isEmpty()) {
+        propertyValue = optimisticTransactionDB.getProperty(defaultHandle, propertyName);
+      } else {
+        // the properties we expose are numeric, so we can sum them up over all column families
+        propertyValue =
+            String.valueOf(optimisticTransactionDB.getAggregatedLongProperty(propertyName));
+      }
     } catch (final RocksDBException rde) {
       LOG.debug(rde.getMessage(), rde);
     }
@@ -194,11 +391,27 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   @Override
   public TransactionContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction, this);
+    final ZeebeTransaction zeebeTransaction =
+        new ZeebeTransaction(transaction, this, () -> {}, this::onForeignWritesCommitted);
     closables.add(zeebeTransaction);
     return new DefaultTransactionContext(zeebeTransaction);
   }
 
+  @Override
+  public TransactionContext createCachedContext() {
+    if (readCacheSize <= 0) {
+      return createContext();
+    }
+
+    final var caches = new ReadCaches(readCacheSize, accessMetricsConfiguration.partitionId());
+    final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
+    final ZeebeTransaction zeebeTransaction =
+        new ZeebeTransaction(transaction, this, caches::invalidate, () -> {});
+    closables.add(zeebeTransaction);
+    readCaches = caches;
+    return new DefaultTransactionContext(zeebeTransaction, caches);
+  }
+
   @Override
   public boolean isEmpty(
       final ColumnFamilyNames columnFamilyName, final TransactionContext context) {
@@ -76,6 +76,62 @@ public final class ColumnFamilyTest {
     assertThat(zbLong).isNull();
   }
 
+  @Test
+  public void shouldMultiGetExistingValuesInOrder() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    upsertKeyValuePair(2, 20);
+    final List<DbLong> keys = new ArrayList<>();
+    for (final long k : new long[] {3, 4, 1, 2}) {
+      final var dbLong = new DbLong();
+      dbLong.wrapLong(k);
+      keys.add(dbLong);
+    }
+
+    // when
+    final List<Long> visitedKeys = new ArrayList<>();
+    final List<Long> visitedValues = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (k, v) -> {
+          visitedKeys.add(k.getValue());
+          visitedValues.add(v.getValue());
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(3L, 1L, 2L);
+    assertThat(visitedValues).containsExactly(30L, 10L, 20L);
+  }
+
+  @Test
+  public void shouldMultiGetUncommittedValues() throws Exception {
+    // given
+    final var context = zeebeDb.createContext();
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> transactionalColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, otherKey, otherValue);
+    final var keyToFind = new DbLong();
+    keyToFind.wrapLong(5);
+    final List<Long> visitedValues = new ArrayList<>();
+
+    // when
+    context
+        .getCurrentTransaction()
+        .run(
+            () -> {
+              otherKey.wrapLong(5);
+              otherValue.wrapLong(50);
+              transactionalColumnFamily.insert(otherKey, otherValue);
+              transactionalColumnFamily.multiGet(
+                  List.of(keyToFind), (k, v) -> visitedValues.add(v.getValue()));
+            });
+
+    // then
+    assertThat(visitedValues).containsExactly(50L);
+  }
+
   @Test
   public void shouldPutMultipleValues() {
     // given
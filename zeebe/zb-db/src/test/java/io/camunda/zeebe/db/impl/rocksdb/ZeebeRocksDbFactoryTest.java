@@ -165,6 +165,90 @@ final class ZeebeRocksDbFactoryTest {
     assertThat(snapshotValue).isEqualTo("bar");
   }
 
+  @Test
+  void shouldMigrateBetweenPrefixedAndNativeColumnFamilies(final @TempDir File path)
+      throws Exception {
+    // given
+    final var prefixedFactory = DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory();
+    final var nativeFactory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+
+    try (final var db = prefixedFactory.createDb(path)) {
+      db.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+          .insert(key, value);
+    }
+
+    // when
+    final String nativeValue;
+    try (final var db = nativeFactory.createDb(path)) {
+      nativeValue =
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .get(key)
+              .toString();
+    }
+
+    final String prefixedValue;
+    try (final var db = prefixedFactory.createDb(path)) {
+      prefixedValue =
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .get(key)
+              .toString();
+    }
+
+    // then
+    assertThat(nativeValue).isEqualTo("bar");
+    assertThat(prefixedValue).isEqualTo("bar");
+  }
+
+  @Test
+  void shouldOpenSnapshotOnlyDbWithNativeColumnFamilies(
+      final @TempDir File path, final @TempDir File tempDir) throws Exception {
+    // given
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setNativeColumnFamiliesEnabled(true),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    final var key = new DbString();
+    final var value = new DbString();
+    key.wrapString("foo");
+    value.wrapString("bar");
+
+    try (final var db = factory.createDb(path)) {
+      db.createColumnFamily(
+              DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+          .insert(key, value);
+    }
+
+    // when
+    final var snapshotPath = new File(tempDir, "snapshot");
+    try (final var db = factory.openSnapshotOnlyDb(path)) {
+      db.createSnapshot(snapshotPath);
+    }
+
+    // then
+    final String snapshotValue;
+    try (final var db = factory.createDb(snapshotPath)) {
+      snapshotValue =
+          db.createColumnFamily(
+                  DefaultColumnFamily.DEFAULT, db.createContext(), new DbString(), new DbString())
+              .get(key)
+              .toString();
+    }
+
+    assertThat(snapshotValue).isEqualTo("bar");
+  }
+
   @Test
   void shouldFailToOpenNonExistentSnapshotOnlyDb(final @TempDir File path) {
     // given
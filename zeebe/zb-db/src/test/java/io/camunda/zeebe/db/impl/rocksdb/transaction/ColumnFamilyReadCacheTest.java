@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyReadCacheTest {
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+
+  @BeforeEach
+  void setup(final @TempDir File path) {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setReadCacheSize(1024 * 1024),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1));
+    zeebeDb = factory.createDb(path);
+    transactionContext = zeebeDb.createCachedContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldReadOwnWrites() {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+
+    // when
+    value.wrapLong(20);
+    columnFamily.update(key, value);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldShareCacheBetweenInstancesOfSameColumnFamilyAndContext() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> other =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, otherKey, otherValue);
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    otherKey.wrapLong(1);
+    assertThat(other.get(otherKey).getValue()).isEqualTo(10);
+
+    // when
+    value.wrapLong(20);
+    columnFamily.update(key, value);
+
+    // then
+    assertThat(other.get(otherKey).getValue()).isEqualTo(20);
+  }
+
+  @Test
+  void shouldNotReturnDeletedValue() {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    assertThat(columnFamily.get(key)).isNotNull();
+
+    // when
+    columnFamily.deleteExisting(key);
+
+    // then
+    assertThat(columnFamily.get(key)).isNull();
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  @Test
+  void shouldInvalidateCacheOnRollback() throws Exception {
+    // given
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+        });
+    transaction.rollback();
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotExposeUncommittedWritesToOtherContexts() throws Exception {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> other =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    otherKey.wrapLong(1);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(10);
+          columnFamily.insert(key, value);
+
+          // then
+          assertThat(other.get(otherKey)).isNull();
+        });
+    transaction.commit();
+    assertThat(other.get(otherKey).getValue()).isEqualTo(10);
+  }
+
+  @Test
+  void shouldNotOverwriteUncommittedWritesByReadsOfOtherContexts() throws Exception {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> other =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    otherKey.wrapLong(1);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(
+        () -> {
+          value.wrapLong(20);
+          columnFamily.update(key, value);
+          assertThat(other.get(otherKey).getValue()).isEqualTo(10);
+
+          // then
+          assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+        });
+    transaction.commit();
+  }
+
+  @Test
+  void shouldNotReturnValuesOverwrittenByOtherContexts() {
+    // given
+    final var otherKey = new DbLong();
+    final var otherValue = new DbLong();
+    final ColumnFamily<DbLong, DbLong> other =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), otherKey, otherValue);
+    key.wrapLong(1);
+    value.wrapLong(10);
+    columnFamily.insert(key, value);
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(10);
+
+    // when
+    otherKey.wrapLong(1);
+    otherValue.wrapLong(20);
+    other.update(otherKey, otherValue);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(20);
+  }
+}
@@ -7,15 +7,18 @@
  */
 package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
+import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DefaultColumnFamily;
 import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.camunda.zeebe.util.exception.RecoverableException;
@@ -35,12 +38,13 @@ public final class ZeebeRocksDbTransactionTest {
   private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory();
 
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
   private TransactionContext transactionContext;
 
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
-    final ZeebeDb<DefaultColumnFamily> zeebeDb = dbFactory.createDb(pathName);
+    zeebeDb = dbFactory.createDb(pathName);
     transactionContext = zeebeDb.createContext();
   }
 
@@ -214,4 +218,41 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldRollbackToSavepoint() throws Exception {
+    // given
+    final DbLong key = new DbLong();
+    final DbLong value = new DbLong();
+    final var columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> insert(columnFamily, key, value, 1));
+    transaction.setSavepoint();
+    transaction.run(() -> insert(columnFamily, key, value, 2));
+
+    // when
+    transaction.rollbackToSavepoint();
+    transaction.run(() -> insert(columnFamily, key, value, 3));
+    transaction.rollbackToSavepoint();
+    transaction.commit();
+
+    // then
+    key.wrapLong(1);
+    assertThat(columnFamily.exists(key)).isTrue();
+    key.wrapLong(2);
+    assertThat(columnFamily.exists(key)).isFalse();
+    key.wrapLong(3);
+    assertThat(columnFamily.exists(key)).isFalse();
+  }
+
+  private static void insert(
+      final ColumnFamily<DbLong, DbLong> columnFamily,
+      final DbLong key,
+      final DbLong value,
+      final long keyAndValue) {
+    key.wrapLong(keyAndValue);
+    value.wrapLong(keyAndValue);
+    columnFamily.insert(key, value);
+  }
 }